@@ -0,0 +1,110 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2022-2023 The Jarviz authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kordamp.jarviz.benchmarks;
+
+import org.kordamp.jarviz.core.analyzers.BytecodeVersionCountsJarContentAnalyzer;
+import org.kordamp.jarviz.core.analyzers.BytecodeVersionsJarContentAnalyzer;
+import org.kordamp.jarviz.core.model.BytecodeVersion;
+import org.kordamp.jarviz.core.model.BytecodeVersions;
+import org.kordamp.jarviz.util.JarUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+
+import static java.util.stream.Collectors.toList;
+
+/**
+ * Reads the class file header of every class in a single JAR, with and without collecting class names.
+ *
+ * @author Andres Almiray
+ * @since 0.3.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class BytecodeVersionBenchmark {
+    @Param({"1000", "10000"})
+    private int classes;
+
+    @Param({"false", "true"})
+    private boolean multiRelease;
+
+    @Param({"false", "true"})
+    private boolean details;
+
+    private Path directory;
+    private JarFile jarFile;
+    private List<JarEntry> entries;
+
+    @Setup
+    public void setup() throws IOException {
+        directory = SyntheticJars.createTempDirectory();
+        Path file = SyntheticJars.jars()
+            .withClasses(classes)
+            .withMultiRelease(multiRelease)
+            .write(directory.resolve("synthetic.jar"));
+        jarFile = new JarFile(file.toFile());
+        entries = jarFile.stream()
+            .filter(entry -> entry.getName().endsWith(".class"))
+            .collect(toList());
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        jarFile.close();
+        SyntheticJars.deleteRecursively(directory);
+    }
+
+    @Benchmark
+    public void readBytecodeVersion(Blackhole blackhole) {
+        for (JarEntry entry : entries) {
+            BytecodeVersion version = JarUtils.readBytecodeVersion(jarFile, entry);
+            blackhole.consume(version);
+        }
+    }
+
+    @Benchmark
+    public BytecodeVersions analyzeBytecodeVersions() {
+        BytecodeVersionsJarContentAnalyzer analyzer = details ?
+            new BytecodeVersionsJarContentAnalyzer() : new BytecodeVersionCountsJarContentAnalyzer();
+        for (JarEntry entry : entries) {
+            analyzer.handle(jarFile, entry);
+        }
+        return analyzer.getResult();
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2022-2023 The Jarviz authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kordamp.jarviz.benchmarks;
+
+import org.kordamp.jarviz.util.Algorithm;
+import org.kordamp.jarviz.util.ChecksumUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Computes checksums of a single JAR, one algorithm at a time and all of them in a single read.
+ *
+ * @author Andres Almiray
+ * @since 0.3.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ChecksumBenchmark {
+    // approximate uncompressed content in megabytes
+    @Param({"1", "64"})
+    private int size;
+
+    @Param({"MD5", "SHA_1", "SHA_256", "SHA_512"})
+    private Algorithm algorithm;
+
+    private Path directory;
+    private Path file;
+
+    @Setup
+    public void setup() throws IOException {
+        directory = SyntheticJars.createTempDirectory();
+        file = SyntheticJars.jars()
+            .withClasses(100)
+            .withResources(size * 16)
+            .withResourceSize(64 * 1024)
+            .write(directory.resolve("synthetic.jar"));
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        SyntheticJars.deleteRecursively(directory);
+    }
+
+    @Benchmark
+    public String checksum() {
+        return ChecksumUtils.checksum(algorithm, file);
+    }
+
+    @Benchmark
+    public Map<Algorithm, String> checksumsAll() {
+        return ChecksumUtils.checksums(file, Algorithm.values());
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2022-2023 The Jarviz authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kordamp.jarviz.benchmarks;
+
+import org.kordamp.jarviz.core.internal.EntryExtractor;
+import org.kordamp.jarviz.core.processors.EntriesExtractJarProcessor;
+import org.kordamp.jarviz.core.resolvers.DirectoryBasedJarFileResolver;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Extracts every class out of a directory of JARs into an empty target directory.
+ *
+ * @author Andres Almiray
+ * @since 0.3.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@Warmup(iterations = 3)
+@Measurement(iterations = 10)
+@Fork(1)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class EntriesExtractBenchmark {
+    @Param({"10"})
+    private int jars;
+
+    @Param({"1", "4"})
+    private int parallelism;
+
+    private Path directory;
+    private Path inputs;
+    private Path target;
+
+    @Setup
+    public void setup() throws IOException {
+        directory = SyntheticJars.createTempDirectory();
+        inputs = Files.createDirectory(directory.resolve("inputs"));
+        SyntheticJars.jars()
+            .withClasses(1000)
+            .write(inputs, jars);
+    }
+
+    @Setup(Level.Invocation)
+    public void cleanTarget() throws IOException {
+        target = directory.resolve("target");
+        if (Files.exists(target)) SyntheticJars.deleteRecursively(target);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        SyntheticJars.deleteRecursively(directory);
+    }
+
+    @Benchmark
+    public EntryExtractor.Statistics extract() {
+        EntriesExtractJarProcessor processor = new EntriesExtractJarProcessor(new DirectoryBasedJarFileResolver(inputs));
+        processor.setParallelism(parallelism);
+        processor.setEntryPattern("**/*.class");
+        processor.setTargetDirectory(target);
+        processor.getResult();
+        return processor.getStatistics();
+    }
+}
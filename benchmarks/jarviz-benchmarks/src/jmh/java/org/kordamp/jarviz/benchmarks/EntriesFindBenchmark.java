@@ -0,0 +1,114 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2022-2023 The Jarviz authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kordamp.jarviz.benchmarks;
+
+import org.kordamp.jarviz.core.processors.EntriesFindJarProcessor;
+import org.kordamp.jarviz.core.processors.JarProcessor.JarFileResult;
+import org.kordamp.jarviz.core.resolvers.PathBasedJarFileResolver;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.FileSystem;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.PathMatcher;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Finds entries in a single JAR with equivalent glob and regex patterns, and by exact name.
+ * <p>
+ * {@code findByPatternWithZipFileSystem} walks a ZIP file system instead, as pattern searches used to,
+ * for comparison with the matcher that runs straight on entry names. The {@code /META-INF/**} glob
+ * has a literal prefix, only that section of the sorted entry names is visited.
+ *
+ * @author Andres Almiray
+ * @since 0.3.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class EntriesFindBenchmark {
+    @Param({"1000", "10000"})
+    private int classes;
+
+    @Param({"glob:**/pkg1/*.class", "regex:.*/pkg1/[^/]*\\.class", "glob:/META-INF/**"})
+    private String pattern;
+
+    private Path directory;
+    private Path file;
+    private String entryName;
+
+    @Setup
+    public void setup() throws IOException {
+        directory = SyntheticJars.createTempDirectory();
+        SyntheticJars jars = SyntheticJars.jars().withClasses(classes);
+        file = jars.write(directory.resolve("synthetic.jar"));
+        entryName = jars.className(classes - 1);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        SyntheticJars.deleteRecursively(directory);
+    }
+
+    @Benchmark
+    public Set<JarFileResult<Set<String>>> findByPattern() {
+        // resolvers cache the JarFiles they open, processors close them
+        EntriesFindJarProcessor processor = new EntriesFindJarProcessor(new PathBasedJarFileResolver(file));
+        processor.setEntryPattern(pattern);
+        return processor.getResult();
+    }
+
+    @Benchmark
+    public Set<JarFileResult<Set<String>>> findByName() {
+        EntriesFindJarProcessor processor = new EntriesFindJarProcessor(new PathBasedJarFileResolver(file));
+        processor.setEntryName(entryName);
+        return processor.getResult();
+    }
+
+    @Benchmark
+    public Set<String> findByPatternWithZipFileSystem() throws IOException {
+        Set<String> entries = new TreeSet<>();
+        try (FileSystem zipfs = FileSystems.newFileSystem(file, getClass().getClassLoader())) {
+            PathMatcher pathMatcher = zipfs.getPathMatcher(pattern);
+            try (Stream<Path> stream = Files.walk(zipfs.getPath("/"))) {
+                stream.filter(pathMatcher::matches)
+                    .forEach(path -> entries.add(path.toString().substring(1)));
+            }
+        }
+        return entries;
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2022-2023 The Jarviz authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kordamp.jarviz.benchmarks;
+
+import org.kordamp.jarviz.core.Format;
+import org.kordamp.jarviz.reporting.Formatter;
+import org.kordamp.jarviz.reporting.JsonFormatter;
+import org.kordamp.jarviz.reporting.Node;
+import org.kordamp.jarviz.reporting.ReportWriter;
+import org.kordamp.jarviz.reporting.TxtFormatter;
+import org.kordamp.jarviz.reporting.XmlFormatter;
+import org.kordamp.jarviz.reporting.YamlFormatter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.Writer;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Formats synthetic reports shaped like {@code bytecode show --details}, with one very large array of classes.
+ * Time per operation should grow linearly with {@code nodes}.
+ *
+ * @author Andres Almiray
+ * @since 0.3.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FormatterBenchmark {
+    @Param({"10000", "100000"})
+    private int nodes;
+
+    @Param({"TXT", "JSON", "YAML", "XML"})
+    private Format format;
+
+    private Formatter formatter;
+    private Node root;
+
+    @Setup
+    public void setup() {
+        formatter = resolveFormatter(format);
+        root = Node.root("jarviz");
+        Node classes = root.array("subjects")
+            .collapsable("subject")
+            .node("command").value("bytecode show").end()
+            .node("result")
+            .node("unversioned")
+            .node("bytecode").value(52).end()
+            .node("total").value(nodes).end()
+            .array("classes");
+        for (int i = 0; i < nodes; i++) {
+            classes.collapsable("class").value(className(i));
+        }
+    }
+
+    @Benchmark
+    public String write() {
+        return formatter.write(root);
+    }
+
+    @Benchmark
+    public void stream() {
+        try (ReportWriter writer = formatter.writer(Writer.nullWriter())) {
+            writer.startObject("jarviz")
+                .startArray("subjects")
+                .startCollapsable("subject")
+                .field("command", "bytecode show")
+                .startObject("result")
+                .startObject("unversioned")
+                .field("bytecode", 52)
+                .field("total", nodes)
+                .startArray("classes");
+            for (int i = 0; i < nodes; i++) {
+                writer.collapsableField("class", className(i));
+            }
+        }
+    }
+
+    static String className(int i) {
+        return "com.acme.pkg" + (i % 100) + ".Class" + i;
+    }
+
+    static Formatter resolveFormatter(Format format) {
+        switch (format) {
+            case XML:
+                return XmlFormatter.INSTANCE;
+            case JSON:
+                return JsonFormatter.INSTANCE;
+            case YAML:
+                return YamlFormatter.INSTANCE;
+            case TXT:
+            default:
+                return TxtFormatter.INSTANCE;
+        }
+    }
+}
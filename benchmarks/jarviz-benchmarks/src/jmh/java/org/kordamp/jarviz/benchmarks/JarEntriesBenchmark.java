@@ -0,0 +1,107 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2022-2023 The Jarviz authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kordamp.jarviz.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Enumeration;
+import java.util.concurrent.TimeUnit;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+
+/**
+ * Enumerates the entries of a single JAR, which every content analyzer depends on.
+ *
+ * @author Andres Almiray
+ * @since 0.3.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JarEntriesBenchmark {
+    @Param({"1000", "10000"})
+    private int classes;
+
+    @Param({"false", "true"})
+    private boolean multiRelease;
+
+    private Path directory;
+    private Path file;
+    private JarFile jarFile;
+
+    @Setup
+    public void setup() throws IOException {
+        directory = SyntheticJars.createTempDirectory();
+        file = SyntheticJars.jars()
+            .withClasses(classes)
+            .withMultiRelease(multiRelease)
+            .write(directory.resolve("synthetic.jar"));
+        jarFile = new JarFile(file.toFile());
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        jarFile.close();
+        SyntheticJars.deleteRecursively(directory);
+    }
+
+    @Benchmark
+    public int enumerate() {
+        int count = 0;
+        Enumeration<JarEntry> entries = jarFile.entries();
+        while (entries.hasMoreElements()) {
+            if (!entries.nextElement().isDirectory()) count++;
+        }
+        return count;
+    }
+
+    @Benchmark
+    public long stream() {
+        return jarFile.stream()
+            .filter(entry -> !entry.isDirectory())
+            .count();
+    }
+
+    @Benchmark
+    public int openAndEnumerate() throws IOException {
+        try (JarFile jar = new JarFile(file.toFile())) {
+            int count = 0;
+            Enumeration<JarEntry> entries = jar.entries();
+            while (entries.hasMoreElements()) {
+                if (!entries.nextElement().isDirectory()) count++;
+            }
+            return count;
+        }
+    }
+}
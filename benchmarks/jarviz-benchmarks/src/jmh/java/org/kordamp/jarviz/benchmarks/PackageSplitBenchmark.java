@@ -0,0 +1,83 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2022-2023 The Jarviz authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kordamp.jarviz.benchmarks;
+
+import org.kordamp.jarviz.core.processors.JarProcessor.JarFileResult;
+import org.kordamp.jarviz.core.processors.PackageSplitJarProcessor;
+import org.kordamp.jarviz.core.resolvers.DirectoryBasedJarFileResolver;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Detects split packages across N JARs that share every package.
+ *
+ * @author Andres Almiray
+ * @since 0.3.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class PackageSplitBenchmark {
+    @Param({"10", "100"})
+    private int jars;
+
+    @Param({"1", "4"})
+    private int parallelism;
+
+    private Path directory;
+
+    @Setup
+    public void setup() throws IOException {
+        directory = SyntheticJars.createTempDirectory();
+        SyntheticJars.jars()
+            .withClasses(500)
+            .withPackages(25)
+            .write(directory, jars);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        SyntheticJars.deleteRecursively(directory);
+    }
+
+    @Benchmark
+    public Set<JarFileResult<Set<String>>> splitPackages() {
+        // resolvers cache the JarFiles they open, processors close them
+        PackageSplitJarProcessor processor = new PackageSplitJarProcessor(new DirectoryBasedJarFileResolver(directory));
+        processor.setParallelism(parallelism);
+        return processor.getResult();
+    }
+}
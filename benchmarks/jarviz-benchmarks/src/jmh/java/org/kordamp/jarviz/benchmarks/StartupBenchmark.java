@@ -0,0 +1,108 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2022-2023 The Jarviz authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kordamp.jarviz.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Launches the jarviz command line as a separate process, measuring startup plus a short command on a single JAR.
+ * Launchers are read from the {@code jarviz.launcher.<launcher>} System properties set by the build, run
+ * {@code :jarviz-cli:installDist} and {@code :jarviz-cli:nativeCompile} beforehand.
+ *
+ * @author Andres Almiray
+ * @since 0.3.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@Warmup(iterations = 3)
+@Measurement(iterations = 20)
+@Fork(1)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class StartupBenchmark {
+    @Param({"jvm", "native"})
+    private String launcher;
+
+    @Param({"manifest", "bytecode"})
+    private String command;
+
+    private Path directory;
+    private List<String> commandLine;
+    private ProcessBuilder processBuilder;
+
+    @Setup
+    public void setup() throws IOException {
+        String property = "jarviz.launcher." + launcher;
+        String executable = System.getProperty(property);
+        if (null == executable || !Files.isExecutable(Path.of(executable))) {
+            throw new IllegalStateException("Launcher not found, " + property + "=" + executable);
+        }
+
+        directory = SyntheticJars.createTempDirectory();
+        Path file = SyntheticJars.jars()
+            .withClasses(200)
+            .write(directory.resolve("synthetic.jar"));
+
+        commandLine = new ArrayList<>();
+        commandLine.add(executable);
+        if ("manifest".equals(command)) {
+            commandLine.addAll(List.of("manifest", "query", "--attribute-name", "Manifest-Version"));
+        } else {
+            commandLine.addAll(List.of("bytecode", "show"));
+        }
+        commandLine.addAll(List.of("--file", file.toString()));
+
+        processBuilder = new ProcessBuilder(commandLine)
+            .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+            .redirectError(ProcessBuilder.Redirect.DISCARD);
+        // keep the banner marker away from the user's home
+        processBuilder.environment().put("JARVIZ_DIR", directory.toString());
+        processBuilder.environment().put("JARVIZ_NO_COLOR", "true");
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        SyntheticJars.deleteRecursively(directory);
+    }
+
+    @Benchmark
+    public int launch() throws IOException, InterruptedException {
+        int exitCode = processBuilder.start().waitFor();
+        if (exitCode != 0) {
+            throw new IllegalStateException(String.join(" ", commandLine) + " exited with " + exitCode);
+        }
+        return exitCode;
+    }
+}
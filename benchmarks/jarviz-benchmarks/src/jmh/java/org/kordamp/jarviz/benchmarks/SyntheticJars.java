@@ -0,0 +1,228 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2022-2023 The Jarviz authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kordamp.jarviz.benchmarks;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.jar.Attributes;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+import java.util.jar.JarOutputStream;
+import java.util.jar.Manifest;
+import java.util.stream.Stream;
+
+/**
+ * Generates JAR files with a configurable number of classes, packages, resources and an optional
+ * multi-release layout. Contents are derived from a fixed seed, the same settings always produce the
+ * same bytes, so benchmark results can be reproduced offline.
+ * <p>
+ * Class entries carry a valid class file header followed by filler bytes, they are not meant to be loaded.
+ * Can also be run directly: {@code SyntheticJars <directory> <count> [classes] [packages] [multiRelease]}.
+ *
+ * @author Andres Almiray
+ * @since 0.3.0
+ */
+public final class SyntheticJars {
+    private static final int[] RELEASES = {11, 17};
+    private static final long EPOCH = 1672531200000L;
+
+    private int classes = 1000;
+    private int packages = 20;
+    private int classSize = 1024;
+    private int resources;
+    private int resourceSize = 4096;
+    private boolean multiRelease;
+    private String packagePrefix = "com/acme";
+    private long seed = 42L;
+
+    public static SyntheticJars jars() {
+        return new SyntheticJars();
+    }
+
+    public SyntheticJars withClasses(int classes) {
+        this.classes = classes;
+        return this;
+    }
+
+    public SyntheticJars withPackages(int packages) {
+        this.packages = Math.max(1, packages);
+        return this;
+    }
+
+    /**
+     * Size in bytes of every class entry, including its header.
+     */
+    public SyntheticJars withClassSize(int classSize) {
+        this.classSize = Math.max(8, classSize);
+        return this;
+    }
+
+    public SyntheticJars withResources(int resources) {
+        this.resources = resources;
+        return this;
+    }
+
+    public SyntheticJars withResourceSize(int resourceSize) {
+        this.resourceSize = resourceSize;
+        return this;
+    }
+
+    /**
+     * Adds copies of every tenth class compiled for Java 11 and 17 under {@code META-INF/versions}.
+     */
+    public SyntheticJars withMultiRelease(boolean multiRelease) {
+        this.multiRelease = multiRelease;
+        return this;
+    }
+
+    /**
+     * Packages with the same prefix are shared by every JAR generated from these settings,
+     * which makes them split packages.
+     */
+    public SyntheticJars withPackagePrefix(String packagePrefix) {
+        this.packagePrefix = packagePrefix.replace('.', '/');
+        return this;
+    }
+
+    public SyntheticJars withSeed(long seed) {
+        this.seed = seed;
+        return this;
+    }
+
+    public Path write(Path file) throws IOException {
+        Random random = new Random(seed);
+
+        Manifest manifest = new Manifest();
+        manifest.getMainAttributes().put(Attributes.Name.MANIFEST_VERSION, "1.0");
+        if (multiRelease) {
+            manifest.getMainAttributes().put(Attributes.Name.MULTI_RELEASE, "true");
+        }
+
+        Files.createDirectories(file.toAbsolutePath().getParent());
+        try (JarOutputStream out = new JarOutputStream(Files.newOutputStream(file))) {
+            // written by hand as JarOutputStream would stamp the manifest with the current time
+            JarEntry entry = new JarEntry(JarFile.MANIFEST_NAME);
+            entry.setTime(EPOCH);
+            out.putNextEntry(entry);
+            manifest.write(out);
+            out.closeEntry();
+
+            for (int i = 0; i < classes; i++) {
+                String name = className(i);
+                writeClass(out, name, 52, random);
+                if (multiRelease && i % 10 == 0) {
+                    for (int release : RELEASES) {
+                        writeClass(out, "META-INF/versions/" + release + "/" + name, release + 44, random);
+                    }
+                }
+            }
+            for (int i = 0; i < resources; i++) {
+                byte[] bytes = new byte[resourceSize];
+                fill(bytes, 0, random);
+                writeEntry(out, packagePrefix + "/pkg" + (i % packages) + "/resource" + i + ".txt", bytes);
+            }
+        }
+
+        return file;
+    }
+
+    /**
+     * Writes {@code count} JARs named {@code synthetic-<n>.jar} into {@code directory}. Every JAR uses a
+     * different seed, entry names are the same across all of them.
+     */
+    public List<Path> write(Path directory, int count) throws IOException {
+        List<Path> files = new ArrayList<>(count);
+        long base = seed;
+        try {
+            for (int i = 0; i < count; i++) {
+                seed = base + i;
+                files.add(write(directory.resolve("synthetic-" + i + ".jar")));
+            }
+        } finally {
+            seed = base;
+        }
+        return files;
+    }
+
+    public String className(int index) {
+        return packagePrefix + "/pkg" + (index % packages) + "/Class" + index + ".class";
+    }
+
+    private void writeClass(JarOutputStream out, String name, int major, Random random) throws IOException {
+        byte[] bytes = new byte[classSize];
+        bytes[0] = (byte) 0xCA;
+        bytes[1] = (byte) 0xFE;
+        bytes[2] = (byte) 0xBA;
+        bytes[3] = (byte) 0xBE;
+        bytes[6] = (byte) (major >> 8);
+        bytes[7] = (byte) major;
+        fill(bytes, 8, random);
+        writeEntry(out, name, bytes);
+    }
+
+    private void writeEntry(JarOutputStream out, String name, byte[] bytes) throws IOException {
+        JarEntry entry = new JarEntry(name);
+        entry.setTime(EPOCH);
+        out.putNextEntry(entry);
+        out.write(bytes);
+        out.closeEntry();
+    }
+
+    private static void fill(byte[] bytes, int offset, Random random) {
+        // a small alphabet keeps entries compressible, much like real class files
+        for (int i = offset; i < bytes.length; i++) {
+            bytes[i] = (byte) ('a' + random.nextInt(16));
+        }
+    }
+
+    public static Path createTempDirectory() throws IOException {
+        return Files.createTempDirectory("jarviz-benchmarks");
+    }
+
+    public static void deleteRecursively(Path directory) throws IOException {
+        if (null == directory || !Files.exists(directory)) return;
+
+        try (Stream<Path> paths = Files.walk(directory)) {
+            for (Path path : (Iterable<Path>) paths.sorted(Comparator.reverseOrder())::iterator) {
+                Files.delete(path);
+            }
+        }
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("Usage: SyntheticJars <directory> <count> [classes] [packages] [multiRelease]");
+            System.exit(1);
+        }
+
+        SyntheticJars jars = jars();
+        if (args.length > 2) jars.withClasses(Integer.parseInt(args[2]));
+        if (args.length > 3) jars.withPackages(Integer.parseInt(args[3]));
+        if (args.length > 4) jars.withMultiRelease(Boolean.parseBoolean(args[4]));
+
+        for (Path file : jars.write(Paths.get(args[0]), Integer.parseInt(args[1]))) {
+            System.out.println(file.toAbsolutePath() + " " + Files.size(file));
+        }
+    }
+}
@@ -25,5 +25,6 @@ module org.kordamp.jarviz.core {
 
     exports org.kordamp.jarviz.core;
     exports org.kordamp.jarviz.commands;
+    exports org.kordamp.jarviz.core.resolvers;
     exports org.kordamp.jarviz.util;
 }
\ No newline at end of file
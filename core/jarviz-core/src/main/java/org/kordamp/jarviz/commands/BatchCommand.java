@@ -0,0 +1,325 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2022-2023 The Jarviz authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kordamp.jarviz.commands;
+
+import org.kordamp.jarviz.bundle.RB;
+import org.kordamp.jarviz.core.JarvizException;
+import org.kordamp.jarviz.core.internal.AbstractCommand;
+import org.kordamp.jarviz.core.internal.AbstractConfiguration;
+import org.kordamp.jarviz.core.resolvers.JarFileResolver;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Collections.unmodifiableList;
+
+/**
+ * Runs several commands in one invocation. Inputs configured on the batch are resolved once and shared by every
+ * command that does not define inputs of its own, so all of them work on the same open JAR files.
+ * <p>
+ * Up to {@link Configuration#getJobs()} commands run concurrently. Commands writing to the same report path, target
+ * directory, or incremental index run in the order they were given. Output of each command is buffered and written
+ * in that same order, or to a file per command when an output directory is configured.
+ *
+ * @author Andres Almiray
+ * @since 0.3.0
+ */
+public class BatchCommand extends AbstractCommand<BatchCommand.Configuration> {
+    private static final String JARVIZ = "jarviz";
+    private static final String INCREMENTAL = "--incremental";
+    private static final List<String> FILE_OPTIONS = List.of("--report-path", "--target-directory");
+
+    public static Configuration config() {
+        return new Configuration();
+    }
+
+    /**
+     * Runs a single command line, {@code jarFileResolver} may be {@code null}.
+     */
+    @FunctionalInterface
+    public interface Runner {
+        int run(PrintWriter out, PrintWriter err, JarFileResolver jarFileResolver, String... args);
+    }
+
+    public static class Configuration extends AbstractConfiguration<Configuration> {
+        private final List<List<String>> commandLines = new ArrayList<>();
+        private int jobs = 1;
+        private Path outputDirectory;
+        private Runner runner;
+
+        public List<List<String>> getCommandLines() {
+            return unmodifiableList(commandLines);
+        }
+
+        public Configuration withCommandLine(List<String> commandLine) {
+            this.commandLines.add(List.copyOf(commandLine));
+            return this;
+        }
+
+        public Configuration withCommandLines(List<List<String>> commandLines) {
+            commandLines.forEach(this::withCommandLine);
+            return this;
+        }
+
+        public int getJobs() {
+            return jobs;
+        }
+
+        public Configuration withJobs(int jobs) {
+            this.jobs = Math.max(1, jobs);
+            return this;
+        }
+
+        public Path getOutputDirectory() {
+            return outputDirectory;
+        }
+
+        public Configuration withOutputDirectory(Path outputDirectory) {
+            this.outputDirectory = outputDirectory;
+            return this;
+        }
+
+        public Runner getRunner() {
+            return runner;
+        }
+
+        public Configuration withRunner(Runner runner) {
+            this.runner = runner;
+            return this;
+        }
+    }
+
+    public static List<List<String>> parseCommandLines(Path path) {
+        try (BufferedReader reader = Files.newBufferedReader(path, UTF_8)) {
+            return parseCommandLines(reader, path.toString());
+        } catch (IOException e) {
+            throw new JarvizException(RB.$("ERROR_READING_COMMANDS", path.toAbsolutePath()), e);
+        }
+    }
+
+    /**
+     * Reads one command line per line, skipping blank lines and {@code #} comments. Arguments are separated by
+     * whitespace and may be quoted with {@code '} or {@code "}. A leading {@code jarviz} is ignored.
+     */
+    public static List<List<String>> parseCommandLines(BufferedReader reader, String source) {
+        List<List<String>> commandLines = new ArrayList<>();
+        try {
+            String line;
+            int number = 0;
+            while (null != (line = reader.readLine())) {
+                number++;
+                String trimmed = line.trim();
+                if (trimmed.isEmpty() || trimmed.startsWith("#")) continue;
+
+                List<String> args = tokenize(trimmed);
+                if (null == args) {
+                    throw new JarvizException(RB.$("ERROR_INVALID_COMMAND_LINE", source, number, line));
+                }
+                if (!args.isEmpty() && JARVIZ.equals(args.get(0))) args.remove(0);
+                if (!args.isEmpty()) commandLines.add(args);
+            }
+        } catch (IOException e) {
+            throw new JarvizException(RB.$("ERROR_READING_COMMANDS", source), e);
+        }
+        return commandLines;
+    }
+
+    private static List<String> tokenize(String line) {
+        List<String> args = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean inToken = false;
+        char quote = 0;
+
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quote != 0) {
+                if (c == quote) {
+                    quote = 0;
+                } else {
+                    current.append(c);
+                }
+            } else if (c == '\'' || c == '"') {
+                quote = c;
+                inToken = true;
+            } else if (Character.isWhitespace(c)) {
+                if (inToken) {
+                    args.add(current.toString());
+                    current.setLength(0);
+                    inToken = false;
+                }
+            } else {
+                current.append(c);
+                inToken = true;
+            }
+        }
+
+        // unterminated quote
+        if (quote != 0) return null;
+        if (inToken) args.add(current.toString());
+        return args;
+    }
+
+    @Override
+    public int execute(Configuration configuration) {
+        List<List<String>> commandLines = configuration.getCommandLines();
+        if (commandLines.isEmpty()) return 0;
+
+        JarFileResolver jarFileResolver = hasInputs(configuration) ? createJarFileResolver(configuration) : null;
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(configuration.getJobs(), commandLines.size()));
+        try {
+            if (null != jarFileResolver) {
+                // resolve once, commands running concurrently only read the resolved set
+                jarFileResolver.resolveJarFiles();
+            }
+
+            List<CompletableFuture<Result>> results = new ArrayList<>();
+            Map<String, CompletableFuture<Result>> writers = new HashMap<>();
+            for (List<String> commandLine : commandLines) {
+                Set<String> resources = resources(commandLine);
+                CompletableFuture<?>[] dependencies = resources.stream()
+                    .map(writers::get)
+                    .filter(Objects::nonNull)
+                    .toArray(CompletableFuture[]::new);
+
+                JarFileResolver resolver = jarFileResolver;
+                CompletableFuture<Result> result = CompletableFuture.allOf(dependencies)
+                    .thenApplyAsync(v -> run(configuration.getRunner(), resolver, commandLine), executor);
+                resources.forEach(resource -> writers.put(resource, result));
+                results.add(result);
+            }
+
+            int exitCode = 0;
+            for (int i = 0; i < results.size(); i++) {
+                Result result = results.get(i).join();
+                output(configuration, i, commandLines.get(i), result);
+                exitCode = Math.max(exitCode, result.exitCode);
+            }
+            return exitCode;
+        } finally {
+            executor.shutdown();
+            if (null != jarFileResolver) jarFileResolver.close();
+        }
+    }
+
+    private boolean hasInputs(Configuration configuration) {
+        return null != configuration.getJarFileResolver() ||
+            !configuration.getGavs().isEmpty() ||
+            !configuration.getFiles().isEmpty() ||
+            !configuration.getUrls().isEmpty() ||
+            !configuration.getClasspaths().isEmpty() ||
+            !configuration.getDirectories().isEmpty();
+    }
+
+    /**
+     * Files and directories written by the given command line, as far as they can be told from its options.
+     */
+    private Set<String> resources(List<String> commandLine) {
+        Set<String> resources = new LinkedHashSet<>();
+        for (int i = 0; i < commandLine.size(); i++) {
+            String arg = commandLine.get(i);
+            if (INCREMENTAL.equals(arg)) {
+                resources.add(INCREMENTAL);
+                continue;
+            }
+            for (String option : FILE_OPTIONS) {
+                if (arg.equals(option) && i + 1 < commandLine.size()) {
+                    resources.add(Path.of(commandLine.get(i + 1)).toAbsolutePath().normalize().toString());
+                } else if (arg.startsWith(option + "=")) {
+                    resources.add(Path.of(arg.substring(option.length() + 1)).toAbsolutePath().normalize().toString());
+                }
+            }
+        }
+        return resources;
+    }
+
+    private Result run(Runner runner, JarFileResolver jarFileResolver, List<String> commandLine) {
+        StringWriter out = new StringWriter();
+        StringWriter err = new StringWriter();
+        PrintWriter outWriter = new PrintWriter(out, true);
+        PrintWriter errWriter = new PrintWriter(err, true);
+
+        int exitCode;
+        try {
+            exitCode = runner.run(outWriter, errWriter, jarFileResolver, commandLine.toArray(new String[0]));
+        } catch (RuntimeException e) {
+            e.printStackTrace(errWriter);
+            exitCode = 1;
+        }
+
+        outWriter.flush();
+        errWriter.flush();
+        return new Result(out.toString(), err.toString(), exitCode);
+    }
+
+    private void output(Configuration configuration, int index, List<String> commandLine, Result result) {
+        configuration.getErr().print(result.err);
+        configuration.getErr().flush();
+
+        Path outputDirectory = configuration.getOutputDirectory();
+        if (null == outputDirectory) {
+            configuration.getOut().print(result.out);
+            configuration.getOut().flush();
+            return;
+        }
+
+        Path file = outputDirectory.resolve(outputFileName(index, commandLine));
+        try {
+            Files.createDirectories(outputDirectory);
+            Files.write(file, result.out.getBytes(UTF_8));
+        } catch (IOException e) {
+            throw new JarvizException(RB.$("ERROR_WRITE_FILE", file.toAbsolutePath()), e);
+        }
+    }
+
+    private String outputFileName(int index, List<String> commandLine) {
+        // subcommand names, such as 01-module-name.txt
+        StringBuilder name = new StringBuilder(String.format("%02d", index + 1));
+        for (String arg : commandLine) {
+            if (arg.startsWith("-")) break;
+            name.append('-').append(arg.replaceAll("[^A-Za-z0-9._]", "_"));
+        }
+        return name.append(".txt").toString();
+    }
+
+    private static final class Result {
+        private final String out;
+        private final String err;
+        private final int exitCode;
+
+        private Result(String out, String err, int exitCode) {
+            this.out = out;
+            this.err = err;
+            this.exitCode = exitCode;
+        }
+    }
+}
@@ -19,17 +19,19 @@ package org.kordamp.jarviz.commands;
 
 import org.kordamp.jarviz.bundle.RB;
 import org.kordamp.jarviz.core.Format;
+import org.kordamp.jarviz.core.cache.ResultCache;
 import org.kordamp.jarviz.core.internal.AbstractCommand;
 import org.kordamp.jarviz.core.internal.AbstractConfiguration;
 import org.kordamp.jarviz.core.internal.Colorizer;
+import org.kordamp.jarviz.core.model.BytecodeHistogram;
 import org.kordamp.jarviz.core.model.BytecodeVersion;
 import org.kordamp.jarviz.core.model.BytecodeVersions;
 import org.kordamp.jarviz.core.processors.BytecodeShowJarProcessor;
 import org.kordamp.jarviz.core.processors.JarProcessor;
 import org.kordamp.jarviz.core.resolvers.JarFileResolver;
-import org.kordamp.jarviz.reporting.Node;
+import org.kordamp.jarviz.reporting.ReportWriter;
 
-import java.util.List;
+import java.io.PrintWriter;
 import java.util.Map;
 import java.util.Set;
 
@@ -48,6 +50,8 @@ public class BytecodeShowCommand extends AbstractCommand<BytecodeShowCommand.Con
         private boolean details;
         private Integer bytecodeVersion;
         private Integer javaVersion;
+        private boolean aggregate;
+        private Integer threshold;
 
         public boolean isDetails() {
             return details;
@@ -75,38 +79,191 @@ public class BytecodeShowCommand extends AbstractCommand<BytecodeShowCommand.Con
             this.javaVersion = javaVersion;
             return this;
         }
+
+        public boolean isAggregate() {
+            return aggregate;
+        }
+
+        /**
+         * Merges the results of all JARs into a single histogram instead of reporting each JAR.
+         */
+        public Configuration withAggregate(boolean aggregate) {
+            this.aggregate = aggregate;
+            return this;
+        }
+
+        public Integer getThreshold() {
+            return threshold;
+        }
+
+        /**
+         * Highest bytecode version supported by the target runtime, JARs with classes above it are reported
+         * when aggregating.
+         */
+        public Configuration withThreshold(Integer threshold) {
+            this.threshold = threshold;
+            return this;
+        }
     }
 
     @Override
     public int execute(Configuration configuration) {
-        JarFileResolver jarFileResolver = createJarFileResolver(configuration);
-        BytecodeShowJarProcessor processor = new BytecodeShowJarProcessor(jarFileResolver);
+        try (JarFileResolver jarFileResolver = createJarFileResolver(configuration)) {
+            ResultCache resultCache = createResultCache(configuration);
+            BytecodeShowJarProcessor processor = new BytecodeShowJarProcessor(jarFileResolver);
+            processor.setParallelism(configuration.getParallelism());
+            processor.setResultCache(resultCache);
+            processor.setDetails(configuration.isDetails());
+
+            if (configuration.isAggregate()) {
+                return executeAggregate(configuration, processor, resultCache);
+            }
 
-        Set<JarProcessor.JarFileResult<BytecodeVersions>> results = processor.getResult();
-        if (results.isEmpty()) {
+            Set<JarProcessor.JarFileResult<BytecodeVersions>> results = processor.getResult();
+            outputResultCacheStatistics(configuration, resultCache);
+            if (results.isEmpty()) {
+                return 1;
+            }
+
+            output(configuration, results);
+            report(configuration, results);
+
+            return 0;
+        }
+    }
+
+    private int executeAggregate(Configuration configuration, BytecodeShowJarProcessor processor, ResultCache resultCache) {
+        BytecodeVersion threshold = null != configuration.getThreshold() && configuration.getThreshold() > 43 ?
+            BytecodeVersion.of(configuration.getThreshold()) : null;
+
+        BytecodeHistogram histogram = processor.getHistogram(threshold);
+        outputResultCacheStatistics(configuration, resultCache);
+        if (histogram.getJarCount() == 0) {
             return 1;
         }
 
-        output(configuration, results);
-        report(configuration, results);
+        output(configuration, histogram);
+        report(configuration, histogram);
 
         return 0;
     }
 
+    private void output(Configuration configuration, BytecodeHistogram histogram) {
+        Format outputFormat = configuration.getOutputFormat();
+        if (null != outputFormat) {
+            writeOutput(configuration, outputFormat, writer -> buildReport(configuration, writer, histogram));
+            return;
+        }
+
+        PrintWriter out = configuration.getOut();
+        out.println($$("bytecode.histogram.jars", histogram.getJarCount(), histogram.getMultiReleaseJarCount()));
+        if (null != histogram.getMaxBytecode()) {
+            out.println($$("bytecode.histogram.max", histogram.getMaxBytecode(), String.join(", ", histogram.getMaxBytecodeJars())));
+        }
+        histogram.getClassCounts().forEach((bytecodeVersion, total) ->
+            out.println($$("bytecode.unversioned.classes.total", bytecodeVersion, total)));
+        histogram.getJarCountsByMaxBytecode().forEach((bytecodeVersion, total) ->
+            out.println($$("bytecode.histogram.max.jars", bytecodeVersion, total)));
+        histogram.getMultiReleaseJarCounts().forEach((javaVersion, total) ->
+            out.println($$("bytecode.histogram.versioned.jars", javaVersion, total)));
+
+        if (null == histogram.getThreshold()) return;
+
+        Map<String, BytecodeHistogram.Offender> offenders = histogram.getOffenders();
+        out.println($$("bytecode.histogram.threshold", histogram.getThreshold(), offenders.size(),
+            offenders.values().stream().mapToLong(BytecodeHistogram.Offender::getClassCount).sum()));
+        offenders.forEach((jarName, offender) -> {
+            out.println($$("output.subject", jarName));
+            out.println($$("output.total", offender.getClassCount()));
+            if (configuration.isDetails()) {
+                offender.getClasses().forEach(out::println);
+            }
+        });
+    }
+
+    private void report(Configuration configuration, BytecodeHistogram histogram) {
+        if (null == configuration.getReportPath()) return;
+
+        for (Format format : configuration.getReportFormats()) {
+            writeReport(configuration, format, writer -> buildReport(configuration, writer, histogram));
+        }
+    }
+
+    private void buildReport(Configuration configuration, ReportWriter writer, BytecodeHistogram histogram) {
+        writer.startObject(RB.$("report.key.histogram"))
+            .field(RB.$("report.key.command"), "bytecode show")
+            .field(RB.$("report.key.jars"), histogram.getJarCount())
+            .field(RB.$("report.key.multi.release"), histogram.getMultiReleaseJarCount());
+
+        if (null != histogram.getMaxBytecode()) {
+            writer.startObject(RB.$("report.key.max.bytecode"))
+                .field(RB.$("report.key.bytecode"), histogram.getMaxBytecode())
+                .startArray(RB.$("report.key.jars"))
+                .collapsableFields(RB.$("report.key.jar"), histogram.getMaxBytecodeJars())
+                .end()
+                .end();
+        }
+
+        writer.startArray(RB.$("report.key.unversioned"));
+        histogram.getClassCounts().forEach((bytecodeVersion, total) -> writer.startCollapsable(RB.$("report.key.classes"))
+            .field(RB.$("report.key.bytecode"), bytecodeVersion)
+            .field(RB.$("report.key.total"), total)
+            .end());
+        writer.end();
+
+        writer.startArray(RB.$("report.key.jars.by.max.bytecode"));
+        histogram.getJarCountsByMaxBytecode().forEach((bytecodeVersion, total) -> writer.startCollapsable(RB.$("report.key.jars"))
+            .field(RB.$("report.key.bytecode"), bytecodeVersion)
+            .field(RB.$("report.key.total"), total)
+            .end());
+        writer.end();
+
+        writer.startArray(RB.$("report.key.versioned"));
+        histogram.getMultiReleaseJarCounts().forEach((javaVersion, total) -> writer.startCollapsable(RB.$("report.key.jars"))
+            .field(RB.$("report.key.java.version"), javaVersion)
+            .field(RB.$("report.key.total"), total)
+            .end());
+        writer.end();
+
+        if (null != histogram.getThreshold()) {
+            writer.startObject(RB.$("report.key.threshold"))
+                .field(RB.$("report.key.bytecode"), histogram.getThreshold())
+                .startArray(RB.$("report.key.jars"));
+            histogram.getOffenders().forEach((jarName, offender) -> {
+                writer.startCollapsable(RB.$("report.key.jar"))
+                    .field(RB.$("report.key.file"), jarName)
+                    .field(RB.$("report.key.total"), offender.getClassCount());
+                if (configuration.isDetails()) {
+                    writer.startArray(RB.$("report.key.classes"))
+                        .collapsableFields(RB.$("report.key.class"), offender.getClasses())
+                        .end();
+                }
+                writer.end();
+            });
+            writer.end()
+                .end();
+        }
+
+        writer.end();
+    }
+
     private void output(Configuration configuration, Set<JarProcessor.JarFileResult<BytecodeVersions>> results) {
-        Node root = createRootNode();
         Format outputFormat = configuration.getOutputFormat();
+        if (null != outputFormat) {
+            writeOutput(configuration, outputFormat, writer -> {
+                for (JarProcessor.JarFileResult<BytecodeVersions> result : results) {
+                    buildReport(configuration, outputFormat, writer, result);
+                }
+            });
+            return;
+        }
+
         for (JarProcessor.JarFileResult<BytecodeVersions> result : results) {
-            if (null == outputFormat) {
-                output(configuration, result);
-            } else {
-                buildReport(configuration, outputFormat, root, result);
-            }
+            output(configuration, result);
         }
-        if (null != outputFormat) writeOutput(configuration, resolveFormatter(outputFormat).write(root));
     }
 
-    private void output(Configuration configuration, JarProcessor.JarFileResult<BytecodeVersions> result) {
+    void output(Configuration configuration, JarProcessor.JarFileResult<BytecodeVersions> result) {
         configuration.getOut().println($$("output.subject", result.getJarFileName()));
         BytecodeVersions bytecodeVersions = result.getResult();
 
@@ -124,57 +281,55 @@ public class BytecodeShowCommand extends AbstractCommand<BytecodeShowCommand.Con
         }
 
         if (0 == jv) {
-            Map<BytecodeVersion, List<String>> unversionedClasses = bytecodeVersions.getUnversionedClasses();
+            Map<BytecodeVersion, Integer> unversionedClasses = bytecodeVersions.getUnversionedClassCounts();
             if (bc.isEmpty()) {
                 unversionedClasses.keySet().stream()
                     .sorted()
-                    .forEach(bytecodeVersion -> printUnversioned(configuration, unversionedClasses, bytecodeVersion));
+                    .forEach(bytecodeVersion -> printUnversioned(configuration, bytecodeVersions, unversionedClasses, bytecodeVersion));
             } else {
-                printUnversioned(configuration, unversionedClasses, bc);
+                printUnversioned(configuration, bytecodeVersions, unversionedClasses, bc);
             }
         }
 
         Set<Integer> javaVersions = bytecodeVersions.getJavaVersionOfVersionedClasses();
         if (0 == jv) {
             for (Integer javaVersion : javaVersions) {
-                Map<BytecodeVersion, List<String>> versionedClasses = bytecodeVersions.getVersionedClasses(javaVersion);
+                Map<BytecodeVersion, Integer> versionedClasses = bytecodeVersions.getVersionedClassCounts(javaVersion);
                 if (bc.isEmpty()) {
-                    for (Map.Entry<BytecodeVersion, List<String>> entry : versionedClasses.entrySet()) {
-                        printVersioned(configuration, versionedClasses, javaVersion, entry.getKey());
+                    for (Map.Entry<BytecodeVersion, Integer> entry : versionedClasses.entrySet()) {
+                        printVersioned(configuration, bytecodeVersions, versionedClasses, javaVersion, entry.getKey());
                     }
                 } else {
-                    printVersioned(configuration, versionedClasses, javaVersion, bc);
+                    printVersioned(configuration, bytecodeVersions, versionedClasses, javaVersion, bc);
                 }
             }
         } else {
-            Map<BytecodeVersion, List<String>> versionedClasses = bytecodeVersions.getVersionedClasses(jv);
+            Map<BytecodeVersion, Integer> versionedClasses = bytecodeVersions.getVersionedClassCounts(jv);
             if (bc.isEmpty()) {
-                for (Map.Entry<BytecodeVersion, List<String>> entry : versionedClasses.entrySet()) {
-                    printVersioned(configuration, versionedClasses, jv, entry.getKey());
+                for (Map.Entry<BytecodeVersion, Integer> entry : versionedClasses.entrySet()) {
+                    printVersioned(configuration, bytecodeVersions, versionedClasses, jv, entry.getKey());
                 }
             } else {
-                printVersioned(configuration, versionedClasses, jv, bc);
+                printVersioned(configuration, bytecodeVersions, versionedClasses, jv, bc);
             }
         }
     }
 
-    private void printUnversioned(Configuration configuration, Map<BytecodeVersion, List<String>> unversionedClasses, BytecodeVersion bytecodeVersion) {
+    private void printUnversioned(Configuration configuration, BytecodeVersions bytecodeVersions, Map<BytecodeVersion, Integer> unversionedClasses, BytecodeVersion bytecodeVersion) {
         if (!unversionedClasses.containsKey(bytecodeVersion)) return;
 
-        List<String> classes = unversionedClasses.get(bytecodeVersion);
-        configuration.getOut().println($$("bytecode.unversioned.classes.total", bytecodeVersion, classes.size()));
+        configuration.getOut().println($$("bytecode.unversioned.classes.total", bytecodeVersion, unversionedClasses.get(bytecodeVersion)));
         if (configuration.isDetails()) {
-            classes.forEach(configuration.getOut()::println);
+            bytecodeVersions.getUnversionedClasses(bytecodeVersion).forEach(configuration.getOut()::println);
         }
     }
 
-    private void printVersioned(Configuration configuration, Map<BytecodeVersion, List<String>> versionedClasses, Integer javaVersion, BytecodeVersion bytecodeVersion) {
+    private void printVersioned(Configuration configuration, BytecodeVersions bytecodeVersions, Map<BytecodeVersion, Integer> versionedClasses, Integer javaVersion, BytecodeVersion bytecodeVersion) {
         if (!versionedClasses.containsKey(bytecodeVersion)) return;
 
-        List<String> classes = versionedClasses.get(bytecodeVersion);
-        configuration.getOut().println($$("bytecode.versioned.classes.total", javaVersion, bytecodeVersion, classes.size()));
+        configuration.getOut().println($$("bytecode.versioned.classes.total", javaVersion, bytecodeVersion, versionedClasses.get(bytecodeVersion)));
         if (configuration.isDetails()) {
-            classes.forEach(configuration.getOut()::println);
+            bytecodeVersions.getVersionedClasses(javaVersion, bytecodeVersion).forEach(configuration.getOut()::println);
         }
     }
 
@@ -182,16 +337,16 @@ public class BytecodeShowCommand extends AbstractCommand<BytecodeShowCommand.Con
         if (null == configuration.getReportPath()) return;
 
         for (Format format : configuration.getReportFormats()) {
-            Node root = createRootNode();
-            for (JarProcessor.JarFileResult<BytecodeVersions> result : results) {
-                buildReport(configuration, format, root, result);
-            }
-            writeReport(configuration, resolveFormatter(format).write(root), format);
+            writeReport(configuration, format, writer -> {
+                for (JarProcessor.JarFileResult<BytecodeVersions> result : results) {
+                    buildReport(configuration, format, writer, result);
+                }
+            });
         }
     }
 
-    private void buildReport(Configuration configuration, Format format, Node root, JarProcessor.JarFileResult<BytecodeVersions> result) {
-        appendSubject(root, result.getJarPath(), "bytecode show", resultNode -> {
+    void buildReport(Configuration configuration, Format format, ReportWriter writer, JarProcessor.JarFileResult<BytecodeVersions> result) {
+        writeSubject(writer, result.getJarPath(), "bytecode show", w -> {
             BytecodeVersions bytecodeVersions = result.getResult();
 
             BytecodeVersion bc = BytecodeVersion.of(configuration.getBytecodeVersion() != null && configuration.getBytecodeVersion() > 43 ? configuration.getBytecodeVersion() : 0);
@@ -200,81 +355,84 @@ public class BytecodeShowCommand extends AbstractCommand<BytecodeShowCommand.Con
             if (bc.isEmpty() && 0 == jv) {
                 Set<BytecodeVersion> manifestBytecode = bytecodeVersions.getManifestBytecode();
                 if (manifestBytecode.size() > 0) {
-                    Node bytecode = resultNode.array(RB.$("report.key.bytecode"));
+                    w.startArray(RB.$("report.key.bytecode"));
                     manifestBytecode.stream()
                         .map(String::valueOf)
                         .forEach(v -> {
                             if (format == Format.TXT) {
-                                bytecode.node(v).end();
+                                w.startObject(v).end();
                             } else {
-                                bytecode.collapsable(RB.$("report.key.version")).value(v).end();
+                                w.collapsableField(RB.$("report.key.version"), v);
                             }
                         });
+                    w.end();
                 }
             }
 
             if (0 == jv) {
-                Map<BytecodeVersion, List<String>> unversionedClasses = bytecodeVersions.getUnversionedClasses();
+                Map<BytecodeVersion, Integer> unversionedClasses = bytecodeVersions.getUnversionedClassCounts();
                 if (bc.isEmpty()) {
                     unversionedClasses.keySet().stream()
                         .sorted()
-                        .forEach(bytecodeVersion -> reportUnversioned(configuration, resultNode, unversionedClasses, bytecodeVersion));
+                        .forEach(bytecodeVersion -> reportUnversioned(configuration, w, bytecodeVersions, unversionedClasses, bytecodeVersion));
                 } else {
-                    reportUnversioned(configuration, resultNode, unversionedClasses, bc);
+                    reportUnversioned(configuration, w, bytecodeVersions, unversionedClasses, bc);
                 }
             }
 
             Set<Integer> javaVersions = bytecodeVersions.getJavaVersionOfVersionedClasses();
             if (0 == jv) {
                 for (Integer javaVersion : javaVersions) {
-                    Map<BytecodeVersion, List<String>> versionedClasses = bytecodeVersions.getVersionedClasses(javaVersion);
+                    Map<BytecodeVersion, Integer> versionedClasses = bytecodeVersions.getVersionedClassCounts(javaVersion);
                     if (bc.isEmpty()) {
-                        for (Map.Entry<BytecodeVersion, List<String>> entry : versionedClasses.entrySet()) {
-                            reportVersioned(configuration, resultNode, versionedClasses, javaVersion, entry.getKey());
+                        for (Map.Entry<BytecodeVersion, Integer> entry : versionedClasses.entrySet()) {
+                            reportVersioned(configuration, w, bytecodeVersions, versionedClasses, javaVersion, entry.getKey());
                         }
                     } else {
-                        reportVersioned(configuration, resultNode, versionedClasses, javaVersion, bc);
+                        reportVersioned(configuration, w, bytecodeVersions, versionedClasses, javaVersion, bc);
                     }
                 }
             } else {
-                Map<BytecodeVersion, List<String>> versionedClasses = bytecodeVersions.getVersionedClasses(jv);
+                Map<BytecodeVersion, Integer> versionedClasses = bytecodeVersions.getVersionedClassCounts(jv);
                 if (bc.isEmpty()) {
-                    for (Map.Entry<BytecodeVersion, List<String>> entry : versionedClasses.entrySet()) {
-                        reportVersioned(configuration, resultNode, versionedClasses, jv, entry.getKey());
+                    for (Map.Entry<BytecodeVersion, Integer> entry : versionedClasses.entrySet()) {
+                        reportVersioned(configuration, w, bytecodeVersions, versionedClasses, jv, entry.getKey());
                     }
                 } else {
-                    reportVersioned(configuration, resultNode, versionedClasses, jv, bc);
+                    reportVersioned(configuration, w, bytecodeVersions, versionedClasses, jv, bc);
                 }
             }
         });
     }
 
-    private void reportUnversioned(Configuration configuration, Node resultNode, Map<BytecodeVersion, List<String>> unversionedClasses, BytecodeVersion bytecodeVersion) {
+    private void reportUnversioned(Configuration configuration, ReportWriter writer, BytecodeVersions bytecodeVersions, Map<BytecodeVersion, Integer> unversionedClasses, BytecodeVersion bytecodeVersion) {
         if (!unversionedClasses.containsKey(bytecodeVersion)) return;
 
-        List<String> classes = unversionedClasses.get(bytecodeVersion);
-        Node unversioned = resultNode.node(RB.$("report.key.unversioned"))
-            .node(RB.$("report.key.bytecode")).value(bytecodeVersion).end()
-            .node(RB.$("report.key.total")).value(classes.size()).end();
+        writer.startObject(RB.$("report.key.unversioned"))
+            .field(RB.$("report.key.bytecode"), bytecodeVersion)
+            .field(RB.$("report.key.total"), unversionedClasses.get(bytecodeVersion));
 
         if (configuration.isDetails()) {
-            unversioned.array(RB.$("report.key.classes"))
-                .collapsableChildren(RB.$("report.key.class"), classes);
+            writer.startArray(RB.$("report.key.classes"))
+                .collapsableFields(RB.$("report.key.class"), bytecodeVersions.getUnversionedClasses(bytecodeVersion))
+                .end();
         }
+        writer.end();
     }
 
-    private void reportVersioned(Configuration configuration, Node resultNode, Map<BytecodeVersion, List<String>> versionedClasses, Integer javaVersion, BytecodeVersion bytecodeVersion) {
+    private void reportVersioned(Configuration configuration, ReportWriter writer, BytecodeVersions bytecodeVersions, Map<BytecodeVersion, Integer> versionedClasses, Integer javaVersion, BytecodeVersion bytecodeVersion) {
         if (!versionedClasses.containsKey(bytecodeVersion)) return;
 
-        List<String> classes = versionedClasses.get(bytecodeVersion);
-        Node versioned = resultNode.node(RB.$("report.key.versioned"))
-            .node(RB.$("report.key.java.version")).value(javaVersion).end()
-            .node(RB.$("report.key.bytecode")).value(bytecodeVersion).end()
-            .node(RB.$("report.key.total")).value(classes.size()).end();
+        writer.startObject(RB.$("report.key.versioned"))
+            .field(RB.$("report.key.java.version"), javaVersion)
+            .field(RB.$("report.key.bytecode"), bytecodeVersion)
+            .field(RB.$("report.key.total"), versionedClasses.get(bytecodeVersion));
 
         if (configuration.isDetails()) {
-            versioned.array(RB.$("report.key.classes"))
-                .collapsableChildren(RB.$("report.key.class"), classes);
+            writer.startArray(RB.$("report.key.classes"))
+                .collapsableFields(RB.$("report.key.class"), bytecodeVersions.getVersionedClasses(javaVersion, bytecodeVersion))
+                .end();
         }
+        writer.end();
     }
 }
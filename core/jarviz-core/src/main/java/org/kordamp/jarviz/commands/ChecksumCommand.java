@@ -26,6 +26,7 @@ import org.kordamp.jarviz.core.processors.ChecksumJarProcessor;
 import org.kordamp.jarviz.core.processors.JarProcessor;
 import org.kordamp.jarviz.core.resolvers.JarFileResolver;
 import org.kordamp.jarviz.reporting.Node;
+import org.kordamp.jarviz.reporting.ReportWriter;
 
 import java.util.Set;
 
@@ -49,28 +50,36 @@ public class ChecksumCommand extends AbstractCommand<ChecksumCommand.Configurati
 
     @Override
     public int execute(Configuration configuration) {
-        JarFileResolver jarFileResolver = createJarFileResolver(configuration);
-        ChecksumJarProcessor processor = new ChecksumJarProcessor(jarFileResolver);
+        try (JarFileResolver jarFileResolver = createJarFileResolver(configuration)) {
+            ChecksumJarProcessor processor = new ChecksumJarProcessor(jarFileResolver);
+            processor.setParallelism(configuration.getParallelism());
+            processor.setJarMetadata(getJarMetadata());
+            processor.setMaxConnections(configuration.getMaxConnections());
+            processor.setRepositories(createRepositories(configuration));
 
-        Set<JarProcessor.JarFileResult<Set<Checksum>>> results = processor.getResult();
+            Set<JarProcessor.JarFileResult<Set<Checksum>>> results = processor.getResult();
 
-        output(configuration, results);
-        report(configuration, results);
+            output(configuration, results);
+            report(configuration, results);
 
-        return 0;
+            return 0;
+        }
     }
 
     private void output(Configuration configuration, Set<JarProcessor.JarFileResult<Set<Checksum>>> results) {
-        Node root = createRootNode();
         Format outputFormat = configuration.getOutputFormat();
+        if (null != outputFormat) {
+            writeOutput(configuration, outputFormat, writer -> {
+                for (JarProcessor.JarFileResult<Set<Checksum>> result : results) {
+                    buildReport(writer, result);
+                }
+            });
+            return;
+        }
+
         for (JarProcessor.JarFileResult<Set<Checksum>> result : results) {
-            if (null == outputFormat) {
-                output(configuration, result);
-            } else {
-                buildReport(root, result);
-            }
+            output(configuration, result);
         }
-        if (null != outputFormat) writeOutput(configuration, resolveFormatter(outputFormat).write(root));
     }
 
     private void output(Configuration configuration, JarProcessor.JarFileResult<Set<Checksum>> result) {
@@ -86,16 +95,16 @@ public class ChecksumCommand extends AbstractCommand<ChecksumCommand.Configurati
         if (null == configuration.getReportPath()) return;
 
         for (Format format : configuration.getReportFormats()) {
-            Node root = createRootNode();
-            for (JarProcessor.JarFileResult<Set<Checksum>> result : results) {
-                buildReport(root, result);
-            }
-            writeReport(configuration, resolveFormatter(format).write(root), format);
+            writeReport(configuration, format, writer -> {
+                for (JarProcessor.JarFileResult<Set<Checksum>> result : results) {
+                    buildReport(writer, result);
+                }
+            });
         }
     }
 
-    private void buildReport(Node root, JarProcessor.JarFileResult<Set<Checksum>> result) {
-        appendSubject(root, result.getJarPath(), "checksum", resultNode -> {
+    private void buildReport(ReportWriter writer, JarProcessor.JarFileResult<Set<Checksum>> result) {
+        appendSubject(writer, result.getJarPath(), "checksum", resultNode -> {
             Node checksums = resultNode.array(RB.$("report.key.checksums"));
 
             for (Checksum checksum : result.getResult()) {
@@ -21,10 +21,12 @@ import org.kordamp.jarviz.bundle.RB;
 import org.kordamp.jarviz.core.Format;
 import org.kordamp.jarviz.core.internal.AbstractCommand;
 import org.kordamp.jarviz.core.internal.AbstractConfiguration;
+import org.kordamp.jarviz.core.internal.EntryExtractor;
 import org.kordamp.jarviz.core.processors.EntriesExtractJarProcessor;
 import org.kordamp.jarviz.core.processors.JarProcessor;
 import org.kordamp.jarviz.core.resolvers.JarFileResolver;
 import org.kordamp.jarviz.reporting.Node;
+import org.kordamp.jarviz.reporting.ReportWriter;
 
 import java.nio.file.Path;
 import java.util.Set;
@@ -92,37 +94,52 @@ public class EntriesExtractCommand extends AbstractCommand<EntriesExtractCommand
 
     @Override
     public int execute(Configuration configuration) {
-        JarFileResolver jarFileResolver = createJarFileResolver(configuration);
-        EntriesExtractJarProcessor processor = new EntriesExtractJarProcessor(jarFileResolver);
-        processor.setEntryName(configuration.getEntryName());
-        processor.setEntryPattern(configuration.getEntryPattern());
-        processor.setTargetDirectory(configuration.getTargetDirectory());
-        processor.setFlatten(configuration.isFlatten());
-
-        Set<JarProcessor.JarFileResult<Set<String>>> results = processor.getResult();
-        // may have been updated
-        configuration.withEntryPattern(processor.getEntryPattern());
-        if (results.isEmpty()) {
-            return 1;
+        try (JarFileResolver jarFileResolver = createJarFileResolver(configuration)) {
+            EntriesExtractJarProcessor processor = new EntriesExtractJarProcessor(jarFileResolver);
+            processor.setParallelism(configuration.getParallelism());
+            processor.setEntryName(configuration.getEntryName());
+            processor.setEntryPattern(configuration.getEntryPattern());
+            processor.setTargetDirectory(configuration.getTargetDirectory());
+            processor.setFlatten(configuration.isFlatten());
+
+            Set<JarProcessor.JarFileResult<Set<String>>> results = processor.getResult();
+            // may have been updated
+            configuration.withEntryPattern(processor.getEntryPattern());
+            if (results.isEmpty()) {
+                outputStatistics(configuration, processor.getStatistics());
+                return 1;
+            }
+
+            output(configuration, results);
+            report(configuration, results);
+            outputStatistics(configuration, processor.getStatistics());
+
+            return 0;
         }
+    }
 
-        output(configuration, results);
-        report(configuration, results);
+    private void outputStatistics(Configuration configuration, EntryExtractor.Statistics statistics) {
+        if (null == statistics) return;
 
-        return 0;
+        // diagnostics, standard output stays as scripts expect it
+        configuration.getErr().println($$("output.extract.statistics", statistics.getEntries(), statistics.getBytes(),
+            statistics.getEntriesPerSecond(), statistics.getBytesPerSecond()));
     }
 
     private void output(Configuration configuration, Set<JarProcessor.JarFileResult<Set<String>>> results) {
-        Node root = createRootNode();
         Format outputFormat = configuration.getOutputFormat();
+        if (null != outputFormat) {
+            writeOutput(configuration, outputFormat, writer -> {
+                for (JarProcessor.JarFileResult<Set<String>> result : results) {
+                    buildReport(configuration, outputFormat, writer, result);
+                }
+            });
+            return;
+        }
+
         for (JarProcessor.JarFileResult<Set<String>> result : results) {
-            if (null == outputFormat) {
-                output(configuration, result);
-            } else {
-                buildReport(configuration, outputFormat, root, result);
-            }
+            output(configuration, result);
         }
-        if (null != outputFormat) writeOutput(configuration, resolveFormatter(outputFormat).write(root));
     }
 
     private void output(Configuration configuration, JarProcessor.JarFileResult<Set<String>> result) {
@@ -141,18 +158,18 @@ public class EntriesExtractCommand extends AbstractCommand<EntriesExtractCommand
         if (null == configuration.getReportPath()) return;
 
         for (Format format : configuration.getReportFormats()) {
-            Node root = createRootNode();
-            for (JarProcessor.JarFileResult<Set<String>> result : results) {
-                if (!result.getResult().isEmpty()) {
-                    buildReport(configuration, format, root, result);
+            writeReport(configuration, format, writer -> {
+                for (JarProcessor.JarFileResult<Set<String>> result : results) {
+                    if (!result.getResult().isEmpty()) {
+                        buildReport(configuration, format, writer, result);
+                    }
                 }
-            }
-            writeReport(configuration, resolveFormatter(format).write(root), format);
+            });
         }
     }
 
-    private void buildReport(Configuration configuration, Format format, Node root, JarProcessor.JarFileResult<Set<String>> result) {
-        appendSubject(root, result.getJarPath(), "entries find", resultNode -> {
+    private void buildReport(Configuration configuration, Format format, ReportWriter writer, JarProcessor.JarFileResult<Set<String>> result) {
+        appendSubject(writer, result.getJarPath(), "entries find", resultNode -> {
             String key = isBlank(configuration.getEntryPattern()) ? "report.key.entry.name" : "report.key.entry.pattern";
             String value = isBlank(configuration.getEntryPattern()) ? configuration.getEntryName() : configuration.getEntryPattern();
             Node entries = resultNode.node(RB.$(key)).value(value).end()
@@ -19,12 +19,14 @@ package org.kordamp.jarviz.commands;
 
 import org.kordamp.jarviz.bundle.RB;
 import org.kordamp.jarviz.core.Format;
+import org.kordamp.jarviz.core.cache.ResultCache;
 import org.kordamp.jarviz.core.internal.AbstractCommand;
 import org.kordamp.jarviz.core.internal.AbstractConfiguration;
 import org.kordamp.jarviz.core.processors.EntriesFindJarProcessor;
 import org.kordamp.jarviz.core.processors.JarProcessor;
 import org.kordamp.jarviz.core.resolvers.JarFileResolver;
 import org.kordamp.jarviz.reporting.Node;
+import org.kordamp.jarviz.reporting.ReportWriter;
 
 import java.util.Set;
 
@@ -69,35 +71,43 @@ public class EntriesFindCommand extends AbstractCommand<EntriesFindCommand.Confi
 
     @Override
     public int execute(Configuration configuration) {
-        JarFileResolver jarFileResolver = createJarFileResolver(configuration);
-        EntriesFindJarProcessor processor = new EntriesFindJarProcessor(jarFileResolver);
-        processor.setEntryName(configuration.getEntryName());
-        processor.setEntryPattern(configuration.getEntryPattern());
-
-        Set<JarProcessor.JarFileResult<Set<String>>> results = processor.getResult();
-        // may have been updated
-        configuration.withEntryPattern(processor.getEntryPattern());
-        if (results.isEmpty()) {
-            return 1;
-        }
+        try (JarFileResolver jarFileResolver = createJarFileResolver(configuration)) {
+            ResultCache resultCache = createResultCache(configuration);
+            EntriesFindJarProcessor processor = new EntriesFindJarProcessor(jarFileResolver);
+            processor.setParallelism(configuration.getParallelism());
+            processor.setResultCache(resultCache);
+            processor.setEntryName(configuration.getEntryName());
+            processor.setEntryPattern(configuration.getEntryPattern());
+
+            Set<JarProcessor.JarFileResult<Set<String>>> results = processor.getResult();
+            outputResultCacheStatistics(configuration, resultCache);
+            // may have been updated
+            configuration.withEntryPattern(processor.getEntryPattern());
+            if (results.isEmpty()) {
+                return 1;
+            }
 
-        output(configuration, results);
-        report(configuration, results);
+            output(configuration, results);
+            report(configuration, results);
 
-        return 0;
+            return 0;
+        }
     }
 
     private void output(Configuration configuration, Set<JarProcessor.JarFileResult<Set<String>>> results) {
-        Node root = createRootNode();
         Format outputFormat = configuration.getOutputFormat();
+        if (null != outputFormat) {
+            writeOutput(configuration, outputFormat, writer -> {
+                for (JarProcessor.JarFileResult<Set<String>> result : results) {
+                    buildReport(configuration, outputFormat, writer, result);
+                }
+            });
+            return;
+        }
+
         for (JarProcessor.JarFileResult<Set<String>> result : results) {
-            if (null == outputFormat) {
-                output(configuration, result);
-            } else {
-                buildReport(configuration, outputFormat, root, result);
-            }
+            output(configuration, result);
         }
-        if (null != outputFormat) writeOutput(configuration, resolveFormatter(outputFormat).write(root));
     }
 
     private void output(Configuration configuration, JarProcessor.JarFileResult<Set<String>> result) {
@@ -116,18 +126,18 @@ public class EntriesFindCommand extends AbstractCommand<EntriesFindCommand.Confi
         if (null == configuration.getReportPath()) return;
 
         for (Format format : configuration.getReportFormats()) {
-            Node root = createRootNode();
-            for (JarProcessor.JarFileResult<Set<String>> result : results) {
-                if (!result.getResult().isEmpty()) {
-                    buildReport(configuration, format, root, result);
+            writeReport(configuration, format, writer -> {
+                for (JarProcessor.JarFileResult<Set<String>> result : results) {
+                    if (!result.getResult().isEmpty()) {
+                        buildReport(configuration, format, writer, result);
+                    }
                 }
-            }
-            writeReport(configuration, resolveFormatter(format).write(root), format);
+            });
         }
     }
 
-    private void buildReport(Configuration configuration, Format format, Node root, JarProcessor.JarFileResult<Set<String>> result) {
-        appendSubject(root, result.getJarPath(), "entries find", resultNode -> {
+    private void buildReport(Configuration configuration, Format format, ReportWriter writer, JarProcessor.JarFileResult<Set<String>> result) {
+        appendSubject(writer, result.getJarPath(), "entries find", resultNode -> {
             String key = isBlank(configuration.getEntryPattern()) ? "report.key.entry.name" : "report.key.entry.pattern";
             String value = isBlank(configuration.getEntryPattern()) ? configuration.getEntryName() : configuration.getEntryPattern();
             Node entries = resultNode.node(RB.$(key)).value(value).end()
@@ -24,7 +24,7 @@ import org.kordamp.jarviz.core.internal.AbstractConfiguration;
 import org.kordamp.jarviz.core.processors.JarProcessor;
 import org.kordamp.jarviz.core.processors.ManifestQueryJarProcessor;
 import org.kordamp.jarviz.core.resolvers.JarFileResolver;
-import org.kordamp.jarviz.reporting.Node;
+import org.kordamp.jarviz.reporting.ReportWriter;
 
 import java.util.Optional;
 import java.util.Set;
@@ -65,33 +65,38 @@ public class ManifestQueryCommand extends AbstractCommand<ManifestQueryCommand.C
 
     @Override
     public int execute(Configuration configuration) {
-        JarFileResolver jarFileResolver = createJarFileResolver(configuration);
-        ManifestQueryJarProcessor processor = new ManifestQueryJarProcessor(jarFileResolver);
-        processor.setAttributeName(configuration.getAttributeName());
-        processor.setSectionName(configuration.getSectionName());
-
-        Set<JarProcessor.JarFileResult<Optional<String>>> results = processor.getResult();
-        if (results.isEmpty()) {
-            return 1;
-        }
+        try (JarFileResolver jarFileResolver = createJarFileResolver(configuration)) {
+            ManifestQueryJarProcessor processor = new ManifestQueryJarProcessor(jarFileResolver);
+            processor.setParallelism(configuration.getParallelism());
+            processor.setAttributeName(configuration.getAttributeName());
+            processor.setSectionName(configuration.getSectionName());
+
+            Set<JarProcessor.JarFileResult<Optional<String>>> results = processor.getResult();
+            if (results.isEmpty()) {
+                return 1;
+            }
 
-        output(configuration, results);
-        report(configuration, results);
+            output(configuration, results);
+            report(configuration, results);
 
-        return 0;
+            return 0;
+        }
     }
 
     private void output(Configuration configuration, Set<JarProcessor.JarFileResult<Optional<String>>> results) {
-        Node root = createRootNode();
         Format outputFormat = configuration.getOutputFormat();
+        if (null != outputFormat) {
+            writeOutput(configuration, outputFormat, writer -> {
+                for (JarProcessor.JarFileResult<Optional<String>> result : results) {
+                    buildReport(configuration, writer, result);
+                }
+            });
+            return;
+        }
+
         for (JarProcessor.JarFileResult<Optional<String>> result : results) {
-            if (null == outputFormat) {
-                output(configuration, result);
-            } else {
-                buildReport(configuration, root, result);
-            }
+            output(configuration, result);
         }
-        if (null != outputFormat) writeOutput(configuration, resolveFormatter(outputFormat).write(root));
     }
 
     private void output(Configuration configuration, JarProcessor.JarFileResult<Optional<String>> result) {
@@ -105,18 +110,18 @@ public class ManifestQueryCommand extends AbstractCommand<ManifestQueryCommand.C
         if (null == configuration.getReportPath()) return;
 
         for (Format format : configuration.getReportFormats()) {
-            Node root = createRootNode();
-            for (JarProcessor.JarFileResult<Optional<String>> result : results) {
-                if (result.getResult().isPresent()) {
-                    buildReport(configuration, root, result);
+            writeReport(configuration, format, writer -> {
+                for (JarProcessor.JarFileResult<Optional<String>> result : results) {
+                    if (result.getResult().isPresent()) {
+                        buildReport(configuration, writer, result);
+                    }
                 }
-            }
-            writeReport(configuration, resolveFormatter(format).write(root), format);
+            });
         }
     }
 
-    private void buildReport(Configuration configuration, Node root, JarProcessor.JarFileResult<Optional<String>> result) {
-        appendSubject(root, result.getJarPath(), "manifest query", resultNode -> {
+    private void buildReport(Configuration configuration, ReportWriter writer, JarProcessor.JarFileResult<Optional<String>> result) {
+        appendSubject(writer, result.getJarPath(), "manifest query", resultNode -> {
             if (isNotBlank(configuration.getSectionName())) {
                 resultNode.node(RB.$("report.key.section.name")).value(configuration.getSectionName()).end();
             }
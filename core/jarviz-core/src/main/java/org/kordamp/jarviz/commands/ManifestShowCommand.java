@@ -25,7 +25,7 @@ import org.kordamp.jarviz.core.internal.AbstractConfiguration;
 import org.kordamp.jarviz.core.processors.JarProcessor;
 import org.kordamp.jarviz.core.processors.ManifestShowJarProcessor;
 import org.kordamp.jarviz.core.resolvers.JarFileResolver;
-import org.kordamp.jarviz.reporting.Node;
+import org.kordamp.jarviz.reporting.ReportWriter;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
@@ -47,31 +47,36 @@ public class ManifestShowCommand extends AbstractCommand<ManifestShowCommand.Con
 
     @Override
     public int execute(Configuration configuration) {
-        JarFileResolver jarFileResolver = createJarFileResolver(configuration);
-        ManifestShowJarProcessor processor = new ManifestShowJarProcessor(jarFileResolver);
+        try (JarFileResolver jarFileResolver = createJarFileResolver(configuration)) {
+            ManifestShowJarProcessor processor = new ManifestShowJarProcessor(jarFileResolver);
+            processor.setParallelism(configuration.getParallelism());
 
-        Set<JarProcessor.JarFileResult<Optional<java.util.jar.Manifest>>> results = processor.getResult();
-        if (results.isEmpty()) {
-            return 1;
-        }
+            Set<JarProcessor.JarFileResult<Optional<java.util.jar.Manifest>>> results = processor.getResult();
+            if (results.isEmpty()) {
+                return 1;
+            }
 
-        output(configuration, results);
-        report(configuration, results);
+            output(configuration, results);
+            report(configuration, results);
 
-        return 0;
+            return 0;
+        }
     }
 
     private void output(Configuration configuration, Set<JarProcessor.JarFileResult<Optional<java.util.jar.Manifest>>> results) {
-        Node root = createRootNode();
         Format outputFormat = configuration.getOutputFormat();
+        if (null != outputFormat) {
+            writeOutput(configuration, outputFormat, writer -> {
+                for (JarProcessor.JarFileResult<Optional<java.util.jar.Manifest>> result : results) {
+                    buildReport(writer, result);
+                }
+            });
+            return;
+        }
+
         for (JarProcessor.JarFileResult<Optional<java.util.jar.Manifest>> result : results) {
-            if (null == outputFormat) {
-                output(configuration, result);
-            } else {
-                buildReport(root, result);
-            }
+            output(configuration, result);
         }
-        if (null != outputFormat) writeOutput(configuration, resolveFormatter(outputFormat).write(root));
     }
 
     private void output(Configuration configuration, JarProcessor.JarFileResult<Optional<java.util.jar.Manifest>> result) {
@@ -93,18 +98,18 @@ public class ManifestShowCommand extends AbstractCommand<ManifestShowCommand.Con
         if (null == configuration.getReportPath()) return;
 
         for (Format format : configuration.getReportFormats()) {
-            Node root = createRootNode();
-            for (JarProcessor.JarFileResult<Optional<java.util.jar.Manifest>> result : results) {
-                if (result.getResult().isPresent()) {
-                    buildReport(root, result);
+            writeReport(configuration, format, writer -> {
+                for (JarProcessor.JarFileResult<Optional<java.util.jar.Manifest>> result : results) {
+                    if (result.getResult().isPresent()) {
+                        buildReport(writer, result);
+                    }
                 }
-            }
-            writeReport(configuration, resolveFormatter(format).write(root), format);
+            });
         }
     }
 
-    private void buildReport(Node root, JarProcessor.JarFileResult<Optional<java.util.jar.Manifest>> result) {
-        appendSubject(root, result.getJarPath(), "manifest show",
+    private void buildReport(ReportWriter writer, JarProcessor.JarFileResult<Optional<java.util.jar.Manifest>> result) {
+        appendSubject(writer, result.getJarPath(), "manifest show",
             resultNode -> resultNode.node(RB.$("report.key.manifest")).value(result.getResult().get()).end());
     }
 }
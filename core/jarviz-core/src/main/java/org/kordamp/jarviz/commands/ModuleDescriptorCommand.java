@@ -28,6 +28,7 @@ import org.kordamp.jarviz.core.processors.JarProcessor;
 import org.kordamp.jarviz.core.processors.ModuleDescriptorJarProcessor;
 import org.kordamp.jarviz.core.resolvers.JarFileResolver;
 import org.kordamp.jarviz.reporting.Node;
+import org.kordamp.jarviz.reporting.ReportWriter;
 
 import java.util.Collection;
 import java.util.List;
@@ -57,44 +58,49 @@ public class ModuleDescriptorCommand extends AbstractCommand<ModuleDescriptorCom
 
     @Override
     public int execute(Configuration configuration) {
-        JarFileResolver jarFileResolver = createJarFileResolver(configuration);
-        ModuleDescriptorJarProcessor processor = new ModuleDescriptorJarProcessor(jarFileResolver);
+        try (JarFileResolver jarFileResolver = createJarFileResolver(configuration)) {
+            ModuleDescriptorJarProcessor processor = new ModuleDescriptorJarProcessor(jarFileResolver);
+            processor.setParallelism(configuration.getParallelism());
 
-        Set<JarProcessor.JarFileResult<ModuleMetadata>> results = processor.getResult();
-        if (results.isEmpty()) {
-            return 1;
-        }
+            Set<JarProcessor.JarFileResult<ModuleMetadata>> results = processor.getResult();
+            if (results.isEmpty()) {
+                return 1;
+            }
 
-        output(configuration, results);
-        report(configuration, results);
+            output(configuration, results);
+            report(configuration, results);
 
-        Set<String> errors = results.stream()
-            .map(JarProcessor.JarFileResult::getResult)
-            .map(ModuleMetadata::getModuleName)
-            .filter(ModuleName::isNotValid)
-            .map(ModuleName::asError)
-            .collect(toSet());
+            Set<String> errors = results.stream()
+                .map(JarProcessor.JarFileResult::getResult)
+                .map(ModuleMetadata::getModuleName)
+                .filter(ModuleName::isNotValid)
+                .map(ModuleName::asError)
+                .collect(toSet());
 
-        if (configuration.isFailOnError()) {
-            throw new JarvizException(String.join(lineSeparator(), errors));
-        } else {
-            configuration.getErr().println(String.join(lineSeparator(), errors));
-        }
+            if (configuration.isFailOnError()) {
+                throw new JarvizException(String.join(lineSeparator(), errors));
+            } else {
+                configuration.getErr().println(String.join(lineSeparator(), errors));
+            }
 
-        return 0;
+            return 0;
+        }
     }
 
     private void output(Configuration configuration, Set<JarProcessor.JarFileResult<ModuleMetadata>> results) {
-        Node root = createRootNode();
         Format outputFormat = configuration.getOutputFormat();
+        if (null != outputFormat) {
+            writeOutput(configuration, outputFormat, writer -> {
+                for (JarProcessor.JarFileResult<ModuleMetadata> result : results) {
+                    buildReport(outputFormat, writer, result);
+                }
+            });
+            return;
+        }
+
         for (JarProcessor.JarFileResult<ModuleMetadata> result : results) {
-            if (null == outputFormat) {
-                output(configuration, result);
-            } else {
-                buildReport(outputFormat, root, result);
-            }
+            output(configuration, result);
         }
-        if (null != outputFormat) writeOutput(configuration, resolveFormatter(outputFormat).write(root));
     }
 
     private void output(Configuration configuration, JarProcessor.JarFileResult<ModuleMetadata> result) {
@@ -201,16 +207,16 @@ public class ModuleDescriptorCommand extends AbstractCommand<ModuleDescriptorCom
         if (null == configuration.getReportPath()) return;
 
         for (Format format : configuration.getReportFormats()) {
-            Node root = createRootNode();
-            for (JarProcessor.JarFileResult<ModuleMetadata> result : results) {
-                buildReport(format, root, result);
-            }
-            writeReport(configuration, resolveFormatter(format).write(root), format);
+            writeReport(configuration, format, writer -> {
+                for (JarProcessor.JarFileResult<ModuleMetadata> result : results) {
+                    buildReport(format, writer, result);
+                }
+            });
         }
     }
 
-    private void buildReport(Format format, Node root, JarProcessor.JarFileResult<ModuleMetadata> result) {
-        appendSubject(root, result.getJarPath(), "module descriptor", resultNode -> {
+    private void buildReport(Format format, ReportWriter writer, JarProcessor.JarFileResult<ModuleMetadata> result) {
+        appendSubject(writer, result.getJarPath(), "module descriptor", resultNode -> {
             org.kordamp.jarviz.core.model.ModuleName moduleName = result.getResult().getModuleName();
             if (!moduleName.isValid()) {
                 resultNode.node(RB.$("report.key.name")).value(moduleName.getModuleName()).end()
@@ -20,13 +20,14 @@ package org.kordamp.jarviz.commands;
 import org.kordamp.jarviz.bundle.RB;
 import org.kordamp.jarviz.core.Format;
 import org.kordamp.jarviz.core.JarvizException;
+import org.kordamp.jarviz.core.cache.ResultCache;
 import org.kordamp.jarviz.core.internal.AbstractCommand;
 import org.kordamp.jarviz.core.internal.AbstractConfiguration;
 import org.kordamp.jarviz.core.model.ModuleName;
 import org.kordamp.jarviz.core.processors.JarProcessor;
 import org.kordamp.jarviz.core.processors.ModuleNameJarProcessor;
 import org.kordamp.jarviz.core.resolvers.JarFileResolver;
-import org.kordamp.jarviz.reporting.Node;
+import org.kordamp.jarviz.reporting.ReportWriter;
 
 import java.util.Set;
 
@@ -48,43 +49,51 @@ public class ModuleNameCommand extends AbstractCommand<ModuleNameCommand.Configu
 
     @Override
     public int execute(Configuration configuration) {
-        JarFileResolver jarFileResolver = createJarFileResolver(configuration);
-        ModuleNameJarProcessor processor = new ModuleNameJarProcessor(jarFileResolver);
+        try (JarFileResolver jarFileResolver = createJarFileResolver(configuration)) {
+            ResultCache resultCache = createResultCache(configuration);
+            ModuleNameJarProcessor processor = new ModuleNameJarProcessor(jarFileResolver);
+            processor.setParallelism(configuration.getParallelism());
+            processor.setResultCache(resultCache);
+
+            Set<JarProcessor.JarFileResult<org.kordamp.jarviz.core.model.ModuleName>> results = processor.getResult();
+            outputResultCacheStatistics(configuration, resultCache);
+            if (results.isEmpty()) {
+                return 1;
+            }
 
-        Set<JarProcessor.JarFileResult<org.kordamp.jarviz.core.model.ModuleName>> results = processor.getResult();
-        if (results.isEmpty()) {
-            return 1;
-        }
+            output(configuration, results);
+            report(configuration, results);
 
-        output(configuration, results);
-        report(configuration, results);
+            Set<String> errors = results.stream()
+                .map(JarProcessor.JarFileResult::getResult)
+                .filter(ModuleName::isNotValid)
+                .map(ModuleName::asError)
+                .collect(toSet());
 
-        Set<String> errors = results.stream()
-            .map(JarProcessor.JarFileResult::getResult)
-            .filter(ModuleName::isNotValid)
-            .map(ModuleName::asError)
-            .collect(toSet());
+            if (configuration.isFailOnError()) {
+                throw new JarvizException(String.join(lineSeparator(), errors));
+            } else {
+                configuration.getErr().println(String.join(lineSeparator(), errors));
+            }
 
-        if (configuration.isFailOnError()) {
-            throw new JarvizException(String.join(lineSeparator(), errors));
-        } else {
-            configuration.getErr().println(String.join(lineSeparator(), errors));
+            return 0;
         }
-
-        return 0;
     }
 
     private void output(Configuration configuration, Set<JarProcessor.JarFileResult<org.kordamp.jarviz.core.model.ModuleName>> results) {
-        Node root = createRootNode();
         Format outputFormat = configuration.getOutputFormat();
+        if (null != outputFormat) {
+            writeOutput(configuration, outputFormat, writer -> {
+                for (JarProcessor.JarFileResult<org.kordamp.jarviz.core.model.ModuleName> result : results) {
+                    buildReport(writer, result);
+                }
+            });
+            return;
+        }
+
         for (JarProcessor.JarFileResult<org.kordamp.jarviz.core.model.ModuleName> result : results) {
-            if (null == outputFormat) {
-                output(configuration, result);
-            } else {
-                buildReport(root, result);
-            }
+            output(configuration, result);
         }
-        if (null != outputFormat) writeOutput(configuration, resolveFormatter(outputFormat).write(root));
     }
 
     private void output(Configuration configuration, JarProcessor.JarFileResult<org.kordamp.jarviz.core.model.ModuleName> result) {
@@ -104,18 +113,18 @@ public class ModuleNameCommand extends AbstractCommand<ModuleNameCommand.Configu
         if (null == configuration.getReportPath()) return;
 
         for (Format format : configuration.getReportFormats()) {
-            Node root = createRootNode();
-            for (JarProcessor.JarFileResult<org.kordamp.jarviz.core.model.ModuleName> result : results) {
-                buildReport(root, result);
-            }
-            writeReport(configuration, resolveFormatter(format).write(root), format);
+            writeReport(configuration, format, writer -> {
+                for (JarProcessor.JarFileResult<org.kordamp.jarviz.core.model.ModuleName> result : results) {
+                    buildReport(writer, result);
+                }
+            });
         }
     }
 
-    private void buildReport(Node root, JarProcessor.JarFileResult<org.kordamp.jarviz.core.model.ModuleName> result) {
+    private void buildReport(ReportWriter writer, JarProcessor.JarFileResult<org.kordamp.jarviz.core.model.ModuleName> result) {
         org.kordamp.jarviz.core.model.ModuleName moduleName = result.getResult();
 
-        appendSubject(root, result.getJarPath(), "module name", resultNode -> {
+        appendSubject(writer, result.getJarPath(), "module name", resultNode -> {
             resultNode.node(RB.$("report.key.name")).value(moduleName.getModuleName()).end()
                 .node(RB.$("report.key.source")).value(moduleName.resolveSource()).end()
                 .node(RB.$("report.key.automatic")).value(moduleName.isAutomatic()).end()
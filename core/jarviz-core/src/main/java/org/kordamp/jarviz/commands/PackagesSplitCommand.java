@@ -19,13 +19,16 @@ package org.kordamp.jarviz.commands;
 
 import org.kordamp.jarviz.bundle.RB;
 import org.kordamp.jarviz.core.Format;
+import org.kordamp.jarviz.core.cache.ResultCache;
 import org.kordamp.jarviz.core.internal.AbstractCommand;
 import org.kordamp.jarviz.core.internal.AbstractConfiguration;
 import org.kordamp.jarviz.core.processors.JarProcessor;
 import org.kordamp.jarviz.core.processors.PackageSplitJarProcessor;
 import org.kordamp.jarviz.core.resolvers.JarFileResolver;
 import org.kordamp.jarviz.reporting.Node;
+import org.kordamp.jarviz.reporting.ReportWriter;
 
+import java.io.PrintWriter;
 import java.util.Set;
 
 /**
@@ -33,41 +36,73 @@ import java.util.Set;
  * @since 0.3.0
  */
 public class PackagesSplitCommand extends AbstractCommand<PackagesSplitCommand.Configuration> {
+    private static final String INDEX_FILE = "packages-split.bin";
+
     public static Configuration config() {
         return new Configuration();
     }
 
     public static class Configuration extends AbstractConfiguration<Configuration> {
+        private boolean incremental;
+
+        public boolean isIncremental() {
+            return incremental;
+        }
 
+        public Configuration withIncremental(boolean incremental) {
+            this.incremental = incremental;
+            return this;
+        }
     }
 
     @Override
     public int execute(Configuration configuration) {
-        JarFileResolver jarFileResolver = createJarFileResolver(configuration);
-        PackageSplitJarProcessor processor = new PackageSplitJarProcessor(jarFileResolver);
+        try (JarFileResolver jarFileResolver = createJarFileResolver(configuration)) {
+            ResultCache resultCache = createResultCache(configuration);
+            PackageSplitJarProcessor processor = new PackageSplitJarProcessor(jarFileResolver);
+            processor.setParallelism(configuration.getParallelism());
+            processor.setResultCache(resultCache);
+            processor.setJarMetadata(getJarMetadata());
+            if (configuration.isIncremental()) {
+                processor.setIndexFile(resolveCacheDirectory(configuration).resolve(INDEX_FILE));
+            }
 
-        Set<JarProcessor.JarFileResult<Set<String>>> results = processor.getResult();
+            Set<JarProcessor.JarFileResult<Set<String>>> results = processor.getResult();
+            outputResultCacheStatistics(configuration, resultCache);
+            outputIndexStatistics(configuration, processor);
 
-        output(configuration, results);
-        report(configuration, results);
+            output(configuration, results);
+            report(configuration, results);
 
-        return 0;
+            return 0;
+        }
+    }
+
+    private void outputIndexStatistics(Configuration configuration, PackageSplitJarProcessor processor) {
+        if (null == processor.getIndexFile()) return;
+
+        // keep formatted output parseable
+        PrintWriter writer = null == configuration.getOutputFormat() ? configuration.getOut() : configuration.getErr();
+        writer.println($$("output.packages.index", processor.getReused(), processor.getScanned()));
     }
 
     private void output(Configuration configuration, Set<JarProcessor.JarFileResult<Set<String>>> results) {
-        Node root = createRootNode();
         Format outputFormat = configuration.getOutputFormat();
+        if (null != outputFormat) {
+            writeOutput(configuration, outputFormat, writer -> {
+                for (JarProcessor.JarFileResult<Set<String>> result : results) {
+                    buildReport(outputFormat, writer, result);
+                }
+            });
+            return;
+        }
+
         for (JarProcessor.JarFileResult<Set<String>> result : results) {
-            if (null == outputFormat) {
-                output(configuration, result);
-            } else {
-                buildReport(outputFormat, root, result);
-            }
+            output(configuration, result);
         }
-        if (null != outputFormat) writeOutput(configuration, resolveFormatter(outputFormat).write(root));
     }
 
-    private void output(Configuration configuration, JarProcessor.JarFileResult<Set<String>> result) {
+    void output(Configuration configuration, JarProcessor.JarFileResult<Set<String>> result) {
         configuration.getOut().println($$("output.subject", result.getJarFileName()));
         configuration.getOut().println($$("output.total", result.getResult().size()));
         result.getResult().forEach(configuration.getOut()::println);
@@ -77,16 +112,16 @@ public class PackagesSplitCommand extends AbstractCommand<PackagesSplitCommand.C
         if (null == configuration.getReportPath()) return;
 
         for (Format format : configuration.getReportFormats()) {
-            Node root = createRootNode();
-            for (JarProcessor.JarFileResult<Set<String>> result : results) {
-                buildReport(format, root, result);
-            }
-            writeReport(configuration, resolveFormatter(format).write(root), format);
+            writeReport(configuration, format, writer -> {
+                for (JarProcessor.JarFileResult<Set<String>> result : results) {
+                    buildReport(format, writer, result);
+                }
+            });
         }
     }
 
-    private void buildReport(Format format, Node root, JarProcessor.JarFileResult<Set<String>> result) {
-        appendSubject(root, result.getJarPath(), "packages split", resultNode -> {
+    void buildReport(Format format, ReportWriter writer, JarProcessor.JarFileResult<Set<String>> result) {
+        appendSubject(writer, result.getJarPath(), "packages split", resultNode -> {
             resultNode.node(RB.$("report.key.total")).value(result.getResult().size()).end();
             Node packages = resultNode.array(RB.$("report.key.packages"));
 
@@ -20,12 +20,14 @@ package org.kordamp.jarviz.commands;
 import org.kordamp.jarviz.bundle.RB;
 import org.kordamp.jarviz.core.Format;
 import org.kordamp.jarviz.core.JarvizException;
+import org.kordamp.jarviz.core.cache.ResultCache;
 import org.kordamp.jarviz.core.internal.AbstractCommand;
 import org.kordamp.jarviz.core.internal.AbstractConfiguration;
 import org.kordamp.jarviz.core.processors.JarProcessor;
 import org.kordamp.jarviz.core.processors.PackageValidateJarProcessor;
 import org.kordamp.jarviz.core.resolvers.JarFileResolver;
 import org.kordamp.jarviz.reporting.Node;
+import org.kordamp.jarviz.reporting.ReportWriter;
 
 import java.util.Set;
 
@@ -47,42 +49,50 @@ public class PackagesValidateCommand extends AbstractCommand<PackagesValidateCom
 
     @Override
     public int execute(Configuration configuration) {
-        JarFileResolver jarFileResolver = createJarFileResolver(configuration);
-        PackageValidateJarProcessor processor = new PackageValidateJarProcessor(jarFileResolver);
+        try (JarFileResolver jarFileResolver = createJarFileResolver(configuration)) {
+            ResultCache resultCache = createResultCache(configuration);
+            PackageValidateJarProcessor processor = new PackageValidateJarProcessor(jarFileResolver);
+            processor.setParallelism(configuration.getParallelism());
+            processor.setResultCache(resultCache);
 
-        Set<JarProcessor.JarFileResult<Set<String>>> results = processor.getResult();
+            Set<JarProcessor.JarFileResult<Set<String>>> results = processor.getResult();
+            outputResultCacheStatistics(configuration, resultCache);
 
-        output(configuration, results);
-        report(configuration, results);
+            output(configuration, results);
+            report(configuration, results);
 
-        Set<String> errors = results.stream()
-            .map(r -> r.getJarFileName() + " has invalid package names: " +
-                r.getResult())
-            .collect(toSet());
+            Set<String> errors = results.stream()
+                .map(r -> r.getJarFileName() + " has invalid package names: " +
+                    r.getResult())
+                .collect(toSet());
 
-        if (configuration.isFailOnError()) {
-            throw new JarvizException(String.join(lineSeparator(), errors));
-        } else {
-            configuration.getErr().println(String.join(lineSeparator(), errors));
-        }
+            if (configuration.isFailOnError()) {
+                throw new JarvizException(String.join(lineSeparator(), errors));
+            } else {
+                configuration.getErr().println(String.join(lineSeparator(), errors));
+            }
 
-        return 0;
+            return 0;
+        }
     }
 
     private void output(Configuration configuration, Set<JarProcessor.JarFileResult<Set<String>>> results) {
-        Node root = createRootNode();
         Format outputFormat = configuration.getOutputFormat();
+        if (null != outputFormat) {
+            writeOutput(configuration, outputFormat, writer -> {
+                for (JarProcessor.JarFileResult<Set<String>> result : results) {
+                    buildReport(outputFormat, writer, result);
+                }
+            });
+            return;
+        }
+
         for (JarProcessor.JarFileResult<Set<String>> result : results) {
-            if (null == outputFormat) {
-                output(configuration, result);
-            } else {
-                buildReport(outputFormat, root, result);
-            }
+            output(configuration, result);
         }
-        if (null != outputFormat) writeOutput(configuration, resolveFormatter(outputFormat).write(root));
     }
 
-    private void output(Configuration configuration, JarProcessor.JarFileResult<Set<String>> result) {
+    void output(Configuration configuration, JarProcessor.JarFileResult<Set<String>> result) {
         configuration.getOut().println($$("output.subject", result.getJarFileName()));
         configuration.getOut().println($$("output.total", result.getResult().size()));
         result.getResult().forEach(configuration.getOut()::println);
@@ -92,16 +102,16 @@ public class PackagesValidateCommand extends AbstractCommand<PackagesValidateCom
         if (null == configuration.getReportPath()) return;
 
         for (Format format : configuration.getReportFormats()) {
-            Node root = createRootNode();
-            for (JarProcessor.JarFileResult<Set<String>> result : results) {
-                buildReport(format, root, result);
-            }
-            writeReport(configuration, resolveFormatter(format).write(root), format);
+            writeReport(configuration, format, writer -> {
+                for (JarProcessor.JarFileResult<Set<String>> result : results) {
+                    buildReport(format, writer, result);
+                }
+            });
         }
     }
 
-    private void buildReport(Format format, Node root, JarProcessor.JarFileResult<Set<String>> result) {
-        appendSubject(root, result.getJarPath(), "packages validate", resultNode -> {
+    void buildReport(Format format, ReportWriter writer, JarProcessor.JarFileResult<Set<String>> result) {
+        appendSubject(writer, result.getJarPath(), "packages validate", resultNode -> {
             resultNode.node(RB.$("report.key.total")).value(result.getResult().size()).end();
             Node packages = resultNode.array(RB.$("report.key.packages"));
 
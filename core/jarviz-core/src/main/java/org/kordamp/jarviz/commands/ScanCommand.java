@@ -0,0 +1,205 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2022-2023 The Jarviz authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kordamp.jarviz.commands;
+
+import org.kordamp.jarviz.core.Format;
+import org.kordamp.jarviz.core.analyzers.BytecodeVersionCountsJarContentAnalyzer;
+import org.kordamp.jarviz.core.analyzers.BytecodeVersionsJarContentAnalyzer;
+import org.kordamp.jarviz.core.analyzers.InvalidPackagesJarContentAnalyzer;
+import org.kordamp.jarviz.core.analyzers.PackagesJarContentAnalyzer;
+import org.kordamp.jarviz.core.analyzers.ServicesJarContentAnalyzer;
+import org.kordamp.jarviz.core.cache.ResultCache;
+import org.kordamp.jarviz.core.cache.ResultCodecs;
+import org.kordamp.jarviz.core.internal.AbstractCommand;
+import org.kordamp.jarviz.core.internal.AbstractConfiguration;
+import org.kordamp.jarviz.core.internal.JarMetadataRegistry;
+import org.kordamp.jarviz.core.model.BytecodeVersions;
+import org.kordamp.jarviz.core.processors.JarProcessor;
+import org.kordamp.jarviz.core.processors.PackageSplitJarProcessor;
+import org.kordamp.jarviz.core.processors.PackageValidateJarProcessor;
+import org.kordamp.jarviz.core.resolvers.JarFileResolver;
+import org.kordamp.jarviz.core.scanner.JarScanResults;
+import org.kordamp.jarviz.core.scanner.JarScanner;
+import org.kordamp.jarviz.reporting.ReportWriter;
+
+import java.util.Optional;
+import java.util.Set;
+
+import static java.util.Collections.emptySet;
+
+/**
+ * Runs bytecode show, packages split, packages validate and services list
+ * with a single pass over every input JAR.
+ *
+ * @author Andres Almiray
+ * @since 0.3.0
+ */
+public class ScanCommand extends AbstractCommand<ScanCommand.Configuration> {
+    private static final String BYTECODE_SHOW = "bytecode show";
+    private static final String PACKAGES_SPLIT = "packages split";
+    private static final String PACKAGES_VALIDATE = "packages validate";
+    private static final String SERVICES_LIST = "services list";
+
+    public static Configuration config() {
+        return new Configuration();
+    }
+
+    public static class Configuration extends AbstractConfiguration<Configuration> {
+        private boolean details;
+
+        public boolean isDetails() {
+            return details;
+        }
+
+        public Configuration withDetails(boolean details) {
+            this.details = details;
+            return this;
+        }
+    }
+
+    @Override
+    public int execute(Configuration configuration) {
+        try (JarFileResolver jarFileResolver = createJarFileResolver(configuration)) {
+            ResultCache resultCache = createResultCache(configuration);
+
+            JarScanner scanner = new JarScanner(jarFileResolver)
+                .withParallelism(configuration.getParallelism())
+                .withResultCache(resultCache);
+            // class names are only needed for details
+            if (configuration.isDetails()) {
+                scanner.register(BYTECODE_SHOW, BytecodeVersionsJarContentAnalyzer::new, ResultCodecs.BYTECODE_VERSIONS);
+            } else {
+                scanner.register(BYTECODE_SHOW, BytecodeVersionCountsJarContentAnalyzer::new, ResultCodecs.BYTECODE_VERSION_COUNTS);
+            }
+
+            JarScanResults scanResults = scanner
+                .register(PACKAGES_SPLIT, PackagesJarContentAnalyzer::new, ResultCodecs.STRINGS)
+                .register(PACKAGES_VALIDATE, InvalidPackagesJarContentAnalyzer::new, ResultCodecs.STRINGS)
+                .register(SERVICES_LIST, ServicesJarContentAnalyzer::new, ResultCodecs.OPTIONAL_STRINGS)
+                .scan();
+            outputResultCacheStatistics(configuration, resultCache);
+
+            if (scanResults.getJarCount() == 0) {
+                return 1;
+            }
+
+            Results results = new Results(configuration, scanResults, getJarMetadata());
+            output(configuration, results);
+            report(configuration, results);
+
+            return 0;
+        }
+    }
+
+    private void output(Configuration configuration, Results results) {
+        Format outputFormat = configuration.getOutputFormat();
+        if (null != outputFormat) {
+            writeOutput(configuration, outputFormat, writer -> buildReport(outputFormat, writer, results));
+            return;
+        }
+
+        configuration.getOut().println($$("output.command", BYTECODE_SHOW));
+        for (JarProcessor.JarFileResult<BytecodeVersions> result : results.bytecode) {
+            results.bytecodeShowCommand.output(results.bytecodeShowConfiguration, result);
+        }
+
+        configuration.getOut().println($$("output.command", PACKAGES_SPLIT));
+        for (JarProcessor.JarFileResult<Set<String>> result : results.splitPackages) {
+            results.packagesSplitCommand.output(results.packagesSplitConfiguration, result);
+        }
+
+        configuration.getOut().println($$("output.command", PACKAGES_VALIDATE));
+        for (JarProcessor.JarFileResult<Set<String>> result : results.invalidPackages) {
+            results.packagesValidateCommand.output(results.packagesValidateConfiguration, result);
+        }
+
+        configuration.getOut().println($$("output.command", SERVICES_LIST));
+        for (JarProcessor.JarFileResult<Optional<Set<String>>> result : results.services) {
+            results.servicesListCommand.output(results.servicesListConfiguration, result);
+        }
+    }
+
+    private void report(Configuration configuration, Results results) {
+        if (null == configuration.getReportPath()) return;
+
+        for (Format format : configuration.getReportFormats()) {
+            writeReport(configuration, format, writer -> buildReport(format, writer, results));
+        }
+    }
+
+    private void buildReport(Format format, ReportWriter writer, Results results) {
+        for (JarProcessor.JarFileResult<BytecodeVersions> result : results.bytecode) {
+            results.bytecodeShowCommand.buildReport(results.bytecodeShowConfiguration, format, writer, result);
+        }
+        for (JarProcessor.JarFileResult<Set<String>> result : results.splitPackages) {
+            results.packagesSplitCommand.buildReport(format, writer, result);
+        }
+        for (JarProcessor.JarFileResult<Set<String>> result : results.invalidPackages) {
+            results.packagesValidateCommand.buildReport(format, writer, result);
+        }
+        for (JarProcessor.JarFileResult<Optional<Set<String>>> result : results.services) {
+            if (result.getResult().isPresent()) {
+                results.servicesListCommand.buildReport(format, writer, result);
+            }
+        }
+    }
+
+    private static class Results {
+        private final BytecodeShowCommand bytecodeShowCommand = new BytecodeShowCommand();
+        private final PackagesSplitCommand packagesSplitCommand = new PackagesSplitCommand();
+        private final PackagesValidateCommand packagesValidateCommand = new PackagesValidateCommand();
+        private final ServicesListCommand servicesListCommand = new ServicesListCommand();
+        private final BytecodeShowCommand.Configuration bytecodeShowConfiguration;
+        private final PackagesSplitCommand.Configuration packagesSplitConfiguration;
+        private final PackagesValidateCommand.Configuration packagesValidateConfiguration;
+        private final ServicesListCommand.Configuration servicesListConfiguration;
+        private final Set<JarProcessor.JarFileResult<BytecodeVersions>> bytecode;
+        private final Set<JarProcessor.JarFileResult<Set<String>>> splitPackages;
+        private final Set<JarProcessor.JarFileResult<Set<String>>> invalidPackages;
+        private final Set<JarProcessor.JarFileResult<Optional<Set<String>>>> services;
+
+        private Results(Configuration configuration, JarScanResults scanResults, JarMetadataRegistry jarMetadata) {
+            // every subject is reported by several commands, compute sizes and digests once
+            bytecodeShowCommand.setJarMetadata(jarMetadata);
+            packagesSplitCommand.setJarMetadata(jarMetadata);
+            packagesValidateCommand.setJarMetadata(jarMetadata);
+            servicesListCommand.setJarMetadata(jarMetadata);
+
+            bytecodeShowConfiguration = BytecodeShowCommand.config()
+                .withOut(configuration.getOut())
+                .withErr(configuration.getErr())
+                .withDetails(configuration.isDetails());
+            packagesSplitConfiguration = PackagesSplitCommand.config()
+                .withOut(configuration.getOut())
+                .withErr(configuration.getErr());
+            packagesValidateConfiguration = PackagesValidateCommand.config()
+                .withOut(configuration.getOut())
+                .withErr(configuration.getErr());
+            servicesListConfiguration = ServicesListCommand.config()
+                .withOut(configuration.getOut())
+                .withErr(configuration.getErr());
+
+            bytecode = scanResults.getResults(BYTECODE_SHOW);
+            // split packages require at least 2 JARs
+            splitPackages = scanResults.getJarCount() > 1 ?
+                PackageSplitJarProcessor.splitPackages(scanResults.getAllResults(PACKAGES_SPLIT)) : emptySet();
+            invalidPackages = PackageValidateJarProcessor.invalidPackages(scanResults.getResults(PACKAGES_VALIDATE));
+            services = scanResults.getResults(SERVICES_LIST);
+        }
+    }
+}
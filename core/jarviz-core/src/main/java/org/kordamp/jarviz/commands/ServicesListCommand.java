@@ -19,12 +19,14 @@ package org.kordamp.jarviz.commands;
 
 import org.kordamp.jarviz.bundle.RB;
 import org.kordamp.jarviz.core.Format;
+import org.kordamp.jarviz.core.cache.ResultCache;
 import org.kordamp.jarviz.core.internal.AbstractCommand;
 import org.kordamp.jarviz.core.internal.AbstractConfiguration;
 import org.kordamp.jarviz.core.processors.JarProcessor;
 import org.kordamp.jarviz.core.processors.ServicesListJarProcessor;
 import org.kordamp.jarviz.core.resolvers.JarFileResolver;
 import org.kordamp.jarviz.reporting.Node;
+import org.kordamp.jarviz.reporting.ReportWriter;
 
 import java.util.Optional;
 import java.util.Set;
@@ -44,34 +46,42 @@ public class ServicesListCommand extends AbstractCommand<ServicesListCommand.Con
 
     @Override
     public int execute(Configuration configuration) {
-        JarFileResolver jarFileResolver = createJarFileResolver(configuration);
-        ServicesListJarProcessor processor = new ServicesListJarProcessor(jarFileResolver);
+        try (JarFileResolver jarFileResolver = createJarFileResolver(configuration)) {
+            ResultCache resultCache = createResultCache(configuration);
+            ServicesListJarProcessor processor = new ServicesListJarProcessor(jarFileResolver);
+            processor.setParallelism(configuration.getParallelism());
+            processor.setResultCache(resultCache);
 
-        Set<JarProcessor.JarFileResult<Optional<Set<String>>>> results = processor.getResult();
-        if (results.isEmpty()) {
-            return 1;
-        }
+            Set<JarProcessor.JarFileResult<Optional<Set<String>>>> results = processor.getResult();
+            outputResultCacheStatistics(configuration, resultCache);
+            if (results.isEmpty()) {
+                return 1;
+            }
 
-        output(configuration, results);
-        report(configuration, results);
+            output(configuration, results);
+            report(configuration, results);
 
-        return 0;
+            return 0;
+        }
     }
 
     private void output(Configuration configuration, Set<JarProcessor.JarFileResult<Optional<Set<String>>>> results) {
-        Node root = createRootNode();
         Format outputFormat = configuration.getOutputFormat();
+        if (null != outputFormat) {
+            writeOutput(configuration, outputFormat, writer -> {
+                for (JarProcessor.JarFileResult<Optional<Set<String>>> result : results) {
+                    buildReport(outputFormat, writer, result);
+                }
+            });
+            return;
+        }
+
         for (JarProcessor.JarFileResult<Optional<Set<String>>> result : results) {
-            if (null == outputFormat) {
-                output(configuration, result);
-            } else {
-                buildReport(outputFormat, root, result);
-            }
+            output(configuration, result);
         }
-        if (null != outputFormat) writeOutput(configuration, resolveFormatter(outputFormat).write(root));
     }
 
-    private void output(Configuration configuration, JarProcessor.JarFileResult<Optional<Set<String>>> result) {
+    void output(Configuration configuration, JarProcessor.JarFileResult<Optional<Set<String>>> result) {
         if (result.getResult().isPresent()) {
             configuration.getOut().println($$("output.subject", result.getJarFileName()));
             result.getResult().get().forEach(configuration.getOut()::println);
@@ -82,18 +92,18 @@ public class ServicesListCommand extends AbstractCommand<ServicesListCommand.Con
         if (null == configuration.getReportPath()) return;
 
         for (Format format : configuration.getReportFormats()) {
-            Node root = createRootNode();
-            for (JarProcessor.JarFileResult<Optional<Set<String>>> result : results) {
-                if (result.getResult().isPresent()) {
-                    buildReport(format, root, result);
+            writeReport(configuration, format, writer -> {
+                for (JarProcessor.JarFileResult<Optional<Set<String>>> result : results) {
+                    if (result.getResult().isPresent()) {
+                        buildReport(format, writer, result);
+                    }
                 }
-            }
-            writeReport(configuration, resolveFormatter(format).write(root), format);
+            });
         }
     }
 
-    private void buildReport(Format format, Node root, JarProcessor.JarFileResult<Optional<Set<String>>> result) {
-        appendSubject(root, result.getJarPath(), "services list", resultNode -> {
+    void buildReport(Format format, ReportWriter writer, JarProcessor.JarFileResult<Optional<Set<String>>> result) {
+        appendSubject(writer, result.getJarPath(), "services list", resultNode -> {
             Node implementations = resultNode.array(RB.$("report.key.services"));
 
             for (String service : result.getResult().get()) {
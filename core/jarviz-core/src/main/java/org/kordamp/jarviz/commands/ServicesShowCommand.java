@@ -19,12 +19,14 @@ package org.kordamp.jarviz.commands;
 
 import org.kordamp.jarviz.bundle.RB;
 import org.kordamp.jarviz.core.Format;
+import org.kordamp.jarviz.core.cache.ResultCache;
 import org.kordamp.jarviz.core.internal.AbstractCommand;
 import org.kordamp.jarviz.core.internal.AbstractConfiguration;
 import org.kordamp.jarviz.core.processors.JarProcessor;
 import org.kordamp.jarviz.core.processors.ServicesShowJarProcessor;
 import org.kordamp.jarviz.core.resolvers.JarFileResolver;
 import org.kordamp.jarviz.reporting.Node;
+import org.kordamp.jarviz.reporting.ReportWriter;
 
 import java.util.Optional;
 import java.util.Set;
@@ -53,32 +55,40 @@ public class ServicesShowCommand extends AbstractCommand<ServicesShowCommand.Con
 
     @Override
     public int execute(Configuration configuration) {
-        JarFileResolver jarFileResolver = createJarFileResolver(configuration);
-        ServicesShowJarProcessor processor = new ServicesShowJarProcessor(jarFileResolver);
-        processor.setServiceName(configuration.getServiceName());
-
-        Set<JarProcessor.JarFileResult<Optional<Set<String>>>> results = processor.getResult();
-        if (results.isEmpty()) {
-            return 1;
-        }
+        try (JarFileResolver jarFileResolver = createJarFileResolver(configuration)) {
+            ResultCache resultCache = createResultCache(configuration);
+            ServicesShowJarProcessor processor = new ServicesShowJarProcessor(jarFileResolver);
+            processor.setParallelism(configuration.getParallelism());
+            processor.setResultCache(resultCache);
+            processor.setServiceName(configuration.getServiceName());
+
+            Set<JarProcessor.JarFileResult<Optional<Set<String>>>> results = processor.getResult();
+            outputResultCacheStatistics(configuration, resultCache);
+            if (results.isEmpty()) {
+                return 1;
+            }
 
-        output(configuration, results);
-        report(configuration, results);
+            output(configuration, results);
+            report(configuration, results);
 
-        return 0;
+            return 0;
+        }
     }
 
     private void output(Configuration configuration, Set<JarProcessor.JarFileResult<Optional<Set<String>>>> results) {
-        Node root = createRootNode();
         Format outputFormat = configuration.getOutputFormat();
+        if (null != outputFormat) {
+            writeOutput(configuration, outputFormat, writer -> {
+                for (JarProcessor.JarFileResult<Optional<Set<String>>> result : results) {
+                    buildReport(configuration, outputFormat, writer, result);
+                }
+            });
+            return;
+        }
+
         for (JarProcessor.JarFileResult<Optional<Set<String>>> result : results) {
-            if (null == outputFormat) {
-                output(configuration, result);
-            } else {
-                buildReport(configuration, outputFormat, root, result);
-            }
+            output(configuration, result);
         }
-        if (null != outputFormat) writeOutput(configuration, resolveFormatter(outputFormat).write(root));
     }
 
     private void output(Configuration configuration, JarProcessor.JarFileResult<Optional<Set<String>>> result) {
@@ -93,18 +103,18 @@ public class ServicesShowCommand extends AbstractCommand<ServicesShowCommand.Con
         if (null == configuration.getReportPath()) return;
 
         for (Format format : configuration.getReportFormats()) {
-            Node root = createRootNode();
-            for (JarProcessor.JarFileResult<Optional<Set<String>>> result : results) {
-                if (result.getResult().isPresent()) {
-                    buildReport(configuration, format, root, result);
+            writeReport(configuration, format, writer -> {
+                for (JarProcessor.JarFileResult<Optional<Set<String>>> result : results) {
+                    if (result.getResult().isPresent()) {
+                        buildReport(configuration, format, writer, result);
+                    }
                 }
-            }
-            writeReport(configuration, resolveFormatter(format).write(root), format);
+            });
         }
     }
 
-    private void buildReport(Configuration configuration, Format format, Node root, JarProcessor.JarFileResult<Optional<Set<String>>> result) {
-        appendSubject(root, result.getJarPath(), "services list", resultNode -> {
+    private void buildReport(Configuration configuration, Format format, ReportWriter writer, JarProcessor.JarFileResult<Optional<Set<String>>> result) {
+        appendSubject(writer, result.getJarPath(), "services list", resultNode -> {
             Node implementations = resultNode.node(RB.$("report.key.service")).value(configuration.getServiceName()).end()
                 .array(RB.$("report.key.implementations"));
 
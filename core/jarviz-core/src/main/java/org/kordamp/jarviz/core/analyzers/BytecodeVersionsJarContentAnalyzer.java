@@ -0,0 +1,95 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2022-2023 The Jarviz authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kordamp.jarviz.core.analyzers;
+
+import org.kordamp.jarviz.core.JarvizException;
+import org.kordamp.jarviz.core.model.BytecodeVersion;
+import org.kordamp.jarviz.core.model.BytecodeVersions;
+
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+import java.util.jar.Manifest;
+
+import static java.util.Arrays.stream;
+import static org.kordamp.jarviz.core.internal.Constants.ATTR_BYTECODE_VERSION;
+import static org.kordamp.jarviz.util.JarUtils.readBytecodeVersion;
+
+/**
+ * Reads the bytecode version of every class found in a JAR, keeping their names.
+ *
+ * @author Andres Almiray
+ * @since 0.3.0
+ */
+public class BytecodeVersionsJarContentAnalyzer implements JarManifestAnalyzer<BytecodeVersions>, JarContentAnalyzer<BytecodeVersions> {
+    private static final String VERSIONS_PREFIX = "META-INF/versions/";
+
+    private final BytecodeVersions bytecodeVersions;
+
+    public BytecodeVersionsJarContentAnalyzer() {
+        this(true);
+    }
+
+    protected BytecodeVersionsJarContentAnalyzer(boolean details) {
+        this.bytecodeVersions = new BytecodeVersions(details);
+    }
+
+    @Override
+    public BytecodeVersions getResult() {
+        return bytecodeVersions;
+    }
+
+    @Override
+    public void handle(JarFile jarFile, Manifest manifest) throws JarvizException {
+        QueryJarManifestAnalyzer analyzer = new QueryJarManifestAnalyzer(ATTR_BYTECODE_VERSION);
+        analyzer.handle(jarFile, manifest);
+        analyzer.getResult().ifPresent(v -> {
+            Set<BytecodeVersion> set = new TreeSet<>();
+            stream(v.split(","))
+                .map(Integer::parseInt)
+                .map(BytecodeVersion::of)
+                .forEach(set::add);
+            bytecodeVersions.setManifestBytecode(set);
+        });
+    }
+
+    @Override
+    public void handle(JarFile jarFile, JarEntry entry) throws JarvizException {
+        String entryName = entry.getName();
+        if (!entryName.endsWith(".class")) return;
+
+        BytecodeVersion bytecodeVersion = readBytecodeVersion(jarFile, entry);
+        if (entryName.startsWith(VERSIONS_PREFIX)) {
+            // META-INF/versions/<digits>/<class name>.class
+            int start = VERSIONS_PREFIX.length();
+            int end = start;
+            while (end < entryName.length() && entryName.charAt(end) >= '0' && entryName.charAt(end) <= '9') end++;
+            if (end > start && end < entryName.length() && entryName.charAt(end) == '/') {
+                // TODO: Report only if JAR is multi-release?
+                if (jarFile.isMultiRelease()) {
+                    Integer javaVersion = Integer.parseInt(entryName, start, end, 10);
+                    bytecodeVersions.addVersionedEntry(javaVersion, bytecodeVersion, entryName, end + 1);
+                }
+                return;
+            }
+        }
+
+        bytecodeVersions.addUnversionedEntry(bytecodeVersion, entryName);
+    }
+}
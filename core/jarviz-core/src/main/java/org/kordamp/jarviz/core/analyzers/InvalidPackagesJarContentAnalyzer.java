@@ -0,0 +1,155 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2022-2023 The Jarviz authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kordamp.jarviz.core.analyzers;
+
+import org.kordamp.jarviz.core.JarvizException;
+import org.kordamp.jarviz.util.EntryName;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.jar.JarFile;
+
+import static java.util.Collections.unmodifiableSet;
+import static org.kordamp.jarviz.util.StringUtils.isBlank;
+import static org.kordamp.jarviz.util.StringUtils.isNotBlank;
+
+/**
+ * Collects package names that are not valid Java identifiers.
+ *
+ * @author Andres Almiray
+ * @since 0.3.0
+ */
+public class InvalidPackagesJarContentAnalyzer implements JarEntryNameAnalyzer<Set<String>> {
+    private static final String VERSIONED = "META-INF/versions/";
+
+    private static final Set<String> RESERVED_KEYWORDS = Set.of(
+        "abstract",
+        "assert",
+        "boolean",
+        "break",
+        "byte",
+        "case",
+        "catch",
+        "char",
+        "class",
+        "const",
+        "continue",
+        "default",
+        "do",
+        "double",
+        "else",
+        "enum",
+        "extends",
+        "final",
+        "finally",
+        "float",
+        "for",
+        "goto",
+        "if",
+        "implements",
+        "import",
+        "instanceof",
+        "int",
+        "interface",
+        "long",
+        "native",
+        "new",
+        "package",
+        "private",
+        "protected",
+        "public",
+        "return",
+        "short",
+        "static",
+        "strictfp",
+        "super",
+        "switch",
+        "synchronized",
+        "this",
+        "throw",
+        "throws",
+        "transient",
+        "try",
+        "void",
+        "volatile",
+        "while",
+        "true",
+        "false",
+        "null",
+        "_");
+
+    private final Set<String> packages = new TreeSet<>();
+    private final Set<String> visited = new HashSet<>();
+
+    @Override
+    public Set<String> getResult() {
+        return unmodifiableSet(packages);
+    }
+
+    @Override
+    public void handle(JarFile jarFile, EntryName entryName) throws JarvizException {
+        if (!entryName.endsWith(".class")) return;
+
+        String thePackage = asPackage(entryName);
+        if (isNotBlank(thePackage) && visited.add(thePackage) && isInvalid(thePackage)) {
+            packages.add(thePackage);
+        }
+    }
+
+    private String asPackage(EntryName name) {
+        int start = 0;
+        if (name.startsWith(VERSIONED)) {
+            int p = name.indexOf('/', VERSIONED.length());
+            start = p != -1 ? p + 1 : VERSIONED.length();
+        }
+        int i = name.lastIndexOf('/');
+        return i >= start ? name.substring(start, i).replace('/', '.') : "";
+    }
+
+    private boolean isInvalid(String thePackage) {
+        for (String part : thePackage.split("\\.")) {
+            if (!isJavaIdentifier(part)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean isJavaIdentifier(String str) {
+        if (isBlank(str) || RESERVED_KEYWORDS.contains(str)) {
+            return false;
+        }
+
+        int first = Character.codePointAt(str, 0);
+        if (!Character.isJavaIdentifierStart(first)) {
+            return false;
+        }
+
+        int i = Character.charCount(first);
+        while (i < str.length()) {
+            int cp = Character.codePointAt(str, i);
+            if (!Character.isJavaIdentifierPart(cp)) {
+                return false;
+            }
+            i += Character.charCount(cp);
+        }
+
+        return true;
+    }
+}
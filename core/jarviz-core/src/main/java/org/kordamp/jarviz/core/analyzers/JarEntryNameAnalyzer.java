@@ -0,0 +1,36 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2022-2023 The Jarviz authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kordamp.jarviz.core.analyzers;
+
+import org.kordamp.jarviz.core.JarvizException;
+import org.kordamp.jarviz.util.EntryName;
+
+import java.util.jar.JarFile;
+
+/**
+ * Inspects entry names only. JARs whose analyzers all implement this interface are scanned by reading
+ * the central directory directly, skipping {@code JarEntry} creation altogether.
+ * <p>
+ * The given {@code EntryName} is reused between calls and must not be retained.
+ *
+ * @author Andres Almiray
+ * @since 0.3.0
+ */
+public interface JarEntryNameAnalyzer<R> extends JarAnalyzer<R> {
+    void handle(JarFile jarFile, EntryName entryName) throws JarvizException;
+}
@@ -0,0 +1,62 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2022-2023 The Jarviz authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kordamp.jarviz.core.analyzers;
+
+import org.kordamp.jarviz.core.JarvizException;
+import org.kordamp.jarviz.util.EntryName;
+
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.jar.JarFile;
+
+import static java.util.Collections.unmodifiableSet;
+import static org.kordamp.jarviz.util.StringUtils.isNotBlank;
+
+/**
+ * Collects the packages of all unversioned classes found in a JAR.
+ *
+ * @author Andres Almiray
+ * @since 0.3.0
+ */
+public class PackagesJarContentAnalyzer implements JarEntryNameAnalyzer<Set<String>> {
+    private static final String MODULE_INFO = "module-info.class";
+    private static final String VERSIONED = "META-INF/versions/";
+
+    private final Set<String> packages = new TreeSet<>();
+    private String previousPath = "";
+
+    @Override
+    public Set<String> getResult() {
+        return unmodifiableSet(packages);
+    }
+
+    @Override
+    public void handle(JarFile jarFile, EntryName entryName) throws JarvizException {
+        if (entryName.endsWith(".class") && !entryName.startsWith(VERSIONED) && !entryName.contentEquals(MODULE_INFO)) {
+            int i = entryName.lastIndexOf('/');
+            // classes of the same package are usually stored together
+            if (i == previousPath.length() && entryName.startsWith(previousPath)) return;
+
+            previousPath = i != -1 ? entryName.substring(0, i) : "";
+            String thePackage = previousPath.replace('/', '.');
+            if (isNotBlank(thePackage)) {
+                packages.add(thePackage);
+            }
+        }
+    }
+}
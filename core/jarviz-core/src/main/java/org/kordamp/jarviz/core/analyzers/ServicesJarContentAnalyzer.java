@@ -0,0 +1,53 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2022-2023 The Jarviz authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kordamp.jarviz.core.analyzers;
+
+import org.kordamp.jarviz.core.JarvizException;
+import org.kordamp.jarviz.util.EntryName;
+
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.jar.JarFile;
+
+import static java.util.Collections.unmodifiableSet;
+
+/**
+ * @author Andres Almiray
+ * @since 0.3.0
+ */
+public class ServicesJarContentAnalyzer implements JarEntryNameAnalyzer<Optional<Set<String>>> {
+    private static final String META_INF_SERVICES = "META-INF/services/";
+
+    private final Set<String> services = new TreeSet<>();
+    private boolean foundServices;
+
+    @Override
+    public Optional<Set<String>> getResult() {
+        return foundServices ? Optional.of(unmodifiableSet(services)) : Optional.empty();
+    }
+
+    @Override
+    public void handle(JarFile jarFile, EntryName entryName) throws JarvizException {
+        // Entries are not guaranteed to be sorted, every entry must be checked
+        if (entryName.startsWith(META_INF_SERVICES) && entryName.length() > META_INF_SERVICES.length()) {
+            foundServices = true;
+            services.add(entryName.substring(META_INF_SERVICES.length(), entryName.length()));
+        }
+    }
+}
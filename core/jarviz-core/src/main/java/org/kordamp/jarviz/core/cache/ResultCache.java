@@ -0,0 +1,270 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2022-2023 The Jarviz authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kordamp.jarviz.core.cache;
+
+import org.kordamp.jarviz.bundle.RB;
+import org.kordamp.jarviz.core.JarvizException;
+import org.kordamp.jarviz.core.internal.JarMetadataRegistry;
+import org.kordamp.jarviz.util.Algorithm;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.jar.JarFile;
+import java.util.stream.Stream;
+
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static java.util.stream.Collectors.toList;
+
+/**
+ * On-disk cache of per-JAR processor results.
+ * <p>
+ * Entries are addressed by the SHA-256 of the JAR contents plus a key identifying the processor and its
+ * options. Computing the digest of every JAR would defeat the purpose of the cache, the digest is thus
+ * stored alongside the JAR's path, size, and last modification time, and only recomputed when any of
+ * these change. Digests are shared through a {@link JarMetadataRegistry}. Least recently used entries are
+ * evicted when the cache grows beyond its maximum size, on creation and as soon as writes take it over the
+ * limit. Eviction then goes a tenth below the limit so that following writes do not rescan the cache each time.
+ *
+ * @author Andres Almiray
+ * @since 0.3.0
+ */
+public class ResultCache {
+    private static final int MAGIC = 0x4A56435A;
+    private static final short FORMAT_VERSION = 1;
+    private static final String EXTENSION = ".bin";
+
+    private final Path directory;
+    private final long maxSize;
+    private final JarMetadataRegistry jarMetadata;
+    private final AtomicLong size = new AtomicLong();
+    private final AtomicInteger hits = new AtomicInteger();
+    private final AtomicInteger misses = new AtomicInteger();
+
+    public ResultCache(Path directory, long maxSize) {
+        this(directory, maxSize, new JarMetadataRegistry());
+    }
+
+    public ResultCache(Path directory, long maxSize, JarMetadataRegistry jarMetadata) {
+        this.directory = directory;
+        this.maxSize = maxSize;
+        this.jarMetadata = jarMetadata;
+
+        try {
+            Files.createDirectories(directory);
+        } catch (IOException e) {
+            throw new JarvizException(RB.$("ERROR_CREATE_DIRECTORY", directory), e);
+        }
+
+        evict(maxSize);
+    }
+
+    public int getHits() {
+        return hits.get();
+    }
+
+    public int getMisses() {
+        return misses.get();
+    }
+
+    public <R> R computeIfAbsent(JarFile jarFile, String key, ResultCodec<R> codec, Supplier<R> supplier) {
+        Optional<R> cached = get(jarFile, key, codec);
+        if (cached.isPresent()) return cached.get();
+
+        R value = supplier.get();
+        put(jarFile, key, codec, value);
+        return value;
+    }
+
+    public <R> Optional<R> get(JarFile jarFile, String key, ResultCodec<R> codec) {
+        String entryKey = entryKey(jarFile, key);
+        Path entry = directory.resolve(hash(entryKey) + EXTENSION);
+
+        if (Files.exists(entry)) {
+            try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(entry)))) {
+                if (in.readInt() == MAGIC && in.readShort() == FORMAT_VERSION && entryKey.equals(in.readUTF())) {
+                    R value = codec.read(in);
+                    // last modification time doubles as last access time for LRU eviction
+                    Files.setLastModifiedTime(entry, FileTime.fromMillis(System.currentTimeMillis()));
+                    hits.incrementAndGet();
+                    return Optional.of(value);
+                }
+            } catch (IOException e) {
+                // corrupt or stale entry, recompute
+            }
+        }
+
+        misses.incrementAndGet();
+        return Optional.empty();
+    }
+
+    public <R> void put(JarFile jarFile, String key, ResultCodec<R> codec, R value) {
+        String entryKey = entryKey(jarFile, key);
+        write(directory.resolve(hash(entryKey) + EXTENSION), entryKey, out -> codec.write(out, value));
+    }
+
+    private String entryKey(JarFile jarFile, String key) {
+        return digest(Path.of(jarFile.getName())) + ":" + key;
+    }
+
+    private String digest(Path jarPath) {
+        JarMetadataRegistry.JarMetadata metadata = jarMetadata.get(jarPath);
+        Optional<String> digest = metadata.findChecksum(Algorithm.SHA_256);
+        if (digest.isPresent()) return digest.get();
+
+        String fingerprintKey;
+        try {
+            BasicFileAttributes attributes = Files.readAttributes(jarPath, BasicFileAttributes.class);
+            fingerprintKey = "fingerprint:" + metadata.getPath() + ":" + attributes.size() + ":" + attributes.lastModifiedTime().toMillis();
+        } catch (IOException e) {
+            throw new JarvizException(RB.$("ERROR_UNEXPECTED"), e);
+        }
+
+        Path fingerprint = directory.resolve(hash(fingerprintKey) + EXTENSION);
+        if (Files.exists(fingerprint)) {
+            try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(fingerprint)))) {
+                if (in.readInt() == MAGIC && in.readShort() == FORMAT_VERSION && fingerprintKey.equals(in.readUTF())) {
+                    // reports may reuse the digest as well
+                    String value = in.readUTF();
+                    metadata.putChecksum(Algorithm.SHA_256, value);
+                    return value;
+                }
+            } catch (IOException e) {
+                // recompute
+            }
+        }
+
+        String value = metadata.getChecksum(Algorithm.SHA_256);
+        write(fingerprint, fingerprintKey, out -> out.writeUTF(value));
+        return value;
+    }
+
+    private void write(Path entry, String entryKey, Writer writer) {
+        Path tmp = null;
+        try {
+            tmp = Files.createTempFile(directory, entry.getFileName().toString(), ".tmp");
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tmp)))) {
+                out.writeInt(MAGIC);
+                out.writeShort(FORMAT_VERSION);
+                out.writeUTF(entryKey);
+                writer.write(out);
+            }
+            long written = Files.size(tmp);
+            long replaced = Files.exists(entry) ? Files.size(entry) : 0;
+            Files.move(tmp, entry, REPLACE_EXISTING, ATOMIC_MOVE);
+            if (size.addAndGet(written - replaced) > maxSize) evictIfFull();
+        } catch (IOException e) {
+            // a failed write only costs a future cache miss
+        } finally {
+            deleteQuietly(tmp);
+        }
+    }
+
+    private synchronized void evictIfFull() {
+        // another thread may have evicted already
+        if (size.get() > maxSize) evict(maxSize - maxSize / 10);
+    }
+
+    private synchronized void evict(long targetSize) {
+        List<Path> entries;
+        try (Stream<Path> stream = Files.list(directory)) {
+            entries = stream.filter(path -> path.getFileName().toString().endsWith(EXTENSION))
+                .collect(toList());
+        } catch (IOException e) {
+            return;
+        }
+
+        List<Entry> candidates = new ArrayList<>(entries.size());
+        long totalSize = 0;
+        for (Path entry : entries) {
+            try {
+                BasicFileAttributes attributes = Files.readAttributes(entry, BasicFileAttributes.class);
+                candidates.add(new Entry(entry, attributes.size(), attributes.lastModifiedTime()));
+                totalSize += attributes.size();
+            } catch (IOException ignored) {
+                // noop
+            }
+        }
+
+        if (totalSize > targetSize) {
+            candidates.sort(Comparator.comparing(c -> c.lastAccess));
+            for (Entry candidate : candidates) {
+                if (totalSize <= targetSize) break;
+                deleteQuietly(candidate.path);
+                totalSize -= candidate.size;
+            }
+        }
+        size.set(totalSize);
+    }
+
+    private static String hash(String key) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(key.getBytes(StandardCharsets.UTF_8));
+            StringBuilder b = new StringBuilder(digest.length * 2);
+            for (byte d : digest) {
+                b.append(Character.forDigit((d >> 4) & 0xF, 16))
+                    .append(Character.forDigit(d & 0xF, 16));
+            }
+            return b.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new JarvizException(RB.$("ERROR_UNEXPECTED"), e);
+        }
+    }
+
+    private static void deleteQuietly(Path file) {
+        if (null == file) return;
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException ignored) {
+            // noop
+        }
+    }
+
+    private interface Writer {
+        void write(DataOutputStream out) throws IOException;
+    }
+
+    private static class Entry {
+        private final Path path;
+        private final long size;
+        private final FileTime lastAccess;
+
+        private Entry(Path path, long size, FileTime lastAccess) {
+            this.path = path;
+            this.size = size;
+            this.lastAccess = lastAccess;
+        }
+    }
+}
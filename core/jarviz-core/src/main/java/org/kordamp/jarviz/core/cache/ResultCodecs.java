@@ -0,0 +1,320 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2022-2023 The Jarviz authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kordamp.jarviz.core.cache;
+
+import org.kordamp.jarviz.core.model.BytecodeVersion;
+import org.kordamp.jarviz.core.model.BytecodeVersions;
+import org.kordamp.jarviz.core.model.EntryIndex;
+import org.kordamp.jarviz.core.model.ModuleName;
+import org.kordamp.jarviz.core.model.PackageIndex;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+
+import static java.util.Collections.unmodifiableSet;
+
+/**
+ * Codecs for the results of cacheable processors.
+ * <p>
+ * Sorted string collections (class and package names) are front coded, each value only stores the
+ * suffix that differs from the previous one.
+ *
+ * @author Andres Almiray
+ * @since 0.3.0
+ */
+public final class ResultCodecs {
+    public static final ResultCodec<Set<String>> STRINGS = new ResultCodec<>() {
+        @Override
+        public void write(DataOutput out, Set<String> value) throws IOException {
+            writeStrings(out, value);
+        }
+
+        @Override
+        public Set<String> read(DataInput in) throws IOException {
+            return unmodifiableSet(new TreeSet<>(readStrings(in)));
+        }
+    };
+
+    public static final ResultCodec<Optional<Set<String>>> OPTIONAL_STRINGS = new ResultCodec<>() {
+        @Override
+        public void write(DataOutput out, Optional<Set<String>> value) throws IOException {
+            out.writeBoolean(value.isPresent());
+            if (value.isPresent()) writeStrings(out, value.get());
+        }
+
+        @Override
+        public Optional<Set<String>> read(DataInput in) throws IOException {
+            if (!in.readBoolean()) return Optional.empty();
+            return Optional.of(unmodifiableSet(new TreeSet<>(readStrings(in))));
+        }
+    };
+
+    public static final ResultCodec<EntryIndex> ENTRY_INDEX = new ResultCodec<>() {
+        @Override
+        public void write(DataOutput out, EntryIndex value) throws IOException {
+            writeStrings(out, value.getNames());
+        }
+
+        @Override
+        public EntryIndex read(DataInput in) throws IOException {
+            return EntryIndex.of(readStrings(in));
+        }
+    };
+
+    public static final ResultCodec<PackageIndex> PACKAGE_INDEX = new ResultCodec<>() {
+        @Override
+        public void write(DataOutput out, PackageIndex value) throws IOException {
+            List<String> jars = new ArrayList<>(value.getJars());
+            Map<String, Integer> ordinals = new HashMap<>();
+            for (String jar : jars) {
+                ordinals.put(jar, ordinals.size());
+            }
+            writeStrings(out, jars);
+
+            Set<String> packages = value.getPackages();
+            writeStrings(out, packages);
+            for (String thePackage : packages) {
+                Set<String> jarsOfPackage = value.getJars(thePackage);
+                out.writeInt(jarsOfPackage.size());
+                for (String jar : jarsOfPackage) {
+                    out.writeInt(ordinals.get(jar));
+                }
+            }
+        }
+
+        @Override
+        public PackageIndex read(DataInput in) throws IOException {
+            List<String> jars = readStrings(in);
+            List<List<String>> packagesPerJar = new ArrayList<>(jars.size());
+            for (int i = 0; i < jars.size(); i++) {
+                packagesPerJar.add(new ArrayList<>());
+            }
+
+            for (String thePackage : readStrings(in)) {
+                int count = in.readInt();
+                for (int i = 0; i < count; i++) {
+                    packagesPerJar.get(in.readInt()).add(thePackage);
+                }
+            }
+
+            PackageIndex value = new PackageIndex();
+            for (int i = 0; i < jars.size(); i++) {
+                value.addJar(jars.get(i), packagesPerJar.get(i));
+            }
+            return value;
+        }
+    };
+
+    public static final ResultCodec<ModuleName> MODULE_NAME = new ResultCodec<>() {
+        @Override
+        public void write(DataOutput out, ModuleName value) throws IOException {
+            writeNullableString(out, value.getModuleName());
+            out.writeBoolean(value.isAutomaticByManifest());
+            out.writeBoolean(value.isAutomaticByFilename());
+            writeNullableString(out, value.getReason());
+        }
+
+        @Override
+        public ModuleName read(DataInput in) throws IOException {
+            String moduleName = readNullableString(in);
+            boolean automaticByManifest = in.readBoolean();
+            boolean automaticByFilename = in.readBoolean();
+            String reason = readNullableString(in);
+            return ModuleName.fromModuleDescriptor(moduleName, automaticByManifest, automaticByFilename, reason);
+        }
+    };
+
+    public static final ResultCodec<BytecodeVersions> BYTECODE_VERSIONS = new ResultCodec<>() {
+        @Override
+        public void write(DataOutput out, BytecodeVersions value) throws IOException {
+            Set<BytecodeVersion> manifestBytecode = value.getManifestBytecode();
+            out.writeInt(manifestBytecode.size());
+            for (BytecodeVersion bytecodeVersion : manifestBytecode) {
+                writeBytecodeVersion(out, bytecodeVersion);
+            }
+
+            writeClasses(out, value.getUnversionedClasses());
+
+            Set<Integer> javaVersions = value.getJavaVersionOfVersionedClasses();
+            out.writeInt(javaVersions.size());
+            for (Integer javaVersion : javaVersions) {
+                out.writeInt(javaVersion);
+                writeClasses(out, value.getVersionedClasses(javaVersion));
+            }
+        }
+
+        @Override
+        public BytecodeVersions read(DataInput in) throws IOException {
+            BytecodeVersions value = new BytecodeVersions();
+
+            int count = in.readInt();
+            Set<BytecodeVersion> manifestBytecode = new TreeSet<>();
+            for (int i = 0; i < count; i++) {
+                manifestBytecode.add(readBytecodeVersion(in));
+            }
+            value.setManifestBytecode(manifestBytecode);
+
+            count = in.readInt();
+            for (int i = 0; i < count; i++) {
+                BytecodeVersion bytecodeVersion = readBytecodeVersion(in);
+                for (String className : readStrings(in)) {
+                    value.addUnversionedClass(bytecodeVersion, className);
+                }
+            }
+
+            count = in.readInt();
+            for (int i = 0; i < count; i++) {
+                Integer javaVersion = in.readInt();
+                int versions = in.readInt();
+                for (int j = 0; j < versions; j++) {
+                    BytecodeVersion bytecodeVersion = readBytecodeVersion(in);
+                    for (String className : readStrings(in)) {
+                        value.addVersionedClass(javaVersion, bytecodeVersion, className);
+                    }
+                }
+            }
+
+            return value;
+        }
+
+        private void writeClasses(DataOutput out, Map<BytecodeVersion, List<String>> classes) throws IOException {
+            out.writeInt(classes.size());
+            for (Map.Entry<BytecodeVersion, List<String>> e : classes.entrySet()) {
+                writeBytecodeVersion(out, e.getKey());
+                writeStrings(out, e.getValue());
+            }
+        }
+    };
+
+    public static final ResultCodec<BytecodeVersions> BYTECODE_VERSION_COUNTS = new ResultCodec<>() {
+        @Override
+        public void write(DataOutput out, BytecodeVersions value) throws IOException {
+            Set<BytecodeVersion> manifestBytecode = value.getManifestBytecode();
+            out.writeInt(manifestBytecode.size());
+            for (BytecodeVersion bytecodeVersion : manifestBytecode) {
+                writeBytecodeVersion(out, bytecodeVersion);
+            }
+
+            writeCounts(out, value.getUnversionedClassCounts());
+
+            Set<Integer> javaVersions = value.getJavaVersionOfVersionedClasses();
+            out.writeInt(javaVersions.size());
+            for (Integer javaVersion : javaVersions) {
+                out.writeInt(javaVersion);
+                writeCounts(out, value.getVersionedClassCounts(javaVersion));
+            }
+        }
+
+        @Override
+        public BytecodeVersions read(DataInput in) throws IOException {
+            BytecodeVersions value = new BytecodeVersions(false);
+
+            int count = in.readInt();
+            Set<BytecodeVersion> manifestBytecode = new TreeSet<>();
+            for (int i = 0; i < count; i++) {
+                manifestBytecode.add(readBytecodeVersion(in));
+            }
+            value.setManifestBytecode(manifestBytecode);
+
+            count = in.readInt();
+            for (int i = 0; i < count; i++) {
+                value.addUnversionedClasses(readBytecodeVersion(in), in.readInt());
+            }
+
+            count = in.readInt();
+            for (int i = 0; i < count; i++) {
+                Integer javaVersion = in.readInt();
+                int versions = in.readInt();
+                for (int j = 0; j < versions; j++) {
+                    value.addVersionedClasses(javaVersion, readBytecodeVersion(in), in.readInt());
+                }
+            }
+
+            return value;
+        }
+
+        private void writeCounts(DataOutput out, Map<BytecodeVersion, Integer> counts) throws IOException {
+            out.writeInt(counts.size());
+            for (Map.Entry<BytecodeVersion, Integer> e : counts.entrySet()) {
+                writeBytecodeVersion(out, e.getKey());
+                out.writeInt(e.getValue());
+            }
+        }
+    };
+
+    private ResultCodecs() {
+        // prevent instantiation
+    }
+
+    static void writeStrings(DataOutput out, Collection<String> values) throws IOException {
+        out.writeInt(values.size());
+        String previous = "";
+        for (String value : values) {
+            int prefix = commonPrefix(previous, value);
+            out.writeShort(prefix);
+            out.writeUTF(value.substring(prefix));
+            previous = value;
+        }
+    }
+
+    static List<String> readStrings(DataInput in) throws IOException {
+        int count = in.readInt();
+        List<String> values = new ArrayList<>(count);
+        String previous = "";
+        for (int i = 0; i < count; i++) {
+            int prefix = in.readUnsignedShort();
+            previous = previous.substring(0, prefix) + in.readUTF();
+            values.add(previous);
+        }
+        return values;
+    }
+
+    private static void writeBytecodeVersion(DataOutput out, BytecodeVersion bytecodeVersion) throws IOException {
+        out.writeShort(bytecodeVersion.getMajor());
+        out.writeShort(bytecodeVersion.getMinor());
+    }
+
+    private static BytecodeVersion readBytecodeVersion(DataInput in) throws IOException {
+        return BytecodeVersion.of(in.readUnsignedShort(), in.readUnsignedShort());
+    }
+
+    private static void writeNullableString(DataOutput out, String value) throws IOException {
+        out.writeBoolean(null != value);
+        if (null != value) out.writeUTF(value);
+    }
+
+    private static String readNullableString(DataInput in) throws IOException {
+        return in.readBoolean() ? in.readUTF() : null;
+    }
+
+    private static int commonPrefix(String a, String b) {
+        int max = Math.min(Math.min(a.length(), b.length()), 0xFFFF);
+        int i = 0;
+        while (i < max && a.charAt(i) == b.charAt(i)) i++;
+        return i;
+    }
+}
@@ -21,18 +21,23 @@ import org.kordamp.jarviz.core.InsufficientInputsException;
 import org.kordamp.jarviz.bundle.RB;
 import org.kordamp.jarviz.core.Format;
 import org.kordamp.jarviz.core.JarvizException;
+import org.kordamp.jarviz.core.cache.ResultCache;
 import org.kordamp.jarviz.core.resolvers.JarFileResolver;
 import org.kordamp.jarviz.core.resolvers.JarFileResolvers;
+import org.kordamp.jarviz.core.resolvers.Repositories;
 import org.kordamp.jarviz.reporting.Formatter;
 import org.kordamp.jarviz.reporting.JsonFormatter;
 import org.kordamp.jarviz.reporting.Node;
+import org.kordamp.jarviz.reporting.ReportWriter;
 import org.kordamp.jarviz.reporting.TxtFormatter;
 import org.kordamp.jarviz.reporting.XmlFormatter;
 import org.kordamp.jarviz.reporting.YamlFormatter;
-import org.kordamp.jarviz.util.Algorithm;
-import org.kordamp.jarviz.util.ChecksumUtils;
 
 import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
@@ -41,6 +46,9 @@ import java.util.Locale;
 import java.util.Set;
 import java.util.function.Consumer;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
 import static java.nio.file.StandardOpenOption.CREATE;
 import static java.nio.file.StandardOpenOption.TRUNCATE_EXISTING;
 import static org.kordamp.jarviz.core.internal.Colorizer.bool;
@@ -55,8 +63,21 @@ public abstract class AbstractCommand<C extends Configuration<C>> {
     public static final String SPACE = " ";
     public static final String EMPTY = "";
 
+    private JarMetadataRegistry jarMetadata = new JarMetadataRegistry();
+
     public abstract int execute(C configuration);
 
+    public JarMetadataRegistry getJarMetadata() {
+        return jarMetadata;
+    }
+
+    /**
+     * Shares JAR metadata with other commands taking part in the same run.
+     */
+    public void setJarMetadata(JarMetadataRegistry jarMetadata) {
+        this.jarMetadata = jarMetadata;
+    }
+
     protected Path resolveCacheDirectory(C configuration) {
         Path cache = configuration.getCacheDirectory();
         cache = null != cache ? cache : Paths.get("cache");
@@ -77,6 +98,22 @@ public abstract class AbstractCommand<C extends Configuration<C>> {
         return cache;
     }
 
+    protected ResultCache createResultCache(C configuration) {
+        if (!configuration.isResultCache()) return null;
+
+        // size is configured in megabytes
+        return new ResultCache(resolveCacheDirectory(configuration).resolve("results"),
+            configuration.getResultCacheSize() * 1024L * 1024L, jarMetadata);
+    }
+
+    protected void outputResultCacheStatistics(C configuration, ResultCache resultCache) {
+        if (null == resultCache) return;
+
+        // keep formatted output parseable
+        PrintWriter writer = null == configuration.getOutputFormat() ? configuration.getOut() : configuration.getErr();
+        writer.println($$("output.result.cache", resultCache.getHits(), resultCache.getMisses()));
+    }
+
     protected Path resolveReportPath(C configuration, Format format) {
         Path reportPath = configuration.getReportPath();
         return Paths.get(reportPath.toAbsolutePath() + "." + format.toString().toLowerCase(Locale.ROOT));
@@ -96,40 +133,83 @@ public abstract class AbstractCommand<C extends Configuration<C>> {
         }
     }
 
-    protected Node createRootNode() {
-        return Node.root(RB.$("report.key.jarviz"));
+    /**
+     * Appends a subject whose result is described by a {@link Node} tree. Only the tree of the current
+     * subject is held in memory, it is written out as soon as {@code result} returns.
+     */
+    protected void appendSubject(ReportWriter writer, Path jarPath, String command, Consumer<Node> result) {
+        writeSubject(writer, jarPath, command, w -> {
+            Node resultNode = Node.root(RB.$("report.key.result"));
+            result.accept(resultNode);
+            for (Node child : resultNode.getChildren()) {
+                w.write(child);
+            }
+        });
     }
 
-    protected Node appendSubject(Node root, Path jarPath, String command, Consumer<Node> result) {
-        Node subjects = root.getChildren().isEmpty() ? root.array(RB.$("report.key.subjects")) : root.getChildren().get(0);
-        Node resultNode = subjects
-            .collapsable(RB.$("report.key.subject"))
-            .node(RB.$("report.key.command")).value(command).end()
-            .node(RB.$("report.key.jar"))
-                .node(RB.$("report.key.file")).value(jarPath.getFileName()).end()
-                .node(RB.$("report.key.size")).value(fileSize(jarPath)).end()
-                .node(RB.$("report.key.sha256")).value(sha256(jarPath)).end()
+    /**
+     * Appends a subject whose result is written directly as events.
+     */
+    protected void writeSubject(ReportWriter writer, Path jarPath, String command, Consumer<ReportWriter> result) {
+        // subjects are opened lazily, reports without subjects are left empty
+        if (writer.getDepth() == 1) writer.startArray(RB.$("report.key.subjects"));
+
+        writer.startCollapsable(RB.$("report.key.subject"))
+            .field(RB.$("report.key.command"), command)
+            .startObject(RB.$("report.key.jar"))
+                .field(RB.$("report.key.file"), jarPath.getFileName())
+                .field(RB.$("report.key.size"), jarMetadata.size(jarPath))
+                .field(RB.$("report.key.sha256"), jarMetadata.sha256(jarPath))
             .end()
-            .node(RB.$("report.key.result"));
-        result.accept(resultNode);
-
-        return root;
+            .startObject(RB.$("report.key.result"));
+        result.accept(writer);
+        writer.end()
+            .end();
     }
 
-    protected void writeOutput(C configuration, String content) {
-        configuration.getOut().println(content);
+    protected void writeOutput(C configuration, Format format, Consumer<ReportWriter> content) {
+        // buffered, a failed run prints nothing rather than a truncated document
+        StringWriter buffer = new StringWriter();
+        ReportWriter writer = startReport(format, buffer);
+        content.accept(writer);
+        writer.close();
+
+        PrintWriter out = configuration.getOut();
+        out.print(buffer);
+        out.println();
     }
 
-    protected void writeReport(C configuration, String content, Format format) {
+    protected void writeReport(C configuration, Format format, Consumer<ReportWriter> content) {
         Path reportPath = resolveReportPath(configuration, format);
+        Path tmp = null;
         try {
             Files.createDirectories(reportPath.getParent());
-            Files.write(reportPath, content.getBytes(), CREATE, TRUNCATE_EXISTING);
-        } catch (IOException e) {
+            // streamed to a sibling file, a failed run leaves any previous report untouched
+            tmp = Files.createTempFile(reportPath.getParent(), reportPath.getFileName().toString(), ".tmp");
+            try (Writer out = Files.newBufferedWriter(tmp, UTF_8, CREATE, TRUNCATE_EXISTING)) {
+                ReportWriter writer = startReport(format, out);
+                content.accept(writer);
+                writer.close();
+            }
+            Files.move(tmp, reportPath, REPLACE_EXISTING, ATOMIC_MOVE);
+        } catch (IOException | UncheckedIOException e) {
             throw new JarvizException(RB.$("ERROR_WRITE_FILE", reportPath.toAbsolutePath()), e);
+        } finally {
+            if (null != tmp) {
+                try {
+                    Files.deleteIfExists(tmp);
+                } catch (IOException ignored) {
+                    // noop
+                }
+            }
         }
     }
 
+    private ReportWriter startReport(Format format, Writer out) {
+        return resolveFormatter(format).writer(out)
+            .startObject(RB.$("report.key.jarviz"));
+    }
+
     protected String $$(String key, Object... args) {
         return colorize(RB.$(key, args));
     }
@@ -138,22 +218,20 @@ public abstract class AbstractCommand<C extends Configuration<C>> {
         return bool(val);
     }
 
-    private long fileSize(Path jarPath) {
-        try {
-            return Files.size(jarPath);
-        } catch (IOException e) {
-            throw new JarvizException(RB.$("ERROR_UNEXPECTED"), e);
-        }
-    }
-
-    private String sha256(Path jarPath) {
-        return ChecksumUtils.checksum(Algorithm.SHA_256, jarPath);
+    protected Repositories createRepositories(C configuration) {
+        return Repositories.of(configuration.getRepositories());
     }
 
     protected JarFileResolver createJarFileResolver(C configuration) {
+        JarFileResolver shared = configuration.getJarFileResolver();
+        if (null != shared) {
+            // owned by the caller, closing this view leaves it open
+            return shared::resolveJarFiles;
+        }
+
         Set<JarFileResolver> resolvers = new LinkedHashSet<>();
         Path cacheDirectory = resolveCacheDirectory(configuration);
-        resolvers.addAll(JarFileResolvers.gavJarFileResolvers(cacheDirectory, configuration.getGavs()));
+        resolvers.addAll(JarFileResolvers.gavJarFileResolvers(cacheDirectory, configuration.getGavs(), createRepositories(configuration)));
         resolvers.addAll(JarFileResolvers.pathJarFileResolvers(configuration.getFiles()));
         resolvers.addAll(JarFileResolvers.directoryJarFileResolvers(configuration.getDirectories()));
         resolvers.addAll(JarFileResolvers.classpathJarFileResolvers(configuration.getClasspaths()));
@@ -163,6 +241,6 @@ public abstract class AbstractCommand<C extends Configuration<C>> {
             throw new InsufficientInputsException($$("ERROR_INSUFFICIENT_INPUTS"));
         }
 
-        return JarFileResolvers.compositeJarFileResolver(resolvers);
+        return JarFileResolvers.compositeJarFileResolver(resolvers, configuration.getMaxConnections());
     }
 }
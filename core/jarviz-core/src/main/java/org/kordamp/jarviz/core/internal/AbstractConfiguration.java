@@ -18,6 +18,7 @@
 package org.kordamp.jarviz.core.internal;
 
 import org.kordamp.jarviz.core.Format;
+import org.kordamp.jarviz.core.resolvers.JarFileResolver;
 
 import java.io.PrintWriter;
 import java.net.URL;
@@ -39,10 +40,16 @@ public abstract class AbstractConfiguration<S extends AbstractConfiguration<S>>
     private final Set<URL> urls = new LinkedHashSet<>();
     private final Set<String> classpaths = new TreeSet<>();
     private final Set<Path> directories = new TreeSet<>();
+    private final Set<String> repositories = new LinkedHashSet<>();
+    private JarFileResolver jarFileResolver;
     private Path cacheDirectory;
     private Path reportPath;
     private final Set<Format> reportFormats = new TreeSet<>();
     private Format outputFormat;
+    private int parallelism = 1;
+    private int maxConnections = 8;
+    private boolean resultCache;
+    private int resultCacheSize = 64;
 
     protected S self() {
         return (S) this;
@@ -215,4 +222,76 @@ public abstract class AbstractConfiguration<S extends AbstractConfiguration<S>>
         this.outputFormat = outputFormat;
         return self();
     }
+
+    @Override
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    @Override
+    public S withParallelism(int parallelism) {
+        this.parallelism = Math.max(1, parallelism);
+        return self();
+    }
+
+    @Override
+    public Set<String> getRepositories() {
+        return repositories;
+    }
+
+    @Override
+    public S withRepository(String repository) {
+        this.repositories.add(repository.trim());
+        return self();
+    }
+
+    @Override
+    public S withRepositories(Set<String> repositories) {
+        this.repositories.addAll(repositories);
+        return self();
+    }
+
+    @Override
+    public JarFileResolver getJarFileResolver() {
+        return jarFileResolver;
+    }
+
+    @Override
+    public S withJarFileResolver(JarFileResolver jarFileResolver) {
+        this.jarFileResolver = jarFileResolver;
+        return self();
+    }
+
+    @Override
+    public int getMaxConnections() {
+        return maxConnections;
+    }
+
+    @Override
+    public S withMaxConnections(int maxConnections) {
+        this.maxConnections = Math.max(1, maxConnections);
+        return self();
+    }
+
+    @Override
+    public boolean isResultCache() {
+        return resultCache;
+    }
+
+    @Override
+    public S withResultCache(boolean resultCache) {
+        this.resultCache = resultCache;
+        return self();
+    }
+
+    @Override
+    public int getResultCacheSize() {
+        return resultCacheSize;
+    }
+
+    @Override
+    public S withResultCacheSize(int resultCacheSize) {
+        this.resultCacheSize = Math.max(0, resultCacheSize);
+        return self();
+    }
 }
@@ -18,6 +18,7 @@
 package org.kordamp.jarviz.core.internal;
 
 import org.kordamp.jarviz.core.Format;
+import org.kordamp.jarviz.core.resolvers.JarFileResolver;
 
 import java.io.PrintWriter;
 import java.net.URL;
@@ -88,4 +89,33 @@ public interface Configuration<S extends Configuration<S>> {
     Format getOutputFormat();
 
     S withOutputFormat(Format outputFormat);
+
+    int getParallelism();
+
+    S withParallelism(int parallelism);
+
+    Set<String> getRepositories();
+
+    S withRepository(String repository);
+
+    S withRepositories(Set<String> repositories);
+
+    JarFileResolver getJarFileResolver();
+
+    /**
+     * JAR files resolved by the caller, used instead of the configured inputs. Commands do not close it.
+     */
+    S withJarFileResolver(JarFileResolver jarFileResolver);
+
+    int getMaxConnections();
+
+    S withMaxConnections(int maxConnections);
+
+    boolean isResultCache();
+
+    S withResultCache(boolean resultCache);
+
+    int getResultCacheSize();
+
+    S withResultCacheSize(int resultCacheSize);
 }
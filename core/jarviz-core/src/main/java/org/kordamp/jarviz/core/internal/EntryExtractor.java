@@ -0,0 +1,311 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2022-2023 The Jarviz authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kordamp.jarviz.core.internal;
+
+import org.kordamp.jarviz.bundle.RB;
+import org.kordamp.jarviz.core.JarvizException;
+import org.kordamp.jarviz.util.CentralDirectory;
+
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipException;
+
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.TRUNCATE_EXISTING;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+/**
+ * Extracts selected entries out of JAR files.
+ * <p>
+ * Entries are located through the central directory and read straight from the memory mapped JAR, no
+ * {@code JarFile} is involved. Every target directory is created once, before any entry is written. STORED
+ * entries are transferred as they are, DEFLATED entries are inflated, both on up to {@code parallelism}
+ * threads. The first failure aborts the extraction with a {@link JarvizException}, as does any entry whose name
+ * would place it outside of the target directory.
+ *
+ * @author Andres Almiray
+ * @since 0.3.0
+ */
+public final class EntryExtractor implements Closeable {
+    private static final int LOCAL_HEADER_SIGNATURE = 0x04034b50;
+    private static final int LOCAL_HEADER_SIZE = 30;
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final Path targetDirectory;
+    private final boolean flatten;
+    private final List<Source> sources = new ArrayList<>();
+    private final Map<Path, Task> tasks = new LinkedHashMap<>();
+    private final AtomicLong entries = new AtomicLong();
+    private final AtomicLong bytes = new AtomicLong();
+
+    public EntryExtractor(Path targetDirectory, boolean flatten) {
+        this.targetDirectory = targetDirectory;
+        this.flatten = flatten;
+    }
+
+    /**
+     * Schedules the given entries of a JAR. Entries land in a directory named after the JAR, names that
+     * are not found and directories are skipped.
+     */
+    public void add(Path jarPath, Set<String> entryNames) {
+        if (entryNames.isEmpty()) return;
+
+        String fileName = jarPath.getFileName().toString();
+        Path jarDirectory = targetDirectory.resolve(fileName.substring(0, fileName.length() - 4));
+
+        Source source;
+        CentralDirectory centralDirectory;
+        try {
+            source = new Source(jarPath);
+            sources.add(source);
+            centralDirectory = CentralDirectory.read(jarPath);
+        } catch (IOException e) {
+            throw new JarvizException(RB.$("ERROR_OPENING_JAR", jarPath), e);
+        }
+
+        Path root = targetDirectory.normalize();
+        Set<String> pending = new HashSet<>(entryNames);
+        centralDirectory.forEachEntry(entry -> {
+            if (entry.isDirectory()) return;
+
+            String name = entry.getName().toString();
+            if (!pending.remove(name)) return;
+
+            Path destination = jarDirectory.resolve(flatten ? Paths.get(name).getFileName().toString() : name).normalize();
+            // names come straight from the central directory, such as ../../x
+            if (!destination.startsWith(root)) {
+                throw new JarvizException(RB.$("ERROR_EXTRACT_ENTRY", name, jarPath));
+            }
+            // of all entries flattened to the same file the last one in name order wins, as listed
+            tasks.merge(destination, new Task(source, name, entry, destination),
+                (previous, task) -> previous.name.compareTo(task.name) > 0 ? previous : task);
+        });
+    }
+
+    /**
+     * Writes all scheduled entries, using up to {@code parallelism} threads.
+     */
+    public Statistics extract(int parallelism) {
+        long start = System.nanoTime();
+
+        Set<Path> directories = new LinkedHashSet<>();
+        for (Path destination : tasks.keySet()) {
+            directories.add(destination.getParent());
+        }
+        for (Path directory : directories) {
+            try {
+                Files.createDirectories(directory);
+            } catch (IOException e) {
+                throw new JarvizException(RB.$("ERROR_CREATE_DIRECTORY", directory), e);
+            }
+        }
+
+        ParallelExecution.map(tasks.values(), parallelism, task -> {
+            extract(task);
+            return task;
+        });
+
+        return new Statistics(entries.get(), bytes.get(), Duration.ofNanos(System.nanoTime() - start));
+    }
+
+    @Override
+    public void close() {
+        for (Source source : sources) {
+            try {
+                source.channel.close();
+            } catch (IOException ignored) {
+                // read only
+            }
+        }
+    }
+
+    private void extract(Task task) {
+        try (FileChannel out = FileChannel.open(task.destination, CREATE, WRITE, TRUNCATE_EXISTING)) {
+            long dataOffset = task.source.dataOffset(task.localHeaderOffset);
+            if (task.method == ZipEntry.STORED) {
+                transfer(task.source.channel, dataOffset, task.size, out);
+            } else if (task.method == ZipEntry.DEFLATED) {
+                inflate(task.source.region(dataOffset, task.compressedSize), task.size, out);
+            } else {
+                throw new ZipException("invalid compression method " + task.method);
+            }
+        } catch (IOException | DataFormatException e) {
+            // do not leave a truncated file behind
+            try {
+                Files.deleteIfExists(task.destination);
+            } catch (IOException ignored) {
+                // reported below
+            }
+            throw new JarvizException(RB.$("ERROR_EXTRACT_ENTRY", task.name, task.source.jarPath), e);
+        }
+
+        entries.incrementAndGet();
+        bytes.addAndGet(task.size);
+    }
+
+    private static void transfer(FileChannel in, long position, long count, FileChannel out) throws IOException {
+        long transferred = 0;
+        while (transferred < count) {
+            long n = in.transferTo(position + transferred, count - transferred, out);
+            if (n <= 0) throw new EOFException();
+            transferred += n;
+        }
+    }
+
+    private static void inflate(ByteBuffer input, long size, FileChannel out) throws IOException, DataFormatException {
+        Inflater inflater = new Inflater(true);
+        try {
+            inflater.setInput(input);
+            byte[] buffer = new byte[(int) Math.min(BUFFER_SIZE, Math.max(size, 1))];
+            long written = 0;
+            boolean padded = false;
+            while (!inflater.finished()) {
+                int n = inflater.inflate(buffer);
+                if (n == 0) {
+                    if (inflater.needsDictionary()) throw new ZipException("Deflated data requires a dictionary");
+                    if (inflater.needsInput()) {
+                        // raw deflate data may need an extra dummy byte to complete, as ZipFile does
+                        if (padded) throw new EOFException("Unexpected end of deflated data");
+                        inflater.setInput(new byte[1]);
+                        padded = true;
+                    }
+                    continue;
+                }
+                ByteBuffer chunk = ByteBuffer.wrap(buffer, 0, n);
+                while (chunk.hasRemaining()) out.write(chunk);
+                written += n;
+            }
+            if (written != size) throw new ZipException("Invalid entry size (expected " + size + " but got " + written + " bytes)");
+        } finally {
+            inflater.end();
+        }
+    }
+
+    /**
+     * Outcome of an extraction.
+     */
+    public static final class Statistics {
+        private final long entries;
+        private final long bytes;
+        private final Duration duration;
+
+        private Statistics(long entries, long bytes, Duration duration) {
+            this.entries = entries;
+            this.bytes = bytes;
+            this.duration = duration;
+        }
+
+        public long getEntries() {
+            return entries;
+        }
+
+        public long getBytes() {
+            return bytes;
+        }
+
+        public Duration getDuration() {
+            return duration;
+        }
+
+        public long getEntriesPerSecond() {
+            return perSecond(entries);
+        }
+
+        public long getBytesPerSecond() {
+            return perSecond(bytes);
+        }
+
+        private long perSecond(long count) {
+            long nanos = Math.max(1, duration.toNanos());
+            return (long) (count * 1_000_000_000d / nanos);
+        }
+    }
+
+    private static final class Source {
+        private final Path jarPath;
+        private final FileChannel channel;
+        private final ByteBuffer mapped;
+
+        private Source(Path jarPath) throws IOException {
+            this.jarPath = jarPath;
+            this.channel = FileChannel.open(jarPath, READ);
+            long size = channel.size();
+            // larger JARs are mapped one entry at a time
+            this.mapped = size <= Integer.MAX_VALUE ? channel.map(FileChannel.MapMode.READ_ONLY, 0, size) : null;
+        }
+
+        private long dataOffset(long localHeaderOffset) throws IOException {
+            ByteBuffer header = region(localHeaderOffset, LOCAL_HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+            if (header.getInt(0) != LOCAL_HEADER_SIGNATURE) throw new ZipException("invalid LOC header (bad signature)");
+            int nameLength = header.getShort(26) & 0xFFFF;
+            int extraLength = header.getShort(28) & 0xFFFF;
+            return localHeaderOffset + LOCAL_HEADER_SIZE + nameLength + extraLength;
+        }
+
+        private ByteBuffer region(long offset, long length) throws IOException {
+            if (offset < 0 || length < 0 || offset + length > channel.size()) throw new EOFException();
+            if (null == mapped) return channel.map(FileChannel.MapMode.READ_ONLY, offset, length);
+
+            // views are not shared between threads
+            return mapped.duplicate()
+                .position((int) offset)
+                .limit((int) (offset + length))
+                .slice();
+        }
+    }
+
+    private static final class Task {
+        private final Source source;
+        private final String name;
+        private final int method;
+        private final long compressedSize;
+        private final long size;
+        private final long localHeaderOffset;
+        private final Path destination;
+
+        private Task(Source source, String name, CentralDirectory.Entry entry, Path destination) {
+            this.source = source;
+            this.name = name;
+            this.method = entry.getMethod();
+            this.compressedSize = entry.getCompressedSize();
+            this.size = entry.getSize();
+            this.localHeaderOffset = entry.getLocalHeaderOffset();
+            this.destination = destination;
+        }
+    }
+}
@@ -0,0 +1,226 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2022-2023 The Jarviz authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kordamp.jarviz.core.internal;
+
+import org.kordamp.jarviz.core.model.Gav;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.jar.JarFile;
+
+/**
+ * Reference counted pool of open JAR files, shared by every resolver in the same JVM.
+ * <p>
+ * Each {@link #acquire(Path)} must be matched by a {@link #release(JarFile)}. Released JAR files stay open so that
+ * following commands may reuse them, up to {@link #getMaxOpen()} handles. Least recently used handles are closed once
+ * that limit is exceeded, handles still in use are never closed. A JAR file that changed on disk, or that was closed
+ * behind the pool's back, is reopened on its next acquisition.
+ *
+ * @author Andres Almiray
+ * @since 0.3.0
+ */
+public final class JarFilePool {
+    public static final int DEFAULT_MAX_OPEN = 256;
+
+    private static final JarFilePool SHARED = new JarFilePool(DEFAULT_MAX_OPEN);
+
+    // access ordered, eldest entries are closed first
+    private final Map<Key, Handle> handles = new LinkedHashMap<>(16, 0.75f, true);
+    private final Map<JarFile, Handle> acquired = new IdentityHashMap<>();
+    private int maxOpen;
+
+    public JarFilePool(int maxOpen) {
+        this.maxOpen = Math.max(1, maxOpen);
+    }
+
+    public static JarFilePool shared() {
+        return SHARED;
+    }
+
+    public synchronized int getMaxOpen() {
+        return maxOpen;
+    }
+
+    public synchronized void setMaxOpen(int maxOpen) {
+        this.maxOpen = Math.max(1, maxOpen);
+        evict();
+    }
+
+    /**
+     * @return the number of open handles, in use or idle.
+     */
+    public synchronized int size() {
+        return handles.size();
+    }
+
+    public JarFile acquire(Path file) throws IOException {
+        return acquire(file, null);
+    }
+
+    /**
+     * Same as {@link #acquire(Path)} but the returned JAR file is {@link org.kordamp.jarviz.core.model.GavAware}.
+     */
+    public synchronized JarFile acquire(Path file, Gav gav) throws IOException {
+        Path path = file.toAbsolutePath().normalize();
+        BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+        Key key = new Key(path, gav);
+
+        Handle handle = handles.get(key);
+        if (null != handle && !handle.isValid(attributes)) {
+            retire(key, handle);
+            handle = null;
+        }
+
+        if (null == handle) {
+            JarFile jarFile = null != gav ? new GavAwareJarFile(path.toFile(), gav) : new JarFile(path.toFile());
+            handle = new Handle(jarFile, attributes);
+            handles.put(key, handle);
+            acquired.put(jarFile, handle);
+        }
+
+        handle.references++;
+        evict();
+        return handle.jarFile;
+    }
+
+    /**
+     * Gives back a JAR file obtained from {@link #acquire(Path)}. JAR files from other sources are left untouched.
+     */
+    public synchronized void release(JarFile jarFile) {
+        Handle handle = acquired.get(jarFile);
+        if (null == handle || handle.references == 0) return;
+
+        handle.references--;
+        if (handle.references == 0) {
+            if (handle.retired) {
+                acquired.remove(jarFile);
+                closeQuietly(jarFile);
+            } else {
+                evict();
+            }
+        }
+    }
+
+    public synchronized void release(Collection<JarFile> jarFiles) {
+        for (JarFile jarFile : jarFiles) {
+            release(jarFile);
+        }
+    }
+
+    /**
+     * Closes all idle handles.
+     */
+    public synchronized void clear() {
+        List<Key> idle = new ArrayList<>();
+        handles.forEach((key, handle) -> {
+            if (handle.references == 0) idle.add(key);
+        });
+        for (Key key : idle) {
+            retire(key, handles.get(key));
+        }
+    }
+
+    private void evict() {
+        Iterator<Map.Entry<Key, Handle>> it = handles.entrySet().iterator();
+        while (handles.size() > maxOpen && it.hasNext()) {
+            Handle handle = it.next().getValue();
+            if (handle.references > 0) continue;
+            it.remove();
+            acquired.remove(handle.jarFile);
+            closeQuietly(handle.jarFile);
+        }
+    }
+
+    private void retire(Key key, Handle handle) {
+        handles.remove(key);
+        if (handle.references > 0) {
+            // still in use, closed by the last release
+            handle.retired = true;
+        } else {
+            acquired.remove(handle.jarFile);
+            closeQuietly(handle.jarFile);
+        }
+    }
+
+    private static void closeQuietly(JarFile jarFile) {
+        try {
+            jarFile.close();
+        } catch (IOException ignored) {
+            // noop
+        }
+    }
+
+    private static final class Key {
+        private final Path path;
+        private final Gav gav;
+
+        private Key(Path path, Gav gav) {
+            this.path = path;
+            this.gav = gav;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Key)) return false;
+            Key that = (Key) o;
+            return path.equals(that.path) && Objects.equals(gav, that.gav);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(path, gav);
+        }
+    }
+
+    private static final class Handle {
+        private final JarFile jarFile;
+        private final long size;
+        private final long lastModified;
+        private int references;
+        private boolean retired;
+
+        private Handle(JarFile jarFile, BasicFileAttributes attributes) {
+            this.jarFile = jarFile;
+            this.size = attributes.size();
+            this.lastModified = attributes.lastModifiedTime().toMillis();
+        }
+
+        private boolean isValid(BasicFileAttributes attributes) {
+            if (size != attributes.size() || lastModified != attributes.lastModifiedTime().toMillis()) return false;
+
+            try {
+                // fails once closed
+                jarFile.size();
+                return true;
+            } catch (IllegalStateException e) {
+                return false;
+            }
+        }
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2022-2023 The Jarviz authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kordamp.jarviz.core.internal;
+
+import org.kordamp.jarviz.bundle.RB;
+import org.kordamp.jarviz.core.JarvizException;
+import org.kordamp.jarviz.util.Algorithm;
+import org.kordamp.jarviz.util.ChecksumUtils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Per-run registry of JAR file attributes. Sizes and digests are computed lazily, at most once per JAR,
+ * and shared by every report and output format.
+ *
+ * @author Andres Almiray
+ * @since 0.3.0
+ */
+public class JarMetadataRegistry {
+    private final Map<Path, JarMetadata> metadata = new ConcurrentHashMap<>();
+
+    public JarMetadata get(Path jarPath) {
+        return metadata.computeIfAbsent(jarPath.toAbsolutePath().normalize(), JarMetadata::new);
+    }
+
+    public long size(Path jarPath) {
+        return get(jarPath).getSize();
+    }
+
+    public String sha256(Path jarPath) {
+        return get(jarPath).getChecksum(Algorithm.SHA_256);
+    }
+
+    public Map<Algorithm, String> checksums(Path jarPath, Algorithm... algorithms) {
+        return get(jarPath).getChecksums(Arrays.asList(algorithms));
+    }
+
+    public static class JarMetadata {
+        private final Path path;
+        private final Map<Algorithm, String> checksums = new EnumMap<>(Algorithm.class);
+        private long size = -1;
+
+        private JarMetadata(Path path) {
+            this.path = path;
+        }
+
+        public Path getPath() {
+            return path;
+        }
+
+        public synchronized long getSize() {
+            if (size < 0) {
+                try {
+                    size = Files.size(path);
+                } catch (IOException e) {
+                    throw new JarvizException(RB.$("ERROR_UNEXPECTED"), e);
+                }
+            }
+            return size;
+        }
+
+        public String getChecksum(Algorithm algorithm) {
+            return getChecksums(EnumSet.of(algorithm)).get(algorithm);
+        }
+
+        /**
+         * Missing checksums are computed together with a single read of the file.
+         */
+        public synchronized Map<Algorithm, String> getChecksums(Collection<Algorithm> algorithms) {
+            Set<Algorithm> missing = EnumSet.noneOf(Algorithm.class);
+            for (Algorithm algorithm : algorithms) {
+                if (!checksums.containsKey(algorithm)) missing.add(algorithm);
+            }
+            if (!missing.isEmpty()) {
+                checksums.putAll(ChecksumUtils.checksums(path, missing));
+            }
+
+            Map<Algorithm, String> result = new EnumMap<>(Algorithm.class);
+            for (Algorithm algorithm : algorithms) {
+                result.put(algorithm, checksums.get(algorithm));
+            }
+            return result;
+        }
+
+        public synchronized Optional<String> findChecksum(Algorithm algorithm) {
+            return Optional.ofNullable(checksums.get(algorithm));
+        }
+
+        /**
+         * Records a checksum obtained elsewhere, such as a trusted cache.
+         */
+        public synchronized void putChecksum(Algorithm algorithm, String checksum) {
+            checksums.put(algorithm, checksum);
+        }
+    }
+}
@@ -0,0 +1,214 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2022-2023 The Jarviz authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kordamp.jarviz.core.internal;
+
+import org.kordamp.jarviz.bundle.RB;
+import org.kordamp.jarviz.core.JarvizException;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * @author Andres Almiray
+ * @since 0.3.0
+ */
+public final class ParallelExecution {
+    private ParallelExecution() {
+        // noop
+    }
+
+    private static final ExecutorFactory VIRTUAL_THREADS = virtualThreadExecutorFactory();
+
+    /**
+     * Applies {@code function} to every input using at most {@code parallelism} threads.
+     * Results are returned in the iteration order of {@code inputs} regardless of completion order.
+     */
+    public static <T, R> List<R> map(Collection<T> inputs, int parallelism, Function<T, R> function) {
+        int threads = Math.min(parallelism, inputs.size());
+        if (threads <= 1) {
+            return sequential(inputs, function);
+        }
+
+        return invokeAll(Executors.newFixedThreadPool(threads, new DaemonThreadFactory("jarviz-worker-")), inputs, function);
+    }
+
+    /**
+     * Like {@link #map(Collection, int, Function)} but meant for functions that block on I/O, such as
+     * network requests. Every input gets its own virtual thread when the runtime supports them, a bounded
+     * pool of platform threads is used otherwise. In both cases no more than {@code limit} functions run
+     * at the same time.
+     */
+    public static <T, R> List<R> mapBlocking(Collection<T> inputs, int limit, Function<T, R> function) {
+        int permits = Math.min(limit, inputs.size());
+        if (permits <= 1) {
+            return sequential(inputs, function);
+        }
+
+        if (null != VIRTUAL_THREADS) {
+            Semaphore semaphore = new Semaphore(permits);
+            return invokeAll(VIRTUAL_THREADS.create(), inputs, input -> {
+                acquire(semaphore);
+                try {
+                    return function.apply(input);
+                } finally {
+                    semaphore.release();
+                }
+            });
+        }
+
+        return invokeAll(Executors.newFixedThreadPool(permits, new DaemonThreadFactory("jarviz-io-")), inputs, function);
+    }
+
+    /**
+     * Folds every input into an accumulator using at most {@code parallelism} threads. Each thread fills its
+     * own accumulator, taking the next pending input as soon as it is done with the previous one; accumulators
+     * are merged with {@code combiner} once all inputs have been consumed. Inputs are thus visited in no
+     * particular order.
+     */
+    public static <T, A> A reduce(Collection<T> inputs, int parallelism, Supplier<A> supplier,
+                                  BiConsumer<A, T> accumulator, BinaryOperator<A> combiner) {
+        int threads = Math.min(parallelism, inputs.size());
+        if (threads <= 1) {
+            A result = supplier.get();
+            for (T input : inputs) {
+                accumulator.accept(result, input);
+            }
+            return result;
+        }
+
+        List<T> pending = new ArrayList<>(inputs);
+        AtomicInteger next = new AtomicInteger();
+        List<Integer> workers = new ArrayList<>(threads);
+        for (int i = 0; i < threads; i++) {
+            workers.add(i);
+        }
+
+        List<A> partials = map(workers, threads, worker -> {
+            A partial = supplier.get();
+            for (int i = next.getAndIncrement(); i < pending.size(); i = next.getAndIncrement()) {
+                accumulator.accept(partial, pending.get(i));
+            }
+            return partial;
+        });
+
+        A result = partials.get(0);
+        for (int i = 1; i < partials.size(); i++) {
+            result = combiner.apply(result, partials.get(i));
+        }
+        return result;
+    }
+
+    private static <T, R> List<R> sequential(Collection<T> inputs, Function<T, R> function) {
+        List<R> results = new ArrayList<>(inputs.size());
+        for (T input : inputs) {
+            results.add(function.apply(input));
+        }
+        return results;
+    }
+
+    private static <T, R> List<R> invokeAll(ExecutorService executor, Collection<T> inputs, Function<T, R> function) {
+        List<R> results = new ArrayList<>(inputs.size());
+
+        try {
+            List<Future<R>> futures = new ArrayList<>(inputs.size());
+            for (T input : inputs) {
+                futures.add(executor.submit(() -> function.apply(input)));
+            }
+
+            for (Future<R> future : futures) {
+                results.add(future.get());
+            }
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) throw (RuntimeException) cause;
+            if (cause instanceof Error) throw (Error) cause;
+            throw new JarvizException(RB.$("ERROR_UNEXPECTED"), cause);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new JarvizException(RB.$("ERROR_UNEXPECTED"), e);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        return results;
+    }
+
+    private static void acquire(Semaphore semaphore) {
+        try {
+            semaphore.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new JarvizException(RB.$("ERROR_UNEXPECTED"), e);
+        }
+    }
+
+    private static ExecutorFactory virtualThreadExecutorFactory() {
+        // Executors.newVirtualThreadPerTaskExecutor() is final in Java 21+, Java 19 and 20 expose it as
+        // a preview API that throws UnsupportedOperationException unless --enable-preview is set
+        if (Runtime.version().feature() < 21) return null;
+
+        try {
+            MethodHandle handle = MethodHandles.publicLookup()
+                .findStatic(Executors.class, "newVirtualThreadPerTaskExecutor", MethodType.methodType(ExecutorService.class));
+            return () -> {
+                try {
+                    return (ExecutorService) handle.invokeExact();
+                } catch (Throwable t) {
+                    throw new JarvizException(RB.$("ERROR_UNEXPECTED"), t);
+                }
+            };
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            return null;
+        }
+    }
+
+    private interface ExecutorFactory {
+        ExecutorService create();
+    }
+
+    private static class DaemonThreadFactory implements ThreadFactory {
+        private final AtomicInteger counter = new AtomicInteger();
+        private final String prefix;
+
+        private DaemonThreadFactory(String prefix) {
+            this.prefix = prefix;
+        }
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, prefix + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -0,0 +1,201 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2022-2023 The Jarviz authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kordamp.jarviz.core.model;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+import static java.util.Collections.unmodifiableList;
+import static java.util.Collections.unmodifiableMap;
+import static java.util.Collections.unmodifiableSet;
+
+/**
+ * Bytecode versions of a whole classpath.
+ * <p>
+ * JARs are added one at a time, histograms covering different JARs may be merged, thus a classpath can be split
+ * among several threads, each one filling its own histogram. Classes are counted per bytecode version and JARs
+ * per the highest bytecode version of their unversioned classes. Given a threshold, JARs containing classes
+ * that a runtime of that bytecode version cannot load are reported, including versioned classes it would pick.
+ *
+ * @author Andres Almiray
+ * @since 0.3.0
+ */
+public final class BytecodeHistogram {
+    private static final int JAVA_VERSION_OFFSET = 44;
+
+    private final BytecodeVersion threshold;
+    private final Map<BytecodeVersion, Long> classes = new TreeMap<>();
+    private final Map<BytecodeVersion, Integer> jarsByMaxBytecode = new TreeMap<>();
+    private final Map<Integer, Integer> multiReleaseJarsByJavaVersion = new TreeMap<>();
+    private final Set<String> maxBytecodeJars = new TreeSet<>();
+    private final Map<String, Offender> offenders = new TreeMap<>();
+    private BytecodeVersion maxBytecode;
+    private int jars;
+    private int multiReleaseJars;
+
+    /**
+     * @param threshold highest bytecode version supported by the target runtime, {@code null} to skip the check.
+     */
+    public BytecodeHistogram(BytecodeVersion threshold) {
+        this.threshold = null != threshold && !threshold.isEmpty() ? threshold : null;
+    }
+
+    public BytecodeVersion getThreshold() {
+        return threshold;
+    }
+
+    public void add(String jarName, BytecodeVersions bytecodeVersions) {
+        jars++;
+
+        BytecodeVersion jarMaxBytecode = null;
+        for (Map.Entry<BytecodeVersion, Integer> e : bytecodeVersions.getUnversionedClassCounts().entrySet()) {
+            BytecodeVersion bytecodeVersion = e.getKey();
+            classes.merge(bytecodeVersion, (long) e.getValue(), Long::sum);
+            if (null == jarMaxBytecode || bytecodeVersion.compareTo(jarMaxBytecode) > 0) jarMaxBytecode = bytecodeVersion;
+            if (isAboveThreshold(bytecodeVersion)) {
+                offender(jarName).add(e.getValue(), bytecodeVersions.getUnversionedClasses(bytecodeVersion));
+            }
+        }
+
+        Set<Integer> javaVersions = bytecodeVersions.getJavaVersionOfVersionedClasses();
+        if (!javaVersions.isEmpty()) multiReleaseJars++;
+        for (Integer javaVersion : javaVersions) {
+            multiReleaseJarsByJavaVersion.merge(javaVersion, 1, Integer::sum);
+            // versioned classes are only loaded by runtimes of the same or later Java version
+            if (null == threshold || javaVersion > threshold.getMajor() - JAVA_VERSION_OFFSET) continue;
+
+            for (Map.Entry<BytecodeVersion, Integer> e : bytecodeVersions.getVersionedClassCounts(javaVersion).entrySet()) {
+                if (isAboveThreshold(e.getKey())) {
+                    offender(jarName).add(e.getValue(), bytecodeVersions.getVersionedClasses(javaVersion, e.getKey()));
+                }
+            }
+        }
+
+        if (null != jarMaxBytecode) {
+            jarsByMaxBytecode.merge(jarMaxBytecode, 1, Integer::sum);
+            updateMaxBytecode(jarMaxBytecode, Set.of(jarName));
+        }
+    }
+
+    /**
+     * Adds the JARs of another histogram built with the same threshold.
+     */
+    public BytecodeHistogram merge(BytecodeHistogram other) {
+        jars += other.jars;
+        multiReleaseJars += other.multiReleaseJars;
+        other.classes.forEach((k, v) -> classes.merge(k, v, Long::sum));
+        other.jarsByMaxBytecode.forEach((k, v) -> jarsByMaxBytecode.merge(k, v, Integer::sum));
+        other.multiReleaseJarsByJavaVersion.forEach((k, v) -> multiReleaseJarsByJavaVersion.merge(k, v, Integer::sum));
+        if (null != other.maxBytecode) updateMaxBytecode(other.maxBytecode, other.maxBytecodeJars);
+        other.offenders.forEach((k, v) -> offender(k).add(v.classCount, v.classes));
+        return this;
+    }
+
+    public int getJarCount() {
+        return jars;
+    }
+
+    public int getMultiReleaseJarCount() {
+        return multiReleaseJars;
+    }
+
+    /**
+     * Highest bytecode version of all unversioned classes, {@code null} when no classes were found.
+     */
+    public BytecodeVersion getMaxBytecode() {
+        return maxBytecode;
+    }
+
+    /**
+     * Names of the JARs containing unversioned classes of the highest bytecode version, sorted.
+     */
+    public Set<String> getMaxBytecodeJars() {
+        return unmodifiableSet(maxBytecodeJars);
+    }
+
+    /**
+     * Number of unversioned classes per bytecode version.
+     */
+    public Map<BytecodeVersion, Long> getClassCounts() {
+        return unmodifiableMap(classes);
+    }
+
+    /**
+     * Number of JARs per highest bytecode version of their unversioned classes.
+     */
+    public Map<BytecodeVersion, Integer> getJarCountsByMaxBytecode() {
+        return unmodifiableMap(jarsByMaxBytecode);
+    }
+
+    /**
+     * Number of multi-release JARs providing versioned classes per Java version.
+     */
+    public Map<Integer, Integer> getMultiReleaseJarCounts() {
+        return unmodifiableMap(multiReleaseJarsByJavaVersion);
+    }
+
+    /**
+     * JARs containing classes above the threshold, keyed by JAR name.
+     */
+    public Map<String, Offender> getOffenders() {
+        return unmodifiableMap(offenders);
+    }
+
+    private boolean isAboveThreshold(BytecodeVersion bytecodeVersion) {
+        return null != threshold && bytecodeVersion.getMajor() > threshold.getMajor();
+    }
+
+    private Offender offender(String jarName) {
+        return offenders.computeIfAbsent(jarName, k -> new Offender());
+    }
+
+    private void updateMaxBytecode(BytecodeVersion bytecodeVersion, Collection<String> jarNames) {
+        int comparison = null == maxBytecode ? 1 : bytecodeVersion.compareTo(maxBytecode);
+        if (comparison > 0) {
+            maxBytecode = bytecodeVersion;
+            maxBytecodeJars.clear();
+        }
+        if (comparison >= 0) maxBytecodeJars.addAll(jarNames);
+    }
+
+    public static final class Offender {
+        private final List<String> classes = new ArrayList<>();
+        private int classCount;
+
+        private void add(int count, List<String> classNames) {
+            classCount += count;
+            classes.addAll(classNames);
+        }
+
+        public int getClassCount() {
+            return classCount;
+        }
+
+        /**
+         * Names of the offending classes, empty unless class names were collected.
+         */
+        public List<String> getClasses() {
+            return unmodifiableList(classes);
+        }
+    }
+}
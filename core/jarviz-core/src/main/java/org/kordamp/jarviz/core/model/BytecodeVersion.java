@@ -18,7 +18,9 @@
 package org.kordamp.jarviz.core.model;
 
 import java.util.Comparator;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static java.util.Comparator.comparingInt;
 
@@ -30,15 +32,36 @@ public class BytecodeVersion implements Comparable<BytecodeVersion> {
     private static final Comparator<BytecodeVersion> BYTECODE_VERSION_COMPARATOR = comparingInt(BytecodeVersion::getMajor)
         .thenComparing(BytecodeVersion::getMinor);
 
+    private static final int PREVIEW_MINOR = 65535;
+    // release and preview versions of every major version likely to be found in the wild
+    private static final BytecodeVersion[] RELEASES = new BytecodeVersion[256];
+    private static final BytecodeVersion[] PREVIEWS = new BytecodeVersion[256];
+    private static final Map<Long, BytecodeVersion> OTHERS = new ConcurrentHashMap<>();
+
+    static {
+        for (int major = 0; major < RELEASES.length; major++) {
+            RELEASES[major] = new BytecodeVersion(major, 0);
+            PREVIEWS[major] = new BytecodeVersion(major, PREVIEW_MINOR);
+        }
+    }
+
     private final int major;
     private final int minor;
 
     public static BytecodeVersion of(int major) {
-        return new BytecodeVersion(major, 0);
+        return of(major, 0);
     }
 
+    /**
+     * Returns a shared instance, only a handful of distinct versions exist.
+     */
     public static BytecodeVersion of(int major, int minor) {
-        return new BytecodeVersion(major, minor);
+        if (major >= 0 && major < RELEASES.length) {
+            if (0 == minor) return RELEASES[major];
+            if (PREVIEW_MINOR == minor) return PREVIEWS[major];
+        }
+
+        return OTHERS.computeIfAbsent(((long) major << 32) | (minor & 0xFFFFFFFFL), k -> new BytecodeVersion(major, minor));
     }
 
     private BytecodeVersion(int major, int minor) {
@@ -18,25 +18,50 @@
 package org.kordamp.jarviz.core.model;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.TreeSet;
 
+import static java.util.Collections.emptyList;
 import static java.util.Collections.emptyMap;
 import static java.util.Collections.unmodifiableList;
 import static java.util.Collections.unmodifiableMap;
 import static java.util.Collections.unmodifiableSet;
 
 /**
+ * Bytecode versions of the classes found in a JAR.
+ * <p>
+ * Class names are only kept when details are requested, otherwise classes are merely counted. Names are stored
+ * front coded per bytecode version, in the order they were added, and decoded when read.
+ *
  * @author Andres Almiray
  * @since 0.1.0
  */
 public class BytecodeVersions {
+    private static final String CLASS_SUFFIX = ".class";
+
+    private final boolean details;
     private final Set<BytecodeVersion> manifestBytecode = new TreeSet<>();
-    private final Map<BytecodeVersion, List<String>> unversionedClasses = new LinkedHashMap<>();
-    private final Map<Integer, Map<BytecodeVersion, List<String>>> versionedClasses = new LinkedHashMap<>();
+    private final Map<BytecodeVersion, ClassNames> unversionedClasses = new LinkedHashMap<>();
+    private final Map<Integer, Map<BytecodeVersion, ClassNames>> versionedClasses = new LinkedHashMap<>();
+
+    public BytecodeVersions() {
+        this(true);
+    }
+
+    public BytecodeVersions(boolean details) {
+        this.details = details;
+    }
+
+    /**
+     * Whether class names are kept. Only class counts are available otherwise.
+     */
+    public boolean isDetails() {
+        return details;
+    }
 
     public Set<BytecodeVersion> getManifestBytecode() {
         return unmodifiableSet(manifestBytecode);
@@ -48,39 +73,175 @@ public class BytecodeVersions {
     }
 
     public void addUnversionedClass(BytecodeVersion bytecodeVersion, String className) {
-        unversionedClasses.computeIfAbsent(bytecodeVersion, k -> new ArrayList<>())
-            .add(className);
+        unversioned(bytecodeVersion).add(className, 0, className.length());
     }
 
     public void addVersionedClass(Integer javaVersion, BytecodeVersion bytecodeVersion, String className) {
-        versionedClasses.computeIfAbsent(javaVersion, k -> new LinkedHashMap<>())
-            .computeIfAbsent(bytecodeVersion, k -> new ArrayList<>())
-            .add(className);
+        versioned(javaVersion, bytecodeVersion).add(className, 0, className.length());
+    }
+
+    /**
+     * Adds the class stored in the given entry, i.e. {@code com/acme/Foo$Bar.class} for {@code com.acme.Foo.Bar}.
+     */
+    public void addUnversionedEntry(BytecodeVersion bytecodeVersion, String entryName) {
+        unversioned(bytecodeVersion).add(entryName, 0, entryName.length() - CLASS_SUFFIX.length());
+    }
+
+    /**
+     * Adds the class stored in the given entry, its name starting at {@code offset}, i.e. {@code 21} for
+     * {@code META-INF/versions/11/com/acme/Foo.class}.
+     */
+    public void addVersionedEntry(Integer javaVersion, BytecodeVersion bytecodeVersion, String entryName, int offset) {
+        versioned(javaVersion, bytecodeVersion).add(entryName, offset, entryName.length() - CLASS_SUFFIX.length());
+    }
+
+    /**
+     * Adds classes without names. Only valid when details are not kept.
+     */
+    public void addUnversionedClasses(BytecodeVersion bytecodeVersion, int count) {
+        checkCountsOnly();
+        unversioned(bytecodeVersion).count += count;
+    }
+
+    /**
+     * Adds classes without names. Only valid when details are not kept.
+     */
+    public void addVersionedClasses(Integer javaVersion, BytecodeVersion bytecodeVersion, int count) {
+        checkCountsOnly();
+        versioned(javaVersion, bytecodeVersion).count += count;
     }
 
     public Set<BytecodeVersion> getBytecodeOfUnversionedClasses() {
         return unmodifiableSet(new TreeSet<>(unversionedClasses.keySet()));
     }
 
+    public Map<BytecodeVersion, Integer> getUnversionedClassCounts() {
+        return counts(unversionedClasses);
+    }
+
+    /**
+     * Names of unversioned classes, empty when details are not kept.
+     */
+    public List<String> getUnversionedClasses(BytecodeVersion bytecodeVersion) {
+        ClassNames classNames = unversionedClasses.get(bytecodeVersion);
+        return null != classNames ? classNames.toList() : emptyList();
+    }
+
     public Map<BytecodeVersion, List<String>> getUnversionedClasses() {
-        Map<BytecodeVersion, List<String>> tmp = new LinkedHashMap<>();
-        for (Map.Entry<BytecodeVersion, List<String>> entry : unversionedClasses.entrySet()) {
-            tmp.put(entry.getKey(), unmodifiableList(entry.getValue()));
-        }
-        return unmodifiableMap(tmp);
+        return names(unversionedClasses);
     }
 
     public Set<Integer> getJavaVersionOfVersionedClasses() {
         return unmodifiableSet(new TreeSet<>(versionedClasses.keySet()));
     }
 
+    public Map<BytecodeVersion, Integer> getVersionedClassCounts(Integer javaVersion) {
+        if (!versionedClasses.containsKey(javaVersion)) return emptyMap();
+        return counts(versionedClasses.get(javaVersion));
+    }
+
+    /**
+     * Names of versioned classes, empty when details are not kept.
+     */
+    public List<String> getVersionedClasses(Integer javaVersion, BytecodeVersion bytecodeVersion) {
+        ClassNames classNames = versionedClasses.getOrDefault(javaVersion, emptyMap()).get(bytecodeVersion);
+        return null != classNames ? classNames.toList() : emptyList();
+    }
+
     public Map<BytecodeVersion, List<String>> getVersionedClasses(Integer javaVersion) {
         if (!versionedClasses.containsKey(javaVersion)) return emptyMap();
+        return names(versionedClasses.get(javaVersion));
+    }
+
+    private ClassNames unversioned(BytecodeVersion bytecodeVersion) {
+        return unversionedClasses.computeIfAbsent(bytecodeVersion, k -> new ClassNames(details));
+    }
+
+    private ClassNames versioned(Integer javaVersion, BytecodeVersion bytecodeVersion) {
+        return versionedClasses.computeIfAbsent(javaVersion, k -> new LinkedHashMap<>())
+            .computeIfAbsent(bytecodeVersion, k -> new ClassNames(details));
+    }
+
+    private void checkCountsOnly() {
+        if (details) throw new IllegalStateException("Class names are required");
+    }
 
-        LinkedHashMap<BytecodeVersion, List<String>> tmp = new LinkedHashMap<>();
-        for (Map.Entry<BytecodeVersion, List<String>> entry : versionedClasses.get(javaVersion).entrySet()) {
-            tmp.put(entry.getKey(), unmodifiableList(entry.getValue()));
+    private static Map<BytecodeVersion, Integer> counts(Map<BytecodeVersion, ClassNames> classes) {
+        Map<BytecodeVersion, Integer> tmp = new LinkedHashMap<>();
+        for (Map.Entry<BytecodeVersion, ClassNames> entry : classes.entrySet()) {
+            tmp.put(entry.getKey(), entry.getValue().count);
         }
         return unmodifiableMap(tmp);
     }
+
+    private static Map<BytecodeVersion, List<String>> names(Map<BytecodeVersion, ClassNames> classes) {
+        Map<BytecodeVersion, List<String>> tmp = new LinkedHashMap<>();
+        for (Map.Entry<BytecodeVersion, ClassNames> entry : classes.entrySet()) {
+            tmp.put(entry.getKey(), entry.getValue().toList());
+        }
+        return unmodifiableMap(tmp);
+    }
+
+    /**
+     * Class names, each one stored as the length of the prefix it shares with the previous name, the length of
+     * the remaining suffix, and the suffix itself. Entry names are converted to class names while being stored.
+     */
+    private static final class ClassNames {
+        private int count;
+        private char[] buffer;
+        private int size;
+        private char[] previous;
+        private int previousLength;
+
+        private ClassNames(boolean details) {
+            if (details) {
+                buffer = new char[256];
+                previous = new char[64];
+            }
+        }
+
+        private void add(String name, int start, int end) {
+            count++;
+            if (null == buffer) return;
+
+            int length = end - start;
+            if (previous.length < length) previous = Arrays.copyOf(previous, Math.max(length, previous.length * 2));
+
+            int prefix = 0;
+            int max = Math.min(length, previousLength);
+            while (prefix < max && previous[prefix] == toClassNameChar(name.charAt(start + prefix))) prefix++;
+
+            int required = size + 2 + length - prefix;
+            if (buffer.length < required) buffer = Arrays.copyOf(buffer, Math.max(required, buffer.length * 2));
+
+            buffer[size++] = (char) prefix;
+            buffer[size++] = (char) (length - prefix);
+            for (int i = prefix; i < length; i++) {
+                char c = toClassNameChar(name.charAt(start + i));
+                buffer[size++] = c;
+                previous[i] = c;
+            }
+            previousLength = length;
+        }
+
+        private List<String> toList() {
+            if (null == buffer) return emptyList();
+
+            List<String> names = new ArrayList<>(count);
+            char[] name = new char[previous.length];
+            int position = 0;
+            while (position < size) {
+                int prefix = buffer[position++];
+                int suffix = buffer[position++];
+                System.arraycopy(buffer, position, name, prefix, suffix);
+                position += suffix;
+                names.add(new String(name, 0, prefix + suffix));
+            }
+            return unmodifiableList(names);
+        }
+
+        private static char toClassNameChar(char c) {
+            return c == '/' || c == '\\' || c == '$' ? '.' : c;
+        }
+    }
 }
@@ -0,0 +1,83 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2022-2023 The Jarviz authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kordamp.jarviz.core.model;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+import static java.util.Collections.unmodifiableList;
+
+/**
+ * Sorted table of the entry names of a JAR.
+ * <p>
+ * Built once per JAR from its central directory and kept in the result cache, exact name lookups are then
+ * answered with a binary search instead of a scan over all entries. Names sharing a prefix are contiguous,
+ * they can be visited without looking at any other entry.
+ *
+ * @author Andres Almiray
+ * @since 0.3.0
+ */
+public final class EntryIndex {
+    private final String[] names;
+
+    private EntryIndex(String[] names) {
+        this.names = names;
+    }
+
+    public static EntryIndex of(Collection<String> names) {
+        String[] sorted = names.toArray(new String[0]);
+        Arrays.sort(sorted);
+
+        // duplicate entries are legal in a ZIP file, though rare
+        int size = 0;
+        for (int i = 0; i < sorted.length; i++) {
+            if (size == 0 || !sorted[i].equals(sorted[size - 1])) sorted[size++] = sorted[i];
+        }
+
+        return new EntryIndex(size == sorted.length ? sorted : Arrays.copyOf(sorted, size));
+    }
+
+    public int size() {
+        return names.length;
+    }
+
+    public boolean contains(String name) {
+        return Arrays.binarySearch(names, name) >= 0;
+    }
+
+    /**
+     * All names, sorted.
+     */
+    public List<String> getNames() {
+        return unmodifiableList(Arrays.asList(names));
+    }
+
+    /**
+     * All names starting with the given prefix, sorted.
+     */
+    public List<String> getNames(String prefix) {
+        int from = Arrays.binarySearch(names, prefix);
+        if (from < 0) from = -from - 1;
+
+        int to = from;
+        while (to < names.length && names[to].startsWith(prefix)) to++;
+
+        return getNames().subList(from, to);
+    }
+}
@@ -0,0 +1,206 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2022-2023 The Jarviz authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kordamp.jarviz.core.model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * Packages of a set of JARs.
+ * <p>
+ * Package names are interned into a dictionary of int ids. A package contained by a single JAR only records
+ * the slot of that JAR, a package shared by several JARs keeps their slots as a bitset; split packages are
+ * thus those with a bitset.
+ * <p>
+ * JARs are identified by a key of the caller's choosing. They may be removed and added again, an index built
+ * on a previous run can thus be updated with the JARs that changed since.
+ *
+ * @author Andres Almiray
+ * @since 0.3.0
+ */
+public final class PackageIndex {
+    private static final int NONE = -1;
+    private static final int SHARED = -2;
+
+    private final Map<String, Integer> packageIds = new HashMap<>();
+    private final List<String> packages = new ArrayList<>();
+    // slot of the only JAR containing a package, most packages are never shared
+    private int[] owners = new int[64];
+    private final Map<Integer, BitSet> sharedPackages = new HashMap<>();
+    private final Map<String, Integer> jarSlots = new HashMap<>();
+    private final List<String> jars = new ArrayList<>();
+    private final BitSet freeSlots = new BitSet();
+
+    /**
+     * Adds a JAR with its packages, replacing the packages of a JAR previously added with the same key.
+     *
+     * @return the slot of the JAR.
+     */
+    public int addJar(String key, Collection<String> packageNames) {
+        removeJar(key);
+
+        int slot = freeSlots.nextSetBit(0);
+        if (slot != -1) {
+            freeSlots.clear(slot);
+            jars.set(slot, key);
+        } else {
+            slot = jars.size();
+            jars.add(key);
+        }
+        jarSlots.put(key, slot);
+
+        for (String packageName : packageNames) {
+            add(intern(packageName), slot);
+        }
+
+        return slot;
+    }
+
+    public boolean removeJar(String key) {
+        Integer slot = jarSlots.remove(key);
+        if (null == slot) return false;
+
+        for (int id = 0; id < packages.size(); id++) {
+            if (owners[id] == slot) {
+                owners[id] = NONE;
+            } else if (owners[id] == SHARED) {
+                BitSet bits = sharedPackages.get(id);
+                bits.clear(slot);
+                if (bits.cardinality() == 1) {
+                    owners[id] = bits.nextSetBit(0);
+                    sharedPackages.remove(id);
+                }
+            }
+        }
+        jars.set(slot, null);
+        freeSlots.set(slot);
+        return true;
+    }
+
+    public boolean containsJar(String key) {
+        return jarSlots.containsKey(key);
+    }
+
+    /**
+     * Keys of all JARs, sorted.
+     */
+    public Set<String> getJars() {
+        return new TreeSet<>(jarSlots.keySet());
+    }
+
+    /**
+     * Keys of the JARs containing the given package, sorted.
+     */
+    public Set<String> getJars(String packageName) {
+        Set<String> result = new TreeSet<>();
+        Integer id = packageIds.get(packageName);
+        if (null == id || owners[id] == NONE) return result;
+
+        if (owners[id] != SHARED) {
+            result.add(jars.get(owners[id]));
+            return result;
+        }
+
+        BitSet bits = sharedPackages.get(id);
+        for (int slot = bits.nextSetBit(0); slot != -1; slot = bits.nextSetBit(slot + 1)) {
+            result.add(jars.get(slot));
+        }
+
+        return result;
+    }
+
+    /**
+     * Names of all packages contained by at least one JAR, sorted.
+     */
+    public Set<String> getPackages() {
+        Set<String> result = new TreeSet<>();
+        for (int id = 0; id < packages.size(); id++) {
+            if (owners[id] != NONE) result.add(packages.get(id));
+        }
+        return result;
+    }
+
+    /**
+     * Packages of the given JAR, sorted.
+     */
+    public Set<String> getPackages(String key) {
+        Set<String> result = new TreeSet<>();
+        Integer slot = jarSlots.get(key);
+        if (null == slot) return result;
+
+        for (int id = 0; id < packages.size(); id++) {
+            if (owners[id] == slot || owners[id] == SHARED && sharedPackages.get(id).get(slot)) {
+                result.add(packages.get(id));
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Split packages of every JAR that has any, keyed by JAR.
+     */
+    public Map<String, Set<String>> getSplitPackages() {
+        Map<String, Set<String>> split = new TreeMap<>();
+
+        for (Map.Entry<Integer, BitSet> e : sharedPackages.entrySet()) {
+            String packageName = packages.get(e.getKey());
+            BitSet bits = e.getValue();
+            for (int slot = bits.nextSetBit(0); slot != -1; slot = bits.nextSetBit(slot + 1)) {
+                split.computeIfAbsent(jars.get(slot), k -> new TreeSet<>()).add(packageName);
+            }
+        }
+
+        return split;
+    }
+
+    private void add(int id, int slot) {
+        int owner = owners[id];
+        if (owner == NONE) {
+            owners[id] = slot;
+        } else if (owner == SHARED) {
+            sharedPackages.get(id).set(slot);
+        } else if (owner != slot) {
+            BitSet bits = new BitSet();
+            bits.set(owner);
+            bits.set(slot);
+            sharedPackages.put(id, bits);
+            owners[id] = SHARED;
+        }
+    }
+
+    private int intern(String packageName) {
+        Integer id = packageIds.get(packageName);
+        if (null != id) return id;
+
+        id = packages.size();
+        packageIds.put(packageName, id);
+        packages.add(packageName);
+        if (id == owners.length) owners = Arrays.copyOf(owners, id * 2);
+        owners[id] = NONE;
+        return id;
+    }
+}
@@ -0,0 +1,158 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2022-2023 The Jarviz authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kordamp.jarviz.core.processors;
+
+import org.kordamp.jarviz.core.analyzers.EntryIndexJarContentAnalyzer;
+import org.kordamp.jarviz.core.analyzers.JarAnalyzer;
+import org.kordamp.jarviz.core.cache.ResultCache;
+import org.kordamp.jarviz.core.cache.ResultCodec;
+import org.kordamp.jarviz.core.cache.ResultCodecs;
+import org.kordamp.jarviz.core.internal.ParallelExecution;
+import org.kordamp.jarviz.core.model.EntryIndex;
+import org.kordamp.jarviz.core.resolvers.JarFileResolver;
+import org.kordamp.jarviz.core.scanner.JarScanner;
+import org.kordamp.jarviz.util.CentralDirectory;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+
+/**
+ * @author Andres Almiray
+ * @since 0.3.0
+ */
+public abstract class AbstractJarProcessor<R> implements JarProcessor<R> {
+    private static final String ENTRY_INDEX = "entryIndex";
+
+    protected final JarFileResolver jarFileResolver;
+    private int parallelism = 1;
+    private ResultCache resultCache;
+
+    protected AbstractJarProcessor(JarFileResolver jarFileResolver) {
+        this.jarFileResolver = jarFileResolver;
+    }
+
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    public void setParallelism(int parallelism) {
+        this.parallelism = Math.max(1, parallelism);
+    }
+
+    public ResultCache getResultCache() {
+        return resultCache;
+    }
+
+    public void setResultCache(ResultCache resultCache) {
+        this.resultCache = resultCache;
+    }
+
+    protected JarScanner createJarScanner() {
+        return new JarScanner(jarFileResolver)
+            .withParallelism(parallelism)
+            .withResultCache(resultCache);
+    }
+
+    /**
+     * Scans every resolved JAR with a single cacheable analyzer.
+     */
+    protected <T> Set<JarFileResult<T>> scan(Supplier<? extends JarAnalyzer<T>> analyzer, ResultCodec<T> codec) {
+        String name = "default";
+        return createJarScanner()
+            .register(name, analyzer, codec)
+            .scan()
+            .getResults(name);
+    }
+
+    /**
+     * Applies {@code processor} to every resolved JAR, using up to {@link #getParallelism()} threads.
+     * A {@code null} result skips the given JAR. Results are sorted by JAR file name.
+     */
+    protected Set<JarFileResult<R>> processJarFiles(Function<JarFile, JarFileResult<R>> processor) {
+        Set<JarFileResult<R>> set = new TreeSet<>();
+
+        for (JarFileResult<R> result : ParallelExecution.map(jarFileResolver.resolveJarFiles(), parallelism, processor)) {
+            if (null != result) set.add(result);
+        }
+
+        return set;
+    }
+
+    /**
+     * Like {@link #processJarFiles(Function)} but results are stored in and retrieved from the
+     * configured {@link ResultCache}, if any, under the key computed by {@code cacheKey}.
+     */
+    protected Set<JarFileResult<R>> processJarFiles(Function<JarFile, String> cacheKey, ResultCodec<R> codec, Function<JarFile, JarFileResult<R>> processor) {
+        if (null == resultCache) return processJarFiles(processor);
+
+        return processJarFiles(jarFile -> JarFileResult.of(jarFile,
+            resultCache.computeIfAbsent(jarFile, cacheKey.apply(jarFile), codec, () -> processor.apply(jarFile).getResult())));
+    }
+
+    /**
+     * Looks up an entry by its exact name. When a {@link ResultCache} is configured JARs are probed through
+     * their cached {@link EntryIndex} first, otherwise straight through the hash table kept by {@code JarFile}.
+     */
+    protected Optional<JarEntry> findJarEntry(JarFile jarFile, String name) {
+        if (null == name) return Optional.empty();
+        if (null != resultCache && !entryIndex(jarFile).contains(name)) return Optional.empty();
+
+        // a name without a trailing slash also matches a directory entry
+        JarEntry entry = jarFile.getJarEntry(name);
+        return null != entry && entry.getName().equals(name) ? Optional.of(entry) : Optional.empty();
+    }
+
+    protected EntryIndex entryIndex(JarFile jarFile) {
+        return (EntryIndex) createJarScanner()
+            .register(ENTRY_INDEX, EntryIndexJarContentAnalyzer::new, ResultCodecs.ENTRY_INDEX)
+            .scan(jarFile)
+            .get(ENTRY_INDEX);
+    }
+
+    /**
+     * Names of all entries starting with {@code prefix}, in no particular order. The cached {@link EntryIndex}
+     * is used when a {@link ResultCache} is configured, otherwise names are read from the central directory.
+     */
+    protected List<String> entryNames(JarFile jarFile, String prefix) {
+        if (null != resultCache) return entryIndex(jarFile).getNames(prefix);
+
+        List<String> names = new ArrayList<>();
+        try {
+            CentralDirectory.read(Path.of(jarFile.getName())).forEach(entryName -> {
+                if (entryName.startsWith(prefix)) names.add(entryName.toString());
+            });
+        } catch (IOException e) {
+            // let JarFile deal with whatever the central directory reader could not handle
+            names.clear();
+            jarFile.stream()
+                .map(JarEntry::getName)
+                .filter(name -> name.startsWith(prefix))
+                .forEach(names::add);
+        }
+        return names;
+    }
+}
@@ -18,96 +18,69 @@
 package org.kordamp.jarviz.core.processors;
 
 import org.kordamp.jarviz.core.JarvizException;
-import org.kordamp.jarviz.core.analyzers.QueryJarManifestAnalyzer;
+import org.kordamp.jarviz.core.analyzers.BytecodeVersionCountsJarContentAnalyzer;
+import org.kordamp.jarviz.core.analyzers.BytecodeVersionsJarContentAnalyzer;
+import org.kordamp.jarviz.core.cache.ResultCodecs;
+import org.kordamp.jarviz.core.internal.ParallelExecution;
+import org.kordamp.jarviz.core.model.BytecodeHistogram;
 import org.kordamp.jarviz.core.model.BytecodeVersion;
 import org.kordamp.jarviz.core.model.BytecodeVersions;
 import org.kordamp.jarviz.core.resolvers.JarFileResolver;
-import org.kordamp.jarviz.util.JarUtils;
+import org.kordamp.jarviz.core.scanner.JarScanner;
 
-import java.util.Enumeration;
-import java.util.Optional;
+import java.nio.file.Path;
 import java.util.Set;
-import java.util.TreeSet;
-import java.util.jar.JarEntry;
-import java.util.jar.JarFile;
-import java.util.jar.Manifest;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
-
-import static java.util.Arrays.stream;
-import static org.kordamp.jarviz.core.internal.Constants.ATTR_BYTECODE_VERSION;
-import static org.kordamp.jarviz.util.JarUtils.readBytecodeVersion;
 
 /**
  * @author Andres Almiray
  * @since 0.1.0
  */
-public class BytecodeShowJarProcessor implements JarProcessor<BytecodeVersions> {
-    private static final Pattern MULTIRELEASE = Pattern.compile("META-INF/versions/(\\d+)/(.*\\.class)");
+public class BytecodeShowJarProcessor extends AbstractJarProcessor<BytecodeVersions> {
+    private static final String BYTECODE = "bytecode";
 
-    private final JarFileResolver jarFileResolver;
+    private boolean details = true;
 
     public BytecodeShowJarProcessor(JarFileResolver jarFileResolver) {
-        this.jarFileResolver = jarFileResolver;
+        super(jarFileResolver);
     }
 
-    @Override
-    public Set<JarFileResult<BytecodeVersions>> getResult() throws JarvizException {
-        Set<JarFileResult<BytecodeVersions>> set = new TreeSet<>();
-
-        for (JarFile jarFile : jarFileResolver.resolveJarFiles()) {
-            set.add(processJarFile(jarFile));
-        }
-
-        return set;
+    public boolean isDetails() {
+        return details;
     }
 
-    private JarFileResult<BytecodeVersions> processJarFile(JarFile jarFile) {
-        BytecodeVersions bytecodeVersions = new BytecodeVersions();
-        Optional<Manifest> manifest = JarUtils.getManifest(jarFile);
+    /**
+     * Whether class names should be collected, classes are only counted otherwise.
+     */
+    public void setDetails(boolean details) {
+        this.details = details;
+    }
 
-        if (manifest.isPresent()) {
-            QueryJarManifestAnalyzer analyzer = new QueryJarManifestAnalyzer(ATTR_BYTECODE_VERSION);
-            analyzer.handle(jarFile, manifest.get());
-            analyzer.getResult().ifPresent(v -> {
-                Set<BytecodeVersion> set = new TreeSet<>();
-                stream(v.split(","))
-                    .map(Integer::parseInt)
-                    .map(BytecodeVersion::of)
-                    .forEach(set::add);
-                bytecodeVersions.setManifestBytecode(set);
-            });
-        }
+    @Override
+    public Set<JarFileResult<BytecodeVersions>> getResult() throws JarvizException {
+        return register(createJarScanner())
+            .scan()
+            .getResults(BYTECODE);
+    }
 
-        Enumeration<JarEntry> entries = jarFile.entries();
-        while (entries.hasMoreElements()) {
-            JarEntry entry = entries.nextElement();
-            String entryName = entry.getName();
-            if (!entryName.endsWith(".class")) continue;
+    /**
+     * Merges the bytecode versions of every resolved JAR into a single histogram. The results of a JAR are
+     * added to the histogram of the thread that scanned it and discarded right away.
+     *
+     * @param threshold highest bytecode version supported by the target runtime, may be {@code null}.
+     */
+    public BytecodeHistogram getHistogram(BytecodeVersion threshold) throws JarvizException {
+        JarScanner scanner = register(createJarScanner());
+        return ParallelExecution.reduce(jarFileResolver.resolveJarFiles(), getParallelism(),
+            () -> new BytecodeHistogram(threshold),
+            (histogram, jarFile) -> histogram.add(Path.of(jarFile.getName()).getFileName().toString(),
+                (BytecodeVersions) scanner.scan(jarFile).get(BYTECODE)),
+            BytecodeHistogram::merge);
+    }
 
-            BytecodeVersion bytecodeVersion = readBytecodeVersion(jarFile, entry);
-            Matcher matcher = MULTIRELEASE.matcher(entryName);
-            if (matcher.matches()) {
-                // TODO: Report only if JAR is multi-release?
-                if (jarFile.isMultiRelease()) {
-                    Integer javaVersion = Integer.parseInt(matcher.group(1));
-                    String className = matcher.group(2)
-                        .replace('/', '.')
-                        .replace('\\', '.')
-                        .replace('$', '.');
-                    className = className.substring(0, className.length() - 6);
-                    bytecodeVersions.addVersionedClass(javaVersion, bytecodeVersion, className);
-                }
-            } else {
-                String className = entryName
-                    .replace('/', '.')
-                    .replace('\\', '.')
-                    .replace('$', '.');
-                className = className.substring(0, className.length() - 6);
-                bytecodeVersions.addUnversionedClass(bytecodeVersion, className);
-            }
+    private JarScanner register(JarScanner scanner) {
+        if (!details) {
+            return scanner.register(BYTECODE, BytecodeVersionCountsJarContentAnalyzer::new, ResultCodecs.BYTECODE_VERSION_COUNTS);
         }
-
-        return JarFileResult.of(jarFile, bytecodeVersions);
+        return scanner.register(BYTECODE, BytecodeVersionsJarContentAnalyzer::new, ResultCodecs.BYTECODE_VERSIONS);
     }
 }
@@ -19,22 +19,21 @@ package org.kordamp.jarviz.core.processors;
 
 import org.kordamp.jarviz.bundle.RB;
 import org.kordamp.jarviz.core.JarvizException;
+import org.kordamp.jarviz.core.internal.JarMetadataRegistry;
+import org.kordamp.jarviz.core.internal.ParallelExecution;
 import org.kordamp.jarviz.core.model.Checksum;
 import org.kordamp.jarviz.core.model.Gav;
 import org.kordamp.jarviz.core.model.GavAware;
 import org.kordamp.jarviz.core.resolvers.JarFileResolver;
+import org.kordamp.jarviz.core.resolvers.Repositories;
 import org.kordamp.jarviz.util.Algorithm;
-import org.kordamp.jarviz.util.ChecksumUtils;
 
-import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.InputStream;
-import java.net.MalformedURLException;
-import java.net.URI;
-import java.net.URISyntaxException;
-import java.net.URL;
-import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Properties;
 import java.util.Set;
@@ -44,48 +43,107 @@ import java.util.jar.JarFile;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
-import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static java.util.stream.Collectors.toSet;
 
 /**
+ * Verifies JARs against the checksums published next to them in a Maven repository.
+ * <p>
+ * Coordinates are read from each JAR's Maven metadata, then all remote checksum files are fetched into memory from
+ * the first of {@link #getRepositories()} that publishes them, with up to {@link #getMaxConnections()} concurrent
+ * requests, while local digests are computed with a single read per JAR, using up to {@link #getParallelism()} threads.
+ *
  * @author Andres Almiray
  * @since 0.3.0
  */
-public class ChecksumJarProcessor implements JarProcessor<Set<Checksum>> {
+public class ChecksumJarProcessor extends AbstractJarProcessor<Set<Checksum>> {
     private static final Pattern CHECKSUM = Pattern.compile("^([a-fA-F0-9]+).*$");
 
     private static final String MAVEN_METADATA = "META-INF/maven/";
-    private final JarFileResolver jarFileResolver;
+
+    private JarMetadataRegistry jarMetadata = new JarMetadataRegistry();
+    private Repositories repositories = Repositories.mavenCentral();
+    private int maxConnections = 8;
 
     public ChecksumJarProcessor(JarFileResolver jarFileResolver) {
-        this.jarFileResolver = jarFileResolver;
+        super(jarFileResolver);
+    }
+
+    public JarMetadataRegistry getJarMetadata() {
+        return jarMetadata;
+    }
+
+    public void setJarMetadata(JarMetadataRegistry jarMetadata) {
+        this.jarMetadata = jarMetadata;
+    }
+
+    public Repositories getRepositories() {
+        return repositories;
+    }
+
+    /**
+     * Repositories publishing the checksums, tried in order. Defaults to Maven Central.
+     */
+    public void setRepositories(Repositories repositories) {
+        this.repositories = repositories;
+    }
+
+    public int getMaxConnections() {
+        return maxConnections;
+    }
+
+    public void setMaxConnections(int maxConnections) {
+        this.maxConnections = Math.max(1, maxConnections);
     }
 
     @Override
     public Set<JarFileResult<Set<Checksum>>> getResult() throws JarvizException {
-        Set<JarFileResult<Set<Checksum>>> set = new TreeSet<>();
-
-        Set<JarFile> jarFiles = jarFileResolver.resolveJarFiles();
+        List<JarFile> jarFiles = new ArrayList<>(jarFileResolver.resolveJarFiles());
+        List<Optional<Gav>> gavs = ParallelExecution.map(jarFiles, getParallelism(), this::findGav);
+
+        List<JarFile> candidates = new ArrayList<>();
+        List<String> paths = new ArrayList<>();
+        for (int i = 0; i < jarFiles.size(); i++) {
+            if (gavs.get(i).isEmpty()) continue;
+
+            String path = artifactPath(gavs.get(i).get());
+            candidates.add(jarFiles.get(i));
+            for (Algorithm algorithm : Algorithm.values()) {
+                paths.add(path + algorithm.extension());
+            }
+        }
 
-        for (JarFile jarFile : jarFiles) {
-            try (jarFile) {
-                if (jarFile instanceof GavAware) {
-                    checksum(jarFile, ((GavAware) jarFile).getGav(), set);
-                } else {
-                    Set<JarEntry> candidates = jarFile.stream()
-                        .filter(entry -> entry.getName().endsWith(".properties") && entry.getName().startsWith(MAVEN_METADATA))
-                        .collect(toSet());
+        // remote checksums are tiny, network latency dominates
+        List<Optional<String>> remote = ParallelExecution.mapBlocking(paths, maxConnections, this::fetch);
+        // compute all local checksums with a single read, reports reuse them afterwards
+        List<Map<Algorithm, String>> local = ParallelExecution.map(candidates, getParallelism(),
+            jarFile -> jarMetadata.checksums(Path.of(jarFile.getName()), Algorithm.values()));
 
-                    findGav(jarFile, candidates).ifPresent(gav -> checksum(jarFile, gav, set));
-                }
-            } catch (IOException e) {
-                throw new JarvizException(RB.$("ERROR_OPENING_JAR", jarFile.getName()));
+        Set<JarFileResult<Set<Checksum>>> set = new TreeSet<>();
+        int index = 0;
+        for (int i = 0; i < candidates.size(); i++) {
+            Set<Checksum> checksums = new TreeSet<>();
+            for (Algorithm algorithm : Algorithm.values()) {
+                checksums.add(check(algorithm, local.get(i).get(algorithm), remote.get(index++)));
             }
+            set.add(JarFileResult.of(candidates.get(i), checksums));
         }
 
         return set;
     }
 
+    private Optional<Gav> findGav(JarFile jarFile) {
+        if (jarFile instanceof GavAware) {
+            return Optional.of(((GavAware) jarFile).getGav());
+        }
+
+        Set<JarEntry> candidates = jarFile.stream()
+            .filter(entry -> entry.getName().endsWith(".properties") && entry.getName().startsWith(MAVEN_METADATA))
+            .collect(toSet());
+
+        return findGav(jarFile, candidates);
+    }
+
     private Optional<Gav> findGav(JarFile jarFile, Set<JarEntry> candidates) {
         String fileName = Path.of(jarFile.getName()).getFileName().toString();
         fileName = fileName.substring(0, fileName.length() - 4);
@@ -107,57 +165,24 @@ public class ChecksumJarProcessor implements JarProcessor<Set<Checksum>> {
         return Optional.empty();
     }
 
-    private void checksum(JarFile jarFile, Gav gav, Set<JarFileResult<Set<Checksum>>> set) {
+    private String artifactPath(Gav gav) {
         String groupId = gav.getGroupId().replace(".", "/");
         String artifactId = gav.getArtifactId();
         String version = gav.getVersion();
 
         String filename = artifactId + "-" + version + ".jar";
-        String baseUrl = "https://repo1.maven.org/maven2/" + groupId + "/" + artifactId + "/" + version + "/" + filename;
-
-        Set<Checksum> checksums = new TreeSet<>();
-        for (Algorithm algorithm : Algorithm.values()) {
-            checksums.add(check(jarFile, algorithm, baseUrl));
-        }
-
-        set.add(JarFileResult.of(jarFile, checksums));
+        return groupId + "/" + artifactId + "/" + version + "/" + filename;
     }
 
-    private Checksum check(JarFile jarFile, Algorithm algorithm, String baseUrl) {
-        String str = baseUrl + algorithm.extension();
-
-        URL url = null;
-        try {
-            url = new URI(str).toURL();
-        } catch (URISyntaxException | MalformedURLException e) {
-            throw new JarvizException(RB.$("ERROR_INVALID_URL", str));
-        }
-
-        Path localJar = Path.of(jarFile.getName());
-        Path remoteJar = null;
-
-        try {
-            remoteJar = Files.createTempFile(localJar.getFileName().toString(), algorithm.toString());
-        } catch (IOException e) {
-            throw new JarvizException(RB.$("ERROR_UNEXPECTED"), e);
-        }
-
-        try (InputStream stream = url.openStream()) {
-            Files.copy(stream, remoteJar, REPLACE_EXISTING);
-        } catch (FileNotFoundException ignored) {
-            return Checksum.unavailable(algorithm);
-        } catch (IOException e) {
-            throw new JarvizException(RB.$("ERROR_DOWNLOADING_URL", url), e);
-        }
+    private Optional<String> fetch(String path) {
+        return repositories.fetch(path)
+            .map(bytes -> new String(bytes, UTF_8));
+    }
 
-        try {
-            String localChecksum = ChecksumUtils.checksum(algorithm, localJar);
-            String remoteChecksum = sanitize(new String(Files.readAllBytes(remoteJar)).trim());
+    private Checksum check(Algorithm algorithm, String localChecksum, Optional<String> remoteChecksum) {
+        if (remoteChecksum.isEmpty()) return Checksum.unavailable(algorithm);
 
-            return localChecksum.equals(remoteChecksum) ? Checksum.success(algorithm) : Checksum.failure(algorithm);
-        } catch (IOException e) {
-            throw new JarvizException(RB.$("ERROR_UNEXPECTED"), e);
-        }
+        return localChecksum.equals(sanitize(remoteChecksum.get().trim())) ? Checksum.success(algorithm) : Checksum.failure(algorithm);
     }
 
     private String sanitize(String input) {
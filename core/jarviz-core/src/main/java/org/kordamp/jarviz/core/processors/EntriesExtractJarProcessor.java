@@ -17,27 +17,25 @@
  */
 package org.kordamp.jarviz.core.processors;
 
+import org.kordamp.jarviz.core.JarvizException;
+import org.kordamp.jarviz.core.internal.EntryExtractor;
 import org.kordamp.jarviz.core.resolvers.JarFileResolver;
 
-import java.io.IOException;
-import java.io.InputStream;
-import java.nio.file.FileSystem;
-import java.nio.file.Files;
 import java.nio.file.Path;
-import java.nio.file.Paths;
 import java.util.Set;
-import java.util.jar.JarEntry;
 import java.util.jar.JarFile;
 
-import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
-
 /**
+ * Finds entries like {@link EntriesFindJarProcessor}, then extracts all of them at once with an
+ * {@link EntryExtractor}.
+ *
  * @author Andres Almiray
  * @since 0.3.0
  */
 public class EntriesExtractJarProcessor extends EntriesFindJarProcessor {
     private boolean flatten;
     private Path targetDirectory;
+    private EntryExtractor.Statistics statistics;
 
     public EntriesExtractJarProcessor(JarFileResolver jarFileResolver) {
         super(jarFileResolver);
@@ -59,50 +57,29 @@ public class EntriesExtractJarProcessor extends EntriesFindJarProcessor {
         this.targetDirectory = targetDirectory;
     }
 
-    @Override
-    protected void processJarEntry(JarFile jarFile, FileSystem zipfs, Path path, Set<String> entries) {
-        if (Files.isDirectory(path)) return;
-
-        String entryName = path.toString();
-        if (entryName.startsWith("/")) {
-            entryName = entryName.substring(1);
-        }
-        if (isFlatten()) {
-            entryName = Paths.get(entryName).getFileName().toString();
-        }
-
-        String fileName = Path.of(jarFile.getName()).getFileName().toString();
-        fileName = fileName.substring(0, fileName.length() - 4);
-        Path destination = targetDirectory.resolve(fileName).resolve(entryName);
-
-        try {
-            Files.createDirectories(destination.getParent());
-            Files.copy(path, destination, REPLACE_EXISTING);
-        } catch (IOException e) {
-            // ignored silently til we hook a logger ¯\_(ツ)_/¯
-        }
-
-        super.processJarEntry(jarFile, zipfs, path, entries);
+    /**
+     * Statistics of the last extraction, if any.
+     */
+    public EntryExtractor.Statistics getStatistics() {
+        return statistics;
     }
 
     @Override
-    protected void processJarEntry(JarFile jarFile, JarEntry entry, Set<String> entries) {
-        String entryName = entry.getName();
-        if (isFlatten()) {
-            entryName = Paths.get(entryName).getFileName().toString();
+    public Set<JarFileResult<Set<String>>> getResult() throws JarvizException {
+        Set<JarFileResult<Set<String>>> results = super.getResult();
+
+        try (EntryExtractor extractor = new EntryExtractor(targetDirectory, flatten)) {
+            for (JarFileResult<Set<String>> result : results) {
+                extractor.add(result.getJarPath(), result.getResult());
+            }
+            statistics = extractor.extract(getParallelism());
         }
 
-        String fileName = Path.of(jarFile.getName()).getFileName().toString();
-        fileName = fileName.substring(0, fileName.length() - 4);
-        Path destination = targetDirectory.resolve(fileName).resolve(entryName);
-
-        try (InputStream in = jarFile.getInputStream(entry)) {
-            Files.createDirectories(destination.getParent());
-            Files.copy(in, destination, REPLACE_EXISTING);
-        } catch (IOException e) {
-            // ignored silently til we hook a logger ¯\_(ツ)_/¯
-        }
+        return results;
+    }
 
-        super.processJarEntry(jarFile, entry, entries);
+    @Override
+    protected void processDirectory(JarFile jarFile, String name, Set<String> entries) {
+        // only entries are extracted
     }
 }
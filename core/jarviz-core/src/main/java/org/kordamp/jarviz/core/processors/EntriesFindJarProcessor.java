@@ -19,19 +19,13 @@ package org.kordamp.jarviz.core.processors;
 
 import org.kordamp.jarviz.core.JarvizException;
 import org.kordamp.jarviz.core.resolvers.JarFileResolver;
+import org.kordamp.jarviz.util.EntryPattern;
 
-import java.io.IOException;
-import java.nio.file.FileSystem;
-import java.nio.file.FileSystems;
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.nio.file.PathMatcher;
-import java.util.Enumeration;
+import java.util.HashSet;
 import java.util.Set;
 import java.util.TreeSet;
 import java.util.jar.JarEntry;
 import java.util.jar.JarFile;
-import java.util.stream.Stream;
 
 import static java.util.Collections.unmodifiableSet;
 import static org.kordamp.jarviz.util.StringUtils.isBlank;
@@ -41,16 +35,15 @@ import static org.kordamp.jarviz.util.StringUtils.isNotBlank;
  * @author Andres Almiray
  * @since 0.3.0
  */
-public class EntriesFindJarProcessor implements JarProcessor<Set<String>> {
+public class EntriesFindJarProcessor extends AbstractJarProcessor<Set<String>> {
     private static final String GLOB_PREFIX = "glob:";
     private static final String REGEX_PREFIX = "regex:";
 
-    private final JarFileResolver jarFileResolver;
     private String entryName;
     private String entryPattern;
 
     public EntriesFindJarProcessor(JarFileResolver jarFileResolver) {
-        this.jarFileResolver = jarFileResolver;
+        super(jarFileResolver);
     }
 
     public String getEntryName() {
@@ -71,53 +64,62 @@ public class EntriesFindJarProcessor implements JarProcessor<Set<String>> {
 
     @Override
     public Set<JarFileResult<Set<String>>> getResult() throws JarvizException {
-        Set<JarFileResult<Set<String>>> set = new TreeSet<>();
-
         entryPattern = normalizePattern(entryPattern);
-        for (JarFile jarFile : jarFileResolver.resolveJarFiles()) {
-            set.add(processJarFile(jarFile, entryPattern));
-        }
-
-        return set;
+        return processJarFiles(jarFile -> processJarFile(jarFile, entryPattern));
     }
 
     protected JarFileResult<Set<String>> processJarFile(JarFile jarFile, String pattern) {
         Set<String> entries = new TreeSet<>();
 
-        try (jarFile) {
-            if (isNotBlank(pattern)) {
-                try (FileSystem zipfs = FileSystems.newFileSystem(Path.of(jarFile.getName()),
-                    this.getClass().getClassLoader())) {
-                    PathMatcher pathMatcher = zipfs.getPathMatcher(pattern);
-                    try (Stream<Path> stream = Files.walk(zipfs.getPath("/"))) {
-                        stream.filter(pathMatcher::matches)
-                            .forEach(path -> processJarEntry(jarFile, zipfs, path, entries));
-                    }
-                }
-            } else {
-                Enumeration<JarEntry> jarEntries = jarFile.entries();
-                while (jarEntries.hasMoreElements()) {
-                    JarEntry entry = jarEntries.nextElement();
-                    String name = entry.getName();
-                    if (name.equals(entryName)) {
-                        processJarEntry(jarFile, entry, entries);
-                        break;
-                    }
-                }
+        if (isNotBlank(pattern)) {
+            findJarEntries(jarFile, EntryPattern.compile(pattern), entries);
+        } else {
+            findJarEntry(jarFile, entryName)
+                .ifPresent(entry -> processJarEntry(jarFile, entry, entries));
+        }
+
+        return JarFileResult.of(jarFile, unmodifiableSet(entries));
+    }
+
+    /**
+     * Visits every entry and directory matching the given pattern. Directories include those implied by
+     * entry names, the root directory is named {@code ""}.
+     */
+    private void findJarEntries(JarFile jarFile, EntryPattern pattern, Set<String> entries) {
+        String prefix = pattern.getLiteralPrefix();
+        EntryPattern.Matcher matcher = pattern.matcher();
+
+        if (prefix.isEmpty() && matcher.matches("", 0)) {
+            processDirectory(jarFile, "", entries);
+        }
+
+        Set<String> directories = new HashSet<>();
+        String previous = "";
+        for (String name : entryNames(jarFile, prefix)) {
+            // parent directories shared with the previous name have been visited already
+            int from = Math.max(commonPrefix(previous, name), prefix.length());
+            for (int i = name.indexOf('/', from); i != -1 && i < name.length() - 1; i = name.indexOf('/', i + 1)) {
+                if (matcher.matches(name, i)) visitDirectory(jarFile, name.substring(0, i), directories, entries);
             }
+            previous = name;
 
-            return JarFileResult.of(jarFile, unmodifiableSet(entries));
-        } catch (IOException ignored) {
-            return JarFileResult.of(jarFile, unmodifiableSet(entries));
+            if (name.endsWith("/")) {
+                if (matcher.matches(name, name.length() - 1)) {
+                    visitDirectory(jarFile, name.substring(0, name.length() - 1), directories, entries);
+                }
+            } else if (matcher.matches(name, name.length())) {
+                JarEntry entry = jarFile.getJarEntry(name);
+                if (null != entry) processJarEntry(jarFile, entry, entries);
+            }
         }
     }
 
-    protected void processJarEntry(JarFile jarFile, FileSystem zipfs, Path path, Set<String> entries) {
-        String entryName = path.toString();
-        if (entryName.startsWith("/")) {
-            entryName = entryName.substring(1);
-        }
-        entries.add(entryName);
+    private void visitDirectory(JarFile jarFile, String name, Set<String> directories, Set<String> entries) {
+        if (directories.add(name)) processDirectory(jarFile, name, entries);
+    }
+
+    protected void processDirectory(JarFile jarFile, String name, Set<String> entries) {
+        entries.add(name);
     }
 
     protected void processJarEntry(JarFile jarFile, JarEntry entry, Set<String> entries)  {
@@ -146,4 +148,11 @@ public class EntriesFindJarProcessor implements JarProcessor<Set<String>> {
 
         return pattern;
     }
+
+    private static int commonPrefix(String a, String b) {
+        int max = Math.min(a.length(), b.length());
+        int i = 0;
+        while (i < max && a.charAt(i) == b.charAt(i)) i++;
+        return i;
+    }
 }
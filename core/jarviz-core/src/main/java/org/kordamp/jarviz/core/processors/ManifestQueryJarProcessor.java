@@ -24,7 +24,6 @@ import org.kordamp.jarviz.util.JarUtils;
 
 import java.util.Optional;
 import java.util.Set;
-import java.util.TreeSet;
 import java.util.jar.JarFile;
 import java.util.jar.Manifest;
 
@@ -32,13 +31,12 @@ import java.util.jar.Manifest;
  * @author Andres Almiray
  * @since 0.1.0
  */
-public class ManifestQueryJarProcessor implements JarProcessor<Optional<String>> {
-    private final JarFileResolver jarFileResolver;
+public class ManifestQueryJarProcessor extends AbstractJarProcessor<Optional<String>> {
     private String attributeName;
     private String sectionName;
 
     public ManifestQueryJarProcessor(JarFileResolver jarFileResolver) {
-        this.jarFileResolver = jarFileResolver;
+        super(jarFileResolver);
     }
 
     public String getAttributeName() {
@@ -59,13 +57,7 @@ public class ManifestQueryJarProcessor implements JarProcessor<Optional<String>>
 
     @Override
     public Set<JarFileResult<Optional<String>>> getResult() throws JarvizException {
-        Set<JarFileResult<Optional<String>>> set = new TreeSet<>();
-
-        for (JarFile jarFile : jarFileResolver.resolveJarFiles()) {
-            set.add(processJarfile(jarFile));
-        }
-
-        return set;
+        return processJarFiles(this::processJarfile);
     }
 
     private JarFileResult<Optional<String>> processJarfile(JarFile jarFile) {
@@ -23,7 +23,6 @@ import org.kordamp.jarviz.util.JarUtils;
 
 import java.util.Optional;
 import java.util.Set;
-import java.util.TreeSet;
 import java.util.jar.JarFile;
 import java.util.jar.Manifest;
 
@@ -31,22 +30,15 @@ import java.util.jar.Manifest;
  * @author Andres Almiray
  * @since 0.1.0
  */
-public class ManifestShowJarProcessor implements JarProcessor<Optional<Manifest>> {
-    private final JarFileResolver jarFileResolver;
+public class ManifestShowJarProcessor extends AbstractJarProcessor<Optional<Manifest>> {
 
     public ManifestShowJarProcessor(JarFileResolver jarFileResolver) {
-        this.jarFileResolver = jarFileResolver;
+        super(jarFileResolver);
     }
 
     @Override
     public Set<JarFileResult<Optional<Manifest>>> getResult() throws JarvizException {
-        Set<JarFileResult<Optional<Manifest>>> set = new TreeSet<>();
-
-        for (JarFile jarFile : jarFileResolver.resolveJarFiles()) {
-            set.add(processJarFile(jarFile));
-        }
-
-        return set;
+        return processJarFiles(this::processJarFile);
     }
 
     private JarFileResult<Optional<Manifest>> processJarFile(JarFile jarFile) {
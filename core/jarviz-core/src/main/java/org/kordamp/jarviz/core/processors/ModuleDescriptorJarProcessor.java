@@ -26,31 +26,23 @@ import org.kordamp.jarviz.core.resolvers.JarFileResolver;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Set;
-import java.util.TreeSet;
 import java.util.jar.JarFile;
 
 /**
  * @author Andres Almiray
  * @since 0.2.0
  */
-public class ModuleDescriptorJarProcessor implements JarProcessor<ModuleMetadata> {
-    private final JarFileResolver jarFileResolver;
+public class ModuleDescriptorJarProcessor extends AbstractJarProcessor<ModuleMetadata> {
     private final ModuleNameJarProcessor moduleNameJarProcessor;
 
     public ModuleDescriptorJarProcessor(JarFileResolver jarFileResolver) {
-        this.jarFileResolver = jarFileResolver;
+        super(jarFileResolver);
         this.moduleNameJarProcessor = new ModuleNameJarProcessor(jarFileResolver);
     }
 
     @Override
     public Set<JarFileResult<ModuleMetadata>> getResult() throws JarvizException {
-        Set<JarFileResult<ModuleMetadata>> set = new TreeSet<>();
-
-        for (JarFile jarFile : jarFileResolver.resolveJarFiles()) {
-            set.add(processJarFile(jarFile));
-        }
-
-        return set;
+        return processJarFiles(this::processJarFile);
     }
 
     private JarFileResult<ModuleMetadata> processJarFile(JarFile jarFile) {
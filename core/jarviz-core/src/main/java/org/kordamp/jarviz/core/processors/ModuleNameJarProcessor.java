@@ -20,6 +20,7 @@ package org.kordamp.jarviz.core.processors;
 import org.kordamp.jarviz.core.JarvizException;
 import org.kordamp.jarviz.core.analyzers.ModuleNameJarPathAnalyzer;
 import org.kordamp.jarviz.core.analyzers.QueryJarManifestAnalyzer;
+import org.kordamp.jarviz.core.cache.ResultCodecs;
 import org.kordamp.jarviz.core.model.ModuleName;
 import org.kordamp.jarviz.core.resolvers.JarFileResolver;
 import org.kordamp.jarviz.util.JarUtils;
@@ -28,7 +29,6 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Optional;
 import java.util.Set;
-import java.util.TreeSet;
 import java.util.jar.JarFile;
 import java.util.jar.Manifest;
 import java.util.regex.Matcher;
@@ -40,25 +40,20 @@ import static org.kordamp.jarviz.core.internal.Constants.ATTR_AUTOMATIC_MODULE_N
  * @author Andres Almiray
  * @since 0.2.0
  */
-public class ModuleNameJarProcessor implements JarProcessor<ModuleName> {
+public class ModuleNameJarProcessor extends AbstractJarProcessor<ModuleName> {
     // This should be the correct pattern
     // private static final Pattern VERSION_PATTERN = Pattern.compile("-(\\d+(\\.|_|-|\\+|$))");
     private static final Pattern VERSION_PATTERN = Pattern.compile("-(\\d+(\\.|$))");
-    private final JarFileResolver jarFileResolver;
 
     public ModuleNameJarProcessor(JarFileResolver jarFileResolver) {
-        this.jarFileResolver = jarFileResolver;
+        super(jarFileResolver);
     }
 
     @Override
     public Set<JarFileResult<ModuleName>> getResult() throws JarvizException {
-        Set<JarFileResult<ModuleName>> set = new TreeSet<>();
-
-        for (JarFile jarFile : jarFileResolver.resolveJarFiles()) {
-            set.add(processJarFile(jarFile));
-        }
-
-        return set;
+        // automatic module names may be derived from the file name
+        return processJarFiles(jarFile -> "module-name:" + Paths.get(jarFile.getName()).getFileName(),
+            ResultCodecs.MODULE_NAME, this::processJarFile);
     }
 
     JarFileResult<ModuleName> processJarFile(JarFile jarFile) {
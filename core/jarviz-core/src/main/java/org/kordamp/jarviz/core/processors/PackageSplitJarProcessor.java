@@ -19,113 +19,259 @@ package org.kordamp.jarviz.core.processors;
 
 import org.kordamp.jarviz.bundle.RB;
 import org.kordamp.jarviz.core.JarvizException;
+import org.kordamp.jarviz.core.analyzers.PackagesJarContentAnalyzer;
+import org.kordamp.jarviz.core.cache.ResultCodecs;
+import org.kordamp.jarviz.core.internal.JarMetadataRegistry;
+import org.kordamp.jarviz.core.internal.ParallelExecution;
+import org.kordamp.jarviz.core.model.PackageIndex;
 import org.kordamp.jarviz.core.resolvers.JarFileResolver;
+import org.kordamp.jarviz.core.scanner.JarScanner;
+import org.kordamp.jarviz.util.Algorithm;
 
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
 import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.TreeSet;
-import java.util.jar.JarEntry;
 import java.util.jar.JarFile;
 
-import static org.kordamp.jarviz.util.StringUtils.isNotBlank;
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
 
 /**
+ * Finds packages split across JARs.
+ * <p>
+ * When an index file is set the packages of every JAR are kept in it between runs, together with the size,
+ * last modification time, and SHA-256 digest of each JAR. Only JARs whose contents are not found in the index
+ * are scanned again, results are the same as with a full scan.
+ *
  * @author Andres Almiray
  * @since 0.3.0
  */
-public class PackageSplitJarProcessor implements JarProcessor<Set<String>> {
-    private static final String MODULE_INFO = "module-info.class";
-    private static final String VERSIONED = "META-INF/versions/";
+public class PackageSplitJarProcessor extends AbstractJarProcessor<Set<String>> {
+    private static final String PACKAGES = "packages";
+    private static final int MAGIC = 0x4A56504B;
+    private static final short FORMAT_VERSION = 1;
 
-    private final JarFileResolver jarFileResolver;
+    private Path indexFile;
+    private JarMetadataRegistry jarMetadata = new JarMetadataRegistry();
+    private int reused;
+    private int scanned;
 
     public PackageSplitJarProcessor(JarFileResolver jarFileResolver) {
-        this.jarFileResolver = jarFileResolver;
+        super(jarFileResolver);
     }
 
-    @Override
-    public Set<JarFileResult<Set<String>>> getResult() throws JarvizException {
-        Set<JarFileResult<Set<String>>> set = new TreeSet<>();
+    public Path getIndexFile() {
+        return indexFile;
+    }
 
-        PackageCounter packageCounter = new PackageCounter();
-        PackageTracker packageTracker = new PackageTracker();
+    public void setIndexFile(Path indexFile) {
+        this.indexFile = indexFile;
+    }
 
-        Set<JarFile> jarFiles = jarFileResolver.resolveJarFiles();
-        if (jarFiles.size() < 2) {
+    public void setJarMetadata(JarMetadataRegistry jarMetadata) {
+        this.jarMetadata = jarMetadata;
+    }
+
+    /**
+     * Number of JARs whose packages were taken from the index file during the last incremental run.
+     */
+    public int getReused() {
+        return reused;
+    }
+
+    /**
+     * Number of JARs scanned during the last incremental run.
+     */
+    public int getScanned() {
+        return scanned;
+    }
+
+    @Override
+    public Set<JarFileResult<Set<String>>> getResult() throws JarvizException {
+        if (jarFileResolver.resolveJarFiles().size() < 2) {
             throw new JarvizException(RB.$("ERROR_NOT_ENOUGH_INPUT_JARS", "2"));
         }
 
-        for (JarFile jarFile : jarFiles) {
-            try (jarFile) {
-                jarFile.stream()
-                    .map(JarEntry::getName)
-                    .filter(entryName -> entryName.endsWith(".class") && !entryName.startsWith(VERSIONED) && !entryName.equals(MODULE_INFO))
-                    .map(this::asPackage)
-                    .distinct()
-                    .sorted()
-                    .forEach(thePackage -> {
-                        packageCounter.add(thePackage);
-                        packageTracker.add(jarFile, thePackage);
-                    });
-            } catch (IOException e) {
-                throw new JarvizException(RB.$("ERROR_OPENING_JAR", jarFile.getName()));
+        if (null != indexFile) return splitPackagesIncrementally();
+
+        return splitPackages(createJarScanner()
+            .register(PACKAGES, PackagesJarContentAnalyzer::new, ResultCodecs.STRINGS)
+            .scan()
+            .getAllResults(PACKAGES));
+    }
+
+    @SuppressWarnings("unchecked")
+    private Set<JarFileResult<Set<String>>> splitPackagesIncrementally() {
+        IndexFile previous = IndexFile.read(indexFile);
+        PackageIndex packageIndex = previous.packageIndex;
+        Map<String, Fingerprint> fingerprints = new LinkedHashMap<>();
+        Map<String, JarFile> jarFiles = new LinkedHashMap<>();
+        List<JarFile> changed = new ArrayList<>();
+
+        // JARs whose contents moved to a different path keep their packages
+        Map<String, String> keysByDigest = new HashMap<>();
+        previous.fingerprints.forEach((key, fingerprint) -> keysByDigest.put(fingerprint.digest, key));
+        Map<String, Set<String>> moved = new HashMap<>();
+
+        for (JarFile jarFile : jarFileResolver.resolveJarFiles()) {
+            String key = jarFile.getName();
+            jarFiles.put(key, jarFile);
+
+            Fingerprint stored = previous.fingerprints.get(key);
+            Fingerprint fingerprint = fingerprint(jarFile, stored);
+            fingerprints.put(key, fingerprint);
+
+            if (null != stored && stored.digest.equals(fingerprint.digest) && packageIndex.containsJar(key)) continue;
+
+            String movedFrom = keysByDigest.get(fingerprint.digest);
+            if (null != movedFrom && packageIndex.containsJar(movedFrom)) {
+                moved.put(key, packageIndex.getPackages(movedFrom));
+            } else {
+                changed.add(jarFile);
             }
         }
 
-        // remove all packages with count == 1
-        packageCounter.cleanup();
-        // retain split packages
-        packageTracker.cleanup(packageCounter.packages.keySet());
-        for (Map.Entry<JarFile, Set<String>> e : packageTracker.packages.entrySet()) {
-            Set<String> splitPackages = e.getValue();
-            if (!splitPackages.isEmpty()) {
-                set.add(JarFileResult.of(e.getKey(), new TreeSet<>(splitPackages)));
-            }
+        for (String key : packageIndex.getJars()) {
+            if (!jarFiles.containsKey(key)) packageIndex.removeJar(key);
         }
+        moved.forEach(packageIndex::addJar);
 
+        JarScanner scanner = createJarScanner()
+            .register(PACKAGES, PackagesJarContentAnalyzer::new, ResultCodecs.STRINGS);
+        List<Map<String, Object>> results = ParallelExecution.map(changed, getParallelism(), scanner::scan);
+        for (int i = 0; i < changed.size(); i++) {
+            packageIndex.addJar(changed.get(i).getName(), (Set<String>) results.get(i).get(PACKAGES));
+        }
+
+        scanned = changed.size();
+        reused = jarFiles.size() - scanned;
+        new IndexFile(packageIndex, fingerprints).write(indexFile);
+
+        Set<JarFileResult<Set<String>>> set = new TreeSet<>();
+        packageIndex.getSplitPackages()
+            .forEach((key, splitPackages) -> set.add(JarFileResult.of(jarFiles.get(key), splitPackages)));
         return set;
     }
 
-    private String asPackage(String name) {
-        int i = name.lastIndexOf('/');
-        return i != -1 ? name.substring(0, i).replace('/', '.') : "";
-    }
+    private Fingerprint fingerprint(JarFile jarFile, Fingerprint stored) {
+        Path jarPath = Path.of(jarFile.getName());
+        JarMetadataRegistry.JarMetadata metadata = jarMetadata.get(jarPath);
 
-    private static class PackageCounter {
-        private static final Integer ZERO = 0;
-        private final Map<String, Integer> packages = new LinkedHashMap<>();
+        long size;
+        long lastModified;
+        try {
+            BasicFileAttributes attributes = Files.readAttributes(jarPath, BasicFileAttributes.class);
+            size = attributes.size();
+            lastModified = attributes.lastModifiedTime().toMillis();
+        } catch (IOException e) {
+            throw new JarvizException(RB.$("ERROR_UNEXPECTED"), e);
+        }
 
-        private void add(String thePackage) {
-            if (isNotBlank(thePackage)) {
-                Integer count = packages.computeIfAbsent(thePackage, k -> ZERO);
-                packages.put(thePackage, count + 1);
-            }
+        // an untouched JAR is not read at all, reports may reuse its digest
+        if (null != stored && stored.size == size && stored.lastModified == lastModified) {
+            metadata.putChecksum(Algorithm.SHA_256, stored.digest);
+            return stored;
         }
 
-        private void cleanup() {
-            for (String key : new TreeSet<>(packages.keySet())) {
-                if (packages.get(key) == 1) {
-                    packages.remove(key);
-                }
-            }
+        return new Fingerprint(size, lastModified, metadata.getChecksum(Algorithm.SHA_256));
+    }
+
+    public static Set<JarFileResult<Set<String>>> splitPackages(Collection<JarFileResult<Set<String>>> packagesPerJar) {
+        PackageIndex packageIndex = new PackageIndex();
+        Map<String, JarFile> jarFiles = new HashMap<>();
+        for (JarFileResult<Set<String>> result : packagesPerJar) {
+            String key = result.getJarFile().getName();
+            jarFiles.put(key, result.getJarFile());
+            packageIndex.addJar(key, result.getResult());
+        }
+
+        Set<JarFileResult<Set<String>>> set = new TreeSet<>();
+        packageIndex.getSplitPackages()
+            .forEach((key, splitPackages) -> set.add(JarFileResult.of(jarFiles.get(key), splitPackages)));
+        return set;
+    }
+
+    private static class Fingerprint {
+        private final long size;
+        private final long lastModified;
+        private final String digest;
+
+        private Fingerprint(long size, long lastModified, String digest) {
+            this.size = size;
+            this.lastModified = lastModified;
+            this.digest = digest;
         }
     }
 
-    private static class PackageTracker {
-        private final Map<JarFile, Set<String>> packages = new LinkedHashMap<>();
+    private static class IndexFile {
+        private final PackageIndex packageIndex;
+        private final Map<String, Fingerprint> fingerprints;
+
+        private IndexFile(PackageIndex packageIndex, Map<String, Fingerprint> fingerprints) {
+            this.packageIndex = packageIndex;
+            this.fingerprints = fingerprints;
+        }
 
-        private void add(JarFile jarFile, String thePackage) {
-            if (isNotBlank(thePackage)) {
-                packages.computeIfAbsent(jarFile, k -> new TreeSet<>())
-                    .add(thePackage);
+        private static IndexFile read(Path file) {
+            if (Files.exists(file)) {
+                try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+                    if (in.readInt() == MAGIC && in.readShort() == FORMAT_VERSION) {
+                        Map<String, Fingerprint> fingerprints = new LinkedHashMap<>();
+                        int count = in.readInt();
+                        for (int i = 0; i < count; i++) {
+                            fingerprints.put(in.readUTF(), new Fingerprint(in.readLong(), in.readLong(), in.readUTF()));
+                        }
+                        return new IndexFile(ResultCodecs.PACKAGE_INDEX.read(in), fingerprints);
+                    }
+                } catch (IOException e) {
+                    // corrupt or stale index, start over
+                }
             }
+
+            return new IndexFile(new PackageIndex(), new LinkedHashMap<>());
         }
 
-        private void cleanup(Set<String> splitPackages) {
-            for (Set<String> packagerPerJar : packages.values()) {
-                packagerPerJar.retainAll(splitPackages);
+        private void write(Path file) {
+            Path tmp = null;
+            try {
+                Files.createDirectories(file.toAbsolutePath().getParent());
+                tmp = Files.createTempFile(file.toAbsolutePath().getParent(), file.getFileName().toString(), ".tmp");
+                try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tmp)))) {
+                    out.writeInt(MAGIC);
+                    out.writeShort(FORMAT_VERSION);
+                    out.writeInt(fingerprints.size());
+                    for (Map.Entry<String, Fingerprint> e : fingerprints.entrySet()) {
+                        out.writeUTF(e.getKey());
+                        out.writeLong(e.getValue().size);
+                        out.writeLong(e.getValue().lastModified);
+                        out.writeUTF(e.getValue().digest);
+                    }
+                    ResultCodecs.PACKAGE_INDEX.write(out, packageIndex);
+                }
+                Files.move(tmp, file, REPLACE_EXISTING, ATOMIC_MOVE);
+            } catch (IOException e) {
+                // a failed write only costs a full scan on the next run
+            } finally {
+                if (null != tmp) {
+                    try {
+                        Files.deleteIfExists(tmp);
+                    } catch (IOException ignored) {
+                        // noop
+                    }
+                }
             }
         }
     }
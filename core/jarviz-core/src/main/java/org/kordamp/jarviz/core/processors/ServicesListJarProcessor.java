@@ -18,29 +18,22 @@
 package org.kordamp.jarviz.core.processors;
 
 import org.kordamp.jarviz.core.JarvizException;
+import org.kordamp.jarviz.core.analyzers.ServicesJarContentAnalyzer;
+import org.kordamp.jarviz.core.cache.ResultCodecs;
 import org.kordamp.jarviz.core.resolvers.JarFileResolver;
 
-import java.io.IOException;
-import java.util.Enumeration;
 import java.util.Optional;
 import java.util.Set;
-import java.util.TreeSet;
-import java.util.jar.JarEntry;
-import java.util.jar.JarFile;
-
-import static java.util.Collections.unmodifiableSet;
 
 /**
  * @author Andres Almiray
  * @since 0.1.0
  */
-public class ServicesListJarProcessor implements JarProcessor<Optional<Set<String>>> {
-    private static final String META_INF_SERVICES = "META-INF/services/";
-    private final JarFileResolver jarFileResolver;
+public class ServicesListJarProcessor extends AbstractJarProcessor<Optional<Set<String>>> {
     private Integer release;
 
     public ServicesListJarProcessor(JarFileResolver jarFileResolver) {
-        this.jarFileResolver = jarFileResolver;
+        super(jarFileResolver);
     }
 
     public Integer getRelease() {
@@ -53,34 +46,6 @@ public class ServicesListJarProcessor implements JarProcessor<Optional<Set<Strin
 
     @Override
     public Set<JarFileResult<Optional<Set<String>>>> getResult() throws JarvizException {
-        Set<JarFileResult<Optional<Set<String>>>> set = new TreeSet<>();
-
-        for (JarFile jarFile : jarFileResolver.resolveJarFiles()) {
-            set.add(processJarFile(jarFile));
-        }
-
-        return set;
-    }
-
-    private JarFileResult<Optional<Set<String>>> processJarFile(JarFile jarFile) {
-        Set<String> services = new TreeSet<>();
-        boolean foundServices = false;
-
-        try (jarFile) {
-            // Iterate all entries as we can't tell if they are sorted
-            Enumeration<JarEntry> entries = jarFile.entries();
-            while (entries.hasMoreElements()) {
-                JarEntry entry = entries.nextElement();
-                String name = entry.getName();
-                if (name.startsWith(META_INF_SERVICES) && name.length() > META_INF_SERVICES.length()) {
-                    foundServices = true;
-                    services.add(name.substring(META_INF_SERVICES.length()));
-                }
-            }
-
-            return JarFileResult.of(jarFile, foundServices ? Optional.of(unmodifiableSet(services)) : Optional.empty());
-        } catch (IOException ignored) {
-            return JarFileResult.of(jarFile, foundServices ? Optional.of(unmodifiableSet(services)) : Optional.empty());
-        }
+        return scan(ServicesJarContentAnalyzer::new, ResultCodecs.OPTIONAL_STRINGS);
     }
 }
@@ -24,7 +24,6 @@ import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStreamReader;
 import java.nio.charset.StandardCharsets;
-import java.util.Enumeration;
 import java.util.Optional;
 import java.util.Set;
 import java.util.TreeSet;
@@ -40,14 +39,13 @@ import static org.kordamp.jarviz.util.StringUtils.isNotBlank;
  * @author Andres Almiray
  * @since 0.1.0
  */
-public class ServicesShowJarProcessor implements JarProcessor<Optional<Set<String>>> {
+public class ServicesShowJarProcessor extends AbstractJarProcessor<Optional<Set<String>>> {
     private static final String META_INF_SERVICES = "META-INF/services/";
-    private final JarFileResolver jarFileResolver;
     private Integer release;
     private String serviceName;
 
     public ServicesShowJarProcessor(JarFileResolver jarFileResolver) {
-        this.jarFileResolver = jarFileResolver;
+        super(jarFileResolver);
     }
 
     public Integer getRelease() {
@@ -68,13 +66,7 @@ public class ServicesShowJarProcessor implements JarProcessor<Optional<Set<Strin
 
     @Override
     public Set<JarFileResult<Optional<Set<String>>>> getResult() throws JarvizException {
-        Set<JarFileResult<Optional<Set<String>>>> set = new TreeSet<>();
-
-        for (JarFile jarFile : jarFileResolver.resolveJarFiles()) {
-            set.add(processJarFile(jarFile));
-        }
-
-        return set;
+        return processJarFiles(this::processJarFile);
     }
 
     private JarFileResult<Optional<Set<String>>> processJarFile(JarFile jarFile) {
@@ -82,19 +74,14 @@ public class ServicesShowJarProcessor implements JarProcessor<Optional<Set<Strin
         boolean foundServices = false;
 
         String target = META_INF_SERVICES + serviceName;
-        try (jarFile) {
-            Enumeration<JarEntry> entries = jarFile.entries();
-            while (entries.hasMoreElements()) {
-                JarEntry entry = entries.nextElement();
-                String name = entry.getName();
-                if (name.equals(target)) {
-                    foundServices = true;
-                    services.addAll(withJarEntry(jarFile, entry, inputStream -> new BufferedReader(new InputStreamReader(inputStream,
-                        StandardCharsets.UTF_8)).lines()
-                        .filter(s -> isNotBlank(s) && !s.startsWith("#"))
-                        .collect(toSet())));
-                    break;
-                }
+        try {
+            Optional<JarEntry> entry = findJarEntry(jarFile, target);
+            if (entry.isPresent()) {
+                foundServices = true;
+                services.addAll(withJarEntry(jarFile, entry.get(), inputStream -> new BufferedReader(new InputStreamReader(inputStream,
+                    StandardCharsets.UTF_8)).lines()
+                    .filter(s -> isNotBlank(s) && !s.startsWith("#"))
+                    .collect(toSet())));
             }
 
             return JarFileResult.of(jarFile, foundServices ? Optional.of(unmodifiableSet(services)) : Optional.empty());
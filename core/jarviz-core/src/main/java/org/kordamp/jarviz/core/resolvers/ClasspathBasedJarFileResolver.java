@@ -19,6 +19,7 @@ package org.kordamp.jarviz.core.resolvers;
 
 import org.kordamp.jarviz.bundle.RB;
 import org.kordamp.jarviz.core.JarvizException;
+import org.kordamp.jarviz.core.internal.JarFilePool;
 
 import java.io.File;
 import java.io.IOException;
@@ -62,8 +63,9 @@ public class ClasspathBasedJarFileResolver implements JarFileResolver {
             }
 
             try {
-                set.add(new JarFile(file.toFile()));
+                set.add(JarFilePool.shared().acquire(file));
             } catch (IOException e) {
+                JarFilePool.shared().release(set);
                 throw new JarvizException(RB.$("ERROR_OPENING_JAR", file.toAbsolutePath()));
             }
         }
@@ -71,4 +73,11 @@ public class ClasspathBasedJarFileResolver implements JarFileResolver {
         jarFiles = set;
         return jarFiles;
     }
+
+    @Override
+    public void close() {
+        if (null == jarFiles) return;
+        JarFilePool.shared().release(jarFiles);
+        jarFiles = null;
+    }
 }
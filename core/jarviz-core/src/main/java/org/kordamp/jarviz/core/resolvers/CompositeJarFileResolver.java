@@ -17,29 +17,60 @@
  */
 package org.kordamp.jarviz.core.resolvers;
 
+import org.kordamp.jarviz.core.internal.ParallelExecution;
+
+import java.util.IdentityHashMap;
 import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.jar.JarFile;
 
+import static java.util.stream.Collectors.toList;
+
 /**
  * @author Andres Almiray
  * @since 0.3.0
  */
 public class CompositeJarFileResolver implements JarFileResolver {
     private final Set<JarFileResolver> resolvers = new LinkedHashSet<>();
+    private final int maxConnections;
 
     public CompositeJarFileResolver(Set<JarFileResolver> resolvers) {
+        this(resolvers, 1);
+    }
+
+    public CompositeJarFileResolver(Set<JarFileResolver> resolvers, int maxConnections) {
         this.resolvers.addAll(resolvers);
+        this.maxConnections = Math.max(1, maxConnections);
     }
 
     @Override
     public Set<JarFile> resolveJarFiles() {
-        Set<JarFile> jarFiles = new LinkedHashSet<>();
+        // fetch remote JARs concurrently, local ones are cheap enough to resolve in place
+        List<JarFileResolver> remoteResolvers = resolvers.stream()
+            .filter(RemoteJarFileResolver.class::isInstance)
+            .collect(toList());
+        List<Set<JarFile>> remoteJarFiles = ParallelExecution.mapBlocking(remoteResolvers, maxConnections, JarFileResolver::resolveJarFiles);
+
+        Map<JarFileResolver, Set<JarFile>> resolved = new IdentityHashMap<>();
+        for (int i = 0; i < remoteResolvers.size(); i++) {
+            resolved.put(remoteResolvers.get(i), remoteJarFiles.get(i));
+        }
 
+        Set<JarFile> jarFiles = new LinkedHashSet<>();
         for (JarFileResolver resolver : resolvers) {
-            jarFiles.addAll(resolver.resolveJarFiles());
+            Set<JarFile> set = resolved.get(resolver);
+            jarFiles.addAll(null != set ? set : resolver.resolveJarFiles());
         }
 
         return jarFiles;
     }
+
+    @Override
+    public void close() {
+        for (JarFileResolver resolver : resolvers) {
+            resolver.close();
+        }
+    }
 }
@@ -19,6 +19,7 @@ package org.kordamp.jarviz.core.resolvers;
 
 import org.kordamp.jarviz.bundle.RB;
 import org.kordamp.jarviz.core.JarvizException;
+import org.kordamp.jarviz.core.internal.JarFilePool;
 
 import java.io.IOException;
 import java.nio.file.FileSystems;
@@ -71,8 +72,9 @@ public class DirectoryBasedJarFileResolver implements JarFileResolver {
                 }
 
                 try {
-                    set.add(new JarFile(file.toFile()));
+                    set.add(JarFilePool.shared().acquire(file));
                 } catch (IOException e) {
+                    JarFilePool.shared().release(set);
                     throw new JarvizException(RB.$("ERROR_OPENING_JAR", file.toAbsolutePath()));
                 }
             }
@@ -84,6 +86,13 @@ public class DirectoryBasedJarFileResolver implements JarFileResolver {
         return jarFiles;
     }
 
+    @Override
+    public void close() {
+        if (null == jarFiles) return;
+        JarFilePool.shared().release(jarFiles);
+        jarFiles = null;
+    }
+
     private static class GlobResolver extends SimpleFileVisitor<Path> {
         private final PathMatcher matcher;
         private final Set<Path> paths = new LinkedHashSet<>();
@@ -0,0 +1,76 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2022-2023 The Jarviz authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kordamp.jarviz.core.resolvers;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.Optional;
+
+/**
+ * A repository stored in a local directory, reachable through a {@code file://} URL. Artifacts are read in place.
+ *
+ * @author Andres Almiray
+ * @since 0.3.0
+ */
+public class FileRepository implements Repository {
+    private final Path directory;
+    private final String url;
+
+    public FileRepository(Path directory) {
+        this.directory = directory.toAbsolutePath().normalize();
+        String str = this.directory.toUri().toString();
+        this.url = str.endsWith("/") ? str : str + "/";
+    }
+
+    @Override
+    public String getUrl() {
+        return url;
+    }
+
+    public Path getDirectory() {
+        return directory;
+    }
+
+    @Override
+    public Optional<Instant> lastModified(String path) throws IOException {
+        Optional<Path> file = localPath(path);
+        if (file.isEmpty()) return Optional.empty();
+        return Optional.of(Files.getLastModifiedTime(file.get()).toInstant());
+    }
+
+    @Override
+    public Optional<InputStream> open(String path) throws IOException {
+        Optional<Path> file = localPath(path);
+        if (file.isEmpty()) return Optional.empty();
+        return Optional.of(Files.newInputStream(file.get()));
+    }
+
+    @Override
+    public Optional<Path> localPath(String path) {
+        Path file = directory.resolve(path);
+        return Files.isRegularFile(file) ? Optional.of(file) : Optional.empty();
+    }
+
+    @Override
+    public String toString() {
+        return url;
+    }
+}
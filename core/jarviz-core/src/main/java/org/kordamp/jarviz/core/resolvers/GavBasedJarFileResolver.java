@@ -19,16 +19,12 @@ package org.kordamp.jarviz.core.resolvers;
 
 import org.kordamp.jarviz.bundle.RB;
 import org.kordamp.jarviz.core.JarvizException;
-import org.kordamp.jarviz.core.internal.GavAwareJarFile;
+import org.kordamp.jarviz.core.internal.JarFilePool;
 import org.kordamp.jarviz.core.model.Gav;
 
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
-import java.net.MalformedURLException;
-import java.net.URI;
-import java.net.URISyntaxException;
-import java.net.URL;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.time.Instant;
@@ -37,7 +33,6 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.jar.JarFile;
 
-import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
 import static java.util.Collections.singleton;
 import static org.kordamp.jarviz.util.StringUtils.isNotBlank;
 
@@ -45,14 +40,19 @@ import static org.kordamp.jarviz.util.StringUtils.isNotBlank;
  * @author Andres Almiray
  * @since 0.1.0
  */
-public class GavBasedJarFileResolver implements JarFileResolver {
+public class GavBasedJarFileResolver extends RemoteJarFileResolver {
     private final Gav gav;
-    private final Path cacheDirectory;
+    private final Repositories repositories;
     private JarFile jarFile;
 
     public GavBasedJarFileResolver(Path cacheDirectory, String gav) {
-        this.cacheDirectory = cacheDirectory;
+        this(cacheDirectory, gav, Repositories.mavenCentral());
+    }
+
+    public GavBasedJarFileResolver(Path cacheDirectory, String gav, Repositories repositories) {
+        super(cacheDirectory);
         this.gav = new Gav(gav);
+        this.repositories = repositories;
     }
 
     @Override
@@ -60,26 +60,44 @@ public class GavBasedJarFileResolver implements JarFileResolver {
         if (null != jarFile) return singleton(jarFile);
 
         String filename = gav.getArtifactId() + "-" + gav.getVersion() + (isNotBlank(gav.getClassifier()) ? "-" + gav.getClassifier() : "") + ".jar";
-        String str = "https://repo1.maven.org/maven2/" + gav.getGroupId() + "/" + gav.getArtifactId() + "/" + gav.getVersion() + "/" + filename;
+        String path = gav.getGroupId() + "/" + gav.getArtifactId() + "/" + gav.getVersion() + "/" + filename;
         String mavenLocal = String.join(File.separator, List.of(System.getProperty("user.home"), ".m2", "repository",
             gav.getGroupId().replace("/", File.separator), gav.getArtifactId(), gav.getVersion(), filename));
 
-        URL url = null;
+        Optional<Repositories.Location> located;
+        JarvizException failure = null;
         try {
-            url = new URI(str).toURL();
-        } catch (URISyntaxException | MalformedURLException e) {
-            throw new JarvizException(RB.$("ERROR_INVALID_URL", str));
+            located = repositories.locate(path);
+        } catch (JarvizException e) {
+            located = Optional.empty();
+            failure = e;
         }
 
-        Instant remoteLastModified = null;
-        try {
-            remoteLastModified = Instant.ofEpochMilli(url.openConnection().getLastModified());
-        } catch (IOException e) {
-            throw new JarvizException(RB.$("ERROR_HEAD_URL", url));
+        if (located.isEmpty()) {
+            // unpublished or unreachable, local copies still work offline
+            Optional<Path> file = checkCachedFile(Instant.EPOCH, Path.of(mavenLocal));
+            if (file.isEmpty()) {
+                file = checkCachedFile(Instant.EPOCH, cacheDirectory.resolve(filename));
+            }
+            if (file.isPresent()) {
+                return createJarFile(file.get());
+            }
+            if (null != failure) throw failure;
+            throw new JarvizException(RB.$("ERROR_ARTIFACT_NOT_FOUND", path, repositories));
         }
 
+        Repositories.Location location = located.get();
+
+        // file based repositories are read in place
+        Optional<Path> file = location.getRepository().localPath(path);
+        if (file.isPresent()) {
+            return createJarFile(file.get());
+        }
+
+        Instant remoteLastModified = location.getLastModified();
+
         // Naive check on local Maven repository
-        Optional<Path> file = checkCachedFile(remoteLastModified, Path.of(mavenLocal));
+        file = checkCachedFile(remoteLastModified, Path.of(mavenLocal));
         if (file.isEmpty()) {
             file = checkCachedFile(remoteLastModified, cacheDirectory.resolve(filename));
         }
@@ -87,15 +105,16 @@ public class GavBasedJarFileResolver implements JarFileResolver {
             return createJarFile(file.get());
         }
 
-        Path path = cacheDirectory.resolve(filename);
+        Path target = cacheDirectory.resolve(filename);
 
-        try (InputStream stream = url.openStream()) {
-            Files.copy(stream, path, REPLACE_EXISTING);
+        try (InputStream stream = location.getRepository().open(path)
+            .orElseThrow(() -> new JarvizException(RB.$("ERROR_ARTIFACT_NOT_FOUND", path, location.getRepository())))) {
+            store(stream, target);
         } catch (IOException e) {
-            throw new JarvizException(RB.$("ERROR_DOWNLOADING_URL", url), e);
+            throw new JarvizException(RB.$("ERROR_DOWNLOADING_URL", location.getUrl()), e);
         }
 
-        return createJarFile(path);
+        return createJarFile(target);
     }
 
     private Optional<Path> checkCachedFile(Instant remoteLastModified, Path file) {
@@ -115,10 +134,17 @@ public class GavBasedJarFileResolver implements JarFileResolver {
 
     private Set<JarFile> createJarFile(Path file) {
         try {
-            jarFile = new GavAwareJarFile(file.toFile(), gav);
+            jarFile = JarFilePool.shared().acquire(file, gav);
             return singleton(jarFile);
         } catch (IOException e) {
             throw new JarvizException(RB.$("ERROR_OPENING_JAR", file.toAbsolutePath()));
         }
     }
+
+    @Override
+    public void close() {
+        if (null == jarFile) return;
+        JarFilePool.shared().release(jarFile);
+        jarFile = null;
+    }
 }
@@ -0,0 +1,105 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2022-2023 The Jarviz authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kordamp.jarviz.core.resolvers;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.URI;
+import java.net.URLConnection;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+
+/**
+ * A repository served over {@code http://} or {@code https://}.
+ *
+ * @author Andres Almiray
+ * @since 0.3.0
+ */
+public class HttpRepository implements Repository {
+    private final String url;
+    private final int timeout;
+
+    public HttpRepository(String url, Duration timeout) {
+        this.url = url.endsWith("/") ? url : url + "/";
+        this.timeout = (int) Math.min(Integer.MAX_VALUE, timeout.toMillis());
+    }
+
+    @Override
+    public String getUrl() {
+        return url;
+    }
+
+    public Duration getTimeout() {
+        return Duration.ofMillis(timeout);
+    }
+
+    @Override
+    public Optional<Instant> lastModified(String path) throws IOException {
+        HttpURLConnection connection = connect(path);
+        try {
+            // headers are all we need, skip the body
+            connection.setRequestMethod("HEAD");
+            if (!exists(connection)) return Optional.empty();
+            return Optional.of(Instant.ofEpochMilli(connection.getLastModified()));
+        } finally {
+            connection.disconnect();
+        }
+    }
+
+    @Override
+    public Optional<InputStream> open(String path) throws IOException {
+        HttpURLConnection connection = connect(path);
+        try {
+            if (!exists(connection)) {
+                connection.disconnect();
+                return Optional.empty();
+            }
+            return Optional.of(connection.getInputStream());
+        } catch (FileNotFoundException e) {
+            connection.disconnect();
+            return Optional.empty();
+        }
+    }
+
+    private HttpURLConnection connect(String path) throws IOException {
+        URLConnection connection = URI.create(url + path).toURL().openConnection();
+        if (!(connection instanceof HttpURLConnection)) {
+            throw new IOException(url + path);
+        }
+        connection.setConnectTimeout(timeout);
+        connection.setReadTimeout(timeout);
+        return (HttpURLConnection) connection;
+    }
+
+    private boolean exists(HttpURLConnection connection) throws IOException {
+        int code = connection.getResponseCode();
+        if (code == HttpURLConnection.HTTP_NOT_FOUND || code == HttpURLConnection.HTTP_GONE) return false;
+        if (code >= HttpURLConnection.HTTP_BAD_REQUEST) {
+            throw new IOException(code + " " + connection.getResponseMessage() + ": " + connection.getURL());
+        }
+        return true;
+    }
+
+    @Override
+    public String toString() {
+        return url;
+    }
+}
@@ -24,6 +24,14 @@ import java.util.jar.JarFile;
  * @author Andres Almiray
  * @since 0.1.0
  */
-public interface JarFileResolver {
+public interface JarFileResolver extends AutoCloseable {
     Set<JarFile> resolveJarFiles();
+
+    /**
+     * Releases the JAR files resolved so far, following calls to {@link #resolveJarFiles()} resolve them again.
+     */
+    @Override
+    default void close() {
+        // noop
+    }
 }
@@ -59,9 +59,13 @@ public class JarFileResolvers {
     }
 
     public static Set<JarFileResolver> gavJarFileResolvers(Path cacheDirectory, Collection<String> gavs) {
+        return gavJarFileResolvers(cacheDirectory, gavs, Repositories.mavenCentral());
+    }
+
+    public static Set<JarFileResolver> gavJarFileResolvers(Path cacheDirectory, Collection<String> gavs, Repositories repositories) {
         if (gavs.isEmpty()) return emptySet();
         return gavs.stream()
-            .map(gav -> new GavBasedJarFileResolver(cacheDirectory, gav))
+            .map(gav -> new GavBasedJarFileResolver(cacheDirectory, gav, repositories))
             .collect(toSet());
     }
 
@@ -75,4 +79,8 @@ public class JarFileResolvers {
     public static JarFileResolver compositeJarFileResolver(Set<JarFileResolver> resolvers) {
         return new CompositeJarFileResolver(resolvers);
     }
+
+    public static JarFileResolver compositeJarFileResolver(Set<JarFileResolver> resolvers, int maxConnections) {
+        return new CompositeJarFileResolver(resolvers, maxConnections);
+    }
 }
\ No newline at end of file
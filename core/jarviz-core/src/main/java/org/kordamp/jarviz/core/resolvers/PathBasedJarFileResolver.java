@@ -19,6 +19,7 @@ package org.kordamp.jarviz.core.resolvers;
 
 import org.kordamp.jarviz.bundle.RB;
 import org.kordamp.jarviz.core.JarvizException;
+import org.kordamp.jarviz.core.internal.JarFilePool;
 
 import java.io.IOException;
 import java.nio.file.Files;
@@ -58,10 +59,17 @@ public class PathBasedJarFileResolver implements JarFileResolver {
         }
 
         try {
-            jarFile = new JarFile(file.toFile());
+            jarFile = JarFilePool.shared().acquire(file);
             return singleton(jarFile);
         } catch (IOException e) {
             throw new JarvizException(RB.$("ERROR_OPENING_JAR", file.toAbsolutePath()));
         }
     }
+
+    @Override
+    public void close() {
+        if (null == jarFile) return;
+        JarFilePool.shared().release(jarFile);
+        jarFile = null;
+    }
 }
@@ -0,0 +1,90 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2022-2023 The Jarviz authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kordamp.jarviz.core.resolvers;
+
+import org.kordamp.jarviz.bundle.RB;
+import org.kordamp.jarviz.core.JarvizException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.net.URLConnection;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+
+/**
+ * Base class for resolvers that fetch JAR files over the network.
+ * {@link CompositeJarFileResolver} resolves instances of this type concurrently.
+ *
+ * @author Andres Almiray
+ * @since 0.3.0
+ */
+public abstract class RemoteJarFileResolver implements JarFileResolver {
+    protected final Path cacheDirectory;
+
+    protected RemoteJarFileResolver(Path cacheDirectory) {
+        this.cacheDirectory = cacheDirectory;
+    }
+
+    protected Instant lastModified(URL url) {
+        try {
+            URLConnection connection = url.openConnection();
+            if (connection instanceof HttpURLConnection) {
+                // headers are all we need, skip the body
+                ((HttpURLConnection) connection).setRequestMethod("HEAD");
+            }
+            return Instant.ofEpochMilli(connection.getLastModified());
+        } catch (IOException e) {
+            throw new JarvizException(RB.$("ERROR_HEAD_URL", url));
+        }
+    }
+
+    protected void download(URL url, Path file) {
+        try (InputStream stream = url.openStream()) {
+            store(stream, file);
+        } catch (IOException e) {
+            throw new JarvizException(RB.$("ERROR_DOWNLOADING_URL", url), e);
+        }
+    }
+
+    protected void store(InputStream stream, Path file) throws IOException {
+        // download to a temporary file first, concurrent resolvers must never see a partial JAR
+        Path tmp = null;
+        try {
+            tmp = Files.createTempFile(cacheDirectory, file.getFileName().toString(), ".part");
+            Files.copy(stream, tmp, REPLACE_EXISTING);
+            Files.move(tmp, file, REPLACE_EXISTING, ATOMIC_MOVE);
+        } finally {
+            deleteQuietly(tmp);
+        }
+    }
+
+    private void deleteQuietly(Path file) {
+        if (null == file) return;
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException ignored) {
+            // noop
+        }
+    }
+}
@@ -0,0 +1,213 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2022-2023 The Jarviz authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kordamp.jarviz.core.resolvers;
+
+import org.kordamp.jarviz.bundle.RB;
+import org.kordamp.jarviz.core.JarvizException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+
+import static java.util.Collections.unmodifiableList;
+
+/**
+ * An ordered list of repositories. Each lookup tries every repository in turn until one of them has the artifact,
+ * a failing repository (unreachable, timed out, server error) is skipped in favor of the next one. Lookups fail only
+ * when none of the repositories could be queried.
+ * <p>
+ * Repositories are given as {@code <url>[,timeout=<seconds>]} where {@code url} is either a {@code http(s)://} URL,
+ * a {@code file://} URL, or a plain path to a local directory.
+ *
+ * @author Andres Almiray
+ * @since 0.3.0
+ */
+public final class Repositories {
+    public static final String MAVEN_CENTRAL = "https://repo1.maven.org/maven2/";
+    public static final Duration DEFAULT_TIMEOUT = Duration.ofSeconds(30);
+
+    private static final String TIMEOUT = ",timeout=";
+
+    private final List<Repository> repositories;
+
+    private Repositories(List<Repository> repositories) {
+        this.repositories = unmodifiableList(repositories);
+    }
+
+    public static Repositories mavenCentral() {
+        return new Repositories(List.of(new HttpRepository(MAVEN_CENTRAL, DEFAULT_TIMEOUT)));
+    }
+
+    /**
+     * Parses the given repositories, preserving their order. Defaults to Maven Central when empty.
+     */
+    public static Repositories of(Collection<String> specs) {
+        if (specs.isEmpty()) return mavenCentral();
+
+        List<Repository> list = new ArrayList<>();
+        for (String spec : specs) {
+            list.add(parse(spec.trim()));
+        }
+        return new Repositories(list);
+    }
+
+    public static Repositories of(Repository... repositories) {
+        return new Repositories(List.of(repositories));
+    }
+
+    private static Repository parse(String spec) {
+        String url = spec;
+        Duration timeout = DEFAULT_TIMEOUT;
+
+        int i = spec.lastIndexOf(TIMEOUT);
+        if (i > 0) {
+            url = spec.substring(0, i);
+            try {
+                timeout = Duration.ofSeconds(Long.parseLong(spec.substring(i + TIMEOUT.length()).trim()));
+            } catch (NumberFormatException e) {
+                throw new JarvizException(RB.$("ERROR_INVALID_REPOSITORY", spec));
+            }
+            if (timeout.isNegative()) throw new JarvizException(RB.$("ERROR_INVALID_REPOSITORY", spec));
+        }
+
+        try {
+            String lower = url.toLowerCase(Locale.ROOT);
+            if (lower.startsWith("http://") || lower.startsWith("https://")) {
+                return new HttpRepository(url, timeout);
+            } else if (lower.startsWith("file:")) {
+                return new FileRepository(Path.of(new URI(url)));
+            } else if (!url.isBlank() && !url.contains("://")) {
+                return new FileRepository(Path.of(url));
+            }
+        } catch (Exception e) {
+            throw new JarvizException(RB.$("ERROR_INVALID_REPOSITORY", spec), e);
+        }
+
+        throw new JarvizException(RB.$("ERROR_INVALID_REPOSITORY", spec));
+    }
+
+    public List<Repository> getRepositories() {
+        return repositories;
+    }
+
+    /**
+     * Finds the first repository that has the given artifact.
+     *
+     * @throws JarvizException if every repository failed.
+     */
+    public Optional<Location> locate(String path) {
+        IOException failure = null;
+        Repository failed = null;
+        boolean answered = false;
+        for (Repository repository : repositories) {
+            try {
+                Optional<Instant> lastModified = repository.lastModified(path);
+                if (lastModified.isPresent()) {
+                    return Optional.of(new Location(repository, path, lastModified.get()));
+                }
+                answered = true;
+            } catch (IOException e) {
+                if (null == failure) {
+                    failure = e;
+                    failed = repository;
+                }
+            }
+        }
+
+        if (!answered && null != failure) {
+            throw new JarvizException(RB.$("ERROR_HEAD_URL", failed.getUrl() + path), failure);
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Reads the given artifact into memory from the first repository that has it.
+     *
+     * @throws JarvizException if every repository failed.
+     */
+    public Optional<byte[]> fetch(String path) {
+        IOException failure = null;
+        Repository failed = null;
+        boolean answered = false;
+        for (Repository repository : repositories) {
+            try {
+                Optional<InputStream> stream = repository.open(path);
+                if (stream.isPresent()) {
+                    try (InputStream in = stream.get()) {
+                        return Optional.of(in.readAllBytes());
+                    }
+                }
+                answered = true;
+            } catch (IOException e) {
+                if (null == failure) {
+                    failure = e;
+                    failed = repository;
+                }
+            }
+        }
+
+        if (!answered && null != failure) {
+            throw new JarvizException(RB.$("ERROR_DOWNLOADING_URL", failed.getUrl() + path), failure);
+        }
+        return Optional.empty();
+    }
+
+    @Override
+    public String toString() {
+        return repositories.toString();
+    }
+
+    /**
+     * An artifact found in a specific repository.
+     */
+    public static final class Location {
+        private final Repository repository;
+        private final String path;
+        private final Instant lastModified;
+
+        private Location(Repository repository, String path, Instant lastModified) {
+            this.repository = repository;
+            this.path = path;
+            this.lastModified = lastModified;
+        }
+
+        public Repository getRepository() {
+            return repository;
+        }
+
+        public String getPath() {
+            return path;
+        }
+
+        public String getUrl() {
+            return repository.getUrl() + path;
+        }
+
+        public Instant getLastModified() {
+            return lastModified;
+        }
+    }
+}
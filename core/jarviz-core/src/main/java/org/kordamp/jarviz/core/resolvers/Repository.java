@@ -0,0 +1,55 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2022-2023 The Jarviz authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kordamp.jarviz.core.resolvers;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.Optional;
+
+/**
+ * A Maven repository layout reachable through a base URL. Paths are relative to that URL, such as
+ * {@code org/slf4j/slf4j-api/2.0.0/slf4j-api-2.0.0.jar}.
+ *
+ * @author Andres Almiray
+ * @since 0.3.0
+ */
+public interface Repository {
+    /**
+     * The base URL of this repository, always ending with {@code /}.
+     */
+    String getUrl();
+
+    /**
+     * @return the last modification time of the given artifact, empty if the repository does not have it.
+     */
+    Optional<Instant> lastModified(String path) throws IOException;
+
+    /**
+     * @return a stream with the contents of the given artifact, empty if the repository does not have it.
+     */
+    Optional<InputStream> open(String path) throws IOException;
+
+    /**
+     * @return the given artifact as a local file when it can be read in place, without being copied.
+     */
+    default Optional<Path> localPath(String path) {
+        return Optional.empty();
+    }
+}
@@ -19,9 +19,9 @@ package org.kordamp.jarviz.core.resolvers;
 
 import org.kordamp.jarviz.bundle.RB;
 import org.kordamp.jarviz.core.JarvizException;
+import org.kordamp.jarviz.core.internal.JarFilePool;
 
 import java.io.IOException;
-import java.io.InputStream;
 import java.net.URL;
 import java.nio.file.Files;
 import java.nio.file.Path;
@@ -30,20 +30,18 @@ import java.time.Instant;
 import java.util.Set;
 import java.util.jar.JarFile;
 
-import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
 import static java.util.Collections.singleton;
 
 /**
  * @author Andres Almiray
  * @since 0.1.0
  */
-public class UrlBasedJarFileResolver implements JarFileResolver {
+public class UrlBasedJarFileResolver extends RemoteJarFileResolver {
     private final URL url;
-    private final Path cacheDirectory;
     private JarFile jarFile;
 
     public UrlBasedJarFileResolver(Path cacheDirectory, URL url) {
-        this.cacheDirectory = cacheDirectory;
+        super(cacheDirectory);
         this.url = url;
     }
 
@@ -62,9 +60,9 @@ public class UrlBasedJarFileResolver implements JarFileResolver {
         if (Files.exists(file)) {
             try {
                 Instant localLastModified = Files.getLastModifiedTime(file).toInstant();
-                Instant remoteLastModified = Instant.ofEpochMilli(url.openConnection().getLastModified());
+                Instant remoteLastModified = lastModified(url);
                 if (localLastModified.isAfter(remoteLastModified)) {
-                    jarFile = new JarFile(file.toFile());
+                    jarFile = JarFilePool.shared().acquire(file);
                     return singleton(jarFile);
                 }
             } catch (IOException e) {
@@ -72,17 +70,20 @@ public class UrlBasedJarFileResolver implements JarFileResolver {
             }
         }
 
-        try (InputStream stream = url.openStream()) {
-            Files.copy(stream, file, REPLACE_EXISTING);
-        } catch (IOException e) {
-            throw new JarvizException(RB.$("ERROR_DOWNLOADING_URL", url), e);
-        }
+        download(url, file);
 
         try {
-            jarFile = new JarFile(file.toFile());
+            jarFile = JarFilePool.shared().acquire(file);
             return singleton(jarFile);
         } catch (IOException e) {
             throw new JarvizException(RB.$("ERROR_OPENING_JAR", file.toAbsolutePath()));
         }
     }
+
+    @Override
+    public void close() {
+        if (null == jarFile) return;
+        JarFilePool.shared().release(jarFile);
+        jarFile = null;
+    }
 }
@@ -0,0 +1,79 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2022-2023 The Jarviz authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kordamp.jarviz.core.scanner;
+
+import org.kordamp.jarviz.core.processors.JarProcessor.JarFileResult;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+import static java.util.Collections.emptyList;
+import static java.util.Collections.unmodifiableList;
+import static java.util.Collections.unmodifiableSet;
+
+/**
+ * @author Andres Almiray
+ * @since 0.3.0
+ */
+public class JarScanResults {
+    private final Map<String, List<JarFileResult<Object>>> results = new LinkedHashMap<>();
+    private int jarCount;
+
+    JarScanResults(Collection<String> names) {
+        for (String name : names) {
+            results.put(name, new ArrayList<>());
+        }
+    }
+
+    void add(String name, JarFileResult<Object> result) {
+        List<JarFileResult<Object>> list = results.get(name);
+        list.add(result);
+        jarCount = Math.max(jarCount, list.size());
+    }
+
+    public int getJarCount() {
+        return jarCount;
+    }
+
+    public Set<String> getNames() {
+        return unmodifiableSet(results.keySet());
+    }
+
+    /**
+     * Results for the given analyzer, sorted by JAR file name.
+     */
+    public <R> Set<JarFileResult<R>> getResults(String name) {
+        return new TreeSet<>(getAllResults(name));
+    }
+
+    /**
+     * Results for the given analyzer in resolution order. Unlike {@link #getResults(String)}
+     * JARs sharing the same file name are kept.
+     */
+    @SuppressWarnings("unchecked")
+    public <R> List<JarFileResult<R>> getAllResults(String name) {
+        List<JarFileResult<Object>> list = results.get(name);
+        if (null == list) return emptyList();
+        return unmodifiableList((List<JarFileResult<R>>) (List<?>) list);
+    }
+}
@@ -0,0 +1,231 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2022-2023 The Jarviz authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kordamp.jarviz.core.scanner;
+
+import org.kordamp.jarviz.core.JarvizException;
+import org.kordamp.jarviz.core.analyzers.JarAnalyzer;
+import org.kordamp.jarviz.core.analyzers.JarContentAnalyzer;
+import org.kordamp.jarviz.core.analyzers.JarEntryNameAnalyzer;
+import org.kordamp.jarviz.core.analyzers.JarFileAnalyzer;
+import org.kordamp.jarviz.core.analyzers.JarManifestAnalyzer;
+import org.kordamp.jarviz.core.analyzers.JarPathAnalyzer;
+import org.kordamp.jarviz.core.cache.ResultCache;
+import org.kordamp.jarviz.core.cache.ResultCodec;
+import org.kordamp.jarviz.core.internal.ParallelExecution;
+import org.kordamp.jarviz.core.processors.JarProcessor.JarFileResult;
+import org.kordamp.jarviz.core.resolvers.JarFileResolver;
+import org.kordamp.jarviz.util.CentralDirectory;
+import org.kordamp.jarviz.util.EntryName;
+import org.kordamp.jarviz.util.JarUtils;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Supplier;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+import java.util.jar.Manifest;
+
+/**
+ * Walks every resolved JAR exactly once, feeding each registered analyzer along the way.
+ * <p>
+ * Analyzers are stateful, a fresh set of instances is created per JAR from the registered factories.
+ * {@link JarPathAnalyzer}s and {@link JarFileAnalyzer}s are invoked first, followed by {@link JarManifestAnalyzer}s
+ * (only if the JAR has a manifest), then all entries are enumerated a single time and handed to every
+ * {@link JarContentAnalyzer}. When only {@link JarEntryNameAnalyzer}s need entries the central directory is read
+ * directly instead. JARs may be scanned concurrently, results are always merged in resolution order.
+ *
+ * @author Andres Almiray
+ * @since 0.3.0
+ */
+public class JarScanner {
+    private final JarFileResolver jarFileResolver;
+    private final Map<String, Supplier<? extends JarAnalyzer<?>>> analyzers = new LinkedHashMap<>();
+    private final Map<String, CachedResult<?>> cachedResults = new LinkedHashMap<>();
+    private int parallelism = 1;
+    private ResultCache resultCache;
+
+    public JarScanner(JarFileResolver jarFileResolver) {
+        this.jarFileResolver = jarFileResolver;
+    }
+
+    public JarScanner withParallelism(int parallelism) {
+        this.parallelism = Math.max(1, parallelism);
+        return this;
+    }
+
+    public JarScanner withResultCache(ResultCache resultCache) {
+        this.resultCache = resultCache;
+        return this;
+    }
+
+    public JarScanner register(String name, Supplier<? extends JarAnalyzer<?>> analyzer) {
+        analyzers.put(name, analyzer);
+        return this;
+    }
+
+    /**
+     * Registers an analyzer whose results may be stored in and retrieved from the configured {@link ResultCache}.
+     * JARs are not read at all when the results of every registered analyzer are found in the cache.
+     */
+    public <R> JarScanner register(String name, Supplier<? extends JarAnalyzer<R>> analyzer, ResultCodec<R> codec) {
+        analyzers.put(name, analyzer);
+        cachedResults.put(name, new CachedResult<>(analyzer.get().getClass().getName(), codec));
+        return this;
+    }
+
+    public JarScanResults scan() throws JarvizException {
+        JarScanResults results = new JarScanResults(analyzers.keySet());
+
+        // jars are scanned concurrently but merged in resolution order
+        List<JarFile> jarFiles = new ArrayList<>(jarFileResolver.resolveJarFiles());
+        List<Map<String, Object>> scanned = ParallelExecution.map(jarFiles, parallelism, this::scan);
+        for (int i = 0; i < jarFiles.size(); i++) {
+            JarFile jarFile = jarFiles.get(i);
+            scanned.get(i).forEach((name, result) -> results.add(name, JarFileResult.of(jarFile, result)));
+        }
+
+        return results;
+    }
+
+    public Map<String, Object> scan(JarFile jarFile) throws JarvizException {
+        Map<String, Object> cached = new LinkedHashMap<>();
+        if (null != resultCache) {
+            cachedResults.forEach((name, cachedResult) -> cachedResult.get(resultCache, jarFile)
+                .ifPresent(result -> cached.put(name, result)));
+        }
+
+        Map<String, JarAnalyzer<?>> instances = new LinkedHashMap<>();
+        List<JarContentAnalyzer<?>> contentAnalyzers = new ArrayList<>();
+        List<JarEntryNameAnalyzer<?>> nameAnalyzers = new ArrayList<>();
+        List<JarManifestAnalyzer<?>> manifestAnalyzers = new ArrayList<>();
+
+        Path jarPath = Path.of(jarFile.getName());
+        for (Map.Entry<String, Supplier<? extends JarAnalyzer<?>>> e : analyzers.entrySet()) {
+            if (cached.containsKey(e.getKey())) continue;
+
+            JarAnalyzer<?> analyzer = e.getValue().get();
+            instances.put(e.getKey(), analyzer);
+
+            if (analyzer instanceof JarPathAnalyzer) {
+                ((JarPathAnalyzer<?>) analyzer).handle(jarPath);
+            }
+            if (analyzer instanceof JarFileAnalyzer) {
+                ((JarFileAnalyzer<?>) analyzer).handle(jarFile);
+            }
+            if (analyzer instanceof JarManifestAnalyzer) {
+                manifestAnalyzers.add((JarManifestAnalyzer<?>) analyzer);
+            }
+            if (analyzer instanceof JarContentAnalyzer) {
+                contentAnalyzers.add((JarContentAnalyzer<?>) analyzer);
+            }
+            if (analyzer instanceof JarEntryNameAnalyzer) {
+                nameAnalyzers.add((JarEntryNameAnalyzer<?>) analyzer);
+            }
+        }
+
+        if (!manifestAnalyzers.isEmpty()) {
+            Optional<Manifest> manifest = JarUtils.getManifest(jarFile);
+            if (manifest.isPresent()) {
+                for (JarManifestAnalyzer<?> analyzer : manifestAnalyzers) {
+                    analyzer.handle(jarFile, manifest.get());
+                }
+            }
+        }
+
+        if (!contentAnalyzers.isEmpty()) {
+            scanEntries(jarFile, contentAnalyzers, nameAnalyzers);
+        } else if (!nameAnalyzers.isEmpty()) {
+            scanEntryNames(jarFile, jarPath, nameAnalyzers);
+        }
+
+        Map<String, Object> results = new LinkedHashMap<>();
+        for (String name : analyzers.keySet()) {
+            if (cached.containsKey(name)) {
+                results.put(name, cached.get(name));
+            } else {
+                Object result = instances.get(name).getResult();
+                if (null != resultCache && cachedResults.containsKey(name)) {
+                    cachedResults.get(name).put(resultCache, jarFile, result);
+                }
+                results.put(name, result);
+            }
+        }
+        return results;
+    }
+
+    private void scanEntries(JarFile jarFile,
+                             List<JarContentAnalyzer<?>> contentAnalyzers,
+                             List<JarEntryNameAnalyzer<?>> nameAnalyzers) {
+        EntryName entryName = new EntryName();
+        Enumeration<JarEntry> entries = jarFile.entries();
+        while (entries.hasMoreElements()) {
+            JarEntry entry = entries.nextElement();
+            for (JarContentAnalyzer<?> analyzer : contentAnalyzers) {
+                analyzer.handle(jarFile, entry);
+            }
+            if (!nameAnalyzers.isEmpty()) {
+                entryName.set(entry.getName());
+                for (JarEntryNameAnalyzer<?> analyzer : nameAnalyzers) {
+                    analyzer.handle(jarFile, entryName);
+                }
+            }
+        }
+    }
+
+    private void scanEntryNames(JarFile jarFile, Path jarPath, List<JarEntryNameAnalyzer<?>> nameAnalyzers) {
+        CentralDirectory centralDirectory;
+        try {
+            centralDirectory = CentralDirectory.read(jarPath);
+        } catch (IOException e) {
+            // let JarFile deal with whatever the central directory reader could not handle
+            scanEntries(jarFile, List.of(), nameAnalyzers);
+            return;
+        }
+
+        centralDirectory.forEach(entryName -> {
+            for (JarEntryNameAnalyzer<?> analyzer : nameAnalyzers) {
+                analyzer.handle(jarFile, entryName);
+            }
+        });
+    }
+
+    private static class CachedResult<R> {
+        private final String key;
+        private final ResultCodec<R> codec;
+
+        private CachedResult(String key, ResultCodec<R> codec) {
+            this.key = key;
+            this.codec = codec;
+        }
+
+        private Optional<R> get(ResultCache resultCache, JarFile jarFile) {
+            return resultCache.get(jarFile, key, codec);
+        }
+
+        @SuppressWarnings("unchecked")
+        private void put(ResultCache resultCache, JarFile jarFile, Object result) {
+            resultCache.put(jarFile, key, codec, (R) result);
+        }
+    }
+}
@@ -17,6 +17,9 @@
  */
 package org.kordamp.jarviz.reporting;
 
+import java.io.StringWriter;
+import java.io.Writer;
+
 import static java.lang.System.lineSeparator;
 
 /**
@@ -29,12 +32,41 @@ public abstract class Formatter {
     protected static final String EMPTY = "";
 
     public String write(Node node) {
-        Report report = new Report();
-        append(report, node);
-        return report.toString();
+        StringWriter out = new StringWriter();
+        try (ReportWriter writer = writer(out)) {
+            writer.write(node);
+        }
+        return out.toString();
+    }
+
+    /**
+     * Creates a {@link ReportWriter} that formats elements as they are written to {@code out}.
+     */
+    public ReportWriter writer(Writer out) {
+        return new ReportWriter(this, out);
     }
 
-    protected abstract void append(Report report, Node node);
+    /**
+     * Appends an element that has no children, its value may be blank.
+     */
+    protected abstract void appendLeaf(Report report, Node node);
+
+    /**
+     * Appends the opening of an element that has at least one child.
+     */
+    protected abstract void appendStart(Report report, Node node);
+
+    /**
+     * Appends the closing of an element previously opened with {@link #appendStart(Report, Node)}.
+     */
+    protected abstract void appendEnd(Report report, Node node);
+
+    /**
+     * Appends whatever goes between two consecutive children of {@code parent}.
+     */
+    protected void appendSeparator(Report report, Node parent) {
+        // noop
+    }
 
     protected int indentAdjustment() {
         return 0;
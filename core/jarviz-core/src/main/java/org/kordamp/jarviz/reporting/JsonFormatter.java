@@ -19,7 +19,6 @@ package org.kordamp.jarviz.reporting;
 
 import static java.lang.System.lineSeparator;
 import static org.kordamp.jarviz.util.StringUtils.isBlank;
-import static org.kordamp.jarviz.util.StringUtils.isNotBlank;
 
 /**
  * @author Andres Almiray
@@ -43,53 +42,65 @@ public class JsonFormatter extends Formatter {
     }
 
     @Override
-    public String write(Node node) {
-        Report report = new Report()
-            .append(OPEN_STRUCT)
-            .newLine();
-        appendChildren(report, node);
-        report.append(CLOSE_STRUCT)
-            .newLine();
-        return report.toString();
-    }
+    protected void appendLeaf(Report report, Node node) {
+        if (node.isRoot()) {
+            report.append(OPEN_STRUCT)
+                .newLine()
+                .append(CLOSE_STRUCT)
+                .newLine();
+            return;
+        }
 
-    @Override
-    protected void append(Report report, Node node) {
-        if (isBlank(node.getValue()) && node.getChildren().isEmpty()) {
+        if (isBlank(node.getValue())) {
             report.indent(indentationFor(node))
                 .append(quote(node.getName()));
             return;
         }
 
-        if (!node.isCollapsable()) {
-            report.indent(indentationFor(node))
-                .append(quote(node.getName()))
-                .append(COLON)
-                .append(SPACE);
-        } else {
-            report.indent(indentationFor(node));
+        appendName(report, node);
+        report.append(formatValue(node));
+    }
+
+    @Override
+    protected void appendStart(Report report, Node node) {
+        if (node.isRoot()) {
+            report.append(OPEN_STRUCT)
+                .newLine();
+            return;
         }
 
-        if (isNotBlank(node.getValue())) {
-            report.append(formatValue(node));
-        } else if (!node.getChildren().isEmpty()) {
-            report.append(node.isArray() ? OPEN_ARRAY : OPEN_STRUCT)
+        appendName(report, node);
+        report.append(node.isArray() ? OPEN_ARRAY : OPEN_STRUCT)
+            .newLine();
+    }
+
+    @Override
+    protected void appendEnd(Report report, Node node) {
+        // terminates the last child
+        report.newLine();
+
+        if (node.isRoot()) {
+            report.append(CLOSE_STRUCT)
                 .newLine();
-            appendChildren(report, node);
-            report.indent(indentationFor(node))
-                .append(node.isArray() ? CLOSE_ARRAY : CLOSE_STRUCT);
+            return;
         }
+
+        report.indent(indentationFor(node))
+            .append(node.isArray() ? CLOSE_ARRAY : CLOSE_STRUCT);
     }
 
-    private void appendChildren(Report report, Node node) {
-        int childCount = node.getChildren().size();
-        for (int i = 0; i < childCount; i++) {
-            Node child = node.getChildren().get(i);
-            append(report, child);
-            if (childCount > 1 && i != childCount - 1) {
-                report.append(COMMA);
-            }
-            report.newLine();
+    @Override
+    protected void appendSeparator(Report report, Node parent) {
+        report.append(COMMA)
+            .newLine();
+    }
+
+    private void appendName(Report report, Node node) {
+        report.indent(indentationFor(node));
+        if (!node.isCollapsable()) {
+            report.append(quote(node.getName()))
+                .append(COLON)
+                .append(SPACE);
         }
     }
 
@@ -130,7 +141,18 @@ public class JsonFormatter extends Formatter {
     }
 
     private boolean isNumber(String value) {
-        return isDouble(value) || isLong(value);
+        // skip parsing, and the exceptions thrown, for values that cannot possibly be numbers
+        return mayBeNumber(value) && (isDouble(value) || isLong(value));
+    }
+
+    private boolean mayBeNumber(String value) {
+        // leading whitespace is ignored by Double.parseDouble
+        int i = 0;
+        while (i < value.length() && value.charAt(i) <= ' ') i++;
+        if (i == value.length()) return false;
+
+        char c = value.charAt(i);
+        return Character.isDigit(c) || c == '-' || c == '+' || c == '.' || c == 'N' || c == 'I';
     }
 
     private boolean isDouble(String value) {
@@ -152,6 +174,12 @@ public class JsonFormatter extends Formatter {
     }
 
     private String quote(String value) {
-        return QUOTES + value.replaceAll("\"", "\\\\\"") + QUOTES;
+        StringBuilder b = new StringBuilder(value.length() + 2).append(QUOTES);
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == QUOTES) b.append('\\');
+            b.append(c);
+        }
+        return b.append(QUOTES).toString();
     }
 }
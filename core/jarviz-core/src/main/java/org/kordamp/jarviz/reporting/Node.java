@@ -31,15 +31,18 @@ import static org.kordamp.jarviz.util.StringUtils.isBlank;
  */
 public class Node {
     private final Node parent;
+    private int index;
     private final int indentation;
     private final String name;
     private final List<Node> children = new ArrayList<>();
+    private final List<Node> unmodifiableChildren = unmodifiableList(children);
     private final boolean array;
     private final boolean collapsable;
     private Object value;
 
-    private Node(Node parent, String name, boolean array, boolean collapsable) {
+    private Node(Node parent, String name, boolean array, boolean collapsable, int index) {
         this.parent = parent;
+        this.index = index;
         this.name = name;
         this.array = array;
         this.collapsable = collapsable;
@@ -59,13 +62,17 @@ public class Node {
     }
 
     public List<Node> getChildren() {
-        return unmodifiableList(children);
+        return unmodifiableChildren;
     }
 
     public Optional<Node> getParent() {
         return Optional.ofNullable(parent);
     }
 
+    public boolean isRoot() {
+        return null == parent;
+    }
+
     public boolean isCollapsable() {
         return collapsable;
     }
@@ -80,7 +87,7 @@ public class Node {
     }
 
     public boolean isFirstChild() {
-        return null != parent && parent.children.indexOf(this) == 0;
+        return null != parent && index == 0;
     }
 
     public Node value(Object value) {
@@ -89,19 +96,19 @@ public class Node {
     }
 
     public Node node(String name) {
-        Node child = new Node(this, name, false, false);
+        Node child = new Node(this, name, false, false, children.size());
         children.add(child);
         return child;
     }
 
     public Node array(String name) {
-        Node child = new Node(this, name, true, false);
+        Node child = new Node(this, name, true, false, children.size());
         children.add(child);
         return child;
     }
 
     public Node collapsable(String name) {
-        Node child = new Node(this, name, false, true);
+        Node child = new Node(this, name, false, true, children.size());
         children.add(child);
         return child;
     }
@@ -129,6 +136,9 @@ public class Node {
 
     public Node cleanup() {
         children.removeIf(child -> isBlank(child.getValue()) && child.getChildren().isEmpty());
+        for (int i = 0; i < children.size(); i++) {
+            children.get(i).index = i;
+        }
         return null != parent ? parent : this;
     }
 
@@ -136,7 +146,15 @@ public class Node {
         return null != parent ? parent : this;
     }
 
+    /**
+     * Creates a child that knows its parent and position but is not registered as one of its children.
+     * Used by {@link ReportWriter} to describe the node being written without retaining the whole tree.
+     */
+    Node detached(String name, boolean array, boolean collapsable, int index) {
+        return new Node(this, name, array, collapsable, index);
+    }
+
     public static Node root(String name) {
-        return new Node(null, name, false, false);
+        return new Node(null, name, false, false, 0);
     }
 }
@@ -17,49 +17,159 @@
  */
 package org.kordamp.jarviz.reporting;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
 
 import static java.lang.System.lineSeparator;
-import static org.kordamp.jarviz.util.StringUtils.isNotBlank;
 
 /**
+ * Line oriented sink for formatted output. Blank lines are dropped and the whole content is trimmed.
+ * <p>
+ * Lines are written to the given {@code Writer} as soon as they are complete, save for the last one
+ * which is held back until {@link #close()} so that trailing whitespace may be trimmed.
+ *
  * @author Andres Almiray
  * @since 0.2.0
  */
-public class Report {
+public class Report implements Closeable, Flushable {
     protected static final String INDENT = "  ";
 
-    private final List<String> lines = new ArrayList<>();
-    private String current = "";
+    private final Writer writer;
+    private final StringWriter buffer;
+    // builders are swapped instead of copied when a line is complete
+    private StringBuilder current = new StringBuilder();
+    private StringBuilder pending = new StringBuilder();
+    private boolean started;
+    private char[] chars = new char[256];
+
+    public Report() {
+        this.buffer = new StringWriter();
+        this.writer = buffer;
+    }
+
+    public Report(Writer writer) {
+        this.buffer = null;
+        this.writer = writer;
+    }
 
     public Report indent(int times) {
-        current = INDENT.repeat(Math.max(0, times));
+        current.setLength(0);
+        return appendIndent(times);
+    }
+
+    /**
+     * Appends indentation to the current line, unlike {@link #indent(int)} the line is not reset.
+     */
+    public Report appendIndent(int times) {
+        for (int i = 0; i < times; i++) {
+            current.append(INDENT);
+        }
         return this;
     }
 
     public Report append(String str) {
-        current += str;
+        current.append(str);
         return this;
     }
 
     public Report append(char c) {
-        current += c;
+        current.append(c);
         return this;
     }
 
     public Report newLine() {
         if (isNotBlank(current)) {
-            lines.add(current);
+            if (!started) {
+                started = true;
+                trimLeading(current);
+            } else {
+                write(pending);
+                write(lineSeparator());
+            }
+
+            StringBuilder b = pending;
+            pending = current;
+            current = b;
         }
 
-        current = "";
+        current.setLength(0);
 
         return this;
     }
 
+    @Override
+    public void flush() {
+        try {
+            writer.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Writes the last line and flushes. The underlying {@code Writer} is left open.
+     */
+    @Override
+    public void close() {
+        trimTrailing(pending);
+        write(pending);
+        write(lineSeparator());
+        pending.setLength(0);
+        started = false;
+        flush();
+    }
+
     @Override
     public String toString() {
-        return String.join(lineSeparator(), lines).trim() + lineSeparator();
+        if (null == buffer) return super.toString();
+
+        StringBuilder b = new StringBuilder(buffer.getBuffer()).append(pending);
+        trimTrailing(b);
+        return b.append(lineSeparator()).toString();
+    }
+
+    private void write(String str) {
+        try {
+            writer.write(str);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void write(StringBuilder b) {
+        int length = b.length();
+        if (chars.length < length) {
+            chars = new char[Math.max(length, chars.length * 2)];
+        }
+        b.getChars(0, length, chars, 0);
+
+        try {
+            writer.write(chars, 0, length);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static boolean isNotBlank(CharSequence str) {
+        for (int i = 0; i < str.length(); i++) {
+            if (!Character.isWhitespace(str.charAt(i))) return true;
+        }
+        return false;
+    }
+
+    private static void trimLeading(StringBuilder b) {
+        int start = 0;
+        while (start < b.length() && b.charAt(start) <= ' ') start++;
+        b.delete(0, start);
+    }
+
+    private static void trimTrailing(StringBuilder b) {
+        int end = b.length();
+        while (end > 0 && b.charAt(end - 1) <= ' ') end--;
+        b.setLength(end);
     }
 }
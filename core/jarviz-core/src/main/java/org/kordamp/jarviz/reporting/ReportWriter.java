@@ -0,0 +1,182 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2022-2023 The Jarviz authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kordamp.jarviz.reporting;
+
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.Writer;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Deque;
+
+import static org.kordamp.jarviz.util.StringUtils.isNotBlank;
+
+/**
+ * Writes a report as a sequence of events, formatting every element as soon as it is known.
+ * <p>
+ * Only the chain of currently open elements is kept in memory, which lets reports of any size be
+ * written straight to a file or the console. Output is identical to formatting the equivalent
+ * {@link Node} tree with {@link Formatter#write(Node)}.
+ *
+ * <pre>
+ * writer.startObject("jarviz")
+ *     .startArray("subjects")
+ *         .field("command", "bytecode show")
+ *     .end()
+ * .end();
+ * </pre>
+ *
+ * @author Andres Almiray
+ * @since 0.3.0
+ */
+public class ReportWriter implements Closeable, Flushable {
+    private final Formatter formatter;
+    private final Report report;
+    private final Deque<Element> elements = new ArrayDeque<>();
+    private boolean closed;
+
+    ReportWriter(Formatter formatter, Writer writer) {
+        this.formatter = formatter;
+        this.report = new Report(writer);
+    }
+
+    /**
+     * Number of elements that have been started but not yet ended.
+     */
+    public int getDepth() {
+        return elements.size();
+    }
+
+    public ReportWriter startObject(String name) {
+        return start(name, false, false);
+    }
+
+    public ReportWriter startArray(String name) {
+        return start(name, true, false);
+    }
+
+    public ReportWriter startCollapsable(String name) {
+        return start(name, false, true);
+    }
+
+    public ReportWriter field(String name, Object value) {
+        return start(name, false, false).value(value).end();
+    }
+
+    public ReportWriter collapsableField(String name, Object value) {
+        return start(name, false, true).value(value).end();
+    }
+
+    public ReportWriter fields(String name, Collection<String> values) {
+        for (String value : values) {
+            field(name, value);
+        }
+        return this;
+    }
+
+    public ReportWriter collapsableFields(String name, Collection<String> values) {
+        for (String value : values) {
+            collapsableField(name, value);
+        }
+        return this;
+    }
+
+    /**
+     * Writes {@code node} and all of its children as a child of the current element.
+     */
+    public ReportWriter write(Node node) {
+        start(node.getName(), node.isArray(), node.isCollapsable());
+        if (isNotBlank(node.getValue())) {
+            value(node.getValue());
+        } else {
+            for (Node child : node.getChildren()) {
+                write(child);
+            }
+        }
+        return end();
+    }
+
+    public ReportWriter end() {
+        if (elements.isEmpty()) {
+            throw new IllegalStateException("No element to end");
+        }
+
+        Element element = elements.pop();
+        if (element.children > 0) {
+            formatter.appendEnd(report, element.node);
+        } else {
+            formatter.appendLeaf(report, element.node);
+        }
+        return this;
+    }
+
+    @Override
+    public void flush() {
+        report.flush();
+    }
+
+    /**
+     * Ends all open elements and flushes. The underlying {@code Writer} is left open.
+     */
+    @Override
+    public void close() {
+        if (closed) return;
+        closed = true;
+
+        while (!elements.isEmpty()) {
+            end();
+        }
+        report.close();
+    }
+
+    private ReportWriter start(String name, boolean array, boolean collapsable) {
+        if (closed) {
+            throw new IllegalStateException("Writer has been closed");
+        }
+
+        Element parent = elements.peek();
+        if (null == parent) {
+            elements.push(new Element(Node.root(name)));
+            return this;
+        }
+
+        // a container is only known to have children once the first one shows up
+        if (parent.children == 0) {
+            formatter.appendStart(report, parent.node);
+        } else {
+            formatter.appendSeparator(report, parent.node);
+        }
+
+        elements.push(new Element(parent.node.detached(name, array, collapsable, parent.children++)));
+        return this;
+    }
+
+    private ReportWriter value(Object value) {
+        elements.element().node.value(value);
+        return this;
+    }
+
+    private static class Element {
+        private final Node node;
+        private int children;
+
+        private Element(Node node) {
+            this.node = node;
+        }
+    }
+}
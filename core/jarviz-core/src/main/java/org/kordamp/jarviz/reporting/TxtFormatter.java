@@ -32,16 +32,9 @@ public class TxtFormatter extends Formatter {
     }
 
     @Override
-    public String write(Node node) {
-        Report report = new Report();
-        for (Node child : node.getChildren()) {
-            append(report, child);
-        }
-        return report.toString();
-    }
+    protected void appendLeaf(Report report, Node node) {
+        if (node.isRoot()) return;
 
-    @Override
-    protected void append(Report report, Node node) {
         report.indent(indentationFor(node))
             .append(element(node.getName()));
 
@@ -49,18 +42,29 @@ public class TxtFormatter extends Formatter {
             report.append(COLON)
                 .append(SPACE)
                 .append(formatValue(node));
-        } else if (!node.getChildren().isEmpty()) {
-            report.append(COLON)
-                .newLine();
-            for (Node child : node.getChildren()) {
-                append(report, child);
-            }
-            report.indent(indentationFor(node));
         }
 
         report.newLine();
     }
 
+    @Override
+    protected void appendStart(Report report, Node node) {
+        if (node.isRoot()) return;
+
+        report.indent(indentationFor(node))
+            .append(element(node.getName()))
+            .append(COLON)
+            .newLine();
+    }
+
+    @Override
+    protected void appendEnd(Report report, Node node) {
+        if (node.isRoot()) return;
+
+        report.indent(indentationFor(node))
+            .newLine();
+    }
+
     private String element(String str) {
         return str;
     }
@@ -19,7 +19,6 @@ package org.kordamp.jarviz.reporting;
 
 import static java.lang.System.lineSeparator;
 import static org.kordamp.jarviz.util.StringUtils.isBlank;
-import static org.kordamp.jarviz.util.StringUtils.isNotBlank;
 
 /**
  * @author Andres Almiray
@@ -39,23 +38,27 @@ public class XmlFormatter extends Formatter {
     }
 
     @Override
-    protected void append(Report report, Node node) {
-        if (isBlank(node.getValue()) && node.getChildren().isEmpty()) return;
+    protected void appendLeaf(Report report, Node node) {
+        if (isBlank(node.getValue())) return;
 
         report.indent(indentationFor(node))
-            .append(openXmlElement(node.getName()));
+            .append(openXmlElement(node.getName()))
+            .append(formatValue(node))
+            .append(closeXmlElement(node.getName()))
+            .newLine();
+    }
 
-        if (isNotBlank(node.getValue())) {
-            report.append(formatValue(node));
-        } else {
-            report.newLine();
-            for (Node child : node.getChildren()) {
-                append(report, child);
-            }
-            report.indent(indentationFor(node));
-        }
+    @Override
+    protected void appendStart(Report report, Node node) {
+        report.indent(indentationFor(node))
+            .append(openXmlElement(node.getName()))
+            .newLine();
+    }
 
-        report.append(closeXmlElement(node.getName()))
+    @Override
+    protected void appendEnd(Report report, Node node) {
+        report.indent(indentationFor(node))
+            .append(closeXmlElement(node.getName()))
             .newLine();
     }
 
@@ -19,7 +19,6 @@ package org.kordamp.jarviz.reporting;
 
 import static java.lang.System.lineSeparator;
 import static org.kordamp.jarviz.util.StringUtils.isBlank;
-import static org.kordamp.jarviz.util.StringUtils.isNotBlank;
 
 /**
  * @author Andres Almiray
@@ -36,49 +35,58 @@ public class YamlFormatter extends Formatter {
     }
 
     @Override
-    public String write(Node node) {
-        Report report = new Report();
-        for (Node child : node.getChildren()) {
-            append(report, child);
-        }
-        return report.toString();
-    }
+    protected void appendLeaf(Report report, Node node) {
+        if (node.isRoot()) return;
 
-    @Override
-    protected void append(Report report, Node node) {
-        if (isBlank(node.getValue()) && node.getChildren().isEmpty()) {
-            report.indent(indentationFor(node))
-                .append(node.isArrayElement() ? (node.isFirstChild() ? ITEM : EMPTY) : EMPTY)
-                .append(element(node.getName()));
+        if (isBlank(node.getValue())) {
+            appendName(report, node);
             return;
         }
 
         if (!node.isCollapsable()) {
-            report.indent(indentationFor(node))
-                .append(node.isArrayElement() ? (node.isFirstChild() ? ITEM : EMPTY) : EMPTY)
-                .append(element(node.getName()))
-                .append(COLON);
+            appendName(report, node);
+            report.append(COLON);
         }
 
-        if (isNotBlank(node.getValue())) {
-            report.append(node.isCollapsable() ? INDENT.repeat(indentationFor(node)) + ITEM : SPACE)
-                .append(formatValue(node));
-            if (node.isCollapsable()) report.newLine();
-        } else if (!node.getChildren().isEmpty()) {
-            if (!node.isCollapsable()) report.newLine();
-            for (Node child : node.getChildren()) {
-                append(report, child);
-            }
-            if (!node.isCollapsable()) report.newLine();
+        if (node.isCollapsable()) {
+            report.appendIndent(indentationFor(node))
+                .append(ITEM);
+        } else {
+            report.append(SPACE);
         }
 
-        if (!node.isCollapsable()) report.newLine();
+        report.append(formatValue(node))
+            .newLine();
+    }
+
+    @Override
+    protected void appendStart(Report report, Node node) {
+        if (node.isRoot() || node.isCollapsable()) return;
+
+        appendName(report, node);
+        report.append(COLON)
+            .newLine();
+    }
+
+    @Override
+    protected void appendEnd(Report report, Node node) {
+        if (node.isRoot() || node.isCollapsable()) return;
+
+        report.newLine()
+            .newLine();
+    }
+
+    private void appendName(Report report, Node node) {
+        report.indent(indentationFor(node))
+            .append(node.isArrayElement() ? (node.isFirstChild() ? ITEM : EMPTY) : EMPTY)
+            .append(element(node.getName()));
     }
 
     @Override
     protected int indentationFor(Node node, int offset) {
-        if (node.getParent().isPresent()) {
-            offset += node.getParent().get().isCollapsable() && node.isArrayElement() && node.isFirstChild() ? -1 : 0;
+        // only first children may be offset, checking for it first avoids looking up the parent
+        if (node.isFirstChild() && node.getParent().get().isCollapsable()) {
+            offset -= 1;
         }
         return super.indentationFor(node, offset);
     }
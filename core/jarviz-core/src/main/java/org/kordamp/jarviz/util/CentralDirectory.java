@@ -0,0 +1,287 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2022-2023 The Jarviz authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kordamp.jarviz.util;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.function.Consumer;
+import java.util.zip.ZipException;
+
+/**
+ * Reads entry names straight from the central directory of a ZIP file, Zip64 archives included.
+ * <p>
+ * The central directory is read in one go and validated once. Names are handed out as a single reusable
+ * {@link EntryName} that views the raw bytes, no objects are created per entry. Entries are visited in
+ * central directory order, the same order as {@code ZipFile.entries()}.
+ *
+ * @author Andres Almiray
+ * @since 0.3.0
+ */
+public final class CentralDirectory {
+    private static final int END_SIGNATURE = 0x06054b50;
+    private static final int END_SIZE = 22;
+    private static final int MAX_COMMENT_SIZE = 0xFFFF;
+    private static final int ZIP64_LOCATOR_SIGNATURE = 0x07064b50;
+    private static final int ZIP64_LOCATOR_SIZE = 20;
+    private static final int ZIP64_END_SIGNATURE = 0x06064b50;
+    private static final int ZIP64_END_SIZE = 56;
+    private static final int HEADER_SIGNATURE = 0x02014b50;
+    private static final int HEADER_SIZE = 46;
+    private static final int ZIP64_EXTRA_ID = 0x0001;
+    private static final long ZIP64_MAGIC = 0xFFFFFFFFL;
+
+    private final byte[] buffer;
+    private final int entryCount;
+    private final long baseOffset;
+
+    private CentralDirectory(byte[] buffer, int entryCount, long baseOffset) {
+        this.buffer = buffer;
+        this.entryCount = entryCount;
+        this.baseOffset = baseOffset;
+    }
+
+    public static CentralDirectory read(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < END_SIZE) throw new ZipException("zip file is too small: " + file);
+
+            // the end record sits at the very end, followed only by an optional comment
+            long tailStart = Math.max(0, size - END_SIZE - MAX_COMMENT_SIZE - ZIP64_LOCATOR_SIZE);
+            byte[] tail = read(channel, tailStart, (int) (size - tailStart));
+
+            int end = findEnd(tail);
+            if (end < 0) throw new ZipException("zip END header not found: " + file);
+
+            long centralSize = getInt(tail, end + 12) & ZIP64_MAGIC;
+            long centralOffset = getInt(tail, end + 16) & ZIP64_MAGIC;
+            long endPosition = tailStart + end;
+
+            int locator = end - ZIP64_LOCATOR_SIZE;
+            if (locator >= 0 && getInt(tail, locator) == ZIP64_LOCATOR_SIGNATURE) {
+                // the recorded position is off by the length of a prefix, the record usually precedes the locator
+                long zip64End = getLong(tail, locator + 8);
+                byte[] record = zip64End >= 0 && zip64End <= size - ZIP64_END_SIZE ? read(channel, zip64End, ZIP64_END_SIZE) : null;
+                if (null == record || getInt(record, 0) != ZIP64_END_SIGNATURE) {
+                    zip64End = tailStart + locator - ZIP64_END_SIZE;
+                    record = zip64End >= 0 ? read(channel, zip64End, ZIP64_END_SIZE) : null;
+                }
+                if (null == record || getInt(record, 0) != ZIP64_END_SIGNATURE) {
+                    throw new ZipException("invalid zip64 END header: " + file);
+                }
+                centralSize = getLong(record, 40);
+                centralOffset = getLong(record, 48);
+                endPosition = zip64End;
+            }
+
+            // computed backwards from the end record, like ZipFile does, so that prefixed archives work too
+            long centralPosition = endPosition - centralSize;
+            if (centralSize < 0 || centralSize > Integer.MAX_VALUE - 8 || centralPosition < 0) {
+                throw new ZipException("invalid central directory: " + file);
+            }
+
+            // length of anything prepended to the archive, recorded offsets are relative to it
+            long baseOffset = centralPosition - centralOffset;
+            if (centralOffset < 0 || baseOffset < 0) {
+                throw new ZipException("invalid END header (bad central directory offset): " + file);
+            }
+
+            byte[] central = read(channel, centralPosition, (int) centralSize);
+            return new CentralDirectory(central, validate(central, file), baseOffset);
+        }
+    }
+
+    public int getEntryCount() {
+        return entryCount;
+    }
+
+    /**
+     * Position of the archive within the file, greater than zero when something such as a launcher script was
+     * prepended to it.
+     */
+    public long getBaseOffset() {
+        return baseOffset;
+    }
+
+    /**
+     * Visits the name of every entry. The given {@code EntryName} is reused, call
+     * {@link EntryName#toString()} to keep a name beyond the call.
+     */
+    public void forEach(Consumer<EntryName> consumer) {
+        EntryName name = new EntryName();
+        int position = 0;
+        for (int i = 0; i < entryCount; i++) {
+            int nameLength = getShort(buffer, position + 28);
+            name.set(buffer, position + HEADER_SIZE, nameLength);
+            consumer.accept(name);
+            position = next(buffer, position, nameLength);
+        }
+    }
+
+    /**
+     * Like {@link #forEach(Consumer)} but also exposes how each entry is stored. The given {@code Entry}
+     * is reused as well.
+     */
+    public void forEachEntry(Consumer<Entry> consumer) {
+        Entry entry = new Entry();
+        int position = 0;
+        for (int i = 0; i < entryCount; i++) {
+            int nameLength = getShort(buffer, position + 28);
+            entry.set(position, nameLength);
+            consumer.accept(entry);
+            position = next(buffer, position, nameLength);
+        }
+    }
+
+    /**
+     * A central directory record. Sizes and offsets found in a Zip64 extra field take precedence.
+     */
+    public final class Entry {
+        private final EntryName name = new EntryName();
+        private int method;
+        private long compressedSize;
+        private long size;
+        private long localHeaderOffset;
+
+        private Entry() {
+            // reused by forEachEntry
+        }
+
+        private void set(int position, int nameLength) {
+            name.set(buffer, position + HEADER_SIZE, nameLength);
+            method = getShort(buffer, position + 10);
+            compressedSize = getInt(buffer, position + 20) & ZIP64_MAGIC;
+            size = getInt(buffer, position + 24) & ZIP64_MAGIC;
+            localHeaderOffset = getInt(buffer, position + 42) & ZIP64_MAGIC;
+
+            if (compressedSize == ZIP64_MAGIC || size == ZIP64_MAGIC || localHeaderOffset == ZIP64_MAGIC) {
+                readZip64Extra(position + HEADER_SIZE + nameLength, getShort(buffer, position + 30));
+            }
+        }
+
+        private void readZip64Extra(int offset, int length) {
+            int end = offset + length;
+            while (offset + 4 <= end) {
+                int id = getShort(buffer, offset);
+                int dataSize = getShort(buffer, offset + 2);
+                int data = offset + 4;
+                if (id == ZIP64_EXTRA_ID) {
+                    // only the values that overflowed are present, in this order
+                    if (size == ZIP64_MAGIC && data + 8 <= end) {
+                        size = getLong(buffer, data);
+                        data += 8;
+                    }
+                    if (compressedSize == ZIP64_MAGIC && data + 8 <= end) {
+                        compressedSize = getLong(buffer, data);
+                        data += 8;
+                    }
+                    if (localHeaderOffset == ZIP64_MAGIC && data + 8 <= end) {
+                        localHeaderOffset = getLong(buffer, data);
+                    }
+                    return;
+                }
+                offset = data + dataSize;
+            }
+        }
+
+        public EntryName getName() {
+            return name;
+        }
+
+        /**
+         * The compression method, {@code ZipEntry.STORED} or {@code ZipEntry.DEFLATED} in practice.
+         */
+        public int getMethod() {
+            return method;
+        }
+
+        public long getCompressedSize() {
+            return compressedSize;
+        }
+
+        public long getSize() {
+            return size;
+        }
+
+        /**
+         * Position of the local header within the file, prefixes included.
+         */
+        public long getLocalHeaderOffset() {
+            return baseOffset + localHeaderOffset;
+        }
+
+        public boolean isDirectory() {
+            return name.endsWith("/");
+        }
+    }
+
+    private static byte[] read(FileChannel channel, long position, int length) throws IOException {
+        byte[] bytes = new byte[length];
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, position + buffer.position()) < 0) throw new EOFException();
+        }
+        return bytes;
+    }
+
+    private static int next(byte[] buffer, int position, int nameLength) {
+        int extraLength = getShort(buffer, position + 30);
+        int commentLength = getShort(buffer, position + 32);
+        return position + HEADER_SIZE + nameLength + extraLength + commentLength;
+    }
+
+    private static int findEnd(byte[] tail) {
+        for (int i = tail.length - END_SIZE; i >= 0; i--) {
+            if (getInt(tail, i) == END_SIGNATURE) {
+                int commentLength = getShort(tail, i + 20);
+                if (i + END_SIZE + commentLength <= tail.length) return i;
+            }
+        }
+        return -1;
+    }
+
+    private static int validate(byte[] central, Path file) throws ZipException {
+        // entry counts in the end records may overflow, count headers instead
+        int count = 0;
+        int position = 0;
+        while (position < central.length) {
+            if (position + HEADER_SIZE > central.length || getInt(central, position) != HEADER_SIGNATURE) {
+                throw new ZipException("invalid CEN header: " + file);
+            }
+            position = next(central, position, getShort(central, position + 28));
+            if (position > central.length) throw new ZipException("invalid CEN header: " + file);
+            count++;
+        }
+        return count;
+    }
+
+    private static int getShort(byte[] b, int i) {
+        return b[i] & 0xFF | (b[i + 1] & 0xFF) << 8;
+    }
+
+    private static int getInt(byte[] b, int i) {
+        return getShort(b, i) | getShort(b, i + 2) << 16;
+    }
+
+    private static long getLong(byte[] b, int i) {
+        return getInt(b, i) & 0xFFFFFFFFL | (getInt(b, i + 4) & 0xFFFFFFFFL) << 32;
+    }
+}
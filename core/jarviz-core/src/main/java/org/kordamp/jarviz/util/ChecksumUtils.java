@@ -21,10 +21,17 @@ import org.kordamp.jarviz.bundle.RB;
 import org.kordamp.jarviz.core.JarvizException;
 
 import java.io.IOException;
-import java.nio.file.Files;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.Map;
 
 /**
  * @author Andres Almiray
@@ -32,18 +39,66 @@ import java.security.NoSuchAlgorithmException;
  */
 public class ChecksumUtils {
     private static final char[] DIGITS = {'0', '1', '2', '3', '4', '5', '6', '7', '8', '9', 'a', 'b', 'c', 'd', 'e', 'f'};
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final long MMAP_THRESHOLD = 32L * 1024 * 1024;
+    private static final long MMAP_WINDOW = 256L * 1024 * 1024;
+    private static final ThreadLocal<ByteBuffer> BUFFER = ThreadLocal.withInitial(() -> ByteBuffer.allocateDirect(BUFFER_SIZE));
 
     private ChecksumUtils() {
         // prevent instantiation
     }
 
-    public static String checksum(Algorithm algorithm, Path path)  {
+    public static String checksum(Algorithm algorithm, Path path) {
+        return checksums(path, algorithm).get(algorithm);
+    }
+
+    public static Map<Algorithm, String> checksums(Path path, Algorithm... algorithms) {
+        return checksums(path, Arrays.asList(algorithms));
+    }
+
+    /**
+     * Computes all given checksums reading the file only once. Small files are streamed through a reusable
+     * direct buffer, large files are memory mapped in windows.
+     */
+    public static Map<Algorithm, String> checksums(Path path, Collection<Algorithm> algorithms) {
+        Map<Algorithm, MessageDigest> digests = new EnumMap<>(Algorithm.class);
         try {
-            MessageDigest digest = MessageDigest.getInstance(algorithm.formatted());
-            return encodeHex(digest.digest(Files.readAllBytes(path)));
+            for (Algorithm algorithm : algorithms) {
+                digests.put(algorithm, MessageDigest.getInstance(algorithm.formatted()));
+            }
+
+            try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+                long size = channel.size();
+                if (size >= MMAP_THRESHOLD) {
+                    for (long position = 0; position < size; position += MMAP_WINDOW) {
+                        MappedByteBuffer window = channel.map(FileChannel.MapMode.READ_ONLY, position, Math.min(MMAP_WINDOW, size - position));
+                        update(digests.values(), window);
+                    }
+                } else {
+                    ByteBuffer buffer = BUFFER.get();
+                    buffer.clear();
+                    while (channel.read(buffer) != -1) {
+                        buffer.flip();
+                        update(digests.values(), buffer);
+                        buffer.clear();
+                    }
+                }
+            }
         } catch (NoSuchAlgorithmException | IOException e) {
             throw new JarvizException(RB.$("ERROR_UNEXPECTED"), e);
         }
+
+        Map<Algorithm, String> checksums = new EnumMap<>(Algorithm.class);
+        digests.forEach((algorithm, digest) -> checksums.put(algorithm, encodeHex(digest.digest())));
+        return checksums;
+    }
+
+    private static void update(Collection<MessageDigest> digests, ByteBuffer buffer) {
+        int position = buffer.position();
+        for (MessageDigest digest : digests) {
+            buffer.position(position);
+            digest.update(buffer);
+        }
     }
 
     private static String encodeHex(byte[] data) {
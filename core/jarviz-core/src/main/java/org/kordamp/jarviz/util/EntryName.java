@@ -0,0 +1,141 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2022-2023 The Jarviz authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kordamp.jarviz.util;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * A reusable view of a ZIP entry name, either over its raw UTF-8 bytes or over a {@code String}.
+ * <p>
+ * ASCII characters never occur inside a multi-byte UTF-8 sequence, which means names can be searched
+ * and compared in place, only substrings are ever decoded. Indexes are therefore only meaningful to
+ * the same name they were obtained from. Instances are mutable and must not be retained, use
+ * {@link #toString()} to obtain a stable copy.
+ *
+ * @author Andres Almiray
+ * @since 0.3.0
+ */
+public final class EntryName {
+    private byte[] bytes;
+    private int offset;
+    private int length;
+    private String string;
+
+    public EntryName set(byte[] bytes, int offset, int length) {
+        this.bytes = bytes;
+        this.offset = offset;
+        this.length = length;
+        this.string = null;
+        return this;
+    }
+
+    public EntryName set(String name) {
+        this.bytes = null;
+        this.string = name;
+        return this;
+    }
+
+    public int length() {
+        return null != bytes ? length : string.length();
+    }
+
+    public String substring(int start, int end) {
+        if (null == bytes) return string.substring(start, end);
+        return new String(bytes, offset + start, end - start, StandardCharsets.UTF_8);
+    }
+
+    public boolean startsWith(String prefix) {
+        return regionMatches(0, prefix);
+    }
+
+    public boolean endsWith(String suffix) {
+        if (null == bytes) return string.endsWith(suffix);
+        return regionMatches(length - encodedLength(suffix), suffix);
+    }
+
+    public boolean contentEquals(String str) {
+        if (null == bytes) return string.equals(str);
+        return length == encodedLength(str) && regionMatches(0, str);
+    }
+
+    /**
+     * Whether {@code str} is found at the given index.
+     */
+    public boolean regionMatches(int start, String str) {
+        if (null == bytes) return string.startsWith(str, start);
+        if (start < 0) return false;
+
+        for (int i = 0, j = offset + start; i < str.length(); i++, j++) {
+            char c = str.charAt(i);
+            if (c >= 0x80) return regionMatches(start + i, str.substring(i).getBytes(StandardCharsets.UTF_8));
+            if (j >= offset + length || bytes[j] != c) return false;
+        }
+        return true;
+    }
+
+    /**
+     * Finds the given ASCII character starting at {@code from}.
+     */
+    public int indexOf(char c, int from) {
+        if (null == bytes) return string.indexOf(c, from);
+        checkAscii(c);
+
+        for (int i = Math.max(0, from); i < length; i++) {
+            if (bytes[offset + i] == c) return i;
+        }
+        return -1;
+    }
+
+    /**
+     * Finds the last occurrence of the given ASCII character.
+     */
+    public int lastIndexOf(char c) {
+        if (null == bytes) return string.lastIndexOf(c);
+        checkAscii(c);
+
+        for (int i = length - 1; i >= 0; i--) {
+            if (bytes[offset + i] == c) return i;
+        }
+        return -1;
+    }
+
+    @Override
+    public String toString() {
+        if (null == string) string = substring(0, length);
+        return string;
+    }
+
+    private boolean regionMatches(int start, byte[] other) {
+        if (start < 0 || start + other.length > length) return false;
+        for (int i = 0; i < other.length; i++) {
+            if (bytes[offset + start + i] != other[i]) return false;
+        }
+        return true;
+    }
+
+    private static int encodedLength(String str) {
+        for (int i = 0; i < str.length(); i++) {
+            if (str.charAt(i) >= 0x80) return str.getBytes(StandardCharsets.UTF_8).length;
+        }
+        return str.length();
+    }
+
+    private static void checkAscii(char c) {
+        if (c >= 0x80) throw new IllegalArgumentException("Not an ASCII character: " + c);
+    }
+}
@@ -0,0 +1,297 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2022-2023 The Jarviz authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kordamp.jarviz.util;
+
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+/**
+ * A {@code glob:} or {@code regex:} pattern matched directly against ZIP entry names.
+ * <p>
+ * Matching follows the {@code PathMatcher} of the ZIP file system: entries are seen as absolute paths
+ * ({@code /META-INF/MANIFEST.MF}) and directories carry no trailing slash. Globs are translated to regular
+ * expressions with the same rules as {@code FileSystem.getPathMatcher()}.
+ *
+ * @author Andres Almiray
+ * @since 0.3.0
+ */
+public final class EntryPattern {
+    private static final String GLOB_SYNTAX = "glob";
+    private static final String REGEX_SYNTAX = "regex";
+    private static final String REGEX_META_CHARS = ".^$+{[]|()";
+    private static final String GLOB_META_CHARS = "\\*?[{";
+    private static final char EOL = 0;
+
+    private final Pattern pattern;
+    private final String literalPrefix;
+
+    private EntryPattern(Pattern pattern, String literalPrefix) {
+        this.pattern = pattern;
+        this.literalPrefix = literalPrefix;
+    }
+
+    public static EntryPattern compile(String syntaxAndPattern) {
+        int pos = syntaxAndPattern.indexOf(':');
+        if (pos <= 0) throw new IllegalArgumentException(syntaxAndPattern);
+
+        String syntax = syntaxAndPattern.substring(0, pos);
+        String input = syntaxAndPattern.substring(pos + 1);
+        if (GLOB_SYNTAX.equalsIgnoreCase(syntax)) {
+            return new EntryPattern(Pattern.compile(toRegexPattern(input)), entryPrefix(globPrefix(input)));
+        } else if (REGEX_SYNTAX.equalsIgnoreCase(syntax)) {
+            return new EntryPattern(Pattern.compile(input), entryPrefix(regexPrefix(input)));
+        }
+        throw new UnsupportedOperationException("Syntax '" + syntax + "' not recognized");
+    }
+
+    /**
+     * The literal start shared by the names of all matching entries, without the leading slash. Entries
+     * may be looked up in a sorted index by this prefix before being matched.
+     */
+    public String getLiteralPrefix() {
+        return literalPrefix;
+    }
+
+    /**
+     * Creates a matcher for a single thread.
+     */
+    public Matcher matcher() {
+        return new Matcher(pattern);
+    }
+
+    /**
+     * Matches entry names without creating the absolute path of each one.
+     */
+    public static final class Matcher {
+        private final java.util.regex.Matcher matcher;
+        private final RootedName path = new RootedName();
+
+        private Matcher(Pattern pattern) {
+            this.matcher = pattern.matcher("");
+        }
+
+        /**
+         * Whether the first {@code length} characters of {@code name}, seen as an absolute path, match.
+         */
+        public boolean matches(String name, int length) {
+            return matcher.reset(path.set(name, length)).matches();
+        }
+    }
+
+    private static final class RootedName implements CharSequence {
+        private String name;
+        private int offset;
+        private int length;
+
+        private RootedName set(String name, int length) {
+            return set(name, 0, length + 1);
+        }
+
+        private RootedName set(String name, int offset, int length) {
+            this.name = name;
+            this.offset = offset;
+            this.length = length;
+            return this;
+        }
+
+        @Override
+        public int length() {
+            return length;
+        }
+
+        @Override
+        public char charAt(int index) {
+            int i = offset + index;
+            return i == 0 ? '/' : name.charAt(i - 1);
+        }
+
+        @Override
+        public CharSequence subSequence(int start, int end) {
+            return new RootedName().set(name, offset + start, end - start);
+        }
+
+        @Override
+        public String toString() {
+            return new StringBuilder(this).toString();
+        }
+    }
+
+    private static String entryPrefix(String pathPrefix) {
+        return pathPrefix.startsWith("/") ? pathPrefix.substring(1) : "";
+    }
+
+    private static String globPrefix(String glob) {
+        int i = 0;
+        while (i < glob.length() && GLOB_META_CHARS.indexOf(glob.charAt(i)) == -1) i++;
+        return glob.substring(0, i);
+    }
+
+    private static String regexPrefix(String regex) {
+        // alternatives may start anywhere
+        if (regex.indexOf('|') != -1) return "";
+        if (regex.startsWith("^")) regex = regex.substring(1);
+
+        int i = 0;
+        while (i < regex.length() && "\\.^$+*?{[]|()".indexOf(regex.charAt(i)) == -1) i++;
+        // a quantifier applies to the last literal character
+        if (i < regex.length() && "?*{".indexOf(regex.charAt(i)) != -1) i--;
+        return regex.substring(0, Math.max(0, i));
+    }
+
+    private static boolean isRegexMeta(char c) {
+        return REGEX_META_CHARS.indexOf(c) != -1;
+    }
+
+    private static boolean isGlobMeta(char c) {
+        return GLOB_META_CHARS.indexOf(c) != -1;
+    }
+
+    private static char next(String glob, int i) {
+        return i < glob.length() ? glob.charAt(i) : EOL;
+    }
+
+    private static String toRegexPattern(String globPattern) {
+        boolean inGroup = false;
+        StringBuilder regex = new StringBuilder("^");
+
+        int i = 0;
+        while (i < globPattern.length()) {
+            char c = globPattern.charAt(i++);
+            switch (c) {
+                case '\\':
+                    // escape special characters
+                    if (i == globPattern.length()) {
+                        throw new PatternSyntaxException("No character to escape", globPattern, i - 1);
+                    }
+                    char next = globPattern.charAt(i);
+                    if (isGlobMeta(next) || isRegexMeta(next)) {
+                        regex.append('\\');
+                    }
+                    regex.append(next);
+                    i++;
+                    break;
+                case '/':
+                    regex.append(c);
+                    break;
+                case '[':
+                    // don't match name separator in class
+                    regex.append("[[^/]&&[");
+                    if (next(globPattern, i) == '^') {
+                        // escape the regex negation char if it appears
+                        regex.append("\\^");
+                        i++;
+                    } else {
+                        // negation
+                        if (next(globPattern, i) == '!') {
+                            regex.append('^');
+                            i++;
+                        }
+                        // hyphen allowed at start
+                        if (next(globPattern, i) == '-') {
+                            regex.append('-');
+                            i++;
+                        }
+                    }
+                    boolean hasRangeStart = false;
+                    char last = 0;
+                    while (i < globPattern.length()) {
+                        c = globPattern.charAt(i++);
+                        if (c == ']') {
+                            break;
+                        }
+                        if (c == '/') {
+                            throw new PatternSyntaxException("Explicit 'name separator' in class", globPattern, i - 1);
+                        }
+                        if (c == '\\' || c == '[' || c == '&' && next(globPattern, i) == '&') {
+                            // escape '\', '[' or "&&" for regex class
+                            regex.append('\\');
+                        }
+                        regex.append(c);
+
+                        if (c == '-') {
+                            if (!hasRangeStart) {
+                                throw new PatternSyntaxException("Invalid range", globPattern, i - 1);
+                            }
+                            if ((c = next(globPattern, i++)) == EOL || c == ']') {
+                                break;
+                            }
+                            if (c < last) {
+                                throw new PatternSyntaxException("Invalid range", globPattern, i - 3);
+                            }
+                            regex.append(c);
+                            hasRangeStart = false;
+                        } else {
+                            hasRangeStart = true;
+                            last = c;
+                        }
+                    }
+                    if (c != ']') {
+                        throw new PatternSyntaxException("Missing ']", globPattern, i - 1);
+                    }
+                    regex.append("]]");
+                    break;
+                case '{':
+                    if (inGroup) {
+                        throw new PatternSyntaxException("Cannot nest groups", globPattern, i - 1);
+                    }
+                    regex.append("(?:(?:");
+                    inGroup = true;
+                    break;
+                case '}':
+                    if (inGroup) {
+                        regex.append("))");
+                        inGroup = false;
+                    } else {
+                        regex.append('}');
+                    }
+                    break;
+                case ',':
+                    if (inGroup) {
+                        regex.append(")|(?:");
+                    } else {
+                        regex.append(',');
+                    }
+                    break;
+                case '*':
+                    if (next(globPattern, i) == '*') {
+                        // crosses directory boundaries
+                        regex.append(".*");
+                        i++;
+                    } else {
+                        // within directory boundary
+                        regex.append("[^/]*");
+                    }
+                    break;
+                case '?':
+                    regex.append("[^/]");
+                    break;
+                default:
+                    if (isRegexMeta(c)) {
+                        regex.append('\\');
+                    }
+                    regex.append(c);
+            }
+        }
+
+        if (inGroup) {
+            throw new PatternSyntaxException("Missing '}", globPattern, i - 1);
+        }
+
+        return regex.append('$').toString();
+    }
+}
@@ -21,7 +21,6 @@ import org.kordamp.jarviz.bundle.RB;
 import org.kordamp.jarviz.core.JarvizException;
 import org.kordamp.jarviz.core.model.BytecodeVersion;
 
-import java.io.DataInputStream;
 import java.io.EOFException;
 import java.io.IOException;
 import java.io.InputStream;
@@ -35,6 +34,9 @@ import java.util.jar.Manifest;
  * @since 0.1.0
  */
 public class JarUtils {
+    // magic, minor_version, major_version
+    private static final ThreadLocal<byte[]> CLASS_HEADER = ThreadLocal.withInitial(() -> new byte[8]);
+
     public static Optional<Manifest> getManifest(JarFile jarFile) {
         try {
             return Optional.ofNullable(jarFile.getManifest());
@@ -49,21 +51,38 @@ public class JarUtils {
         }
     }
 
+    /**
+     * Reads the version from the class file header of {@code entry}. Only the first 8 bytes are inflated,
+     * they are read into a buffer reused by the calling thread.
+     */
     public static BytecodeVersion readBytecodeVersion(JarFile jarFile, JarEntry entry) {
-        try {
-            return JarUtils.withJarEntry(jarFile, entry, inputStream -> {
-                try (DataInputStream data = new DataInputStream(inputStream)) {
-                    if (0xCAFEBABE != data.readInt()) {
-                        throw new EOFException(jarFile.getName());
-                    }
-                    int minor = data.readUnsignedShort();
-                    int major = data.readUnsignedShort();
-                    return BytecodeVersion.of(major, minor);
-                }
-            });
+        byte[] header = CLASS_HEADER.get();
+        try (InputStream in = jarFile.getInputStream(entry)) {
+            int read = 0;
+            while (read < header.length) {
+                int n = in.read(header, read, header.length - read);
+                if (n < 0) throw new EOFException(jarFile.getName());
+                read += n;
+            }
         } catch (IOException e) {
             throw new JarvizException(RB.$("ERROR_READING_JAR_ENTRY", entry.getName(), jarFile.getName()));
         }
+
+        if (0xCAFEBABE != readInt(header, 0)) {
+            throw new JarvizException(RB.$("ERROR_READING_JAR_ENTRY", entry.getName(), jarFile.getName()));
+        }
+
+        int minor = readUnsignedShort(header, 4);
+        int major = readUnsignedShort(header, 6);
+        return BytecodeVersion.of(major, minor);
+    }
+
+    private static int readInt(byte[] b, int offset) {
+        return (b[offset] & 0xFF) << 24 | (b[offset + 1] & 0xFF) << 16 | (b[offset + 2] & 0xFF) << 8 | b[offset + 3] & 0xFF;
+    }
+
+    private static int readUnsignedShort(byte[] b, int offset) {
+        return (b[offset] & 0xFF) << 8 | b[offset + 1] & 0xFF;
     }
 
     @FunctionalInterface
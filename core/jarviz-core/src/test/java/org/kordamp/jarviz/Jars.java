@@ -0,0 +1,115 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2022-2023 The Jarviz authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kordamp.jarviz;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.jar.Attributes;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+import java.util.jar.JarOutputStream;
+import java.util.jar.Manifest;
+import java.util.zip.CRC32;
+import java.util.zip.ZipEntry;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Writes small JAR files for tests.
+ *
+ * @author Andres Almiray
+ * @since 0.3.0
+ */
+public final class Jars {
+    private final Map<String, byte[]> entries = new LinkedHashMap<>();
+    private boolean stored;
+    private String comment;
+
+    public static Jars jar() {
+        return new Jars();
+    }
+
+    public Jars entry(String name, String content) {
+        return entry(name, content.getBytes(UTF_8));
+    }
+
+    public Jars entry(String name, byte[] content) {
+        entries.put(name, content);
+        return this;
+    }
+
+    /**
+     * Adds an empty class file for each given class name, such as {@code com/acme/Foo}.
+     */
+    public Jars classes(String... classNames) {
+        for (String className : classNames) {
+            entry(className + ".class", new byte[]{(byte) 0xCA, (byte) 0xFE, (byte) 0xBA, (byte) 0xBE, 0, 0, 0, 52});
+        }
+        return this;
+    }
+
+    public Jars stored() {
+        this.stored = true;
+        return this;
+    }
+
+    public Jars comment(String comment) {
+        this.comment = comment;
+        return this;
+    }
+
+    public Path write(Path file) throws IOException {
+        Files.createDirectories(file.toAbsolutePath().getParent());
+        try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(file))) {
+            write(out);
+        }
+        return file;
+    }
+
+    public void write(OutputStream stream) throws IOException {
+        Manifest manifest = new Manifest();
+        manifest.getMainAttributes().put(Attributes.Name.MANIFEST_VERSION, "1.0");
+
+        JarOutputStream out = new JarOutputStream(stream);
+        out.putNextEntry(new JarEntry(JarFile.MANIFEST_NAME));
+        manifest.write(out);
+        out.closeEntry();
+
+        for (Map.Entry<String, byte[]> e : entries.entrySet()) {
+            JarEntry entry = new JarEntry(e.getKey());
+            if (stored) {
+                CRC32 crc = new CRC32();
+                crc.update(e.getValue());
+                entry.setMethod(ZipEntry.STORED);
+                entry.setSize(e.getValue().length);
+                entry.setCompressedSize(e.getValue().length);
+                entry.setCrc(crc.getValue());
+            }
+            out.putNextEntry(entry);
+            out.write(e.getValue());
+            out.closeEntry();
+        }
+        if (null != comment) out.setComment(comment);
+        out.finish();
+    }
+}
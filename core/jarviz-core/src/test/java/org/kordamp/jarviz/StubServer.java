@@ -0,0 +1,149 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2022-2023 The Jarviz authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kordamp.jarviz;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Local HTTP server standing in for a Maven repository or any remote host.
+ *
+ * @author Andres Almiray
+ * @since 0.3.0
+ */
+public final class StubServer implements AutoCloseable {
+    private final HttpServer server;
+    private final Map<String, Resource> resources = new ConcurrentHashMap<>();
+    private final List<String> requests = new CopyOnWriteArrayList<>();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger maxInFlight = new AtomicInteger();
+
+    private StubServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.setExecutor(Executors.newCachedThreadPool(r -> {
+            Thread thread = new Thread(r, "stub-server");
+            thread.setDaemon(true);
+            return thread;
+        }));
+        server.createContext("/", this::handle);
+        server.start();
+    }
+
+    public static StubServer start() throws IOException {
+        return new StubServer();
+    }
+
+    public String getUrl() {
+        return "http://" + server.getAddress().getHostString() + ":" + server.getAddress().getPort() + "/";
+    }
+
+    public StubServer serve(String path, byte[] content) {
+        return serve(path, content, 0);
+    }
+
+    /**
+     * Serves {@code content} at {@code path}, answering after {@code delayMillis}.
+     */
+    public StubServer serve(String path, byte[] content, long delayMillis) {
+        resources.put(path, new Resource(200, content, delayMillis));
+        return this;
+    }
+
+    public StubServer fail(String path, int status) {
+        resources.put(path, new Resource(status, new byte[0], 0));
+        return this;
+    }
+
+    /**
+     * Requests received so far, as {@code METHOD path}.
+     */
+    public List<String> getRequests() {
+        return requests;
+    }
+
+    /**
+     * Highest number of requests handled at the same time.
+     */
+    public int getMaxInFlight() {
+        return maxInFlight.get();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        String path = exchange.getRequestURI().getPath().substring(1);
+        requests.add(exchange.getRequestMethod() + " " + path);
+        maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+        try {
+            Resource resource = resources.get(path);
+            if (null == resource) {
+                exchange.sendResponseHeaders(404, -1);
+                return;
+            }
+
+            if (resource.delayMillis > 0) Thread.sleep(resource.delayMillis);
+
+            exchange.getResponseHeaders().set("Last-Modified", DateTimeFormatter.RFC_1123_DATE_TIME
+                .format(Instant.ofEpochSecond(1_000_000_000L).atZone(ZoneOffset.UTC)));
+            boolean head = "HEAD".equals(exchange.getRequestMethod());
+            if (resource.status != 200 || head) {
+                exchange.sendResponseHeaders(resource.status, -1);
+                return;
+            }
+
+            exchange.sendResponseHeaders(200, resource.content.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(resource.content);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            inFlight.decrementAndGet();
+            exchange.close();
+        }
+    }
+
+    private static final class Resource {
+        private final int status;
+        private final byte[] content;
+        private final long delayMillis;
+
+        private Resource(int status, byte[] content, long delayMillis) {
+            this.status = status;
+            this.content = content;
+            this.delayMillis = delayMillis;
+        }
+    }
+}
@@ -0,0 +1,294 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2022-2023 The Jarviz authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kordamp.jarviz.commands;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.kordamp.jarviz.Jars;
+import org.kordamp.jarviz.core.JarvizException;
+import org.kordamp.jarviz.core.resolvers.JarFileResolver;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Runs batches with a runner that records when each command starts and ends.
+ *
+ * @author Andres Almiray
+ * @since 0.3.0
+ */
+class BatchCommandTest {
+    @TempDir
+    Path workDirectory;
+
+    private final StringWriter out = new StringWriter();
+    private final StringWriter err = new StringWriter();
+    private final List<String> events = Collections.synchronizedList(new ArrayList<>());
+
+    @BeforeEach
+    void setup() {
+        events.clear();
+    }
+
+    @Test
+    void parsesQuotesAndComments() {
+        List<List<String>> commandLines = parse(
+            "# a comment",
+            "",
+            "   ",
+            "jarviz module name --file app.jar",
+            "  # an indented comment",
+            "entries find --entry-pattern '**/*.class' --file \"my app.jar\"",
+            "manifest query --attribute-name \"It's\" --file 'say \"hi\".jar'",
+            "services list --file a''b.jar --service-name \"\"",
+            "\tbytecode show\t--file\tapp.jar  ",
+            "jarviz",
+            "module jarviz");
+
+        assertEquals(List.of(
+            List.of("module", "name", "--file", "app.jar"),
+            List.of("entries", "find", "--entry-pattern", "**/*.class", "--file", "my app.jar"),
+            List.of("manifest", "query", "--attribute-name", "It's", "--file", "say \"hi\".jar"),
+            List.of("services", "list", "--file", "ab.jar", "--service-name", ""),
+            List.of("bytecode", "show", "--file", "app.jar"),
+            List.of("module", "jarviz")), commandLines);
+    }
+
+    @Test
+    void unterminatedQuoteIsReported() {
+        JarvizException e = assertThrows(JarvizException.class, () -> parse(
+            "module name",
+            "entries find --entry-pattern '**/*.class"));
+
+        assertTrue(e.getMessage().contains("commands.txt"), e.getMessage());
+        assertTrue(e.getMessage().contains(" 2"), e.getMessage());
+    }
+
+    @Test
+    void parsesCommandFile() throws IOException {
+        Path file = Files.write(workDirectory.resolve("commands.txt"),
+            List.of("# modules", "module name", "module descriptor --output-format json"), UTF_8);
+
+        assertEquals(List.of(List.of("module", "name"), List.of("module", "descriptor", "--output-format", "json")),
+            BatchCommand.parseCommandLines(file));
+        assertThrows(JarvizException.class, () -> BatchCommand.parseCommandLines(workDirectory.resolve("missing.txt")));
+    }
+
+    @Test
+    void outputIsWrittenInCommandOrder() {
+        // the first command finishes last
+        int exitCode = execute(config()
+            .withJobs(4)
+            .withCommandLine(List.of("first", "--sleep", "200"))
+            .withCommandLine(List.of("second", "--sleep", "100"))
+            .withCommandLine(List.of("third")));
+
+        assertEquals(0, exitCode);
+        assertEquals(lines("first", "second", "third"), out.toString());
+        assertEquals(lines("err first", "err second", "err third"), err.toString());
+        assertTrue(events.indexOf("end third") < events.indexOf("end first"), events.toString());
+    }
+
+    @Test
+    void commandsSharingAReportPathRunInOrder() {
+        Path report = workDirectory.resolve("report.txt");
+        execute(config()
+            .withJobs(4)
+            .withCommandLine(List.of("first", "--sleep", "200", "--report-path", report.toString()))
+            .withCommandLine(List.of("independent", "--sleep", "50"))
+            .withCommandLine(List.of("second", "--report-path=" + workDirectory.resolve("x/../report.txt"))));
+
+        assertTrue(events.indexOf("end first") < events.indexOf("start second"), events.toString());
+        // unrelated commands still run alongside
+        assertTrue(events.indexOf("start independent") < events.indexOf("end first"), events.toString());
+    }
+
+    @Test
+    void commandsSharingATargetDirectoryRunInOrder() {
+        Path target = workDirectory.resolve("target");
+        execute(config()
+            .withJobs(4)
+            .withCommandLine(List.of("first", "--sleep", "200", "--target-directory", target.toString()))
+            .withCommandLine(List.of("other", "--sleep", "50", "--target-directory", workDirectory.resolve("other").toString()))
+            .withCommandLine(List.of("second", "--sleep", "100", "--target-directory=" + target))
+            .withCommandLine(List.of("third", "--target-directory", target.toString())));
+
+        assertTrue(events.indexOf("end first") < events.indexOf("start second"), events.toString());
+        assertTrue(events.indexOf("end second") < events.indexOf("start third"), events.toString());
+        assertTrue(events.indexOf("start other") < events.indexOf("end first"), events.toString());
+    }
+
+    @Test
+    void incrementalCommandsRunInOrder() {
+        execute(config()
+            .withJobs(4)
+            .withCommandLine(List.of("first", "--sleep", "200", "--incremental"))
+            .withCommandLine(List.of("second", "--incremental")));
+
+        assertTrue(events.indexOf("end first") < events.indexOf("start second"), events.toString());
+    }
+
+    @Test
+    void singleJobRunsSequentially() {
+        execute(config()
+            .withCommandLine(List.of("first", "--sleep", "50"))
+            .withCommandLine(List.of("second"))
+            .withCommandLine(List.of("third")));
+
+        assertEquals(List.of("start first", "end first", "start second", "end second", "start third", "end third"), events);
+    }
+
+    @Test
+    void outputDirectoryGetsOneFilePerCommand() throws IOException {
+        Path outputDirectory = workDirectory.resolve("output");
+        execute(config()
+            .withJobs(2)
+            .withOutputDirectory(outputDirectory)
+            .withCommandLine(List.of("module", "name", "--file", "app.jar"))
+            .withCommandLine(List.of("packages", "split"))
+            .withCommandLine(List.of("a:b/c d", "--x")));
+
+        try (var files = Files.list(outputDirectory)) {
+            assertEquals(Set.of("01-module-name.txt", "02-packages-split.txt", "03-a_b_c_d.txt"),
+                files.map(file -> file.getFileName().toString()).collect(Collectors.toSet()));
+        }
+        assertEquals(lines("module"), Files.readString(outputDirectory.resolve("01-module-name.txt")));
+        assertEquals(lines("packages"), Files.readString(outputDirectory.resolve("02-packages-split.txt")));
+        assertEquals("", out.toString());
+        assertEquals(lines("err module", "err packages", "err a:b/c d"), err.toString());
+    }
+
+    @Test
+    void exitCodeIsTheHighestOfAllCommands() {
+        int exitCode = execute(config()
+            .withJobs(2)
+            .withCommandLine(List.of("first", "--exit", "2"))
+            .withCommandLine(List.of("failing", "--fail"))
+            .withCommandLine(List.of("third")));
+
+        assertEquals(2, exitCode);
+        assertEquals(lines("first", "third"), out.toString());
+        assertTrue(err.toString().contains("boom failing"), err.toString());
+    }
+
+    @Test
+    void inputsAreResolvedOnceAndShared() throws IOException {
+        Path jars = workDirectory.resolve("jars");
+        Jars.jar().classes("com/acme/A").write(jars.resolve("a.jar"));
+        Jars.jar().classes("com/acme/B").write(jars.resolve("b.jar"));
+
+        Set<JarFileResolver> resolvers = Collections.synchronizedSet(new HashSet<>());
+        int exitCode = new BatchCommand().execute(BatchCommand.config()
+            .withOut(new PrintWriter(out))
+            .withErr(new PrintWriter(err))
+            .withCacheDirectory(workDirectory.resolve("cache"))
+            .withDirectories(jars)
+            .withJobs(2)
+            .withCommandLine(List.of("first"))
+            .withCommandLine(List.of("second"))
+            .withRunner((o, e, jarFileResolver, args) -> {
+                assertNotNull(jarFileResolver);
+                assertEquals(2, jarFileResolver.resolveJarFiles().size());
+                resolvers.add(jarFileResolver);
+                return 0;
+            }));
+
+        assertEquals(0, exitCode);
+        assertEquals(1, resolvers.size());
+    }
+
+    @Test
+    void noInputsMeansNoSharedResolver() {
+        int exitCode = execute(BatchCommand.config()
+            .withCommandLine(List.of("first"))
+            .withRunner((o, e, jarFileResolver, args) -> {
+                assertNull(jarFileResolver);
+                return 0;
+            }));
+
+        assertEquals(0, exitCode);
+    }
+
+    private BatchCommand.Configuration config() {
+        return BatchCommand.config().withRunner(this::run);
+    }
+
+    private int execute(BatchCommand.Configuration configuration) {
+        return new BatchCommand().execute(configuration
+            .withOut(new PrintWriter(out))
+            .withErr(new PrintWriter(err)));
+    }
+
+    /**
+     * Records when each command starts and ends. Recognized options are {@code --sleep millis}, {@code --exit code},
+     * and {@code --fail}.
+     */
+    private int run(PrintWriter out, PrintWriter err, JarFileResolver jarFileResolver, String... args) {
+        String name = args[0];
+        List<String> options = Arrays.asList(args);
+        events.add("start " + name);
+        try {
+            int sleep = options.indexOf("--sleep");
+            if (sleep != -1) Thread.sleep(Long.parseLong(args[sleep + 1]));
+            if (options.contains("--fail")) throw new IllegalStateException("boom " + name);
+            out.println(name);
+            err.println("err " + name);
+            int exit = options.indexOf("--exit");
+            return exit != -1 ? Integer.parseInt(args[exit + 1]) : 0;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return 1;
+        } finally {
+            events.add("end " + name);
+        }
+    }
+
+    private static List<List<String>> parse(String... lines) {
+        return BatchCommand.parseCommandLines(new BufferedReader(new StringReader(String.join("\n", lines))), "commands.txt");
+    }
+
+    private static String lines(String... lines) {
+        StringWriter writer = new StringWriter();
+        PrintWriter printer = new PrintWriter(writer);
+        for (String line : lines) {
+            printer.println(line);
+        }
+        printer.flush();
+        return writer.toString();
+    }
+}
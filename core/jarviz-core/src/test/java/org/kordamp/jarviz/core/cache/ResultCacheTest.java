@@ -0,0 +1,125 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2022-2023 The Jarviz authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kordamp.jarviz.core.cache;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.kordamp.jarviz.Jars;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Set;
+import java.util.jar.JarFile;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Fills a small cache well past its maximum size.
+ *
+ * @author Andres Almiray
+ * @since 0.3.0
+ */
+class ResultCacheTest {
+    private static final long MAX_SIZE = 16 * 1024;
+
+    @TempDir
+    Path workDirectory;
+
+    @Test
+    void valuesRoundTrip() throws IOException {
+        ResultCache cache = new ResultCache(workDirectory.resolve("cache"), MAX_SIZE);
+
+        try (JarFile jarFile = new JarFile(jar().toFile())) {
+            assertTrue(cache.get(jarFile, "key", ResultCodecs.STRINGS).isEmpty());
+            cache.put(jarFile, "key", ResultCodecs.STRINGS, Set.of("a", "b"));
+            assertEquals(Set.of("a", "b"), cache.get(jarFile, "key", ResultCodecs.STRINGS).orElseThrow());
+        }
+        assertEquals(1, cache.getHits());
+        assertEquals(1, cache.getMisses());
+    }
+
+    @Test
+    void sizeIsEnforcedWhileFilling() throws IOException {
+        Path directory = workDirectory.resolve("cache");
+        ResultCache cache = new ResultCache(directory, MAX_SIZE);
+
+        try (JarFile jarFile = new JarFile(jar().toFile())) {
+            // about 1 KiB per entry, well past the limit
+            for (int i = 0; i < 100; i++) {
+                cache.put(jarFile, "key-" + i, ResultCodecs.STRINGS, Set.of(value(i)));
+                assertTrue(size(directory) <= MAX_SIZE, "entry " + i + " took the cache to " + size(directory));
+            }
+
+            // the most recent entry is kept, the oldest ones are gone
+            assertEquals(Set.of(value(99)), cache.get(jarFile, "key-99", ResultCodecs.STRINGS).orElseThrow());
+            assertTrue(cache.get(jarFile, "key-0", ResultCodecs.STRINGS).isEmpty());
+        }
+    }
+
+    @Test
+    void replacedEntriesAreNotCountedTwice() throws IOException {
+        Path directory = workDirectory.resolve("cache");
+        ResultCache cache = new ResultCache(directory, MAX_SIZE);
+
+        try (JarFile jarFile = new JarFile(jar().toFile())) {
+            cache.put(jarFile, "first", ResultCodecs.STRINGS, Set.of(value(0)));
+            for (int i = 0; i < 100; i++) {
+                cache.put(jarFile, "same", ResultCodecs.STRINGS, Set.of(value(i)));
+            }
+
+            // rewriting one entry never goes over the limit, nothing is evicted
+            assertTrue(cache.get(jarFile, "first", ResultCodecs.STRINGS).isPresent());
+        }
+    }
+
+    @Test
+    void oversizedCacheIsTrimmedOnCreation() throws IOException {
+        Path directory = workDirectory.resolve("cache");
+        ResultCache large = new ResultCache(directory, Long.MAX_VALUE);
+        try (JarFile jarFile = new JarFile(jar().toFile())) {
+            for (int i = 0; i < 50; i++) {
+                large.put(jarFile, "key-" + i, ResultCodecs.STRINGS, Set.of(value(i)));
+            }
+        }
+        assertTrue(size(directory) > MAX_SIZE);
+
+        new ResultCache(directory, MAX_SIZE);
+        assertTrue(size(directory) <= MAX_SIZE, "cache trimmed to " + size(directory));
+    }
+
+    private Path jar() throws IOException {
+        return Jars.jar().classes("com/acme/Cached").write(workDirectory.resolve("cached.jar"));
+    }
+
+    private static String value(int i) {
+        StringBuilder value = new StringBuilder();
+        while (value.length() < 1024) {
+            value.append(i).append(':');
+        }
+        return value.toString();
+    }
+
+    private static long size(Path directory) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.mapToLong(file -> file.toFile().length()).sum();
+        }
+    }
+}
@@ -0,0 +1,227 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2022-2023 The Jarviz authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kordamp.jarviz.core.internal;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.kordamp.jarviz.Jars;
+import org.kordamp.jarviz.core.JarvizException;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.TreeMap;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Extracts entries from JARs written for each test and compares them with the original contents.
+ *
+ * @author Andres Almiray
+ * @since 0.3.0
+ */
+class EntryExtractorTest {
+    private static final int CENTRAL_HEADER_SIGNATURE = 0x02014b50;
+
+    @TempDir
+    Path workDirectory;
+
+    @Test
+    void deflatedEntriesRoundTrip() throws IOException {
+        Map<String, byte[]> contents = contents();
+        Path jar = write(Jars.jar(), contents, "deflated.jar");
+
+        EntryExtractor.Statistics statistics = extract(jar, contents.keySet(), false, 4);
+
+        assertExtracted(workDirectory.resolve("target/deflated"), contents);
+        assertEquals(contents.size(), statistics.getEntries());
+        assertEquals(contents.values().stream().mapToLong(bytes -> bytes.length).sum(), statistics.getBytes());
+    }
+
+    @Test
+    void storedEntriesRoundTrip() throws IOException {
+        Map<String, byte[]> contents = contents();
+        Path jar = write(Jars.jar().stored(), contents, "stored.jar");
+
+        extract(jar, contents.keySet(), false, 1);
+
+        assertExtracted(workDirectory.resolve("target/stored"), contents);
+    }
+
+    @Test
+    void prefixedArchiveRoundTrips() throws IOException {
+        Map<String, byte[]> contents = contents();
+        Jars jars = Jars.jar();
+        contents.forEach(jars::entry);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        out.write("#!/bin/sh\nexec java -jar \"$0\" \"$@\"\n".getBytes(UTF_8));
+        jars.write(out);
+        Path jar = Files.write(workDirectory.resolve("prefixed.jar"), out.toByteArray());
+
+        extract(jar, contents.keySet(), false, 2);
+
+        assertExtracted(workDirectory.resolve("target/prefixed"), contents);
+    }
+
+    @Test
+    void missingEntriesAndDirectoriesAreSkipped() throws IOException {
+        Path jar = Jars.jar()
+            .entry("com/acme/", new byte[0])
+            .entry("com/acme/a.txt", "a")
+            .write(workDirectory.resolve("skipped.jar"));
+
+        EntryExtractor.Statistics statistics = extract(jar, Set.of("com/acme/", "com/acme/a.txt", "missing.txt"), false, 1);
+
+        assertEquals(1, statistics.getEntries());
+        assertEquals("a", Files.readString(workDirectory.resolve("target/skipped/com/acme/a.txt")));
+        assertFalse(Files.exists(workDirectory.resolve("target/skipped/missing.txt")));
+    }
+
+    @Test
+    void flattenedCollisionsKeepTheLastNameInOrder() throws IOException {
+        Path jar = Jars.jar()
+            .entry("b/same.txt", "from b")
+            .entry("a/same.txt", "from a")
+            .entry("c/other.txt", "other")
+            .write(workDirectory.resolve("flat.jar"));
+
+        EntryExtractor.Statistics statistics = extract(jar, Set.of("a/same.txt", "b/same.txt", "c/other.txt"), true, 2);
+
+        Path directory = workDirectory.resolve("target/flat");
+        assertEquals(2, statistics.getEntries());
+        assertEquals("from b", Files.readString(directory.resolve("same.txt")));
+        assertEquals("other", Files.readString(directory.resolve("other.txt")));
+        try (var files = Files.list(directory)) {
+            assertEquals(2, files.count());
+        }
+    }
+
+    @Test
+    void failedEntryLeavesNoPartialFile() throws IOException {
+        byte[] content = text(200_000);
+        Path jar = Jars.jar()
+            .entry("ok.txt", "ok")
+            .entry("broken.txt", content)
+            .write(workDirectory.resolve("broken.jar"));
+
+        // the central directory now claims more data than the entry inflates to
+        byte[] bytes = Files.readAllBytes(jar);
+        int header = centralHeader(bytes, "broken.txt");
+        ByteBuffer.wrap(bytes).order(ByteOrder.LITTLE_ENDIAN).putInt(header + 24, content.length + 1);
+        Files.write(jar, bytes);
+
+        JarvizException e = assertThrows(JarvizException.class,
+            () -> extract(jar, Set.of("broken.txt"), false, 1));
+        assertTrue(e.getMessage().contains("broken.txt"), e.getMessage());
+        assertFalse(Files.exists(workDirectory.resolve("target/broken/broken.txt")));
+    }
+
+    @Test
+    void corruptLocalHeaderLeavesNoPartialFile() throws IOException {
+        Path jar = Jars.jar().entry("a.txt", "a").write(workDirectory.resolve("corrupt.jar"));
+
+        byte[] bytes = Files.readAllBytes(jar);
+        int header = centralHeader(bytes, "a.txt");
+        int localHeader = ByteBuffer.wrap(bytes).order(ByteOrder.LITTLE_ENDIAN).getInt(header + 42);
+        bytes[localHeader] = 0;
+        Files.write(jar, bytes);
+
+        assertThrows(JarvizException.class, () -> extract(jar, Set.of("a.txt"), false, 1));
+        assertFalse(Files.exists(workDirectory.resolve("target/corrupt/a.txt")));
+    }
+
+    @Test
+    void entriesEscapingTheTargetDirectoryAreRejected() throws IOException {
+        for (String name : new String[]{"../../evil.txt", "com/../../../evil.txt", "/tmp/evil.txt"}) {
+            Path jar = Jars.jar()
+                .entry("good.txt", "good")
+                .entry(name, "evil")
+                .write(workDirectory.resolve("slip.jar"));
+
+            JarvizException e = assertThrows(JarvizException.class,
+                () -> extract(jar, Set.of("good.txt", name), false, 1), name);
+            assertTrue(e.getMessage().contains(name), e.getMessage());
+        }
+
+        assertFalse(Files.exists(workDirectory.resolve("evil.txt")));
+        assertFalse(Files.exists(workDirectory.getParent().resolve("evil.txt")));
+        assertFalse(Files.exists(workDirectory.resolve("target/slip/good.txt")), "nothing is written");
+    }
+
+    private EntryExtractor.Statistics extract(Path jar, Set<String> names, boolean flatten, int parallelism) {
+        try (EntryExtractor extractor = new EntryExtractor(workDirectory.resolve("target"), flatten)) {
+            extractor.add(jar, names);
+            return extractor.extract(parallelism);
+        }
+    }
+
+    private Path write(Jars jars, Map<String, byte[]> contents, String fileName) throws IOException {
+        contents.forEach(jars::entry);
+        return jars.write(workDirectory.resolve(fileName));
+    }
+
+    private static void assertExtracted(Path directory, Map<String, byte[]> contents) throws IOException {
+        for (Map.Entry<String, byte[]> e : contents.entrySet()) {
+            assertArrayEquals(e.getValue(), Files.readAllBytes(directory.resolve(e.getKey())), e.getKey());
+        }
+    }
+
+    private static Map<String, byte[]> contents() {
+        byte[] random = new byte[300_000];
+        new Random(7).nextBytes(random);
+
+        Map<String, byte[]> contents = new TreeMap<>();
+        contents.put("empty.txt", new byte[0]);
+        contents.put("com/acme/small.txt", "hello".getBytes(UTF_8));
+        contents.put("com/acme/text.txt", text(500_000));
+        contents.put("com/acme/data/random.bin", random);
+        return contents;
+    }
+
+    private static byte[] text(int length) {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; text.length() < length; i++) {
+            text.append("line ").append(i).append(" of some compressible text\n");
+        }
+        return text.substring(0, length).getBytes(UTF_8);
+    }
+
+    private static int centralHeader(byte[] bytes, String name) {
+        byte[] needle = name.getBytes(UTF_8);
+        ByteBuffer buffer = ByteBuffer.wrap(bytes).order(ByteOrder.LITTLE_ENDIAN);
+        for (int i = bytes.length - needle.length; i >= 46; i--) {
+            if (buffer.getInt(i - 46) == CENTRAL_HEADER_SIGNATURE &&
+                Arrays.equals(bytes, i, i + needle.length, needle, 0, needle.length)) {
+                return i - 46;
+            }
+        }
+        throw new IllegalStateException(name);
+    }
+}
@@ -0,0 +1,287 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2022-2023 The Jarviz authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kordamp.jarviz.core.internal;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.kordamp.jarviz.Jars;
+import org.kordamp.jarviz.core.model.Gav;
+import org.kordamp.jarviz.core.model.GavAware;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.jar.JarFile;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checks reference counting, eviction and invalidation of pooled JAR files.
+ *
+ * @author Andres Almiray
+ * @since 0.3.0
+ */
+class JarFilePoolTest {
+    @TempDir
+    Path workDirectory;
+
+    @Test
+    void releasedHandlesAreReused() throws IOException {
+        Path a = jar("a.jar", "com/acme/A");
+        JarFilePool pool = new JarFilePool(4);
+
+        JarFile first = pool.acquire(a);
+        pool.release(first);
+        JarFile second = pool.acquire(workDirectory.resolve("x/../a.jar"));
+
+        assertSame(first, second);
+        assertEquals(1, pool.size());
+        pool.release(second);
+        assertTrue(isOpen(second));
+    }
+
+    @Test
+    void releaseAfterEvictionIsIgnored() throws IOException {
+        Path a = jar("a.jar", "com/acme/A");
+        Path b = jar("b.jar", "com/acme/B");
+        JarFilePool pool = new JarFilePool(1);
+
+        JarFile jarA = pool.acquire(a);
+        pool.release(jarA);
+        JarFile jarB = pool.acquire(b);
+
+        // the idle handle was the least recently used
+        assertFalse(isOpen(jarA));
+        assertEquals(1, pool.size());
+
+        pool.release(jarA);
+        pool.release(jarA);
+        assertTrue(isOpen(jarB));
+        assertEquals(1, pool.size());
+
+        JarFile reopened = pool.acquire(a);
+        assertNotSame(jarA, reopened);
+        assertNotNull(reopened.getEntry("com/acme/A.class"));
+        pool.release(reopened);
+        pool.release(jarB);
+    }
+
+    @Test
+    void handlesInUseAreNeverEvicted() throws IOException {
+        Path a = jar("a.jar", "com/acme/A");
+        Path b = jar("b.jar", "com/acme/B");
+        Path c = jar("c.jar", "com/acme/C");
+        JarFilePool pool = new JarFilePool(1);
+
+        JarFile jarA = pool.acquire(a);
+        JarFile jarB = pool.acquire(b);
+        JarFile jarC = pool.acquire(c);
+        assertEquals(3, pool.size());
+        assertTrue(isOpen(jarA) && isOpen(jarB) && isOpen(jarC));
+
+        pool.release(jarB);
+        assertFalse(isOpen(jarB));
+        assertEquals(2, pool.size());
+
+        pool.release(jarA);
+        pool.release(jarC);
+        assertEquals(1, pool.size());
+        assertTrue(isOpen(jarC));
+    }
+
+    @Test
+    void sharedHandleStaysOpenUntilLastRelease() throws IOException {
+        Path a = jar("a.jar", "com/acme/A");
+        Path b = jar("b.jar", "com/acme/B");
+        JarFilePool pool = new JarFilePool(1);
+
+        JarFile first = pool.acquire(a);
+        JarFile second = pool.acquire(a);
+        assertSame(first, second);
+
+        pool.release(first);
+        pool.release(pool.acquire(b));
+        assertTrue(isOpen(second));
+
+        pool.release(second);
+        pool.setMaxOpen(1);
+        assertEquals(1, pool.size());
+    }
+
+    @Test
+    void jarModifiedWhilePooledIsReopened() throws IOException {
+        Path a = jar("a.jar", "com/acme/A");
+        JarFilePool pool = new JarFilePool(4);
+
+        JarFile stale = pool.acquire(a);
+        Jars.jar().classes("com/acme/A", "com/acme/Added").write(a);
+        Files.setLastModifiedTime(a, FileTime.fromMillis(Files.getLastModifiedTime(a).toMillis() + 2000));
+
+        JarFile fresh = pool.acquire(a);
+        assertNotSame(stale, fresh);
+        assertNotNull(fresh.getEntry("com/acme/Added.class"));
+        assertEquals(1, pool.size());
+
+        // the stale handle is still in use, it is only closed once released
+        assertTrue(isOpen(stale));
+        pool.release(stale);
+        assertFalse(isOpen(stale));
+
+        pool.release(fresh);
+        assertTrue(isOpen(fresh));
+        assertSame(fresh, pool.acquire(a));
+        pool.release(fresh);
+    }
+
+    @Test
+    void jarClosedBehindThePoolIsReopened() throws IOException {
+        Path a = jar("a.jar", "com/acme/A");
+        JarFilePool pool = new JarFilePool(4);
+
+        JarFile jarFile = pool.acquire(a);
+        pool.release(jarFile);
+        jarFile.close();
+
+        JarFile reopened = pool.acquire(a);
+        assertNotSame(jarFile, reopened);
+        assertTrue(isOpen(reopened));
+        pool.release(reopened);
+    }
+
+    @Test
+    void gavAwareHandlesAreKeptApart() throws IOException {
+        Path a = jar("a.jar", "com/acme/A");
+        JarFilePool pool = new JarFilePool(4);
+
+        JarFile plain = pool.acquire(a);
+        JarFile withGav = pool.acquire(a, new Gav("com.acme:a:1.0.0"));
+
+        assertFalse(plain instanceof GavAware);
+        assertTrue(withGav instanceof GavAware);
+        assertEquals("a", ((GavAware) withGav).getGav().getArtifactId());
+        assertSame(withGav, pool.acquire(a, new Gav("com.acme:a:1.0.0")));
+        assertEquals(2, pool.size());
+
+        pool.release(plain);
+        pool.release(withGav);
+        pool.release(withGav);
+    }
+
+    @Test
+    void foreignJarFilesAreLeftUntouched() throws IOException {
+        Path a = jar("a.jar", "com/acme/A");
+        JarFilePool pool = new JarFilePool(1);
+
+        try (JarFile foreign = new JarFile(a.toFile())) {
+            pool.release(foreign);
+            assertTrue(isOpen(foreign));
+            assertEquals(0, pool.size());
+        }
+    }
+
+    @Test
+    void clearClosesIdleHandlesOnly() throws IOException {
+        Path a = jar("a.jar", "com/acme/A");
+        Path b = jar("b.jar", "com/acme/B");
+        JarFilePool pool = new JarFilePool(4);
+
+        JarFile idle = pool.acquire(a);
+        pool.release(idle);
+        JarFile inUse = pool.acquire(b);
+
+        pool.clear();
+        assertFalse(isOpen(idle));
+        assertTrue(isOpen(inUse));
+        assertEquals(1, pool.size());
+        pool.release(inUse);
+    }
+
+    @Test
+    void missingFileFailsToAcquire() {
+        JarFilePool pool = new JarFilePool(4);
+
+        assertThrows(IOException.class, () -> pool.acquire(workDirectory.resolve("missing.jar")));
+        assertEquals(0, pool.size());
+    }
+
+    @Test
+    void concurrentAcquireAndRelease() throws Exception {
+        List<Path> jars = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            jars.add(jar("jar-" + i + ".jar", "com/acme/C" + i));
+        }
+        JarFilePool pool = new JarFilePool(2);
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                int seed = t;
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < 500; i++) {
+                        int n = (seed + i) % jars.size();
+                        JarFile jarFile = pool.acquire(jars.get(n));
+                        try {
+                            // never closed while acquired
+                            assertNotNull(jarFile.getEntry("com/acme/C" + n + ".class"));
+                            assertNull(jarFile.getEntry("missing"));
+                        } finally {
+                            pool.release(jarFile);
+                        }
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        assertTrue(pool.size() <= 2, "idle handles beyond the limit were closed, " + pool.size() + " open");
+        pool.clear();
+        assertEquals(0, pool.size());
+    }
+
+    private Path jar(String fileName, String... classNames) throws IOException {
+        return Jars.jar().classes(classNames).write(workDirectory.resolve(fileName));
+    }
+
+    private static boolean isOpen(JarFile jarFile) {
+        try {
+            jarFile.size();
+            return true;
+        } catch (IllegalStateException e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2022-2023 The Jarviz authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kordamp.jarviz.core.internal;
+
+import org.junit.jupiter.api.Test;
+import org.kordamp.jarviz.core.JarvizException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * @author Andres Almiray
+ * @since 0.3.0
+ */
+class ParallelExecutionTest {
+    private static final List<Integer> INPUTS = IntStream.range(0, 32).boxed().collect(Collectors.toList());
+
+    @Test
+    void mapKeepsInputOrder() {
+        // later inputs finish first
+        List<Integer> results = ParallelExecution.map(INPUTS, 4, i -> {
+            sleep(32 - i);
+            return i * 2;
+        });
+
+        assertEquals(INPUTS.stream().map(i -> i * 2).collect(Collectors.toList()), results);
+    }
+
+    @Test
+    void mapBlockingKeepsInputOrder() {
+        List<Integer> results = ParallelExecution.mapBlocking(INPUTS, 8, i -> {
+            sleep(32 - i);
+            return i * 2;
+        });
+
+        assertEquals(INPUTS.stream().map(i -> i * 2).collect(Collectors.toList()), results);
+    }
+
+    @Test
+    void mapBlockingHonorsLimit() {
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+
+        ParallelExecution.mapBlocking(INPUTS, 3, i -> {
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            sleep(10);
+            running.decrementAndGet();
+            return i;
+        });
+
+        assertTrue(maxRunning.get() <= 3, "at most 3 running, was " + maxRunning.get());
+        assertTrue(maxRunning.get() > 1, "ran concurrently");
+    }
+
+    @Test
+    void mapBlockingWithSingleConnectionRunsSequentially() {
+        List<String> threads = new ArrayList<>();
+        ParallelExecution.mapBlocking(INPUTS, 1, i -> threads.add(Thread.currentThread().getName()));
+
+        assertEquals(1, threads.stream().distinct().count());
+    }
+
+    @Test
+    void failuresArePropagated() {
+        JarvizException failure = new JarvizException("boom");
+        JarvizException thrown = assertThrows(JarvizException.class, () -> ParallelExecution.mapBlocking(INPUTS, 4, i -> {
+            if (i == 7) throw failure;
+            return i;
+        }));
+
+        assertSame(failure, thrown);
+    }
+
+    @Test
+    void reduceVisitsEveryInput() {
+        List<Integer> all = ParallelExecution.reduce(INPUTS, 4, ArrayList::new, List::add, (a, b) -> {
+            a.addAll(b);
+            return a;
+        });
+
+        assertEquals(INPUTS, all.stream().sorted().collect(Collectors.toList()));
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,163 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2022-2023 The Jarviz authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kordamp.jarviz.core.model;
+
+import org.junit.jupiter.api.Test;
+import org.kordamp.jarviz.core.internal.ParallelExecution;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Builds histograms sequentially and from partials merged across threads, both must agree.
+ *
+ * @author Andres Almiray
+ * @since 0.3.0
+ */
+class BytecodeHistogramTest {
+    private static final BytecodeVersion JAVA_8 = BytecodeVersion.of(52);
+    private static final BytecodeVersion JAVA_11 = BytecodeVersion.of(55);
+    private static final BytecodeVersion JAVA_17 = BytecodeVersion.of(61);
+
+    @Test
+    void mergedPartialsMatchSequential() {
+        List<Jar> jars = jars(64);
+
+        for (BytecodeVersion threshold : new BytecodeVersion[]{null, JAVA_8, JAVA_11}) {
+            BytecodeHistogram sequential = new BytecodeHistogram(threshold);
+            jars.forEach(jar -> sequential.add(jar.name, jar.bytecodeVersions));
+
+            for (int parallelism : new int[]{2, 3, 8}) {
+                BytecodeHistogram merged = ParallelExecution.reduce(jars, parallelism,
+                    () -> new BytecodeHistogram(threshold),
+                    (histogram, jar) -> histogram.add(jar.name, jar.bytecodeVersions),
+                    BytecodeHistogram::merge);
+
+                assertSameHistogram(sequential, merged);
+            }
+        }
+    }
+
+    @Test
+    void maxBytecodeJarsAreMergedAcrossPartials() {
+        BytecodeHistogram first = new BytecodeHistogram(null);
+        first.add("a.jar", unversioned(JAVA_11));
+        first.add("b.jar", unversioned(JAVA_8));
+        BytecodeHistogram second = new BytecodeHistogram(null);
+        second.add("c.jar", unversioned(JAVA_8));
+        BytecodeHistogram third = new BytecodeHistogram(null);
+        third.add("d.jar", unversioned(JAVA_11));
+        BytecodeHistogram empty = new BytecodeHistogram(null);
+
+        // a lower maximum does not replace the JARs of a higher one, an equal one adds its JARs
+        BytecodeHistogram merged = first.merge(second).merge(empty).merge(third);
+
+        assertEquals(JAVA_11, merged.getMaxBytecode());
+        assertEquals(Set.of("a.jar", "d.jar"), merged.getMaxBytecodeJars());
+        assertEquals(Map.of(JAVA_8, 2, JAVA_11, 2), merged.getJarCountsByMaxBytecode());
+        assertEquals(4, merged.getJarCount());
+
+        BytecodeHistogram higher = new BytecodeHistogram(null);
+        higher.add("e.jar", unversioned(JAVA_17));
+        assertEquals(Set.of("e.jar"), merged.merge(higher).getMaxBytecodeJars());
+    }
+
+    @Test
+    void versionedClassesCountOnlyUpToThreshold() {
+        BytecodeVersions bytecodeVersions = new BytecodeVersions(true);
+        bytecodeVersions.addUnversionedClass(JAVA_8, "com.acme.Foo");
+        // picked by a Java 11 runtime, 11 <= 55 - 44
+        bytecodeVersions.addVersionedClass(9, JAVA_17, "com.acme.Nine");
+        bytecodeVersions.addVersionedClass(11, JAVA_17, "com.acme.Eleven");
+        // ignored by a Java 11 runtime
+        bytecodeVersions.addVersionedClass(12, JAVA_17, "com.acme.Twelve");
+        bytecodeVersions.addVersionedClass(17, JAVA_17, "com.acme.Seventeen");
+
+        BytecodeHistogram histogram = new BytecodeHistogram(JAVA_11);
+        histogram.add("mr.jar", bytecodeVersions);
+
+        BytecodeHistogram.Offender offender = histogram.getOffenders().get("mr.jar");
+        assertEquals(2, offender.getClassCount());
+        assertEquals(List.of("com.acme.Nine", "com.acme.Eleven"), offender.getClasses());
+        assertEquals(Map.of(9, 1, 11, 1, 12, 1, 17, 1), histogram.getMultiReleaseJarCounts());
+        assertEquals(1, histogram.getMultiReleaseJarCount());
+        assertEquals(JAVA_8, histogram.getMaxBytecode());
+    }
+
+    @Test
+    void emptyThresholdSkipsTheCheck() {
+        BytecodeHistogram histogram = new BytecodeHistogram(BytecodeVersion.of(0));
+        histogram.add("a.jar", unversioned(JAVA_17));
+
+        assertNull(histogram.getThreshold());
+        assertTrue(histogram.getOffenders().isEmpty());
+    }
+
+    private static void assertSameHistogram(BytecodeHistogram expected, BytecodeHistogram actual) {
+        assertEquals(expected.getJarCount(), actual.getJarCount());
+        assertEquals(expected.getMultiReleaseJarCount(), actual.getMultiReleaseJarCount());
+        assertEquals(expected.getMaxBytecode(), actual.getMaxBytecode());
+        assertEquals(expected.getMaxBytecodeJars(), actual.getMaxBytecodeJars());
+        assertEquals(expected.getClassCounts(), actual.getClassCounts());
+        assertEquals(expected.getJarCountsByMaxBytecode(), actual.getJarCountsByMaxBytecode());
+        assertEquals(expected.getMultiReleaseJarCounts(), actual.getMultiReleaseJarCounts());
+        assertEquals(expected.getOffenders().keySet(), actual.getOffenders().keySet());
+        expected.getOffenders().forEach((jarName, offender) -> {
+            assertEquals(offender.getClassCount(), actual.getOffenders().get(jarName).getClassCount(), jarName);
+            assertEquals(offender.getClasses(), actual.getOffenders().get(jarName).getClasses(), jarName);
+        });
+    }
+
+    private static BytecodeVersions unversioned(BytecodeVersion bytecodeVersion) {
+        BytecodeVersions bytecodeVersions = new BytecodeVersions(false);
+        bytecodeVersions.addUnversionedClasses(bytecodeVersion, 1);
+        return bytecodeVersions;
+    }
+
+    private static List<Jar> jars(int count) {
+        BytecodeVersion[] versions = {JAVA_8, JAVA_11, JAVA_17, BytecodeVersion.of(49)};
+        List<Jar> jars = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            BytecodeVersions bytecodeVersions = new BytecodeVersions(true);
+            for (int j = 0; j <= i % 5; j++) {
+                bytecodeVersions.addUnversionedClass(versions[(i + j) % versions.length], "com.acme" + i + ".C" + j);
+            }
+            if (i % 3 == 0) {
+                bytecodeVersions.addVersionedClass(9 + i % 9, versions[i % versions.length], "com.acme" + i + ".V");
+            }
+            jars.add(new Jar("jar-" + i + ".jar", bytecodeVersions));
+        }
+        return jars;
+    }
+
+    private static final class Jar {
+        private final String name;
+        private final BytecodeVersions bytecodeVersions;
+
+        private Jar(String name, BytecodeVersions bytecodeVersions) {
+            this.name = name;
+            this.bytecodeVersions = bytecodeVersions;
+        }
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2022-2023 The Jarviz authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kordamp.jarviz.core.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Stores class names front coded and reads them back, or only counts classes when details are not kept.
+ *
+ * @author Andres Almiray
+ * @since 0.3.0
+ */
+class BytecodeVersionsTest {
+    private static final BytecodeVersion JAVA_8 = BytecodeVersion.of(52);
+    private static final BytecodeVersion JAVA_11 = BytecodeVersion.of(55);
+
+    @Test
+    void namesSharingPrefixesRoundTrip() {
+        List<String> names = List.of(
+            "com.acme.Foo",
+            "com.acme.Foo",
+            "com.acme.Foo.Bar",
+            "com.acme.Fo",
+            "com.acme.internal.Impl",
+            "com.acme",
+            "org.other.Baz",
+            "a",
+            "com.acme.Foo");
+
+        BytecodeVersions bytecodeVersions = new BytecodeVersions(true);
+        names.forEach(name -> bytecodeVersions.addUnversionedClass(JAVA_8, name));
+
+        assertEquals(names, bytecodeVersions.getUnversionedClasses(JAVA_8));
+        assertEquals(Map.of(JAVA_8, names.size()), bytecodeVersions.getUnversionedClassCounts());
+    }
+
+    @Test
+    void namesGrowingPastInitialCapacityRoundTrip() {
+        // past the 64 chars of the previous name and the 256 chars of the buffer
+        String prefix = "com.acme." + "x".repeat(80);
+        List<String> names = new ArrayList<>();
+        names.add("short");
+        names.add(prefix);
+        names.add(prefix + ".Foo");
+        names.add(prefix + "." + "y".repeat(300));
+        names.add(prefix + "." + "y".repeat(300) + ".Bar");
+        names.add("z".repeat(700));
+        names.add(prefix + ".Baz");
+        names.add("tiny");
+
+        BytecodeVersions bytecodeVersions = new BytecodeVersions(true);
+        names.forEach(name -> bytecodeVersions.addUnversionedClass(JAVA_8, name));
+
+        assertEquals(names, bytecodeVersions.getUnversionedClasses(JAVA_8));
+    }
+
+    @Test
+    void entriesAreStoredAsClassNames() {
+        BytecodeVersions bytecodeVersions = new BytecodeVersions(true);
+        bytecodeVersions.addUnversionedEntry(JAVA_8, "com/acme/Foo.class");
+        bytecodeVersions.addUnversionedEntry(JAVA_8, "com/acme/Foo$Bar.class");
+        bytecodeVersions.addUnversionedEntry(JAVA_11, "com/acme/Baz.class");
+        bytecodeVersions.addVersionedEntry(11, JAVA_11, "META-INF/versions/11/com/acme/Foo.class", 21);
+        bytecodeVersions.addVersionedEntry(11, JAVA_11, "META-INF/versions/11/com/acme/Foo$Bar.class", 21);
+
+        assertEquals(List.of("com.acme.Foo", "com.acme.Foo.Bar"), bytecodeVersions.getUnversionedClasses(JAVA_8));
+        assertEquals(List.of("com.acme.Baz"), bytecodeVersions.getUnversionedClasses(JAVA_11));
+        assertEquals(List.of("com.acme.Foo", "com.acme.Foo.Bar"), bytecodeVersions.getVersionedClasses(11, JAVA_11));
+        assertEquals(Map.of(JAVA_11, 2), bytecodeVersions.getVersionedClassCounts(11));
+        assertTrue(bytecodeVersions.getVersionedClasses(17, JAVA_11).isEmpty());
+    }
+
+    @Test
+    void countsOnlyKeepsNoNames() {
+        BytecodeVersions bytecodeVersions = new BytecodeVersions(false);
+        bytecodeVersions.addUnversionedClass(JAVA_8, "com.acme.Foo");
+        bytecodeVersions.addUnversionedEntry(JAVA_8, "com/acme/Bar.class");
+        bytecodeVersions.addUnversionedClasses(JAVA_8, 3);
+        bytecodeVersions.addVersionedClasses(11, JAVA_11, 2);
+
+        assertFalse(bytecodeVersions.isDetails());
+        assertEquals(Map.of(JAVA_8, 5), bytecodeVersions.getUnversionedClassCounts());
+        assertEquals(Map.of(JAVA_11, 2), bytecodeVersions.getVersionedClassCounts(11));
+        assertTrue(bytecodeVersions.getUnversionedClasses(JAVA_8).isEmpty());
+        assertTrue(bytecodeVersions.getVersionedClasses(11, JAVA_11).isEmpty());
+    }
+
+    @Test
+    void countsWithoutNamesRequireCountsOnly() {
+        BytecodeVersions bytecodeVersions = new BytecodeVersions(true);
+
+        assertThrows(IllegalStateException.class, () -> bytecodeVersions.addUnversionedClasses(JAVA_8, 1));
+        assertThrows(IllegalStateException.class, () -> bytecodeVersions.addVersionedClasses(11, JAVA_11, 1));
+    }
+}
@@ -0,0 +1,164 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2022-2023 The Jarviz authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kordamp.jarviz.core.model;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.kordamp.jarviz.Jars;
+import org.kordamp.jarviz.core.cache.ResultCache;
+import org.kordamp.jarviz.core.cache.ResultCodecs;
+import org.kordamp.jarviz.core.processors.EntriesFindJarProcessor;
+import org.kordamp.jarviz.core.processors.JarProcessor;
+import org.kordamp.jarviz.core.resolvers.PathBasedJarFileResolver;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Looks up entry names by exact name and by prefix, checked against a linear scan.
+ *
+ * @author Andres Almiray
+ * @since 0.3.0
+ */
+class EntryIndexTest {
+    private static final List<String> NAMES = List.of(
+        "com/acme/internal/Impl.class",
+        "META-INF/MANIFEST.MF",
+        "com/acme/Foo.class",
+        "com/acme-extra/Extra.class",
+        "com/acme/",
+        "com/acme/Bar.class",
+        "com/acmex/X.class",
+        "com/acme/Foo.class",
+        "module-info.class");
+
+    @TempDir
+    Path workDirectory;
+
+    @Test
+    void namesAreSortedWithoutDuplicates() {
+        EntryIndex index = EntryIndex.of(NAMES);
+
+        List<String> expected = NAMES.stream().distinct().sorted().collect(Collectors.toList());
+        assertEquals(expected, index.getNames());
+        assertEquals(expected.size(), index.size());
+    }
+
+    @Test
+    void containsExactNamesOnly() {
+        EntryIndex index = EntryIndex.of(NAMES);
+
+        for (String name : NAMES) {
+            assertTrue(index.contains(name), name);
+        }
+        assertFalse(index.contains("com/acme"));
+        assertFalse(index.contains("com/acme/Foo"));
+        assertFalse(index.contains("com/acme/Foo.class/"));
+        assertFalse(index.contains(""));
+    }
+
+    @Test
+    void prefixLookupJumpsToMatchingNames() {
+        EntryIndex index = EntryIndex.of(NAMES);
+
+        assertEquals(List.of("com/acme/", "com/acme/Bar.class", "com/acme/Foo.class", "com/acme/internal/Impl.class"),
+            index.getNames("com/acme/"));
+        assertEquals(List.of("com/acme-extra/Extra.class", "com/acme/", "com/acme/Bar.class", "com/acme/Foo.class",
+            "com/acme/internal/Impl.class", "com/acmex/X.class"), index.getNames("com/acme"));
+        assertEquals(List.of("com/acme/Foo.class"), index.getNames("com/acme/Foo.class"));
+        assertEquals(List.of("META-INF/MANIFEST.MF"), index.getNames("META-INF/"));
+        assertEquals(index.getNames(), index.getNames(""));
+        assertEquals(List.of(), index.getNames("com/acme/Baz"));
+        assertEquals(List.of(), index.getNames("org/"));
+        assertEquals(List.of(), index.getNames("zzz"));
+    }
+
+    @Test
+    void prefixLookupMatchesLinearScan() {
+        EntryIndex index = EntryIndex.of(NAMES);
+
+        for (String name : NAMES) {
+            for (int i = 0; i <= name.length(); i++) {
+                String prefix = name.substring(0, i);
+                List<String> expected = index.getNames().stream()
+                    .filter(n -> n.startsWith(prefix))
+                    .collect(Collectors.toList());
+                assertEquals(expected, index.getNames(prefix), prefix);
+            }
+        }
+    }
+
+    @Test
+    void emptyIndex() {
+        EntryIndex index = EntryIndex.of(List.of());
+
+        assertEquals(0, index.size());
+        assertFalse(index.contains("com/acme/Foo.class"));
+        assertEquals(List.of(), index.getNames("com/"));
+    }
+
+    @Test
+    void codecRoundTrip() throws IOException {
+        EntryIndex index = EntryIndex.of(NAMES);
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        ResultCodecs.ENTRY_INDEX.write(new DataOutputStream(bytes), index);
+        EntryIndex read = ResultCodecs.ENTRY_INDEX.read(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())));
+
+        assertEquals(index.getNames(), read.getNames());
+    }
+
+    @Test
+    void exactNameLookupMatchesWithAndWithoutIndex() throws IOException {
+        Path jar = Jars.jar()
+            .entry("com/acme/", new byte[0])
+            .classes("com/acme/Foo", "com/acme/Bar")
+            .write(workDirectory.resolve("exact.jar"));
+        ResultCache cache = new ResultCache(workDirectory.resolve("cache"), 1024 * 1024);
+
+        for (String name : List.of("com/acme/Foo.class", "com/acme/", "com/acme", "com/acme/Baz.class")) {
+            Set<String> expected = find(jar, name, null);
+            assertEquals(expected, find(jar, name, cache), name);
+            assertEquals(expected, find(jar, name, cache), name);
+        }
+        assertEquals(Set.of("com/acme/Foo.class"), find(jar, "com/acme/Foo.class", cache));
+        assertEquals(Set.of(), find(jar, "com/acme", cache));
+        assertTrue(cache.getHits() > 0, "entry index was cached");
+    }
+
+    private static Set<String> find(Path jar, String name, ResultCache cache) {
+        EntriesFindJarProcessor processor = new EntriesFindJarProcessor(new PathBasedJarFileResolver(jar));
+        processor.setEntryName(name);
+        if (null != cache) processor.setResultCache(cache);
+
+        Set<JarProcessor.JarFileResult<Set<String>>> results = processor.getResult();
+        assertEquals(1, results.size());
+        return results.iterator().next().getResult();
+    }
+}
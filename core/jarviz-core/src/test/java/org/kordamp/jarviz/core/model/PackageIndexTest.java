@@ -0,0 +1,143 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2022-2023 The Jarviz authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kordamp.jarviz.core.model;
+
+import org.junit.jupiter.api.Test;
+import org.kordamp.jarviz.core.cache.ResultCodecs;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checks {@link PackageIndex} against split packages computed naively from a map of JARs to packages.
+ *
+ * @author Andres Almiray
+ * @since 0.3.0
+ */
+class PackageIndexTest {
+    @Test
+    void splitPackages() {
+        PackageIndex index = new PackageIndex();
+        index.addJar("a.jar", Set.of("com.acme", "com.acme.api"));
+        index.addJar("b.jar", Set.of("com.acme", "org.other"));
+        index.addJar("c.jar", Set.of("org.other", "net.solo"));
+
+        assertEquals(Map.of("a.jar", Set.of("com.acme"), "b.jar", Set.of("com.acme", "org.other"),
+            "c.jar", Set.of("org.other")), index.getSplitPackages());
+        assertEquals(Set.of("a.jar", "b.jar"), index.getJars("com.acme"));
+        assertEquals(Set.of("c.jar"), index.getJars("net.solo"));
+        assertEquals(Set.of(), index.getJars("missing"));
+        assertEquals(Set.of("com.acme", "com.acme.api", "net.solo", "org.other"), index.getPackages());
+        assertEquals(Set.of("com.acme", "org.other"), index.getPackages("b.jar"));
+    }
+
+    @Test
+    void removedJarNoLongerSplitsPackages() {
+        PackageIndex index = new PackageIndex();
+        index.addJar("a.jar", Set.of("com.acme"));
+        index.addJar("b.jar", Set.of("com.acme", "org.other"));
+
+        assertTrue(index.removeJar("a.jar"));
+        assertFalse(index.removeJar("a.jar"));
+        assertFalse(index.containsJar("a.jar"));
+        assertEquals(Map.of(), index.getSplitPackages());
+        assertEquals(Set.of("b.jar"), index.getJars("com.acme"));
+
+        index.removeJar("b.jar");
+        assertEquals(Set.of(), index.getPackages());
+        assertEquals(Set.of(), index.getJars());
+    }
+
+    @Test
+    void addingAJarAgainReplacesItsPackages() {
+        PackageIndex index = new PackageIndex();
+        index.addJar("a.jar", Set.of("com.acme"));
+        index.addJar("b.jar", Set.of("com.acme"));
+        index.addJar("b.jar", Set.of("org.other"));
+
+        assertEquals(Map.of(), index.getSplitPackages());
+        assertEquals(Set.of("org.other"), index.getPackages("b.jar"));
+        assertEquals(Set.of("a.jar", "b.jar"), index.getJars());
+    }
+
+    @Test
+    void randomChangesMatchNaiveComputation() {
+        Random random = new Random(42);
+        PackageIndex index = new PackageIndex();
+        Map<String, Set<String>> jars = new HashMap<>();
+
+        for (int round = 0; round < 2000; round++) {
+            String key = "jar-" + random.nextInt(40) + ".jar";
+            if (random.nextInt(4) == 0) {
+                assertEquals(null != jars.remove(key), index.removeJar(key));
+            } else {
+                Set<String> packages = new TreeSet<>();
+                for (int i = random.nextInt(6); i > 0; i--) {
+                    packages.add("p" + random.nextInt(100));
+                }
+                jars.put(key, packages);
+                index.addJar(key, packages);
+            }
+
+            if (round % 50 == 0) assertEquals(naiveSplitPackages(jars), index.getSplitPackages(), "round " + round);
+        }
+        assertEquals(naiveSplitPackages(jars), index.getSplitPackages());
+        assertEquals(new TreeSet<>(jars.keySet()), index.getJars());
+    }
+
+    @Test
+    void codecRoundTrip() throws IOException {
+        PackageIndex index = new PackageIndex();
+        index.addJar("a.jar", Set.of("com.acme", "com.acme.api"));
+        index.addJar("b.jar", Set.of("com.acme", "org.other"));
+        index.addJar("c.jar", Set.of("org.other"));
+        index.removeJar("c.jar");
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        ResultCodecs.PACKAGE_INDEX.write(new DataOutputStream(bytes), index);
+        PackageIndex read = ResultCodecs.PACKAGE_INDEX.read(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())));
+
+        assertEquals(index.getJars(), read.getJars());
+        assertEquals(index.getPackages(), read.getPackages());
+        assertEquals(index.getSplitPackages(), read.getSplitPackages());
+    }
+
+    private static Map<String, Set<String>> naiveSplitPackages(Map<String, Set<String>> jars) {
+        Map<String, Set<String>> jarsByPackage = new HashMap<>();
+        jars.forEach((key, packages) -> packages.forEach(p -> jarsByPackage.computeIfAbsent(p, k -> new TreeSet<>()).add(key)));
+
+        Map<String, Set<String>> split = new TreeMap<>();
+        jarsByPackage.forEach((p, keys) -> {
+            if (keys.size() > 1) keys.forEach(key -> split.computeIfAbsent(key, k -> new TreeSet<>()).add(p));
+        });
+        return split;
+    }
+}
@@ -0,0 +1,187 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2022-2023 The Jarviz authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kordamp.jarviz.core.processors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.kordamp.jarviz.Jars;
+import org.kordamp.jarviz.StubServer;
+import org.kordamp.jarviz.core.model.Checksum;
+import org.kordamp.jarviz.core.resolvers.HttpRepository;
+import org.kordamp.jarviz.core.resolvers.PathBasedJarFileResolver;
+import org.kordamp.jarviz.core.resolvers.Repositories;
+import org.kordamp.jarviz.util.Algorithm;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Set;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.kordamp.jarviz.core.model.Checksum.Outcome.FAILURE;
+import static org.kordamp.jarviz.core.model.Checksum.Outcome.SUCCESS;
+import static org.kordamp.jarviz.core.model.Checksum.Outcome.UNAVAILABLE;
+import static org.kordamp.jarviz.util.ChecksumUtils.checksum;
+
+/**
+ * Verifies checksums published by a local {@link StubServer}.
+ *
+ * @author Andres Almiray
+ * @since 0.3.0
+ */
+class ChecksumJarProcessorTest {
+    private static final String ARTIFACT_PATH = "org/kordamp/jarviz/test/checked/1.0.0/checked-1.0.0.jar";
+
+    @TempDir
+    Path workDirectory;
+
+    private StubServer server;
+    private Path jar;
+
+    @BeforeEach
+    void setup() throws IOException {
+        server = StubServer.start();
+        jar = Jars.jar()
+            .entry("META-INF/maven/org.kordamp.jarviz.test/checked/pom.properties",
+                "groupId=org.kordamp.jarviz.test\nartifactId=checked\nversion=1.0.0\n")
+            .classes("com/acme/Checked")
+            .write(workDirectory.resolve("checked-1.0.0.jar"));
+    }
+
+    @AfterEach
+    void stopServer() {
+        server.close();
+    }
+
+    @Test
+    void matchingChecksumsSucceed() {
+        for (Algorithm algorithm : Algorithm.values()) {
+            publish(server, algorithm, checksum(algorithm, jar));
+        }
+
+        Map<Algorithm, Checksum.Outcome> outcomes = verify(repositories(server));
+        for (Algorithm algorithm : Algorithm.values()) {
+            assertEquals(SUCCESS, outcomes.get(algorithm), algorithm.formatted());
+        }
+    }
+
+    @Test
+    void checksumsWithTrailingFileNameAreAccepted() {
+        // the format written by md5sum and friends
+        publish(server, Algorithm.MD5, checksum(Algorithm.MD5, jar) + "  checked-1.0.0.jar\n");
+
+        assertEquals(SUCCESS, verify(repositories(server)).get(Algorithm.MD5));
+    }
+
+    @Test
+    void mismatchedChecksumFails() {
+        for (Algorithm algorithm : Algorithm.values()) {
+            publish(server, algorithm, checksum(algorithm, jar));
+        }
+        publish(server, Algorithm.SHA_1, "0123456789abcdef0123456789abcdef01234567");
+
+        Map<Algorithm, Checksum.Outcome> outcomes = verify(repositories(server));
+        assertEquals(FAILURE, outcomes.get(Algorithm.SHA_1));
+        assertEquals(SUCCESS, outcomes.get(Algorithm.MD5));
+        assertEquals(SUCCESS, outcomes.get(Algorithm.SHA_256));
+        assertEquals(SUCCESS, outcomes.get(Algorithm.SHA_512));
+    }
+
+    @Test
+    void missingChecksumIsUnavailable() {
+        publish(server, Algorithm.SHA_256, checksum(Algorithm.SHA_256, jar));
+
+        Map<Algorithm, Checksum.Outcome> outcomes = verify(repositories(server));
+        assertEquals(SUCCESS, outcomes.get(Algorithm.SHA_256));
+        assertEquals(UNAVAILABLE, outcomes.get(Algorithm.MD5));
+        assertEquals(UNAVAILABLE, outcomes.get(Algorithm.SHA_1));
+        assertEquals(UNAVAILABLE, outcomes.get(Algorithm.SHA_512));
+    }
+
+    @Test
+    void failingMirrorIsSkipped() throws IOException {
+        for (Algorithm algorithm : Algorithm.values()) {
+            publish(server, algorithm, checksum(algorithm, jar));
+        }
+
+        try (StubServer broken = StubServer.start()) {
+            for (Algorithm algorithm : Algorithm.values()) {
+                broken.fail(ARTIFACT_PATH + algorithm.extension(), 503);
+            }
+
+            Map<Algorithm, Checksum.Outcome> outcomes = verify(Repositories.of(
+                new HttpRepository(broken.getUrl(), Duration.ofSeconds(5)),
+                new HttpRepository(server.getUrl(), Duration.ofSeconds(5))));
+            for (Algorithm algorithm : Algorithm.values()) {
+                assertEquals(SUCCESS, outcomes.get(algorithm), algorithm.formatted());
+            }
+        }
+    }
+
+    @Test
+    void checksumsAreFetchedWithinMaxConnections() {
+        for (Algorithm algorithm : Algorithm.values()) {
+            server.serve(ARTIFACT_PATH + algorithm.extension(), checksum(algorithm, jar).getBytes(UTF_8), 50);
+        }
+
+        ChecksumJarProcessor processor = new ChecksumJarProcessor(new PathBasedJarFileResolver(jar));
+        processor.setRepositories(repositories(server));
+        processor.setMaxConnections(1);
+        assertEquals(1, processor.getResult().size());
+        assertEquals(1, server.getMaxInFlight());
+    }
+
+    @Test
+    void jarsWithoutMavenMetadataAreSkipped() throws IOException {
+        Path plain = Jars.jar().classes("com/acme/Plain").write(workDirectory.resolve("plain-1.0.0.jar"));
+
+        ChecksumJarProcessor processor = new ChecksumJarProcessor(new PathBasedJarFileResolver(plain));
+        processor.setRepositories(repositories(server));
+        assertTrue(processor.getResult().isEmpty());
+        assertTrue(server.getRequests().isEmpty());
+    }
+
+    private Map<Algorithm, Checksum.Outcome> verify(Repositories repositories) {
+        ChecksumJarProcessor processor = new ChecksumJarProcessor(new PathBasedJarFileResolver(jar));
+        processor.setRepositories(repositories);
+
+        Set<JarProcessor.JarFileResult<Set<Checksum>>> results = processor.getResult();
+        assertEquals(1, results.size());
+
+        Map<Algorithm, Checksum.Outcome> outcomes = new EnumMap<>(Algorithm.class);
+        for (Checksum checksum : results.iterator().next().getResult()) {
+            outcomes.put(checksum.getAlgorithm(), checksum.getOutcome());
+        }
+        assertEquals(Algorithm.values().length, outcomes.size());
+        return outcomes;
+    }
+
+    private static Repositories repositories(StubServer server) {
+        return Repositories.of(new HttpRepository(server.getUrl(), Duration.ofSeconds(5)));
+    }
+
+    private static void publish(StubServer server, Algorithm algorithm, String checksum) {
+        server.serve(ARTIFACT_PATH + algorithm.extension(), checksum.getBytes(UTF_8));
+    }
+}
@@ -0,0 +1,150 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2022-2023 The Jarviz authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kordamp.jarviz.core.processors;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.kordamp.jarviz.Jars;
+import org.kordamp.jarviz.core.cache.ResultCache;
+import org.kordamp.jarviz.core.resolvers.PathBasedJarFileResolver;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.FileSystem;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.PathMatcher;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Stream;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checks pattern searches against a walk over the ZIP file system.
+ *
+ * @author Andres Almiray
+ * @since 0.3.0
+ */
+class EntriesFindJarProcessorTest {
+    private static final List<String> PATTERNS = List.of(
+        "glob:**",
+        "glob:**/*.class",
+        "glob:**.properties",
+        "glob:/*",
+        "glob:/com/acme/*",
+        "glob:/com/acme/**",
+        "glob:/com/acme*/*.class",
+        "glob:/com/acme/{Foo,Bar}.class",
+        "glob:/com/acme/[BF]*.class",
+        "glob:/com/acme/Ba?.class",
+        "glob:/META-INF/{services,maven}/**",
+        "glob:/com",
+        "glob:/",
+        "regex:/com/acme/.*",
+        "regex:/com/acme/Foo\\$?.*\\.class",
+        "regex:/META-INF/.*|/module-info\\.class");
+
+    @TempDir
+    Path workDirectory;
+
+    @Test
+    void patternsMatchZipFileSystemWalk() throws IOException {
+        Path jar = sampleJar(workDirectory.resolve("sample.jar"));
+        assertEquals(Set.of("com/acme/Bar.class", "com/acme/Foo.class"), walk(jar, "glob:/com/acme/{Foo,Bar}.class"));
+
+        for (String pattern : PATTERNS) {
+            assertEquals(walk(jar, pattern), find(jar, pattern, null), pattern);
+        }
+    }
+
+    @Test
+    void patternsMatchZipFileSystemWalkWithIndex() throws IOException {
+        Path jar = sampleJar(workDirectory.resolve("sample.jar"));
+        ResultCache cache = new ResultCache(workDirectory.resolve("cache"), 1024 * 1024);
+
+        for (String pattern : PATTERNS) {
+            // once to fill the cache, once more from the cached index
+            assertEquals(walk(jar, pattern), find(jar, pattern, cache), pattern);
+            assertEquals(walk(jar, pattern), find(jar, pattern, cache), pattern);
+        }
+        assertTrue(cache.getHits() > 0, "entry index was cached");
+    }
+
+    @Test
+    void prefixedArchiveMatchesZipFileSystemWalk() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        out.write("#!/bin/sh\nexec java -jar \"$0\" \"$@\"\n".getBytes(UTF_8));
+        sampleJar().write(out);
+        Path jar = Files.write(workDirectory.resolve("prefixed.jar"), out.toByteArray());
+
+        for (String pattern : PATTERNS) {
+            assertEquals(walk(jar, pattern), find(jar, pattern, null), pattern);
+        }
+    }
+
+    @Test
+    void relativeGlobsMatchAtAnyDepth() throws IOException {
+        Path jar = sampleJar(workDirectory.resolve("sample.jar"));
+
+        assertEquals(find(jar, "glob:**/*.class", null), find(jar, "*.class", null));
+        assertEquals(find(jar, "glob:**/internal", null), find(jar, "glob:internal", null));
+    }
+
+    private static Jars sampleJar() {
+        return Jars.jar()
+            .entry("META-INF/services/com.acme.Service", "com.acme.Foo\n")
+            .entry("META-INF/maven/com.acme/foo/pom.properties", "version=1.0.0\n")
+            .entry("com/acme/", new byte[0])
+            .entry("com/acme/internal/impl.properties", "")
+            .entry("com/acme-extra/README", "extra")
+            .classes("com/acme/Foo", "com/acme/Foo$Inner", "com/acme/Bar", "com/acme/internal/Impl",
+                "com/acme-extra/Extra", "com/acmex/X", "module-info");
+    }
+
+    private static Path sampleJar(Path file) throws IOException {
+        return sampleJar().write(file);
+    }
+
+    private static Set<String> find(Path jar, String pattern, ResultCache cache) {
+        EntriesFindJarProcessor processor = new EntriesFindJarProcessor(new PathBasedJarFileResolver(jar));
+        processor.setEntryPattern(pattern);
+        if (null != cache) processor.setResultCache(cache);
+
+        Set<JarProcessor.JarFileResult<Set<String>>> results = processor.getResult();
+        assertEquals(1, results.size());
+        return results.iterator().next().getResult();
+    }
+
+    private static Set<String> walk(Path jar, String pattern) throws IOException {
+        Set<String> entries = new TreeSet<>();
+        try (FileSystem zipfs = FileSystems.newFileSystem(jar, (ClassLoader) null)) {
+            PathMatcher pathMatcher = zipfs.getPathMatcher(pattern);
+            try (Stream<Path> stream = Files.walk(zipfs.getPath("/"))) {
+                stream.filter(pathMatcher::matches)
+                    .map(path -> path.toString().substring(1))
+                    .forEach(entries::add);
+            }
+        }
+        return entries;
+    }
+}
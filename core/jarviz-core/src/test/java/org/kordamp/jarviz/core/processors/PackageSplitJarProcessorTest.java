@@ -0,0 +1,184 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2022-2023 The Jarviz authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kordamp.jarviz.core.processors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.kordamp.jarviz.Jars;
+import org.kordamp.jarviz.core.resolvers.DirectoryBasedJarFileResolver;
+import org.kordamp.jarviz.core.resolvers.JarFileResolver;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+/**
+ * Checks that incremental runs over an index file give the same split packages as a full scan.
+ *
+ * @author Andres Almiray
+ * @since 0.3.0
+ */
+class PackageSplitJarProcessorTest {
+    @TempDir
+    Path workDirectory;
+
+    private Path jars;
+    private Path indexFile;
+    private long lastModified = 1_000_000_000_000L;
+
+    @BeforeEach
+    void setup() throws IOException {
+        jars = workDirectory.resolve("jars");
+        indexFile = workDirectory.resolve("index/packages.idx");
+
+        write("a.jar", "com/acme/A", "com/acme/api/Api");
+        write("b.jar", "com/acme/B", "org/other/B");
+        write("c.jar", "org/other/C", "net/solo/C");
+    }
+
+    @Test
+    void firstIncrementalRunScansEverything() throws IOException {
+        PackageSplitJarProcessor processor = assertIncrementalMatchesFullScan();
+        assertEquals(3, processor.getScanned());
+        assertEquals(0, processor.getReused());
+        assertEquals(Map.of("a.jar", Set.of("com.acme"), "b.jar", Set.of("com.acme", "org.other"),
+            "c.jar", Set.of("org.other")), fullScan());
+    }
+
+    @Test
+    void unchangedJarsAreReused() throws IOException {
+        assertIncrementalMatchesFullScan();
+
+        PackageSplitJarProcessor processor = assertIncrementalMatchesFullScan();
+        assertEquals(0, processor.getScanned());
+        assertEquals(3, processor.getReused());
+    }
+
+    @Test
+    void addedJarIsScanned() throws IOException {
+        assertIncrementalMatchesFullScan();
+
+        write("d.jar", "net/solo/D", "com/acme/api/D");
+        PackageSplitJarProcessor processor = assertIncrementalMatchesFullScan();
+        assertEquals(1, processor.getScanned());
+        assertEquals(3, processor.getReused());
+    }
+
+    @Test
+    void removedJarIsDropped() throws IOException {
+        assertIncrementalMatchesFullScan();
+
+        Files.delete(jars.resolve("c.jar"));
+        PackageSplitJarProcessor processor = assertIncrementalMatchesFullScan();
+        assertEquals(0, processor.getScanned());
+        assertEquals(2, processor.getReused());
+        assertFalse(fullScan().containsKey("c.jar"));
+    }
+
+    @Test
+    void modifiedJarIsScannedAgain() throws IOException {
+        assertIncrementalMatchesFullScan();
+
+        write("c.jar", "net/solo/C", "com/acme/C");
+        PackageSplitJarProcessor processor = assertIncrementalMatchesFullScan();
+        assertEquals(1, processor.getScanned());
+        assertEquals(2, processor.getReused());
+    }
+
+    @Test
+    void touchedJarWithSameContentsIsReused() throws IOException {
+        assertIncrementalMatchesFullScan();
+
+        Files.setLastModifiedTime(jars.resolve("b.jar"), FileTime.fromMillis(lastModified += 1000));
+        PackageSplitJarProcessor processor = assertIncrementalMatchesFullScan();
+        assertEquals(0, processor.getScanned());
+        assertEquals(3, processor.getReused());
+    }
+
+    @Test
+    void renamedJarKeepsItsPackages() throws IOException {
+        assertIncrementalMatchesFullScan();
+
+        Files.move(jars.resolve("b.jar"), jars.resolve("b-renamed.jar"));
+        PackageSplitJarProcessor processor = assertIncrementalMatchesFullScan();
+        assertEquals(0, processor.getScanned());
+        assertEquals(3, processor.getReused());
+    }
+
+    @Test
+    void sequenceOfChangesMatchesFullScan() throws IOException {
+        assertIncrementalMatchesFullScan();
+
+        write("d.jar", "org/other/D");
+        assertIncrementalMatchesFullScan();
+        Files.move(jars.resolve("a.jar"), jars.resolve("z.jar"));
+        assertIncrementalMatchesFullScan();
+        write("z.jar", "net/solo/Z");
+        assertIncrementalMatchesFullScan();
+        Files.delete(jars.resolve("d.jar"));
+        assertIncrementalMatchesFullScan();
+        Files.setLastModifiedTime(jars.resolve("c.jar"), FileTime.fromMillis(lastModified += 1000));
+        assertIncrementalMatchesFullScan();
+    }
+
+    @Test
+    void corruptIndexFileFallsBackToFullScan() throws IOException {
+        Files.createDirectories(indexFile.getParent());
+        Files.write(indexFile, new byte[]{1, 2, 3});
+
+        PackageSplitJarProcessor processor = assertIncrementalMatchesFullScan();
+        assertEquals(3, processor.getScanned());
+    }
+
+    private PackageSplitJarProcessor assertIncrementalMatchesFullScan() throws IOException {
+        Map<String, Set<String>> expected = fullScan();
+
+        try (JarFileResolver resolver = new DirectoryBasedJarFileResolver(jars)) {
+            PackageSplitJarProcessor processor = new PackageSplitJarProcessor(resolver);
+            processor.setIndexFile(indexFile);
+            assertEquals(expected, splitPackages(processor.getResult()));
+            return processor;
+        }
+    }
+
+    private Map<String, Set<String>> fullScan() throws IOException {
+        try (JarFileResolver resolver = new DirectoryBasedJarFileResolver(jars)) {
+            return splitPackages(new PackageSplitJarProcessor(resolver).getResult());
+        }
+    }
+
+    private static Map<String, Set<String>> splitPackages(Set<JarProcessor.JarFileResult<Set<String>>> results) {
+        Map<String, Set<String>> map = new TreeMap<>();
+        results.forEach(result -> map.put(result.getJarFileName(), result.getResult()));
+        return map;
+    }
+
+    private void write(String fileName, String... classNames) throws IOException {
+        Path jar = Jars.jar().classes(classNames).write(jars.resolve(fileName));
+        // each change gets a distinct modification time, regardless of file system resolution
+        Files.setLastModifiedTime(jar, FileTime.fromMillis(lastModified += 1000));
+    }
+}
@@ -0,0 +1,188 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2022-2023 The Jarviz authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kordamp.jarviz.core.resolvers;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.kordamp.jarviz.Jars;
+import org.kordamp.jarviz.StubServer;
+import org.kordamp.jarviz.core.JarvizException;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.URL;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.jar.JarFile;
+
+import static java.util.stream.Collectors.toList;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Resolves remote JARs served by a local {@link StubServer}.
+ *
+ * @author Andres Almiray
+ * @since 0.3.0
+ */
+class CompositeJarFileResolverTest {
+    private static final String GROUP_PATH = "org/kordamp/jarviz/test/";
+
+    @TempDir
+    Path cacheDirectory;
+
+    private StubServer server;
+
+    @BeforeEach
+    void startServer() throws IOException {
+        server = StubServer.start();
+    }
+
+    @AfterEach
+    void stopServer() {
+        server.close();
+    }
+
+    @Test
+    void remoteJarsAreResolvedInInputOrder() throws IOException {
+        // the first JARs are the slowest to answer
+        List<String> names = new ArrayList<>();
+        Set<JarFileResolver> resolvers = new LinkedHashSet<>();
+        for (int i = 0; i < 6; i++) {
+            String name = "remote-" + i + ".jar";
+            names.add(name);
+            server.serve(name, jarBytes("com/acme/Remote" + i), (6 - i) * 50L);
+            resolvers.add(new UrlBasedJarFileResolver(cacheDirectory, new URL(server.getUrl() + name)));
+        }
+
+        try (JarFileResolver resolver = new CompositeJarFileResolver(resolvers, 3)) {
+            assertEquals(names, fileNames(resolver.resolveJarFiles()));
+        }
+        assertTrue(server.getMaxInFlight() > 1, "downloads ran concurrently");
+    }
+
+    @Test
+    void maxConnectionsLimitsConcurrentRequests() throws IOException {
+        Set<JarFileResolver> resolvers = new LinkedHashSet<>();
+        for (int i = 0; i < 8; i++) {
+            String name = "limited-" + i + ".jar";
+            server.serve(name, jarBytes("com/acme/Limited" + i), 50);
+            resolvers.add(new UrlBasedJarFileResolver(cacheDirectory, new URL(server.getUrl() + name)));
+        }
+
+        try (JarFileResolver resolver = new CompositeJarFileResolver(resolvers, 2)) {
+            assertEquals(8, resolver.resolveJarFiles().size());
+        }
+        assertTrue(server.getMaxInFlight() <= 2, "at most 2 connections, was " + server.getMaxInFlight());
+    }
+
+    @Test
+    void localAndRemoteJarsKeepTheirOrder() throws IOException {
+        Path local = Jars.jar().classes("com/acme/Local").write(cacheDirectory.resolve("local/local.jar"));
+        server.serve("remote.jar", jarBytes("com/acme/Remote"), 50);
+
+        Set<JarFileResolver> resolvers = new LinkedHashSet<>();
+        resolvers.add(new PathBasedJarFileResolver(local));
+        resolvers.add(new UrlBasedJarFileResolver(cacheDirectory, new URL(server.getUrl() + "remote.jar")));
+
+        try (JarFileResolver resolver = new CompositeJarFileResolver(resolvers, 4)) {
+            assertEquals(List.of("local.jar", "remote.jar"), fileNames(resolver.resolveJarFiles()));
+        }
+    }
+
+    @Test
+    void timedOutRepositoryIsSkipped() throws IOException {
+        String gav = "org.kordamp.jarviz.test:slow:1.0.0";
+        String path = GROUP_PATH + "slow/1.0.0/slow-1.0.0.jar";
+        byte[] jar = jarBytes("com/acme/Slow");
+
+        try (StubServer slow = StubServer.start()) {
+            slow.serve(path, jar, 2000);
+            server.serve(path, jar);
+
+            Repositories repositories = Repositories.of(
+                new HttpRepository(slow.getUrl(), Duration.ofMillis(200)),
+                new HttpRepository(server.getUrl(), Duration.ofSeconds(5)));
+
+            try (JarFileResolver resolver = new GavBasedJarFileResolver(cacheDirectory, gav, repositories)) {
+                assertEquals(List.of("slow-1.0.0.jar"), fileNames(resolver.resolveJarFiles()));
+            }
+            assertTrue(server.getRequests().contains("GET " + path), "downloaded from the second repository");
+        }
+    }
+
+    @Test
+    void timeoutFailsWhenNoRepositoryAnswers() throws IOException {
+        String path = GROUP_PATH + "slower/1.0.0/slower-1.0.0.jar";
+        server.serve(path, jarBytes("com/acme/Slower"), 2000);
+
+        Repositories repositories = Repositories.of(new HttpRepository(server.getUrl(), Duration.ofMillis(200)));
+        try (JarFileResolver resolver = new GavBasedJarFileResolver(cacheDirectory, "org.kordamp.jarviz.test:slower:1.0.0", repositories)) {
+            assertThrows(JarvizException.class, resolver::resolveJarFiles);
+        }
+    }
+
+    @Test
+    void failingRepositoryIsSkipped() throws IOException {
+        String path = GROUP_PATH + "mirrored/1.0.0/mirrored-1.0.0.jar";
+        server.serve(path, jarBytes("com/acme/Mirrored"));
+
+        try (StubServer broken = StubServer.start()) {
+            broken.fail(path, 500);
+
+            Repositories repositories = Repositories.of(
+                new HttpRepository(broken.getUrl(), Duration.ofSeconds(5)),
+                new HttpRepository(server.getUrl(), Duration.ofSeconds(5)));
+
+            Set<JarFileResolver> resolvers = new LinkedHashSet<>();
+            resolvers.add(new GavBasedJarFileResolver(cacheDirectory, "org.kordamp.jarviz.test:mirrored:1.0.0", repositories));
+            try (JarFileResolver resolver = new CompositeJarFileResolver(resolvers, 2)) {
+                assertEquals(List.of("mirrored-1.0.0.jar"), fileNames(resolver.resolveJarFiles()));
+            }
+            assertEquals(List.of("HEAD " + path), broken.getRequests());
+        }
+    }
+
+    @Test
+    void missingArtifactIsReported() throws IOException {
+        Repositories repositories = Repositories.of(new HttpRepository(server.getUrl(), Duration.ofSeconds(5)));
+        try (JarFileResolver resolver = new GavBasedJarFileResolver(cacheDirectory, "org.kordamp.jarviz.test:missing:1.0.0", repositories)) {
+            JarvizException e = assertThrows(JarvizException.class, resolver::resolveJarFiles);
+            assertTrue(e.getMessage().contains("JARVIZ-015"), e.getMessage());
+        }
+    }
+
+    private static byte[] jarBytes(String className) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        Jars.jar().classes(className).write(out);
+        return out.toByteArray();
+    }
+
+    private static List<String> fileNames(Set<JarFile> jarFiles) {
+        return jarFiles.stream()
+            .map(jarFile -> Path.of(jarFile.getName()).getFileName().toString())
+            .collect(toList());
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2022-2023 The Jarviz authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kordamp.jarviz.core.resolvers;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.kordamp.jarviz.Jars;
+import org.kordamp.jarviz.StubServer;
+import org.kordamp.jarviz.core.JarvizException;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Set;
+import java.util.jar.JarFile;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Resolves GAVs that are not published by any repository from local copies.
+ *
+ * @author Andres Almiray
+ * @since 0.3.0
+ */
+class GavBasedJarFileResolverTest {
+    private static final String GAV = "org.kordamp.jarviz.test:private:1.0.0-SNAPSHOT";
+    private static final String PATH = "org/kordamp/jarviz/test/private/1.0.0-SNAPSHOT/private-1.0.0-SNAPSHOT.jar";
+
+    @TempDir
+    Path workDirectory;
+
+    private String userHome;
+    private StubServer server;
+
+    @BeforeEach
+    void setup() throws IOException {
+        userHome = System.getProperty("user.home");
+        System.setProperty("user.home", workDirectory.resolve("home").toString());
+        server = StubServer.start();
+    }
+
+    @AfterEach
+    void cleanup() {
+        server.close();
+        System.setProperty("user.home", userHome);
+    }
+
+    @Test
+    void missingArtifactResolvesFromMavenLocal() throws IOException {
+        Path local = Jars.jar().classes("com/acme/Private")
+            .write(workDirectory.resolve("home/.m2/repository/" + PATH));
+
+        try (JarFileResolver resolver = new GavBasedJarFileResolver(workDirectory.resolve("cache"), GAV, repositories(server))) {
+            assertResolved(local, resolver.resolveJarFiles());
+        }
+        assertEquals(1, server.getRequests().size(), server.getRequests().toString());
+    }
+
+    @Test
+    void missingArtifactResolvesFromCacheDirectory() throws IOException {
+        Path cached = Jars.jar().classes("com/acme/Private")
+            .write(workDirectory.resolve("cache/private-1.0.0-SNAPSHOT.jar"));
+
+        try (JarFileResolver resolver = new GavBasedJarFileResolver(workDirectory.resolve("cache"), GAV, repositories(server))) {
+            assertResolved(cached, resolver.resolveJarFiles());
+        }
+    }
+
+    @Test
+    void unreachableRepositoryResolvesFromMavenLocal() throws IOException {
+        Path local = Jars.jar().classes("com/acme/Private")
+            .write(workDirectory.resolve("home/.m2/repository/" + PATH));
+        Repositories repositories = repositories(server);
+        server.close();
+
+        try (JarFileResolver resolver = new GavBasedJarFileResolver(workDirectory.resolve("cache"), GAV, repositories)) {
+            assertResolved(local, resolver.resolveJarFiles());
+        }
+    }
+
+    @Test
+    void missingArtifactWithoutLocalCopyFails() throws IOException {
+        try (JarFileResolver resolver = new GavBasedJarFileResolver(workDirectory.resolve("cache"), GAV, repositories(server))) {
+            JarvizException e = assertThrows(JarvizException.class, resolver::resolveJarFiles);
+            assertTrue(e.getMessage().contains(PATH), e.getMessage());
+        }
+    }
+
+    @Test
+    void publishedArtifactIsDownloaded() throws IOException {
+        server.serve(PATH, Files.readAllBytes(Jars.jar().classes("com/acme/Published").write(workDirectory.resolve("published.jar"))));
+        Files.createDirectories(workDirectory.resolve("cache"));
+
+        try (JarFileResolver resolver = new GavBasedJarFileResolver(workDirectory.resolve("cache"), GAV, repositories(server))) {
+            Set<JarFile> jarFiles = resolver.resolveJarFiles();
+            assertNotNull(jarFiles.iterator().next().getEntry("com/acme/Published.class"));
+        }
+    }
+
+    private static void assertResolved(Path expected, Set<JarFile> jarFiles) {
+        assertEquals(1, jarFiles.size());
+        assertEquals(expected.toAbsolutePath().normalize().toString(), jarFiles.iterator().next().getName());
+    }
+
+    private static Repositories repositories(StubServer server) {
+        return Repositories.of(new HttpRepository(server.getUrl(), Duration.ofSeconds(2)));
+    }
+}
@@ -0,0 +1,198 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2022-2023 The Jarviz authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kordamp.jarviz.util;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.kordamp.jarviz.Jars;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipException;
+import java.util.zip.ZipFile;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checks {@link CentralDirectory} against {@link ZipFile}.
+ *
+ * @author Andres Almiray
+ * @since 0.3.0
+ */
+class CentralDirectoryTest {
+    private static final int LOC_SIGNATURE = 0x04034b50;
+    private static final int ZIP64_END_SIGNATURE = 0x06064b50;
+
+    @TempDir
+    Path workDirectory;
+
+    @Test
+    void entriesMatchZipFile() throws IOException {
+        Path jar = Jars.jar()
+            .entry("META-INF/services/com.acme.Service", "com.acme.Impl\n")
+            .entry("com/acme/", new byte[0])
+            .entry("com/acme/résumé.txt", "unicode")
+            .classes("com/acme/Service", "com/acme/Impl")
+            .write(workDirectory.resolve("plain.jar"));
+
+        CentralDirectory directory = CentralDirectory.read(jar);
+        assertEquals(0, directory.getBaseOffset());
+        assertEntriesMatch(jar, directory);
+    }
+
+    @Test
+    void storedEntriesMatchZipFile() throws IOException {
+        Path jar = Jars.jar()
+            .stored()
+            .entry("data.bin", new byte[4096])
+            .classes("com/acme/Stored")
+            .write(workDirectory.resolve("stored.jar"));
+
+        assertEntriesMatch(jar, CentralDirectory.read(jar));
+    }
+
+    @Test
+    void commentAfterEndRecordIsSkipped() throws IOException {
+        // a comment that looks like another end record must not confuse the reader
+        String comment = "PK\u0005\u0006 not an end record " + String.join("", Collections.nCopies(2000, "x"));
+        Path jar = Jars.jar()
+            .classes("com/acme/Commented")
+            .comment(comment)
+            .write(workDirectory.resolve("commented.jar"));
+
+        assertEntriesMatch(jar, CentralDirectory.read(jar));
+    }
+
+    @Test
+    void prefixedArchiveHonorsBaseOffset() throws IOException {
+        byte[] prefix = "#!/bin/sh\nexec java -jar \"$0\" \"$@\"\n".getBytes(UTF_8);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        out.write(prefix);
+        Jars.jar()
+            .entry("README.txt", "prefixed")
+            .classes("com/acme/Launcher")
+            .write(out);
+        Path jar = Files.write(workDirectory.resolve("prefixed.jar"), out.toByteArray());
+
+        CentralDirectory directory = CentralDirectory.read(jar);
+        assertEquals(prefix.length, directory.getBaseOffset());
+        assertEntriesMatch(jar, directory);
+    }
+
+    @Test
+    void zip64ArchiveMatchesZipFile() throws IOException {
+        Jars jars = Jars.jar().stored();
+        for (int i = 0; i < 70_000; i++) {
+            jars.entry(String.format("e/%05d", i), new byte[0]);
+        }
+        Path jar = jars.write(workDirectory.resolve("zip64.jar"));
+
+        CentralDirectory directory = CentralDirectory.read(jar);
+        assertEquals(70_001, directory.getEntryCount());
+        assertEntriesMatch(jar, directory);
+    }
+
+    @Test
+    void negativeZip64SizeIsRejected() throws IOException {
+        Jars jars = Jars.jar().stored();
+        for (int i = 0; i < 70_000; i++) {
+            jars.entry(String.format("e/%05d", i), new byte[0]);
+        }
+        Path jar = jars.write(workDirectory.resolve("negative.jar"));
+
+        byte[] bytes = Files.readAllBytes(jar);
+        int record = lastIndexOf(bytes, ZIP64_END_SIGNATURE);
+        assertTrue(record > 0, "zip64 END record not found");
+        ByteBuffer.wrap(bytes).order(ByteOrder.LITTLE_ENDIAN).putLong(record + 40, -1L);
+        Files.write(jar, bytes);
+
+        assertThrows(ZipException.class, () -> CentralDirectory.read(jar));
+    }
+
+    @Test
+    void oversizedCentralDirectoryIsRejected() throws IOException {
+        Path jar = Jars.jar().classes("com/acme/Broken").write(workDirectory.resolve("oversized.jar"));
+
+        byte[] bytes = Files.readAllBytes(jar);
+        // central directory size of the END record, read unsigned it exceeds the file
+        ByteBuffer.wrap(bytes).order(ByteOrder.LITTLE_ENDIAN).putInt(bytes.length - 22 + 12, 0xFFFFFFF0);
+        Files.write(jar, bytes);
+
+        assertThrows(ZipException.class, () -> CentralDirectory.read(jar));
+    }
+
+    @Test
+    void notAZipFileIsRejected() throws IOException {
+        Path file = Files.write(workDirectory.resolve("text.jar"), "not a zip file at all".getBytes(UTF_8));
+
+        assertThrows(ZipException.class, () -> CentralDirectory.read(file));
+    }
+
+    private static void assertEntriesMatch(Path jar, CentralDirectory directory) throws IOException {
+        List<ZipEntry> expected = new ArrayList<>();
+        try (ZipFile zipFile = new ZipFile(jar.toFile())) {
+            zipFile.stream().forEach(expected::add);
+        }
+
+        List<String> names = new ArrayList<>();
+        directory.forEach(name -> names.add(name.toString()));
+        List<String> expectedNames = new ArrayList<>();
+        expected.forEach(entry -> expectedNames.add(entry.getName()));
+        assertEquals(expectedNames, names);
+        assertEquals(expected.size(), directory.getEntryCount());
+
+        byte[] bytes = Files.readAllBytes(jar);
+        ByteBuffer buffer = ByteBuffer.wrap(bytes).order(ByteOrder.LITTLE_ENDIAN);
+        int[] index = {0};
+        directory.forEachEntry(entry -> {
+            ZipEntry zipEntry = expected.get(index[0]++);
+            String name = zipEntry.getName();
+            assertEquals(name, entry.getName().toString());
+            assertEquals(zipEntry.getMethod(), entry.getMethod(), name);
+            assertEquals(zipEntry.getCompressedSize(), entry.getCompressedSize(), name);
+            assertEquals(zipEntry.getSize(), entry.getSize(), name);
+            assertEquals(zipEntry.isDirectory(), entry.isDirectory(), name);
+
+            // the local header of the entry is found at the reported offset
+            int offset = (int) entry.getLocalHeaderOffset();
+            assertEquals(LOC_SIGNATURE, buffer.getInt(offset), name);
+            int nameLength = Short.toUnsignedInt(buffer.getShort(offset + 26));
+            assertEquals(name, new String(bytes, offset + 30, nameLength, UTF_8));
+        });
+        assertEquals(expected.size(), index[0]);
+    }
+
+    private static int lastIndexOf(byte[] bytes, int signature) {
+        ByteBuffer buffer = ByteBuffer.wrap(bytes).order(ByteOrder.LITTLE_ENDIAN);
+        for (int i = bytes.length - 4; i >= 0; i--) {
+            if (buffer.getInt(i) == signature) return i;
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,170 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2022-2023 The Jarviz authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kordamp.jarviz.util;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.kordamp.jarviz.Jars;
+
+import java.io.IOException;
+import java.nio.file.FileSystem;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.PathMatcher;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checks {@link EntryPattern} against the path matchers of the ZIP file system.
+ *
+ * @author Andres Almiray
+ * @since 0.3.0
+ */
+class EntryPatternTest {
+    private static final List<String> NAMES = List.of(
+        "META-INF/services/com.acme.Service",
+        "META-INF/versions/11/com/acme/Foo.class",
+        "META-INF/maven/com.acme/foo/pom.properties",
+        "com/acme/Foo.class",
+        "com/acme/Foo$Inner.class",
+        "com/acme/Bar.class",
+        "com/acme/Baz.java",
+        "com/acme/internal/Impl.class",
+        "com/acme/internal/impl.properties",
+        "com/acme-extra/Extra.class",
+        "com/acmex/X.class",
+        "module-info.class",
+        "README",
+        "a.b/c.d");
+
+    private static final List<String> PATTERNS = List.of(
+        "glob:**",
+        "glob:**.class",
+        "glob:**/*.class",
+        "glob:/*",
+        "glob:/*.class",
+        "glob:/com/acme/*",
+        "glob:/com/acme/*.class",
+        "glob:/com/acme/**",
+        "glob:/com/acme/**.class",
+        "glob:/com/acme*/*.class",
+        "glob:/com/acme/Ba?.*",
+        "glob:/com/acme/?oo*.class",
+        "glob:/com/acme/{Foo,Bar}.class",
+        "glob:/com/acme/{internal,}*",
+        "glob:/META-INF/{services,maven}/**",
+        "glob:/com/acme/[BF]*.class",
+        "glob:/com/acme/[a-z]*/*",
+        "glob:/com/acme/[!F]*",
+        "glob:/a.b/c.d",
+        "glob:/META-INF/versions/*/com/**",
+        "regex:.*",
+        "regex:/com/acme/.*\\.class",
+        "regex:/com/acme/Fo+\\.class",
+        "regex:/com/acme/Foo?\\.class",
+        "regex:/com/acme/(Foo|Bar)\\.class",
+        "regex:/META-INF/.*|/module-info\\.class",
+        "regex:/com/acme/internal/[a-z]+\\.properties");
+
+    @TempDir
+    Path workDirectory;
+
+    @Test
+    void matchesLikeZipFileSystem() throws IOException {
+        Jars jars = Jars.jar();
+        NAMES.forEach(name -> jars.entry(name, name));
+        Path jar = jars.write(workDirectory.resolve("patterns.jar"));
+
+        try (FileSystem zipfs = FileSystems.newFileSystem(jar, (ClassLoader) null)) {
+            for (String syntaxAndPattern : PATTERNS) {
+                PathMatcher expected = zipfs.getPathMatcher(syntaxAndPattern);
+                EntryPattern.Matcher matcher = EntryPattern.compile(syntaxAndPattern).matcher();
+
+                for (String name : namesAndDirectories()) {
+                    assertEquals(expected.matches(zipfs.getPath("/" + name)), matcher.matches(name, name.length()),
+                        syntaxAndPattern + " " + name);
+                }
+            }
+        }
+    }
+
+    @Test
+    void matchingNamesStartWithLiteralPrefix() {
+        for (String syntaxAndPattern : PATTERNS) {
+            EntryPattern pattern = EntryPattern.compile(syntaxAndPattern);
+            EntryPattern.Matcher matcher = pattern.matcher();
+
+            for (String name : namesAndDirectories()) {
+                if (matcher.matches(name, name.length())) {
+                    assertTrue(name.startsWith(pattern.getLiteralPrefix()),
+                        syntaxAndPattern + " matches " + name + " outside of " + pattern.getLiteralPrefix());
+                }
+            }
+        }
+    }
+
+    @Test
+    void literalPrefix() {
+        assertEquals("com/acme/", EntryPattern.compile("glob:/com/acme/*.class").getLiteralPrefix());
+        assertEquals("com/acme/Foo", EntryPattern.compile("glob:/com/acme/Foo{,$*}.class").getLiteralPrefix());
+        assertEquals("com/acme/", EntryPattern.compile("glob:/com/acme/[BF]oo.class").getLiteralPrefix());
+        assertEquals("a.b/c.d", EntryPattern.compile("glob:/a.b/c.d").getLiteralPrefix());
+        assertEquals("", EntryPattern.compile("glob:**/*.class").getLiteralPrefix());
+        assertEquals("", EntryPattern.compile("glob:/*").getLiteralPrefix());
+        assertEquals("com/acme/", EntryPattern.compile("regex:/com/acme/.*").getLiteralPrefix());
+        assertEquals("com/acme/", EntryPattern.compile("regex:^/com/acme/.*").getLiteralPrefix());
+        assertEquals("com/acme/Fo", EntryPattern.compile("regex:/com/acme/Foo?\\.class").getLiteralPrefix());
+        assertEquals("", EntryPattern.compile("regex:/com/acme/(Foo|Bar)\\.class").getLiteralPrefix());
+        assertEquals("", EntryPattern.compile("regex:/META-INF/.*|/module-info\\.class").getLiteralPrefix());
+        assertEquals("", EntryPattern.compile("regex:.*").getLiteralPrefix());
+    }
+
+    @Test
+    void matchesOnlyTheGivenLength() {
+        EntryPattern.Matcher matcher = EntryPattern.compile("glob:/com/acme").matcher();
+
+        assertTrue(matcher.matches("com/acme/Foo.class", "com/acme".length()));
+        assertFalse(matcher.matches("com/acme/Foo.class", "com/acme/Foo.class".length()));
+        assertFalse(matcher.matches("com/acme/Foo.class", "com/ac".length()));
+    }
+
+    @Test
+    void unknownSyntaxIsRejected() {
+        assertThrows(UnsupportedOperationException.class, () -> EntryPattern.compile("wildcard:*.class"));
+        assertThrows(IllegalArgumentException.class, () -> EntryPattern.compile("*.class"));
+    }
+
+    private static Set<String> namesAndDirectories() {
+        // directories are matched without their trailing slash, the root directory is named ""
+        Set<String> names = new TreeSet<>();
+        names.add("");
+        for (String name : NAMES) {
+            names.add(name);
+            for (int i = name.indexOf('/'); i != -1; i = name.indexOf('/', i + 1)) {
+                names.add(name.substring(0, i));
+            }
+        }
+        return names;
+    }
+}
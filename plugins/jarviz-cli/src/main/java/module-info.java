@@ -26,13 +26,16 @@ module org.kordamp.jarviz.cli {
     requires org.kordamp.jarviz.core;
     requires info.picocli;
 
+    exports org.kordamp.jarviz.cli.batch to info.picocli;
     exports org.kordamp.jarviz.cli.bytecode to info.picocli;
     exports org.kordamp.jarviz.cli.checksum to info.picocli;
+    exports org.kordamp.jarviz.cli.daemon to info.picocli;
     exports org.kordamp.jarviz.cli.entries to info.picocli;
     exports org.kordamp.jarviz.cli.internal to info.picocli;
     exports org.kordamp.jarviz.cli.manifest to info.picocli;
     exports org.kordamp.jarviz.cli.modules to info.picocli;
     exports org.kordamp.jarviz.cli.packages to info.picocli;
+    exports org.kordamp.jarviz.cli.scan to info.picocli;
     exports org.kordamp.jarviz.cli.services to info.picocli;
     opens org.kordamp.jarviz.cli.internal to info.picocli;
 }
\ No newline at end of file
@@ -17,14 +17,18 @@
  */
 package org.kordamp.jarviz.cli;
 
+import org.kordamp.jarviz.cli.batch.Batch;
 import org.kordamp.jarviz.cli.bytecode.Bytecode;
 import org.kordamp.jarviz.cli.checksum.Checksum;
+import org.kordamp.jarviz.cli.daemon.Daemon;
 import org.kordamp.jarviz.cli.entries.Entries;
 import org.kordamp.jarviz.cli.internal.Banner;
 import org.kordamp.jarviz.cli.internal.BaseCommand;
 import org.kordamp.jarviz.cli.manifest.Manifest;
 import org.kordamp.jarviz.cli.packages.Packages;
+import org.kordamp.jarviz.cli.scan.Scan;
 import org.kordamp.jarviz.cli.services.Services;
+import org.kordamp.jarviz.core.resolvers.JarFileResolver;
 import picocli.AutoComplete;
 import picocli.CommandLine;
 
@@ -38,12 +42,13 @@ import static java.util.ResourceBundle.getBundle;
  */
 @CommandLine.Command(name = "jarviz",
     subcommands = {
-        Bytecode.class, Checksum.class, Entries.class, Manifest.class,
-        org.kordamp.jarviz.cli.modules.Module.class, Packages.class, Services.class,
+        Batch.class, Bytecode.class, Checksum.class, Daemon.class, Entries.class, Manifest.class,
+        org.kordamp.jarviz.cli.modules.Module.class, Packages.class, Scan.class, Services.class,
         AutoComplete.GenerateCompletion.class})
 public class Main extends BaseCommand implements Runnable, IO {
     private PrintWriter out;
     private PrintWriter err;
+    private JarFileResolver jarFileResolver;
 
     @Override
     public PrintWriter getOut() {
@@ -65,6 +70,13 @@ public class Main extends BaseCommand implements Runnable, IO {
         this.err = err;
     }
 
+    /**
+     * JAR files shared by a batch with the command being run, {@code null} otherwise.
+     */
+    public JarFileResolver getJarFileResolver() {
+        return jarFileResolver;
+    }
+
     public void run() {
         Banner.display(err);
 
@@ -88,6 +100,10 @@ public class Main extends BaseCommand implements Runnable, IO {
     }
 
     public static int run(PrintWriter out, PrintWriter err, String... args) {
+        return run(out, err, null, args);
+    }
+
+    public static int run(PrintWriter out, PrintWriter err, JarFileResolver jarFileResolver, String... args) {
         Main cmd = new Main();
         CommandLine commandLine = new CommandLine(cmd);
         commandLine.setCaseInsensitiveEnumValuesAllowed(true);
@@ -98,6 +114,7 @@ public class Main extends BaseCommand implements Runnable, IO {
         commandLine.setErr(err);
         cmd.out = out;
         cmd.err = err;
+        cmd.jarFileResolver = jarFileResolver;
         return execute(commandLine, args);
     }
 
@@ -0,0 +1,112 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2022-2023 The Jarviz authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kordamp.jarviz.cli.batch;
+
+import org.kordamp.jarviz.cli.Main;
+import org.kordamp.jarviz.cli.internal.AbstractJarvizSubcommand;
+import org.kordamp.jarviz.commands.BatchCommand;
+import picocli.CommandLine;
+
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * @author Andres Almiray
+ * @since 0.3.0
+ */
+@CommandLine.Command(name = "batch")
+public class Batch extends AbstractJarvizSubcommand<Main> {
+    private static final String STDIN = "-";
+    private static final Set<String> NOT_BATCHABLE = Set.of("batch", "daemon");
+
+    @CommandLine.Spec
+    public CommandLine.Model.CommandSpec spec;
+
+    @CommandLine.Option(names = {"--commands"}, paramLabel = "<file>")
+    public String commands;
+
+    @CommandLine.Option(names = {"--jobs"}, paramLabel = "<jobs>", defaultValue = "1")
+    public int jobs;
+
+    @CommandLine.Option(names = {"--output-directory"}, paramLabel = "<directory>")
+    public Path outputDirectory;
+
+    @Override
+    protected int execute() {
+        List<String> unsupported = unsupportedOptions();
+        if (!unsupported.isEmpty()) {
+            getErr().println($("jarviz.batch.option.unsupported", String.join(", ", unsupported)));
+            return 1;
+        }
+
+        List<List<String>> commandLines = readCommandLines();
+        for (List<String> commandLine : commandLines) {
+            if (NOT_BATCHABLE.contains(commandLine.get(0))) {
+                getErr().println($("jarviz.batch.not.batchable", String.join(" ", commandLine)));
+                return 1;
+            }
+        }
+
+        return new BatchCommand().execute(BatchCommand.config()
+            .withOut(parent().getOut())
+            .withErr(parent().getErr())
+            .withFailOnError(failOnError)
+            .withGavs(collectEntries(gav))
+            .withFiles(collectEntries(file))
+            .withUrls(collectEntries(url))
+            .withClasspaths(collectEntries(classpath))
+            .withDirectories(collectEntries(directory))
+            .withCacheDirectory(cache)
+            .withMaxConnections(maxConnections)
+            .withRepositories(collectEntries(repository))
+            .withCommandLines(commandLines)
+            .withJobs(jobs)
+            .withOutputDirectory(outputDirectory)
+            .withRunner(Main::run)
+        );
+    }
+
+    /**
+     * Options inherited from subcommands that only affect how a single command processes its JAR files,
+     * each batched command takes them on its own command line.
+     */
+    private List<String> unsupportedOptions() {
+        List<String> options = new ArrayList<>();
+        if (1 != parallelism) options.add("--parallelism");
+        if (resultCache) options.add("--result-cache");
+        if (64 != resultCacheSize) options.add("--result-cache-size");
+        if (null != outputFormat) options.add("--output-format");
+        if (null != reportPath) options.add("--report-path");
+        if (null != reportFormats) options.add("--report-format");
+        return options;
+    }
+
+    private List<List<String>> readCommandLines() {
+        if (null == commands || STDIN.equals(commands)) {
+            return BatchCommand.parseCommandLines(new BufferedReader(new InputStreamReader(System.in, UTF_8)), STDIN);
+        }
+
+        return BatchCommand.parseCommandLines(Path.of(commands));
+    }
+}
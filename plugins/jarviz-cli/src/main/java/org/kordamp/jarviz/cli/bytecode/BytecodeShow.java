@@ -36,6 +36,12 @@ public class BytecodeShow extends AbstractJarvizSubcommand<Bytecode> {
     @CommandLine.Option(names = {"--java-version"}, paramLabel = "<version>")
     public Integer javaVersion;
 
+    @CommandLine.Option(names = {"--aggregate"})
+    public boolean aggregate;
+
+    @CommandLine.Option(names = {"--threshold"}, paramLabel = "<version>")
+    public Integer threshold;
+
     @Override
     protected int execute() {
         return new BytecodeShowCommand().execute(BytecodeShowCommand.config()
@@ -47,13 +53,21 @@ public class BytecodeShow extends AbstractJarvizSubcommand<Bytecode> {
             .withUrls(collectEntries(url))
             .withClasspaths(collectEntries(classpath))
             .withDirectories(collectEntries(directory))
+            .withJarFileResolver(sharedJarFileResolver())
             .withCacheDirectory(cache)
             .withReportPath(reportPath)
             .withReportFormats(resolveReportFormats())
             .withOutputFormat(outputFormat)
+            .withParallelism(parallelism)
+            .withMaxConnections(maxConnections)
+            .withRepositories(collectEntries(repository))
+            .withResultCache(resultCache)
+            .withResultCacheSize(resultCacheSize)
             .withDetails(details)
             .withBytecodeVersion(bytecodeVersion)
             .withJavaVersion(javaVersion)
+            .withAggregate(aggregate)
+            .withThreshold(threshold)
         );
     }
 }
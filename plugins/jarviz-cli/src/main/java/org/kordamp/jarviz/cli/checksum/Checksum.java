@@ -42,10 +42,14 @@ public class Checksum extends AbstractJarvizSubcommand<Main> {
             .withUrls(collectEntries(url))
             .withClasspaths(collectEntries(classpath))
             .withDirectories(collectEntries(directory))
+            .withJarFileResolver(sharedJarFileResolver())
             .withCacheDirectory(cache)
             .withReportPath(reportPath)
             .withReportFormats(resolveReportFormats())
             .withOutputFormat(outputFormat)
+            .withParallelism(parallelism)
+            .withMaxConnections(maxConnections)
+            .withRepositories(collectEntries(repository))
         );
     }
 }
@@ -0,0 +1,153 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2022-2023 The Jarviz authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kordamp.jarviz.cli.daemon;
+
+import org.kordamp.jarviz.cli.Main;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Thin client for {@link DaemonServer}. Runs the given command line in the daemon when one is available,
+ * in-process otherwise, with the same output and exit code in both cases.
+ * <p>
+ * Requests are kept in-process when the output goes to a terminal, as colors depend on it, or when they set
+ * System properties with {@code -D}, as those would leak into following requests served by the daemon. Commands
+ * reading standard input, and {@code daemon} itself, always run in-process.
+ *
+ * @author Andres Almiray
+ * @since 0.3.0
+ */
+public final class DaemonClient {
+    private static final int CONNECT_TIMEOUT = 1000;
+    private static final String BATCH = "batch";
+    private static final String DAEMON = "daemon";
+    private static final String COMMANDS = "--commands";
+    private static final String STDIN = "-";
+
+    private DaemonClient() {
+        // noop
+    }
+
+    public static void main(String[] args) {
+        System.exit(run(args));
+    }
+
+    public static int run(String... args) {
+        if (System.console() == null && isForwardable(args)) {
+            Optional<DaemonDescriptor> descriptor = DaemonDescriptor.read();
+            if (descriptor.isPresent()) {
+                Optional<Integer> code = send(descriptor.get(), DaemonProtocol.REQUEST_RUN, Arrays.asList(args));
+                if (code.isPresent()) return code.get();
+            }
+        }
+
+        return Main.run(args);
+    }
+
+    /**
+     * Whether the given command line may run in the daemon, whose standard input and System properties are not
+     * those of the client.
+     */
+    static boolean isForwardable(String... args) {
+        if (Arrays.stream(args).anyMatch(arg -> arg.startsWith("-D"))) return false;
+
+        String command = Arrays.stream(args)
+            .filter(arg -> !arg.startsWith("-"))
+            .findFirst()
+            .orElse("");
+        if (DAEMON.equals(command)) return false;
+        return !BATCH.equals(command) || !readsStdin(args);
+    }
+
+    private static boolean readsStdin(String... args) {
+        // batch reads its commands from standard input unless given a file
+        String commands = null;
+        for (int i = 0; i < args.length; i++) {
+            if (COMMANDS.equals(args[i]) && i + 1 < args.length) {
+                commands = args[i + 1];
+            } else if (args[i].startsWith(COMMANDS + "=")) {
+                commands = args[i].substring(COMMANDS.length() + 1);
+            }
+        }
+        return null == commands || STDIN.equals(commands);
+    }
+
+    /**
+     * Asks the daemon to shut down.
+     *
+     * @return {@code false} if no daemon is running.
+     */
+    static boolean stop() {
+        Optional<DaemonDescriptor> descriptor = DaemonDescriptor.read();
+        return descriptor.isPresent() && send(descriptor.get(), DaemonProtocol.REQUEST_STOP, List.of()).isPresent();
+    }
+
+    /**
+     * @return the exit code, empty when the daemon could not be reached or refused the request before writing any output.
+     */
+    private static Optional<Integer> send(DaemonDescriptor descriptor, byte type, List<String> args) {
+        boolean started = false;
+        try (Socket socket = new Socket()) {
+            socket.connect(new InetSocketAddress(InetAddress.getLoopbackAddress(), descriptor.getPort()), CONNECT_TIMEOUT);
+            DataOutputStream out = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+            DataInputStream in = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+
+            DaemonProtocol.writeRequest(out, type, descriptor.getToken(), DaemonServer.workingDirectory(), args);
+
+            while (true) {
+                byte frame = in.readByte();
+                switch (frame) {
+                    case DaemonProtocol.FRAME_OUT:
+                        started = true;
+                        write(System.out, DaemonProtocol.readString(in));
+                        break;
+                    case DaemonProtocol.FRAME_ERR:
+                        started = true;
+                        write(System.err, DaemonProtocol.readString(in));
+                        break;
+                    case DaemonProtocol.FRAME_EXIT:
+                        return Optional.of(in.readInt());
+                    case DaemonProtocol.FRAME_REFUSED:
+                    default:
+                        return Optional.empty();
+                }
+            }
+        } catch (IOException e) {
+            if (!started) return Optional.empty();
+            // output was already written, running again in-process would duplicate it
+            e.printStackTrace();
+            return Optional.of(1);
+        }
+    }
+
+    private static void write(PrintStream stream, String text) {
+        stream.print(text);
+        stream.flush();
+    }
+}
@@ -0,0 +1,132 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2022-2023 The Jarviz authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kordamp.jarviz.cli.daemon;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.Properties;
+
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+
+/**
+ * Tells clients where to find a running daemon. Stored at {@code ~/.jarviz/daemon.properties}, or inside
+ * {@code $JARVIZ_DIR} when set, readable by the current user only.
+ *
+ * @author Andres Almiray
+ * @since 0.3.0
+ */
+final class DaemonDescriptor {
+    private static final String PORT = "port";
+    private static final String TOKEN = "token";
+    private static final String PID = "pid";
+    private static final String DIRECTORY = "directory";
+
+    private final int port;
+    private final String token;
+    private final long pid;
+    private final String directory;
+
+    DaemonDescriptor(int port, String token, long pid, String directory) {
+        this.port = port;
+        this.token = token;
+        this.pid = pid;
+        this.directory = directory;
+    }
+
+    int getPort() {
+        return port;
+    }
+
+    String getToken() {
+        return token;
+    }
+
+    long getPid() {
+        return pid;
+    }
+
+    String getDirectory() {
+        return directory;
+    }
+
+    static Path resolveFile() {
+        Path jarvizDir = Path.of(System.getProperty("user.home"));
+        String envJarvizDir = System.getenv("JARVIZ_DIR");
+        if (envJarvizDir != null && !envJarvizDir.isEmpty() && Files.exists(Path.of(envJarvizDir))) {
+            jarvizDir = Path.of(envJarvizDir);
+        }
+        return jarvizDir.resolve(".jarviz").resolve("daemon.properties");
+    }
+
+    static Optional<DaemonDescriptor> read() {
+        Path file = resolveFile();
+        if (!Files.exists(file)) return Optional.empty();
+
+        try (InputStream in = Files.newInputStream(file)) {
+            Properties props = new Properties();
+            props.load(in);
+            return Optional.of(new DaemonDescriptor(Integer.parseInt(props.getProperty(PORT)),
+                props.getProperty(TOKEN),
+                Long.parseLong(props.getProperty(PID)),
+                props.getProperty(DIRECTORY)));
+        } catch (IOException | RuntimeException e) {
+            return Optional.empty();
+        }
+    }
+
+    void write() throws IOException {
+        Path file = resolveFile();
+        Files.createDirectories(file.getParent());
+
+        Properties props = new Properties();
+        props.setProperty(PORT, String.valueOf(port));
+        props.setProperty(TOKEN, token);
+        props.setProperty(PID, String.valueOf(pid));
+        props.setProperty(DIRECTORY, directory);
+
+        // temporary files are readable by their owner only
+        Path tmp = Files.createTempFile(file.getParent(), "daemon", ".tmp");
+        try {
+            try (OutputStream out = Files.newOutputStream(tmp)) {
+                props.store(out, null);
+            }
+            Files.move(tmp, file, REPLACE_EXISTING, ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(tmp);
+        }
+    }
+
+    /**
+     * Removes the descriptor unless it was overwritten by another daemon.
+     */
+    void delete() {
+        Optional<DaemonDescriptor> current = read();
+        if (current.isPresent() && !token.equals(current.get().getToken())) return;
+
+        try {
+            Files.deleteIfExists(resolveFile());
+        } catch (IOException ignored) {
+            // noop
+        }
+    }
+}
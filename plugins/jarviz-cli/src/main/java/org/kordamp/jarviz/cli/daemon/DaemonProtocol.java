@@ -0,0 +1,135 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2022-2023 The Jarviz authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kordamp.jarviz.cli.daemon;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.List;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Wire format shared by {@link DaemonServer} and {@link DaemonClient}.
+ * <p>
+ * A request carries the access token, checked before anything else is read, the client's working directory, and the
+ * command line arguments, bounded by {@link #MAX_ARGS} and {@link #MAX_ARG_LENGTH}. The response
+ * is a sequence of frames: chunks of standard output and standard error in the order they were written, followed by
+ * a single exit frame.
+ *
+ * @author Andres Almiray
+ * @since 0.3.0
+ */
+final class DaemonProtocol {
+    static final int MAGIC = 0x4A56444D;
+    static final short VERSION = 2;
+    static final int MAX_ARGS = 4096;
+    static final int MAX_ARG_LENGTH = 64 * 1024;
+
+    static final byte REQUEST_RUN = 1;
+    static final byte REQUEST_STOP = 2;
+
+    static final byte FRAME_OUT = 1;
+    static final byte FRAME_ERR = 2;
+    static final byte FRAME_EXIT = 3;
+    // the daemon cannot serve the request, the client runs it in-process instead
+    static final byte FRAME_REFUSED = 4;
+
+    private DaemonProtocol() {
+        // noop
+    }
+
+    static void writeRequest(DataOutputStream out, byte type, String token, String directory, List<String> args) throws IOException {
+        out.writeInt(MAGIC);
+        out.writeShort(VERSION);
+        out.writeUTF(token);
+        out.writeByte(type);
+        out.writeUTF(directory);
+        out.writeInt(args.size());
+        for (String arg : args) {
+            writeString(out, arg);
+        }
+        out.flush();
+    }
+
+    static void writeFrame(DataOutputStream out, byte type, String text) throws IOException {
+        synchronized (out) {
+            out.writeByte(type);
+            writeString(out, text);
+            out.flush();
+        }
+    }
+
+    static void writeExit(DataOutputStream out, byte type, int code) throws IOException {
+        synchronized (out) {
+            out.writeByte(type);
+            out.writeInt(code);
+            out.flush();
+        }
+    }
+
+    static void writeString(DataOutputStream out, String str) throws IOException {
+        byte[] bytes = str.getBytes(UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    static String readString(DataInputStream in) throws IOException {
+        return readString(in, Integer.MAX_VALUE);
+    }
+
+    static String readString(DataInputStream in, int maxLength) throws IOException {
+        int length = in.readInt();
+        if (length < 0 || length > maxLength) throw new IOException("invalid string length " + length);
+        byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        return new String(bytes, UTF_8);
+    }
+
+    /**
+     * Sends everything written to it as frames of the given type, one frame per flush.
+     */
+    static final class FrameWriter extends Writer {
+        private final DataOutputStream out;
+        private final byte type;
+        private final StringBuilder buffer = new StringBuilder();
+
+        FrameWriter(DataOutputStream out, byte type) {
+            this.out = out;
+            this.type = type;
+        }
+
+        @Override
+        public synchronized void write(char[] chars, int offset, int length) {
+            buffer.append(chars, offset, length);
+        }
+
+        @Override
+        public synchronized void flush() throws IOException {
+            if (buffer.length() == 0) return;
+            writeFrame(out, type, buffer.toString());
+            buffer.setLength(0);
+        }
+
+        @Override
+        public void close() throws IOException {
+            flush();
+        }
+    }
+}
@@ -0,0 +1,176 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2022-2023 The Jarviz authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kordamp.jarviz.cli.daemon;
+
+import org.kordamp.jarviz.cli.Main;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Serves CLI requests from a single, long-lived JVM. Requests run concurrently through {@link Main#run(PrintWriter, PrintWriter, String...)}
+ * so their output is the same as that of an in-process run, while loaded classes, compiled code, and open JAR files
+ * stay warm between requests.
+ * <p>
+ * Only the loopback interface is bound. Clients must present the token stored in the {@link DaemonDescriptor}.
+ * Relative paths are resolved against the daemon's working directory, requests coming from other directories are
+ * refused and run in-process by the client.
+ *
+ * @author Andres Almiray
+ * @since 0.3.0
+ */
+public final class DaemonServer {
+    private final ServerSocket serverSocket;
+    private final DaemonDescriptor descriptor;
+    private final ExecutorService executor = Executors.newCachedThreadPool(runnable -> {
+        Thread thread = new Thread(runnable, "jarviz-daemon");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private volatile boolean running = true;
+
+    private DaemonServer(ServerSocket serverSocket, DaemonDescriptor descriptor) {
+        this.serverSocket = serverSocket;
+        this.descriptor = descriptor;
+    }
+
+    public static DaemonServer start(int port) throws IOException {
+        ServerSocket serverSocket = new ServerSocket(port, 50, InetAddress.getLoopbackAddress());
+
+        byte[] bytes = new byte[32];
+        new SecureRandom().nextBytes(bytes);
+        StringBuilder token = new StringBuilder();
+        for (byte b : bytes) {
+            token.append(String.format("%02x", b));
+        }
+
+        DaemonDescriptor descriptor = new DaemonDescriptor(serverSocket.getLocalPort(), token.toString(),
+            ProcessHandle.current().pid(), workingDirectory());
+        try {
+            descriptor.write();
+        } catch (IOException e) {
+            serverSocket.close();
+            throw e;
+        }
+
+        return new DaemonServer(serverSocket, descriptor);
+    }
+
+    static String workingDirectory() {
+        return Path.of("").toAbsolutePath().normalize().toString();
+    }
+
+    public int getPort() {
+        return serverSocket.getLocalPort();
+    }
+
+    /**
+     * Accepts requests until {@link #stop()} is called, either locally or by a client.
+     */
+    public void serve() {
+        try {
+            while (running) {
+                Socket socket = serverSocket.accept();
+                executor.execute(() -> handle(socket));
+            }
+        } catch (IOException e) {
+            // closed by stop()
+        } finally {
+            stop();
+        }
+    }
+
+    public void stop() {
+        running = false;
+        descriptor.delete();
+        executor.shutdown();
+        try {
+            serverSocket.close();
+        } catch (IOException ignored) {
+            // noop
+        }
+    }
+
+    private void handle(Socket socket) {
+        try (socket;
+             DataInputStream in = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+             DataOutputStream out = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()))) {
+            if (in.readInt() != DaemonProtocol.MAGIC || in.readShort() != DaemonProtocol.VERSION) {
+                DaemonProtocol.writeExit(out, DaemonProtocol.FRAME_REFUSED, 1);
+                return;
+            }
+
+            // nothing else is read from clients that do not know the token
+            byte[] token = in.readUTF().getBytes(UTF_8);
+            if (!MessageDigest.isEqual(descriptor.getToken().getBytes(UTF_8), token)) {
+                DaemonProtocol.writeExit(out, DaemonProtocol.FRAME_REFUSED, 1);
+                return;
+            }
+
+            byte type = in.readByte();
+            String directory = in.readUTF();
+            int count = in.readInt();
+            if (count < 0 || count > DaemonProtocol.MAX_ARGS) {
+                DaemonProtocol.writeExit(out, DaemonProtocol.FRAME_REFUSED, 1);
+                return;
+            }
+            String[] args = new String[count];
+            for (int i = 0; i < args.length; i++) {
+                args[i] = DaemonProtocol.readString(in, DaemonProtocol.MAX_ARG_LENGTH);
+            }
+
+            if (type == DaemonProtocol.REQUEST_STOP) {
+                DaemonProtocol.writeExit(out, DaemonProtocol.FRAME_EXIT, 0);
+                stop();
+                return;
+            }
+
+            if (!descriptor.getDirectory().equals(directory)) {
+                DaemonProtocol.writeExit(out, DaemonProtocol.FRAME_REFUSED, 1);
+                return;
+            }
+
+            PrintWriter stdout = new PrintWriter(new DaemonProtocol.FrameWriter(out, DaemonProtocol.FRAME_OUT), true);
+            PrintWriter stderr = new PrintWriter(new DaemonProtocol.FrameWriter(out, DaemonProtocol.FRAME_ERR), true);
+            int code;
+            try {
+                code = Main.run(stdout, stderr, args);
+            } finally {
+                stdout.flush();
+                stderr.flush();
+            }
+            DaemonProtocol.writeExit(out, DaemonProtocol.FRAME_EXIT, code);
+        } catch (IOException ignored) {
+            // client went away
+        }
+    }
+}
@@ -0,0 +1,51 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2022-2023 The Jarviz authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kordamp.jarviz.cli.daemon;
+
+import org.kordamp.jarviz.cli.internal.AbstractJarvizCommand;
+import picocli.CommandLine;
+
+import java.io.IOException;
+
+/**
+ * @author Andres Almiray
+ * @since 0.3.0
+ */
+@CommandLine.Command(name = "start")
+public class DaemonStart extends AbstractJarvizCommand<Daemon> {
+    @CommandLine.Option(names = {"--port"}, paramLabel = "<port>", defaultValue = "0")
+    public int port;
+
+    @Override
+    protected int execute() {
+        DaemonServer server;
+        try {
+            server = DaemonServer.start(port);
+        } catch (IOException e) {
+            getErr().println($("jarviz.daemon.start.error", e.getMessage()));
+            return 1;
+        }
+
+        // colors depend on the client's terminal, clients writing to a terminal run in-process
+        System.setProperty("picocli.ansi", "false");
+        Runtime.getRuntime().addShutdownHook(new Thread(server::stop));
+        getOut().println($("jarviz.daemon.start.listening", String.valueOf(server.getPort())));
+        server.serve();
+        return 0;
+    }
+}
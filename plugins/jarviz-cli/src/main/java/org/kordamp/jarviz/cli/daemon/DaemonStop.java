@@ -0,0 +1,39 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2022-2023 The Jarviz authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kordamp.jarviz.cli.daemon;
+
+import org.kordamp.jarviz.cli.internal.AbstractJarvizCommand;
+import picocli.CommandLine;
+
+/**
+ * @author Andres Almiray
+ * @since 0.3.0
+ */
+@CommandLine.Command(name = "stop")
+public class DaemonStop extends AbstractJarvizCommand<Daemon> {
+    @Override
+    protected int execute() {
+        if (DaemonClient.stop()) {
+            getOut().println($("jarviz.daemon.stop.stopped"));
+            return 0;
+        }
+
+        getErr().println($("jarviz.daemon.stop.not.running"));
+        return 1;
+    }
+}
@@ -57,10 +57,14 @@ public class EntriesExtract extends AbstractJarvizSubcommand<Entries> {
             .withUrls(collectEntries(url))
             .withClasspaths(collectEntries(classpath))
             .withDirectories(collectEntries(directory))
+            .withJarFileResolver(sharedJarFileResolver())
             .withCacheDirectory(cache)
             .withReportPath(reportPath)
             .withReportFormats(resolveReportFormats())
             .withOutputFormat(outputFormat)
+            .withParallelism(parallelism)
+            .withMaxConnections(maxConnections)
+            .withRepositories(collectEntries(repository))
             .withEntryName(null != exclusive ? exclusive.entryName : "")
             .withEntryPattern(null != exclusive ? exclusive.entryPattern : "")
             .withFlatten(flatten)
@@ -49,10 +49,16 @@ public class EntriesFind extends AbstractJarvizSubcommand<Entries> {
             .withUrls(collectEntries(url))
             .withClasspaths(collectEntries(classpath))
             .withDirectories(collectEntries(directory))
+            .withJarFileResolver(sharedJarFileResolver())
             .withCacheDirectory(cache)
             .withReportPath(reportPath)
             .withReportFormats(resolveReportFormats())
             .withOutputFormat(outputFormat)
+            .withParallelism(parallelism)
+            .withMaxConnections(maxConnections)
+            .withRepositories(collectEntries(repository))
+            .withResultCache(resultCache)
+            .withResultCacheSize(resultCacheSize)
             .withEntryName(null != exclusive ? exclusive.entryName : "")
             .withEntryPattern(null != exclusive ? exclusive.entryPattern : "")
         );
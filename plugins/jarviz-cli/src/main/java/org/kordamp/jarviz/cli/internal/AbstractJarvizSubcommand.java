@@ -18,7 +18,9 @@
 package org.kordamp.jarviz.cli.internal;
 
 import org.kordamp.jarviz.cli.IO;
+import org.kordamp.jarviz.cli.Main;
 import org.kordamp.jarviz.core.Format;
+import org.kordamp.jarviz.core.resolvers.JarFileResolver;
 import picocli.CommandLine;
 
 import java.net.URL;
@@ -70,11 +72,26 @@ public abstract class AbstractJarvizSubcommand<C extends IO> extends AbstractCom
     protected Path reportPath;
 
     @CommandLine.Option(names = {"--report-format"}, paramLabel = "<format>")
-    Format[] reportFormats;
+    protected Format[] reportFormats;
 
     @CommandLine.Option(names = {"--output-format"}, paramLabel = "<format>")
     protected Format outputFormat;
 
+    @CommandLine.Option(names = {"--parallelism"}, paramLabel = "<threads>", defaultValue = "1")
+    protected int parallelism;
+
+    @CommandLine.Option(names = {"--max-connections"}, paramLabel = "<connections>", defaultValue = "8")
+    protected int maxConnections;
+
+    @CommandLine.Option(names = {"--repository"}, paramLabel = "<url>")
+    protected String[] repository;
+
+    @CommandLine.Option(names = {"--result-cache"})
+    protected boolean resultCache;
+
+    @CommandLine.Option(names = {"--result-cache-size"}, paramLabel = "<megabytes>", defaultValue = "64")
+    protected int resultCacheSize;
+
     @Override
     protected C parent() {
         return parent;
@@ -84,6 +101,18 @@ public abstract class AbstractJarvizSubcommand<C extends IO> extends AbstractCom
         return 0;
     }
 
+    /**
+     * JAR files resolved by an enclosing batch, used only when this command defines no inputs of its own.
+     */
+    protected JarFileResolver sharedJarFileResolver() {
+        if (null != file || null != gav || null != url || null != directory || null != classpath) {
+            return null;
+        }
+
+        Object root = spec.root().userObject();
+        return root instanceof Main ? ((Main) root).getJarFileResolver() : null;
+    }
+
     protected Set<Format> resolveReportFormats() {
         if (null != reportPath && (null == reportFormats || reportFormats.length == 0)) {
             return singleton(Format.TXT);
@@ -44,10 +44,14 @@ public class ManifestQuery extends AbstractJarvizSubcommand<Manifest> {
             .withUrls(collectEntries(url))
             .withClasspaths(collectEntries(classpath))
             .withDirectories(collectEntries(directory))
+            .withJarFileResolver(sharedJarFileResolver())
             .withCacheDirectory(cache)
             .withReportPath(reportPath)
             .withReportFormats(resolveReportFormats())
             .withOutputFormat(outputFormat)
+            .withParallelism(parallelism)
+            .withMaxConnections(maxConnections)
+            .withRepositories(collectEntries(repository))
             .withSectionName(sectionName)
             .withAttributeName(attributeName)
         );
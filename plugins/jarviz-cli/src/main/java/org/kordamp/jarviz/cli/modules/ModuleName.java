@@ -38,10 +38,16 @@ public class ModuleName extends AbstractJarvizSubcommand<Module> {
             .withUrls(collectEntries(url))
             .withClasspaths(collectEntries(classpath))
             .withDirectories(collectEntries(directory))
+            .withJarFileResolver(sharedJarFileResolver())
             .withCacheDirectory(cache)
             .withReportPath(reportPath)
             .withReportFormats(resolveReportFormats())
             .withOutputFormat(outputFormat)
+            .withParallelism(parallelism)
+            .withMaxConnections(maxConnections)
+            .withRepositories(collectEntries(repository))
+            .withResultCache(resultCache)
+            .withResultCacheSize(resultCacheSize)
         );
     }
 }
@@ -27,6 +27,9 @@ import picocli.CommandLine;
  */
 @CommandLine.Command(name = "split")
 public class PackagesSplit extends AbstractJarvizSubcommand<Packages> {
+    @CommandLine.Option(names = {"--incremental"})
+    public boolean incremental;
+
     @Override
     protected int execute() {
         return new PackagesSplitCommand().execute(PackagesSplitCommand.config()
@@ -38,10 +41,17 @@ public class PackagesSplit extends AbstractJarvizSubcommand<Packages> {
             .withUrls(collectEntries(url))
             .withClasspaths(collectEntries(classpath))
             .withDirectories(collectEntries(directory))
+            .withJarFileResolver(sharedJarFileResolver())
             .withCacheDirectory(cache)
             .withReportPath(reportPath)
             .withReportFormats(resolveReportFormats())
             .withOutputFormat(outputFormat)
+            .withParallelism(parallelism)
+            .withMaxConnections(maxConnections)
+            .withRepositories(collectEntries(repository))
+            .withResultCache(resultCache)
+            .withResultCacheSize(resultCacheSize)
+            .withIncremental(incremental)
         );
     }
 }
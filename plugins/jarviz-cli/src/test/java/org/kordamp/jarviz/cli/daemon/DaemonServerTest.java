@@ -0,0 +1,328 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2022-2023 The Jarviz authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kordamp.jarviz.cli.daemon;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.kordamp.jarviz.cli.Main;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.PrintStream;
+import java.io.PrintWriter;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+import java.util.jar.Manifest;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Round trips requests through a {@link DaemonServer} listening on an ephemeral port.
+ *
+ * @author Andres Almiray
+ * @since 0.3.0
+ */
+class DaemonServerTest {
+    @TempDir
+    Path workDirectory;
+
+    private String userHome;
+    private DaemonServer server;
+    private Thread serving;
+    private DaemonDescriptor descriptor;
+
+    @BeforeEach
+    void startServer() throws IOException {
+        userHome = System.getProperty("user.home");
+        System.setProperty("user.home", workDirectory.resolve("home").toString());
+
+        server = DaemonServer.start(0);
+        serving = new Thread(server::serve);
+        serving.setDaemon(true);
+        serving.start();
+        descriptor = DaemonDescriptor.read().orElseThrow();
+    }
+
+    @AfterEach
+    void stopServer() throws InterruptedException {
+        server.stop();
+        serving.join(5000);
+        System.setProperty("user.home", userHome);
+    }
+
+    @Test
+    void descriptorPointsToTheServer() {
+        assertEquals(server.getPort(), descriptor.getPort());
+        assertEquals(DaemonServer.workingDirectory(), descriptor.getDirectory());
+        assertEquals(64, descriptor.getToken().length());
+    }
+
+    @Test
+    void outputIsTheSameAsInProcess() throws IOException, InterruptedException {
+        Path jar = jar(workDirectory.resolve("app.jar"), "Automatic-Module-Name", "com.acme.app");
+        List<List<String>> commandLines = List.of(
+            List.of("module", "name", "--file", jar.toString()),
+            List.of("manifest", "show", "--file", jar.toString()),
+            List.of("module", "name", "--file", workDirectory.resolve("missing.jar").toString()),
+            List.of("no-such-command"));
+
+        for (List<String> commandLine : commandLines) {
+            Response daemon = send(descriptor.getToken(), DaemonProtocol.REQUEST_RUN, DaemonServer.workingDirectory(), commandLine);
+            assertEquals(DaemonProtocol.FRAME_EXIT, daemon.frame, commandLine.toString());
+
+            Response inProcess = runInProcess(commandLine);
+            assertEquals(inProcess.out, daemon.out, commandLine.toString());
+            assertEquals(inProcess.err, daemon.err, commandLine.toString());
+            assertEquals(inProcess.code, daemon.code, commandLine.toString());
+        }
+    }
+
+    @Test
+    void clientOutputIsTheSameWithAndWithoutDaemon() throws IOException, InterruptedException {
+        Path jar = jar(workDirectory.resolve("app.jar"), "Automatic-Module-Name", "com.acme.app");
+        String[] args = {"module", "name", "--file", jar.toString()};
+
+        Response daemon = runClient(args);
+        assertTrue(DaemonClient.stop());
+        serving.join(5000);
+        assertFalse(serving.isAlive());
+        assertFalse(Files.exists(DaemonDescriptor.resolveFile()));
+
+        Response inProcess = runClient(args);
+        assertEquals(inProcess.out, daemon.out);
+        assertEquals(inProcess.err, daemon.err);
+        assertEquals(inProcess.code, daemon.code);
+    }
+
+    @Test
+    void wrongTokenIsRefused() throws IOException {
+        String token = descriptor.getToken().substring(1) + "0";
+        Response response = send(token, DaemonProtocol.REQUEST_RUN, DaemonServer.workingDirectory(), List.of("module", "name"));
+
+        assertEquals(DaemonProtocol.FRAME_REFUSED, response.frame);
+        assertEquals("", response.out);
+    }
+
+    @Test
+    void wrongTokenIsRefusedBeforeReadingArguments() throws IOException {
+        try (Socket socket = connect()) {
+            DataOutputStream out = new DataOutputStream(socket.getOutputStream());
+            out.writeInt(DaemonProtocol.MAGIC);
+            out.writeShort(DaemonProtocol.VERSION);
+            out.writeUTF("not the token");
+            out.flush();
+
+            // refused without the rest of the request ever being sent
+            DataInputStream in = new DataInputStream(socket.getInputStream());
+            assertEquals(DaemonProtocol.FRAME_REFUSED, in.readByte());
+        }
+    }
+
+    @Test
+    void stopRequiresTheToken() throws IOException, InterruptedException {
+        Response response = send("bogus", DaemonProtocol.REQUEST_STOP, DaemonServer.workingDirectory(), List.of());
+
+        assertEquals(DaemonProtocol.FRAME_REFUSED, response.frame);
+        serving.join(200);
+        assertTrue(serving.isAlive());
+    }
+
+    @Test
+    void otherDirectoryIsRefused() throws IOException {
+        Response response = send(descriptor.getToken(), DaemonProtocol.REQUEST_RUN, workDirectory.toString(), List.of("module", "name"));
+
+        assertEquals(DaemonProtocol.FRAME_REFUSED, response.frame);
+    }
+
+    @Test
+    void invalidArgumentCountsAreRefused() throws IOException {
+        for (int count : new int[]{-1, Integer.MAX_VALUE, DaemonProtocol.MAX_ARGS + 1}) {
+            try (Socket socket = connect()) {
+                DataOutputStream out = header(socket);
+                out.writeInt(count);
+                out.flush();
+
+                DataInputStream in = new DataInputStream(socket.getInputStream());
+                assertEquals(DaemonProtocol.FRAME_REFUSED, in.readByte(), String.valueOf(count));
+            }
+        }
+
+        assertDaemonAnswers();
+    }
+
+    @Test
+    void invalidArgumentLengthsAreRejected() throws IOException {
+        for (int length : new int[]{-1, Integer.MAX_VALUE, DaemonProtocol.MAX_ARG_LENGTH + 1}) {
+            try (Socket socket = connect()) {
+                DataOutputStream out = header(socket);
+                out.writeInt(1);
+                out.writeInt(length);
+                out.flush();
+
+                // the connection is dropped, the client runs the request in-process
+                DataInputStream in = new DataInputStream(socket.getInputStream());
+                assertThrows(EOFException.class, in::readByte, String.valueOf(length));
+            }
+        }
+
+        assertDaemonAnswers();
+    }
+
+    @Test
+    void unknownProtocolVersionIsRefused() throws IOException {
+        try (Socket socket = connect()) {
+            DataOutputStream out = new DataOutputStream(socket.getOutputStream());
+            out.writeInt(DaemonProtocol.MAGIC);
+            out.writeShort(DaemonProtocol.VERSION + 1);
+            out.flush();
+
+            assertEquals(DaemonProtocol.FRAME_REFUSED, new DataInputStream(socket.getInputStream()).readByte());
+        }
+    }
+
+    @Test
+    void requestsReadingStandardInputStayInProcess() {
+        assertTrue(DaemonClient.isForwardable("module", "name", "--file", "app.jar"));
+        assertTrue(DaemonClient.isForwardable("batch", "--commands", "commands.txt"));
+        assertTrue(DaemonClient.isForwardable("batch", "--commands=commands.txt"));
+        assertFalse(DaemonClient.isForwardable("batch"));
+        assertFalse(DaemonClient.isForwardable("batch", "--jobs", "4"));
+        assertFalse(DaemonClient.isForwardable("batch", "--commands", "-"));
+        assertFalse(DaemonClient.isForwardable("batch", "--commands=-"));
+        assertFalse(DaemonClient.isForwardable("daemon", "start"));
+        assertFalse(DaemonClient.isForwardable("daemon", "stop"));
+        assertFalse(DaemonClient.isForwardable("module", "name", "-Dfoo=bar"));
+    }
+
+    private void assertDaemonAnswers() throws IOException {
+        Response response = send(descriptor.getToken(), DaemonProtocol.REQUEST_RUN, DaemonServer.workingDirectory(),
+            List.of("module", "name", "--file", workDirectory.resolve("missing.jar").toString()));
+        assertEquals(DaemonProtocol.FRAME_EXIT, response.frame);
+    }
+
+    private Socket connect() throws IOException {
+        Socket socket = new Socket(InetAddress.getLoopbackAddress(), server.getPort());
+        socket.setSoTimeout(10_000);
+        return socket;
+    }
+
+    private DataOutputStream header(Socket socket) throws IOException {
+        DataOutputStream out = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+        out.writeInt(DaemonProtocol.MAGIC);
+        out.writeShort(DaemonProtocol.VERSION);
+        out.writeUTF(descriptor.getToken());
+        out.writeByte(DaemonProtocol.REQUEST_RUN);
+        out.writeUTF(DaemonServer.workingDirectory());
+        return out;
+    }
+
+    private Response send(String token, byte type, String directory, List<String> args) throws IOException {
+        try (Socket socket = connect()) {
+            DataOutputStream out = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+            DataInputStream in = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+            DaemonProtocol.writeRequest(out, type, token, directory, args);
+
+            StringBuilder stdout = new StringBuilder();
+            StringBuilder stderr = new StringBuilder();
+            while (true) {
+                byte frame = in.readByte();
+                if (frame == DaemonProtocol.FRAME_OUT) {
+                    stdout.append(DaemonProtocol.readString(in));
+                } else if (frame == DaemonProtocol.FRAME_ERR) {
+                    stderr.append(DaemonProtocol.readString(in));
+                } else {
+                    return new Response(frame, stdout.toString(), stderr.toString(), in.readInt());
+                }
+            }
+        }
+    }
+
+    private static Response runInProcess(List<String> args) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ByteArrayOutputStream err = new ByteArrayOutputStream();
+        PrintWriter stdout = new PrintWriter(new OutputStreamWriter(out, UTF_8), true);
+        PrintWriter stderr = new PrintWriter(new OutputStreamWriter(err, UTF_8), true);
+        int code = Main.run(stdout, stderr, args.toArray(new String[0]));
+        stdout.flush();
+        stderr.flush();
+        return new Response(DaemonProtocol.FRAME_EXIT, out.toString(UTF_8), err.toString(UTF_8), code);
+    }
+
+    private static Response runClient(String... args) {
+        PrintStream systemOut = System.out;
+        PrintStream systemErr = System.err;
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ByteArrayOutputStream err = new ByteArrayOutputStream();
+        try {
+            System.setOut(new PrintStream(out, true, UTF_8));
+            System.setErr(new PrintStream(err, true, UTF_8));
+            int code = DaemonClient.run(args);
+            System.out.flush();
+            System.err.flush();
+            return new Response(DaemonProtocol.FRAME_EXIT, out.toString(UTF_8), err.toString(UTF_8), code);
+        } finally {
+            System.setOut(systemOut);
+            System.setErr(systemErr);
+        }
+    }
+
+    private static Path jar(Path file, String attribute, String value) throws IOException {
+        Manifest manifest = new Manifest();
+        manifest.getMainAttributes().putValue("Manifest-Version", "1.0");
+        manifest.getMainAttributes().putValue(attribute, value);
+        try (OutputStream stream = Files.newOutputStream(file);
+             JarOutputStream out = new JarOutputStream(stream, manifest)) {
+            out.putNextEntry(new JarEntry("com/acme/app/App.class"));
+            out.write(new byte[]{(byte) 0xCA, (byte) 0xFE, (byte) 0xBA, (byte) 0xBE, 0, 0, 0, 52});
+            out.closeEntry();
+        }
+        return file;
+    }
+
+    private static final class Response {
+        private final byte frame;
+        private final String out;
+        private final String err;
+        private final int code;
+
+        private Response(byte frame, String out, String err, int code) {
+            this.frame = frame;
+            this.out = out;
+            this.err = err;
+            this.code = code;
+        }
+    }
+}